@@ -0,0 +1,115 @@
+package com.cas.api.config;
+
+import com.cas.api.dto.domain.IdempotencyRecordDto;
+import com.cas.api.service.game.IdempotencyService;
+import com.cas.common.web.constant.ApiConstants;
+import com.cas.common.web.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.annotation.Annotation;
+
+/**
+ * {@literal @}Idempotent 처리 Aspect
+ *
+ * UserLockAspect 안쪽에서 실행되어 (Order 2) 잠금을 얻은 뒤 저장된 응답을 확인합니다.
+ * - 저장된 응답은 처리 메서드(컨트롤러.메서드)와 Idempotency-Key 로 찾음
+ * - 저장된 응답이 있고 요청 본문({@literal @}RequestBody) 해시가 같으면 메서드를 실행하지 않고 그대로 반환
+ * - 본문이 다르면 IDEMPOTENCY_KEY_REUSED 오류 (키 재사용)
+ * - 없으면 실행 후 성공 응답(code 0000)만 저장
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(idempotent)")
+    public Object replay(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        if (!idempotencyService.isEnabled() || request == null) {
+            return joinPoint.proceed();
+        }
+
+        String idempotencyKey = request.getHeader(IdempotencyService.HEADER);
+        String uid = request.getHeader(idempotent.uidHeader());
+        if (idempotencyKey == null || idempotencyKey.isEmpty() || uid == null || uid.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        if (!idempotencyService.isValidKey(idempotencyKey)) {
+            log.warn("Invalid idempotency key: uid={}, key={}", uid, idempotencyKey);
+            return ApiResponse.error("INVALID_IDEMPOTENCY_KEY", "Idempotency-Key 형식이 올바르지 않습니다.");
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String handler = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        String requestHash = idempotencyService.hashRequest(requestBody(joinPoint, signature));
+        IdempotencyRecordDto record = idempotencyService.find(uid, idempotent.value(), handler, idempotencyKey);
+        if (record != null) {
+            if (!requestHash.equals(record.getRequestHash())) {
+                log.warn("Idempotency key reused with different request: uid={}, handler={}, key={}",
+                        uid, handler, idempotencyKey);
+                return ApiResponse.error("IDEMPOTENCY_KEY_REUSED", "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+            }
+            JavaType type = objectMapper.getTypeFactory().constructType(signature.getMethod().getGenericReturnType());
+            try {
+                Object response = objectMapper.readValue(record.getResponse(), type);
+                log.info("Idempotent response replayed: uid={}, mode={}, handler={}, key={}, sessionVersion={}",
+                        uid, idempotent.value(), handler, idempotencyKey, record.getSessionVersion());
+                return response;
+            } catch (Exception e) {
+                // 다시 실행하면 중복 반영될 수 있으므로 오류 응답
+                log.error("Failed to replay idempotent response: uid={}, key={}", uid, idempotencyKey, e);
+                return ApiResponse.error("IDEMPOTENCY_REPLAY_FAILED", "이전 요청 결과를 불러오지 못했습니다. 게임 상태를 다시 조회해주세요.");
+            }
+        }
+
+        Object result = joinPoint.proceed();
+        if (result instanceof ApiResponse
+                && ApiConstants.SUCCESS_CODE.equals(((ApiResponse<?>) result).getCode())) {
+            idempotencyService.store(uid, idempotent.value(), handler, idempotencyKey, requestHash,
+                    objectMapper.writeValueAsString(result));
+        }
+        return result;
+    }
+
+    /**
+     * {@literal @}RequestBody 파라미터 JSON (없으면 null)
+     */
+    private String requestBody(ProceedingJoinPoint joinPoint, MethodSignature signature) throws Exception {
+        Object[] args = joinPoint.getArgs();
+        Annotation[][] parameterAnnotations = signature.getMethod().getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    return objectMapper.writeValueAsString(args[i]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes
+                ? ((ServletRequestAttributes) attributes).getRequest()
+                : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cas.api.config;
+
+import com.cas.api.enums.GameMode;
+
+import java.lang.annotation.*;
+
+/**
+ * 멱등 요청 어노테이션
+ *
+ * Idempotency-Key 헤더가 있으면 첫 성공 응답을 저장해 두고, 같은 키로 재시도하면 저장된 응답을 반환합니다.
+ * 헤더가 없으면 기존과 동일하게 처리합니다.
+ * 같은 사용자의 재시도가 동시에 들어와도 한 번만 처리되도록 @UserLock 과 함께 사용합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}UserLock
+ * {@literal @}Idempotent(GameMode.COMPETITION)
+ * {@literal @}PostMapping("/proceed-round")
+ * public ApiResponse&lt;RoundStateDto&gt; proceedRound(...)
+ * </pre>
+ *
+ * @see com.cas.api.service.game.IdempotencyService
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+
+    /**
+     * 응답을 저장할 게임 모드 (세션 키와 같은 위치에 저장)
+     */
+    GameMode value();
+
+    /**
+     * 사용자 ID 요청 헤더 이름
+     */
+    String uidHeader() default "uid";
+}
@@ -0,0 +1,92 @@
+package com.cas.api.config;
+
+import com.cas.common.infra.annotation.UserLock;
+import com.cas.common.infra.lock.UserLockService;
+import com.cas.common.web.dto.ApiResponse;
+import com.cas.common.web.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * {@literal @}UserLock 처리 Aspect
+ *
+ * 컨트롤러 메서드 실행 전후로 사용자별 잠금을 획득/해제합니다.
+ * 대기 시간 안에 잠금을 얻지 못하면 ApiResponse 를 반환하는 메서드는 USER_LOCKED 응답을,
+ * 그 외에는 BusinessException 을 던집니다.
+ * 다른 Aspect(멱등 응답 등)보다 바깥에서 실행됩니다 (Order 1).
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class UserLockAspect {
+
+    private static final String LOCKED_CODE = "USER_LOCKED";
+    private static final String LOCKED_MESSAGE = "이전 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    private final UserLockService userLockService;
+
+    @Around("@annotation(userLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, UserLock userLock) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String uid = resolveKey(joinPoint, signature, userLock.key());
+        if (uid == null || uid.isEmpty()) {
+            log.warn("User lock key not found, proceeding without lock: method={}, key={}",
+                    signature.toShortString(), userLock.key());
+            return joinPoint.proceed();
+        }
+
+        UserLockService.Lease lease = userLockService.acquire(uid, userLock.waitMs());
+        if (lease == null) {
+            log.warn("User lock busy: uid={}, method={}", uid, signature.toShortString());
+            if (ApiResponse.class.isAssignableFrom(signature.getReturnType())) {
+                return ApiResponse.error(LOCKED_CODE, LOCKED_MESSAGE);
+            }
+            throw new BusinessException(LOCKED_CODE, LOCKED_MESSAGE);
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            userLockService.release(lease);
+        }
+    }
+
+    /**
+     * 잠금 키 값 조회 ({@literal @}RequestHeader 이름 우선, 없으면 파라미터 이름)
+     */
+    private String resolveKey(ProceedingJoinPoint joinPoint, MethodSignature signature, String key) {
+        Object[] args = joinPoint.getArgs();
+        Annotation[][] parameterAnnotations = signature.getMethod().getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestHeader) {
+                    RequestHeader header = (RequestHeader) annotation;
+                    if (key.equals(header.value()) || key.equals(header.name())) {
+                        return args[i] != null ? args[i].toString() : null;
+                    }
+                }
+            }
+        }
+
+        String[] names = signature.getParameterNames();
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (key.equals(names[i])) {
+                    return args[i] != null ? args[i].toString() : null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -7,6 +7,7 @@ import com.cas.common.web.filter.SecurityHeadersFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
@@ -17,9 +18,12 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
  * 보안 강화:
  * - SecureObjectMapperConfig: RCE 취약점 방어
  * - SecurityHeadersFilter: 보안 헤더 및 위험한 Content-Type 차단
+ * 
+ * 컨트롤러의 @UserLock 은 이 컨텍스트의 UserLockAspect 가 처리 (컨트롤러는 클래스 프록시)
  */
 @Configuration
 @EnableWebMvc
+@EnableAspectJAutoProxy(proxyTargetClass = true)
 @ComponentScan(basePackages = {
     "com.cas.common.web",
     "com.cas.api.controller",
@@ -11,12 +11,16 @@ public class GameConstants {
     public static final String REDIS_KEY_GAME_SESSION = "game:session:%s:%s";  // uid:mode
     public static final String REDIS_KEY_GAME_ROUND = "game:round:%s:%s:%d";  // uid:mode:roundNo
     public static final String REDIS_KEY_GAME_TEMP = "game:temp:%s";          // uid
+    public static final String REDIS_KEY_IDEMPOTENCY = "game:session:%s:%s:idem:%s:%s";  // uid:mode:handler:idempotencyKey
     
     // ==================== Redis TTL (초) ====================
     public static final int TTL_ACTIVE_SESSION = 24 * 60 * 60;    // 24시간
     public static final int TTL_COMPLETED_GAME = 7 * 24 * 60 * 60; // 7일
     public static final int TTL_TEMP_DATA = 10 * 60;               // 10분
     
+    // ==================== 세션 동시성 제어 ====================
+    public static final int MAX_SESSION_CAS_RETRIES = 3;  // 버전 충돌 시 재조회 후 재시도 횟수
+    
     // ==================== 튜토리얼 기본값 ====================
     public static final long DEFAULT_INITIAL_CASH = 5_000_000L;           // 500만원 (기본값)
     public static final long DEFAULT_MONTHLY_LIVING_EXPENSE = 1_500_000L; // 150만원 (기본값)
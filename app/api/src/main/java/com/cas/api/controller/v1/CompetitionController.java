@@ -1,5 +1,6 @@
 package com.cas.api.controller.v1;
 
+import com.cas.api.config.Idempotent;
 import com.cas.api.constant.GameConstants;
 import com.cas.api.dto.domain.FundHoldingDto;
 import com.cas.api.dto.domain.GameSessionDto;
@@ -8,6 +9,7 @@ import com.cas.api.dto.domain.PortfolioDto;
 import com.cas.api.dto.domain.StockHoldingDto;
 import com.cas.api.dto.request.BuyAdditionalInfoRequest;
 import com.cas.api.dto.request.NpcRequest;
+import com.cas.api.dto.request.ProceedRoundRequest;
 import com.cas.api.dto.request.ResolveLifeEventRequest;
 import com.cas.api.dto.request.UseAdviceRequest;
 import com.cas.api.dto.response.PortfolioResponseDto;
@@ -22,7 +24,9 @@ import com.cas.api.enums.GameMode;
 import com.cas.api.service.financial.DepositService;
 import com.cas.api.service.financial.PortfolioService;
 import com.cas.api.service.game.*;
+import com.cas.common.infra.annotation.UserLock;
 import com.cas.common.web.dto.ApiResponse;
+import com.cas.common.web.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -58,6 +62,8 @@ public class CompetitionController {
      * 게임 시작 (경쟁모드는 고정 초기값)
      * POST /api/v1/competition/start
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/start")
     public ApiResponse<RoundStateDto> startGame(@RequestHeader("uid") String uid) {
         
@@ -150,10 +156,12 @@ public class CompetitionController {
      * 라운드 진행
      * POST /api/v1/competition/proceed-round
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/proceed-round")
     public ApiResponse<RoundStateDto> proceedRound(
             @RequestHeader("uid") String uid,
-            @RequestBody Map<String, Object> actions) {
+            @RequestBody ProceedRoundRequest actions) {
         
         log.info("Proceeding competition round: uid={}", uid);
         
@@ -177,16 +185,24 @@ public class CompetitionController {
             // 라운드 종료 처리
             roundService.endRound(session, portfolio);
             
-            // 게임이 완료되지 않았으면 다음 라운드 시작
+            // 게임이 완료되지 않았으면 다음 라운드 시작, 완료되었으면 업적 체크 (결과 조회는 읽기 전용)
             StartSettlementResultDto settlementResult = null;
             if (!session.getCompleted()) {
                 settlementResult = roundService.startRound(session, portfolio);
                 portfolioService.updatePortfolioSummary(portfolio);
+            } else {
+                achievementService.checkAchievements(session);
+                achievementService.checkFinancialComprehensive(session);
             }
             
             // 세션 업데이트
             gameSessionService.updateSession(uid, GameMode.COMPETITION, session);
             
+            // 게임 완료 시 실시간 리더보드 등록 (완료 라운드에서 한 번만, 결과 조회는 읽기 전용)
+            if (session.getCompleted()) {
+                recordFinalScore(uid, session, portfolio);
+            }
+            
             // 응답 생성
             RoundStateDto response = buildRoundState(session, portfolio);
             
@@ -202,6 +218,9 @@ public class CompetitionController {
             
             return ApiResponse.success(response);
             
+        } catch (BusinessException e) {
+            log.warn("Round proceed rejected: uid={}, code={}, message={}", uid, e.getErrorCode(), e.getErrorMessage());
+            return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
         } catch (Exception e) {
             log.error("Failed to proceed competition round: uid={}", uid, e);
             return ApiResponse.error("PROCEED_FAILED", "라운드 진행 실패: " + e.getMessage());
@@ -212,6 +231,8 @@ public class CompetitionController {
      * NPC 조언 사용
      * POST /api/v1/competition/use-advice
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/use-advice")
     public ApiResponse<Map<String, Object>> useAdvice(
             @RequestHeader("uid") String uid,
@@ -261,6 +282,8 @@ public class CompetitionController {
      * 심화정보 구매
      * POST /api/v1/competition/buy-additional-info
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/buy-additional-info")
     public ApiResponse<Map<String, Object>> buyAdditionalInfo(
             @RequestHeader("uid") String uid,
@@ -305,6 +328,8 @@ public class CompetitionController {
      * 인생이벤트 해결
      * POST /api/v1/competition/resolve-life-event
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/resolve-life-event")
     public ApiResponse<Map<String, Object>> resolveLifeEvent(
             @RequestHeader("uid") String uid,
@@ -363,9 +388,7 @@ public class CompetitionController {
                     
                     long beforeCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> sellActions = (Map<String, Object>) request.getSellActions();
-                    actionService.processActions(session, portfolio, sellActions);
+                    actionService.processActions(session, portfolio, request.getSellActions());
                     
                     long afterCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     long assetsValue = afterCash - beforeCash;
@@ -387,9 +410,7 @@ public class CompetitionController {
                     
                     long beforeMixedCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> mixedSellActions = (Map<String, Object>) request.getSellActions();
-                    actionService.processActions(session, portfolio, mixedSellActions);
+                    actionService.processActions(session, portfolio, request.getSellActions());
                     
                     long afterMixedCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     long mixedAssetsValue = afterMixedCash - beforeMixedCash;
@@ -468,6 +489,9 @@ public class CompetitionController {
             
             return ApiResponse.success(result);
             
+        } catch (BusinessException e) {
+            log.warn("Life event resolution rejected: uid={}, code={}, message={}", uid, e.getErrorCode(), e.getErrorMessage());
+            return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
         } catch (Exception e) {
             log.error("Failed to resolve life event: uid={}", uid, e);
             return ApiResponse.error("RESOLVE_FAILED", "인생이벤트 해결 실패: " + e.getMessage());
@@ -497,11 +521,6 @@ public class CompetitionController {
             // 초기 자본 (세션에 저장된 값 사용)
             long initialCash = session.getInitialCash() != null ? session.getInitialCash() : 5000000L;
             
-            // 업적 체크 (게임 완료 시 모든 업적 체크)
-            achievementService.checkAchievements(session);
-            achievementService.checkFinancialComprehensive(session);
-            gameSessionService.updateSession(uid, GameMode.COMPETITION, session);
-            
             // 점수 계산
             RankingService.ScoreResult scoreResult = rankingService.calculateScore(session, portfolio, initialCash);
             
@@ -534,8 +553,8 @@ public class CompetitionController {
             result.put("loanUsed", session.getLoanUsed());
             result.put("illegalLoanUsed", session.getIllegalLoanUsed());
             
-            // TODO: 랭킹 (Redis Sorted Set)
-            // result.put("ranking", rankingService.getRanking(uid, scoreResult.getTotalScore()));
+            // 랭킹 (게임 완료 시 등록된 실시간 리더보드 내 순위)
+            result.put("ranking", rankingService.getLeaderboardRank(uid));
             
             log.info("Competition result retrieved: uid={}, netWorth={}, score={}", 
                 uid, portfolio.getNetWorth(), scoreResult.getTotalScore());
@@ -548,6 +567,20 @@ public class CompetitionController {
         }
     }
     
+    /**
+     * 최종 점수를 실시간 리더보드에 등록
+     * 세션은 이미 저장되었으므로 등록 실패는 로그만 남김 (사용자별 최고 점수만 유지되어 재등록해도 무방)
+     */
+    private void recordFinalScore(String uid, GameSessionDto session, PortfolioDto portfolio) {
+        try {
+            long initialCash = session.getInitialCash() != null ? session.getInitialCash() : 5000000L;
+            RankingService.ScoreResult scoreResult = rankingService.calculateScore(session, portfolio, initialCash);
+            rankingService.recordScore(uid, scoreResult.getTotalScore());
+        } catch (Exception e) {
+            log.error("Failed to record competition score: uid={}", uid, e);
+        }
+    }
+    
     /**
      * RoundState 응답 생성
      */
@@ -920,6 +953,8 @@ public class CompetitionController {
      * 경쟁모드 6라운드에서 불법사금융 광고 클릭 시 호출
      * (리스크 관리 점수에서 -20점 패널티)
      */
+    @UserLock
+    @Idempotent(GameMode.COMPETITION)
     @PostMapping("/use-illegal-loan")
     public ApiResponse<Map<String, Object>> useIllegalLoan(@RequestHeader("uid") String uid) {
         
@@ -962,6 +997,7 @@ public class CompetitionController {
      * 게임 초기화 (강제 종료)
      * DELETE /api/v1/competition/reset
      */
+    @UserLock
     @DeleteMapping("/reset")
     public ApiResponse<Map<String, Object>> resetGame(@RequestHeader("uid") String uid) {
         
@@ -989,6 +1025,7 @@ public class CompetitionController {
      * NPC 선택
      * POST /api/v1/competition/select-npc
      */
+    @UserLock
     @PostMapping("/select-npc")
     public ApiResponse<Map<String, Object>> selectNpc(
             @RequestHeader("uid") String uid,
@@ -997,13 +1034,11 @@ public class CompetitionController {
         log.info("Selecting NPC: uid={}, npcType={}", uid, request.getNpcType());
         
         try {
-            // 세션이 없으면 자동 생성
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.COMPETITION);
-            
-            session.setNpcType(request.getNpcType());
-            session.setNpcSelectionCompleted(true);
-            
-            gameSessionService.updateSession(uid, GameMode.COMPETITION, session);
+            // 세션이 없으면 자동 생성, 동시 변경 시 재조회 후 재시도
+            gameSessionService.updateSessionWithRetry(uid, GameMode.COMPETITION, session -> {
+                session.setNpcType(request.getNpcType());
+                session.setNpcSelectionCompleted(true);
+            });
             
             Map<String, Object> data = new HashMap<>();
             data.put("selected", true);
@@ -1098,8 +1133,7 @@ public class CompetitionController {
         Integer quantity = request.getQuantity() != null ? request.getQuantity() : 0;
         String action = request.getAction() != null ? request.getAction().toUpperCase() : "BUY";
         
-        Long currentPrice = marketEventService.getCurrentStockPrice(
-            stockId, session.getGameMode(), session.getCurrentRound());
+        Long currentPrice = marketEventService.getCurrentStockPrice(session, stockId);
         
         // 기존 보유 주식 찾기
         StockHoldingDto existingStock = portfolio.getStocks().stream()
@@ -1166,8 +1200,7 @@ public class CompetitionController {
         Long amount = request.getAmount() != null ? request.getAmount() : 0L;
         String action = request.getAction() != null ? request.getAction().toUpperCase() : "BUY";
         
-        Long currentNav = marketEventService.getCurrentFundNav(
-            fundId, session.getGameMode(), session.getCurrentRound());
+        Long currentNav = marketEventService.getCurrentFundNav(session, fundId);
         
         // 좌수 계산
         int shares = (int) Math.round((double) amount / currentNav);
@@ -1460,6 +1493,39 @@ public class CompetitionController {
         }
     }
     
+    /**
+     * 실시간 리더보드 조회
+     * GET /api/v1/competition/leaderboard
+     * 
+     * @param limit 상위 조회 건수 (기본 10, 1 이상, 최대 ranking.leaderboard.max-limit)
+     * @param range 내 주변 조회 범위 (위/아래, 기본 5, 0 이상, 최대 ranking.leaderboard.around-range)
+     */
+    @GetMapping("/leaderboard")
+    public ApiResponse<Map<String, Object>> getLeaderboard(
+            @RequestHeader("uid") String uid,
+            @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @RequestParam(required = false, defaultValue = "5") Integer range) {
+        
+        log.info("Getting leaderboard: uid={}, limit={}, range={}", uid, limit, range);
+        
+        if (limit == null || limit <= 0 || range == null || range < 0) {
+            return ApiResponse.error("INVALID_PARAMETER", "limit 은 1 이상, range 는 0 이상이어야 합니다.");
+        }
+        
+        try {
+            Map<String, Object> data = new HashMap<>();
+            data.put("rankings", rankingService.getLeaderboardTop(limit));
+            data.put("myRank", rankingService.getLeaderboardRank(uid));
+            data.put("around", rankingService.getLeaderboardAround(uid, range));
+            
+            return ApiResponse.success(data);
+            
+        } catch (Exception e) {
+            log.error("Failed to get leaderboard: uid={}", uid, e);
+            return ApiResponse.error("FAILED", "리더보드 조회 실패: " + e.getMessage());
+        }
+    }
+    
     /**
      * 월간 랭킹 조회 (현재 월)
      * GET /api/v1/competition/monthly-ranking
@@ -1,5 +1,6 @@
 package com.cas.api.controller.v1;
 
+import com.cas.api.config.Idempotent;
 import com.cas.api.constant.GameConstants;
 import com.cas.api.dto.domain.FundHoldingDto;
 import com.cas.api.dto.domain.GameSessionDto;
@@ -9,6 +10,7 @@ import com.cas.api.dto.domain.StockHoldingDto;
 import com.cas.api.dto.request.BuyAdditionalInfoRequest;
 import com.cas.api.dto.request.CompleteVideoRequest;
 import com.cas.api.dto.request.NpcRequest;
+import com.cas.api.dto.request.ProceedRoundRequest;
 import com.cas.api.dto.request.PropensityResultRequest;
 import com.cas.api.dto.request.PropensityTestRequest;
 import com.cas.api.dto.request.ResolveLifeEventRequest;
@@ -27,13 +29,16 @@ import com.cas.api.enums.GameMode;
 import com.cas.api.service.financial.DepositService;
 import com.cas.api.service.financial.PortfolioService;
 import com.cas.api.service.game.*;
+import com.cas.common.infra.annotation.UserLock;
 import com.cas.common.web.dto.ApiResponse;
+import com.cas.common.web.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * 튜토리얼 모드 Controller
@@ -61,6 +66,8 @@ public class TutorialController {
      * 게임 시작
      * POST /api/v1/tutorial/start
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/start")
     public ApiResponse<RoundStateDto> startGame(
             @RequestHeader("uid") String uid,
@@ -146,10 +153,12 @@ public class TutorialController {
      * 라운드 진행
      * POST /api/v1/tutorial/proceed-round
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/proceed-round")
     public ApiResponse<RoundStateDto> proceedRound(
             @RequestHeader("uid") String uid,
-            @RequestBody Map<String, Object> actions) {
+            @RequestBody ProceedRoundRequest actions) {
         
         log.info("Proceeding tutorial round: uid={}", uid);
         
@@ -173,11 +182,14 @@ public class TutorialController {
             // 라운드 종료 처리
             roundService.endRound(session, portfolio);
             
-            // 게임이 완료되지 않았으면 다음 라운드 시작
+            // 게임이 완료되지 않았으면 다음 라운드 시작, 완료되었으면 업적 체크 (결과 조회는 읽기 전용)
             StartSettlementResultDto settlementResult = null;
             if (!session.getCompleted()) {
                 settlementResult = roundService.startRound(session, portfolio);
                 portfolioService.updatePortfolioSummary(portfolio);
+            } else {
+                achievementService.checkAchievements(session);
+                achievementService.checkFinancialComprehensive(session);
             }
             
             // 세션 업데이트
@@ -198,6 +210,9 @@ public class TutorialController {
             
             return ApiResponse.success(response);
             
+        } catch (BusinessException e) {
+            log.warn("Round proceed rejected: uid={}, code={}, message={}", uid, e.getErrorCode(), e.getErrorMessage());
+            return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
         } catch (Exception e) {
             log.error("Failed to proceed tutorial round: uid={}", uid, e);
             return ApiResponse.error("PROCEED_FAILED", "라운드 진행 실패: " + e.getMessage());
@@ -208,6 +223,8 @@ public class TutorialController {
      * NPC 조언 사용
      * POST /api/v1/tutorial/use-advice
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/use-advice")
     public ApiResponse<Map<String, Object>> useAdvice(
             @RequestHeader("uid") String uid,
@@ -265,6 +282,8 @@ public class TutorialController {
      * 심화정보 구매
      * POST /api/v1/tutorial/buy-additional-info
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/buy-additional-info")
     public ApiResponse<Map<String, Object>> buyAdditionalInfo(
             @RequestHeader("uid") String uid,
@@ -309,6 +328,8 @@ public class TutorialController {
      * 인생이벤트 해결
      * POST /api/v1/tutorial/resolve-life-event
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/resolve-life-event")
     public ApiResponse<Map<String, Object>> resolveLifeEvent(
             @RequestHeader("uid") String uid,
@@ -367,9 +388,7 @@ public class TutorialController {
                     
                     long beforeCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> sellActions = (Map<String, Object>) request.getSellActions();
-                    actionService.processActions(session, portfolio, sellActions);
+                    actionService.processActions(session, portfolio, request.getSellActions());
                     
                     long afterCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     long assetsValue = afterCash - beforeCash;
@@ -391,9 +410,7 @@ public class TutorialController {
                     
                     long beforeMixedCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> mixedSellActions = (Map<String, Object>) request.getSellActions();
-                    actionService.processActions(session, portfolio, mixedSellActions);
+                    actionService.processActions(session, portfolio, request.getSellActions());
                     
                     long afterMixedCash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
                     long mixedAssetsValue = afterMixedCash - beforeMixedCash;
@@ -472,6 +489,9 @@ public class TutorialController {
             
             return ApiResponse.success(result);
             
+        } catch (BusinessException e) {
+            log.warn("Life event resolution rejected: uid={}, code={}, message={}", uid, e.getErrorCode(), e.getErrorMessage());
+            return ApiResponse.error(e.getErrorCode(), e.getErrorMessage());
         } catch (Exception e) {
             log.error("Failed to resolve life event: uid={}", uid, e);
             return ApiResponse.error("RESOLVE_FAILED", "인생이벤트 해결 실패: " + e.getMessage());
@@ -502,11 +522,6 @@ public class TutorialController {
             // 초기 자본 (튜토리얼은 가변: session에 저장된 값)
             long initialCash = session.getInitialCash() != null ? session.getInitialCash() : 0L;
             
-            // 업적 체크 (게임 완료 시 모든 업적 체크)
-            achievementService.checkAchievements(session);
-            achievementService.checkFinancialComprehensive(session);
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
-            
             // 점수 계산
             RankingService.ScoreResult scoreResult = rankingService.calculateScore(session, portfolio, initialCash);
             
@@ -960,6 +975,8 @@ public class TutorialController {
      * 튜토리얼 4라운드에서 불법사금융 광고 클릭 시 호출
      * (교육 목적, 점수 영향 없음)
      */
+    @UserLock
+    @Idempotent(GameMode.TUTORIAL)
     @PostMapping("/use-illegal-loan")
     public ApiResponse<Map<String, Object>> useIllegalLoan(@RequestHeader("uid") String uid) {
         
@@ -996,6 +1013,7 @@ public class TutorialController {
      * 게임 초기화 (강제 종료)
      * DELETE /api/v1/tutorial/reset
      */
+    @UserLock
     @DeleteMapping("/reset")
     public ApiResponse<Map<String, Object>> resetGame(@RequestHeader("uid") String uid) {
         
@@ -1023,17 +1041,19 @@ public class TutorialController {
      * 오프닝 스토리 완료
      * POST /api/v1/tutorial/complete-opening-story
      */
+    @UserLock
     @PostMapping("/complete-opening-story")
     public ApiResponse<Map<String, Object>> completeOpeningStory(@RequestHeader("uid") String uid) {
         
         log.info("Completing opening story: uid={}", uid);
         
         try {
-            // 세션이 없으면 자동 생성 (getOrCreateSession 사용)
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.TUTORIAL);
-            session.setOpeningStoryCompleted(true);
-            
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
+            // 이미 완료했으면 저장 생략, 아니면 변경된 필드만 저장 (세션이 없으면 자동 생성)
+            GameSessionDto flags = gameSessionService.getSessionFields(uid, GameMode.TUTORIAL, "openingStoryCompleted");
+            if (flags == null || !Boolean.TRUE.equals(flags.getOpeningStoryCompleted())) {
+                gameSessionService.updateSessionFields(uid, GameMode.TUTORIAL,
+                    Collections.singletonMap("openingStoryCompleted", true));
+            }
             
             Map<String, Object> data = new HashMap<>();
             data.put("completed", true);
@@ -1052,6 +1072,7 @@ public class TutorialController {
      * 재무성향검사 제출
      * POST /api/v1/tutorial/submit-propensity-test
      */
+    @UserLock
     @PostMapping("/submit-propensity-test")
     public ApiResponse<Map<String, Object>> submitPropensityTest(
             @RequestHeader("uid") String uid,
@@ -1060,13 +1081,11 @@ public class TutorialController {
         log.info("Submitting propensity test: uid={}, answers={}", uid, request.getAnswers());
         
         try {
-            // 세션이 없으면 자동 생성
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.TUTORIAL);
-            
-            session.setPropensityTestAnswers(request.getAnswers());
-            session.setPropensityTestCompleted(true);
-            
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
+            // 세션이 없으면 자동 생성, 변경된 필드만 저장
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("propensityTestAnswers", request.getAnswers());
+            fields.put("propensityTestCompleted", true);
+            gameSessionService.updateSessionFields(uid, GameMode.TUTORIAL, fields);
             
             Map<String, Object> data = new HashMap<>();
             data.put("submitted", true);
@@ -1086,6 +1105,7 @@ public class TutorialController {
      * 재무성향 결과 저장
      * POST /api/v1/tutorial/save-propensity-result
      */
+    @UserLock
     @PostMapping("/save-propensity-result")
     public ApiResponse<Map<String, Object>> savePropensityResult(
             @RequestHeader("uid") String uid,
@@ -1094,13 +1114,11 @@ public class TutorialController {
         log.info("Saving propensity result: uid={}, type={}", uid, request.getPropensityType());
         
         try {
-            // 세션이 없으면 자동 생성
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.TUTORIAL);
-            
-            session.setPropensityType(request.getPropensityType());
-            session.setResultAnalysisCompleted(true);
-            
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
+            // 세션이 없으면 자동 생성, 변경된 필드만 저장
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("propensityType", request.getPropensityType());
+            fields.put("resultAnalysisCompleted", true);
+            gameSessionService.updateSessionFields(uid, GameMode.TUTORIAL, fields);
             
             Map<String, Object> data = new HashMap<>();
             data.put("saved", true);
@@ -1120,6 +1138,7 @@ public class TutorialController {
      * NPC 배정
      * POST /api/v1/tutorial/assign-npc
      */
+    @UserLock
     @PostMapping("/assign-npc")
     public ApiResponse<Map<String, Object>> assignNpc(
             @RequestHeader("uid") String uid,
@@ -1128,18 +1147,17 @@ public class TutorialController {
         log.info("Assigning NPC: uid={}, npcType={}", uid, request.getNpcType());
         
         try {
-            // 세션이 없으면 자동 생성
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.TUTORIAL);
-            
-            session.setNpcType(request.getNpcType());
-            session.setNpcAssignmentCompleted(true);
-            
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
+            // 세션이 없으면 자동 생성, 변경된 필드만 저장하고 응답에 필요한 필드만 조회
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("npcType", request.getNpcType());
+            fields.put("npcAssignmentCompleted", true);
+            gameSessionService.updateSessionFields(uid, GameMode.TUTORIAL, fields);
+            GameSessionDto session = gameSessionService.getSessionFields(uid, GameMode.TUTORIAL, "propensityType");
             
             Map<String, Object> data = new HashMap<>();
             data.put("assigned", true);
             data.put("npcType", request.getNpcType());
-            data.put("propensityType", session.getPropensityType());
+            data.put("propensityType", session != null ? session.getPropensityType() : null);
             
             log.info("NPC assigned: uid={}, npcType={}", uid, request.getNpcType());
             
@@ -1155,6 +1173,7 @@ public class TutorialController {
      * 교육 영상 시청 완료
      * POST /api/v1/tutorial/complete-video
      */
+    @UserLock
     @PostMapping("/complete-video")
     public ApiResponse<Map<String, Object>> completeVideo(
             @RequestHeader("uid") String uid,
@@ -1212,6 +1231,7 @@ public class TutorialController {
      * 우대금리 퀴즈 정답 제출
      * POST /api/v1/tutorial/submit-quiz
      */
+    @UserLock
     @PostMapping("/submit-quiz")
     public ApiResponse<Map<String, Object>> submitQuiz(
             @RequestHeader("uid") String uid,
@@ -1220,33 +1240,43 @@ public class TutorialController {
         log.info("Submitting quiz: uid={}, productType={}", uid, request.getProductType());
         
         try {
-            GameSessionDto session = gameSessionService.getOrCreateSession(uid, GameMode.TUTORIAL);
-            
             // 상품 타입에 따라 우대금리 플래그 설정 (무조건 정답 처리)
+            String quizField;
+            Function<GameSessionDto, Boolean> quizPassed;
             switch (request.getProductType().toUpperCase()) {
                 case "DEPOSIT":
-                    session.setDepositQuizPassed(true);
+                    quizField = "depositQuizPassed";
+                    quizPassed = GameSessionDto::getDepositQuizPassed;
                     break;
                 case "STOCK":
-                    session.setStockQuizPassed(true);
+                    quizField = "stockQuizPassed";
+                    quizPassed = GameSessionDto::getStockQuizPassed;
                     break;
                 case "BOND":
-                    session.setBondQuizPassed(true);
+                    quizField = "bondQuizPassed";
+                    quizPassed = GameSessionDto::getBondQuizPassed;
                     break;
                 case "PENSION":
-                    session.setPensionQuizPassed(true);
+                    quizField = "pensionQuizPassed";
+                    quizPassed = GameSessionDto::getPensionQuizPassed;
                     break;
                 case "FUND":
-                    session.setFundQuizPassed(true);
+                    quizField = "fundQuizPassed";
+                    quizPassed = GameSessionDto::getFundQuizPassed;
                     break;
                 case "INSURANCE":
-                    session.setInsuranceQuizPassed(true);
+                    quizField = "insuranceQuizPassed";
+                    quizPassed = GameSessionDto::getInsuranceQuizPassed;
                     break;
                 default:
                     return ApiResponse.error("INVALID_PRODUCT_TYPE", "올바르지 않은 상품 타입입니다: " + request.getProductType());
             }
             
-            gameSessionService.updateSession(uid, GameMode.TUTORIAL, session);
+            // 이미 통과했으면 저장 생략, 아니면 해당 플래그만 저장 (세션이 없으면 자동 생성)
+            GameSessionDto flags = gameSessionService.getSessionFields(uid, GameMode.TUTORIAL, quizField);
+            if (flags == null || !Boolean.TRUE.equals(quizPassed.apply(flags))) {
+                gameSessionService.updateSessionFields(uid, GameMode.TUTORIAL, Collections.singletonMap(quizField, true));
+            }
             
             Map<String, Object> data = new HashMap<>();
             data.put("correct", true);
@@ -1342,8 +1372,7 @@ public class TutorialController {
         Integer quantity = request.getQuantity() != null ? request.getQuantity() : 0;
         String action = request.getAction() != null ? request.getAction().toUpperCase() : "BUY";
         
-        Long currentPrice = marketEventService.getCurrentStockPrice(
-            stockId, session.getGameMode(), session.getCurrentRound());
+        Long currentPrice = marketEventService.getCurrentStockPrice(session, stockId);
         
         // 기존 보유 주식 찾기
         StockHoldingDto existingStock = portfolio.getStocks().stream()
@@ -1410,8 +1439,7 @@ public class TutorialController {
         Long amount = request.getAmount() != null ? request.getAmount() : 0L;
         String action = request.getAction() != null ? request.getAction().toUpperCase() : "BUY";
         
-        Long currentNav = marketEventService.getCurrentFundNav(
-            fundId, session.getGameMode(), session.getCurrentRound());
+        Long currentNav = marketEventService.getCurrentFundNav(session, fundId);
         
         // 좌수 계산
         int shares = (int) Math.round((double) amount / currentNav);
@@ -75,13 +75,15 @@ public class ValidationController {
             // existingGame 객체 생성
             Map<String, String> existingGame = new HashMap<>();
             
-            // 튜토리얼 세션 확인
-            GameSessionDto tutorialSession = gameSessionService.getSession(uid, GameMode.TUTORIAL);
+            // 튜토리얼/경쟁모드 세션 일괄 확인
+            Map<GameMode, GameSessionDto> sessions =
+                gameSessionService.getSessions(uid, GameMode.TUTORIAL, GameMode.COMPETITION);
+            
+            GameSessionDto tutorialSession = sessions.get(GameMode.TUTORIAL);
             String tutorialStatus = getGameStatus(tutorialSession);
             existingGame.put("tutorial", tutorialStatus);
             
-            // 경쟁모드 세션 확인
-            GameSessionDto competitionSession = gameSessionService.getSession(uid, GameMode.COMPETITION);
+            GameSessionDto competitionSession = sessions.get(GameMode.COMPETITION);
             String competitionStatus = getGameStatus(competitionSession);
             existingGame.put("competition", competitionStatus);
             
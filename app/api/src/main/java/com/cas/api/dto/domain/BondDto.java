@@ -11,7 +11,7 @@ import java.math.BigDecimal;
  * 채권 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BondDto {
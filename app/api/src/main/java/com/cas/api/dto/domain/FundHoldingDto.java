@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
  * 펀드 보유 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class FundHoldingDto {
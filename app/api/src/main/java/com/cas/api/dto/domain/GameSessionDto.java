@@ -23,6 +23,12 @@ public class GameSessionDto {
      */
     private String uid;
     
+    /**
+     * 세션 버전 (Compare-And-Set 저장 시 사용, 저장마다 1씩 증가)
+     * null 이면 버전 확인 없이 덮어쓰기
+     */
+    private Long version;
+    
     /**
      * 게임 모드 (TUTORIAL, COMPETITION)
      */
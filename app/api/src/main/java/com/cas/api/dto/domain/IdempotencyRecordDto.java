@@ -0,0 +1,38 @@
+package com.cas.api.dto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 요청 응답 기록 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecordDto {
+
+    /**
+     * 응답 저장 시점의 세션 버전 (세션이 없으면 0)
+     */
+    private Long sessionVersion;
+
+    /**
+     * 요청 본문 해시 (SHA-256, 같은 키로 다른 요청을 보내면 거부)
+     */
+    private String requestHash;
+
+    /**
+     * 응답 본문 (JSON)
+     */
+    private String response;
+
+    /**
+     * 저장 시각
+     */
+    private LocalDateTime storedAt;
+}
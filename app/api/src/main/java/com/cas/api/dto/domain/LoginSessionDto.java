@@ -0,0 +1,38 @@
+package com.cas.api.dto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 로그인 세션 DTO (Redis login:session:{mbrSno})
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginSessionDto {
+
+    /**
+     * 회원일련번호
+     */
+    private Long mbrSno;
+
+    /**
+     * 로그인 일시 (yyyy-MM-dd HH:mm:ss, 로그아웃 기록 시 사용)
+     */
+    private String loginDt;
+
+    /**
+     * 로그인 시점의 사용자 정보 (게임 기본 정보 조회 결과)
+     */
+    private Map<String, Object> user;
+
+    /**
+     * 로그인 여부
+     */
+    private Boolean isLoggedIn;
+}
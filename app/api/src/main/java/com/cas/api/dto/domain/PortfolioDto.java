@@ -1,9 +1,12 @@
 package com.cas.api.dto.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -85,5 +88,26 @@ public class PortfolioDto {
      * 자산 배분 비율
      */
     private AllocationDto allocation;
+    
+    /**
+     * 자산군별 합계 (증분 갱신, 저장하지 않음)
+     * null 이면 다음 요약 갱신 시 전체 재계산
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private PortfolioTotals totals;
+    
+    /**
+     * 자산군 합계 증분 반영 (합계가 아직 없으면 무시, 다음 요약 갱신 시 전체 재계산)
+     * 
+     * @param assetClass 자산군
+     * @param delta 변동 금액
+     */
+    public void adjustTotal(PortfolioTotals.AssetClass assetClass, long delta) {
+        if (totals != null && delta != 0) {
+            totals.add(assetClass, delta);
+        }
+    }
 }
 
@@ -0,0 +1,106 @@
+package com.cas.api.dto.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 자산군별 합계 (현금 제외)
+ *
+ * 보유 자산이 바뀔 때마다 증분(delta)으로 갱신하여 요약 갱신 시 목록을 다시 순회하지 않습니다.
+ * - 예금 / 적금: 잔액
+ * - 채권 / 주식 / 펀드 / 연금: 평가금액
+ */
+public class PortfolioTotals {
+
+    /**
+     * 자산군
+     */
+    public enum AssetClass {
+        DEPOSIT, SAVING, BOND, STOCK, FUND, PENSION
+    }
+
+    private final long[] totals = new long[AssetClass.values().length];
+
+    /**
+     * 전체 재계산
+     *
+     * @param portfolio 포트폴리오
+     * @return 자산군별 합계
+     */
+    public static PortfolioTotals of(PortfolioDto portfolio) {
+        PortfolioTotals result = new PortfolioTotals();
+        result.totals[AssetClass.DEPOSIT.ordinal()] = sum(portfolio.getDeposits(), DepositDto::getBalance);
+        result.totals[AssetClass.SAVING.ordinal()] = sum(portfolio.getSavings(), SavingDto::getBalance);
+        result.totals[AssetClass.BOND.ordinal()] = sum(portfolio.getBonds(), BondDto::getEvaluationAmount);
+        result.totals[AssetClass.STOCK.ordinal()] = sum(portfolio.getStocks(), StockHoldingDto::getEvaluationAmount);
+        result.totals[AssetClass.FUND.ordinal()] = sum(portfolio.getFunds(), FundHoldingDto::getEvaluationAmount);
+        result.totals[AssetClass.PENSION.ordinal()] = sum(portfolio.getPensions(), PensionDto::getEvaluationAmount);
+        return result;
+    }
+
+    /**
+     * 자산군 합계
+     */
+    public long get(AssetClass assetClass) {
+        return totals[assetClass.ordinal()];
+    }
+
+    /**
+     * 자산군 합계 증분 반영
+     */
+    public void add(AssetClass assetClass, long delta) {
+        totals[assetClass.ordinal()] += delta;
+    }
+
+    /**
+     * 전체 자산군 합계 (현금 제외)
+     */
+    public long sum() {
+        long sum = 0L;
+        for (long total : totals) {
+            sum += total;
+        }
+        return sum;
+    }
+
+    /**
+     * null 금액은 0
+     */
+    public static long amountOf(Long amount) {
+        return amount != null ? amount : 0L;
+    }
+
+    private static <T> long sum(List<T> items, Function<T, Long> amount) {
+        if (items == null) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (T item : items) {
+            sum += amountOf(amount.apply(item));
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PortfolioTotals && Arrays.equals(totals, ((PortfolioTotals) o).totals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(totals);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PortfolioTotals(");
+        for (AssetClass assetClass : AssetClass.values()) {
+            if (assetClass.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(assetClass).append('=').append(totals[assetClass.ordinal()]);
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cas.api.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,138 +10,155 @@ import java.util.List;
 
 /**
  * 라운드 진행 Request
- * 해당 월의 유저의 모든 거래 내용
+ * 해당 월의 유저의 모든 거래 내용 (인생이벤트 자산 매도 요청도 같은 형식 사용)
+ *
+ * 처리 순서: 예금 → 적금 → 채권 → 주식 매수/매도 → 펀드 매수/매도 → 연금 → 대출 → 보험
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProceedRoundRequest {
-    
+
     /**
-     * 현재 라운드 정보
+     * 예금 가입 목록
      */
-    private CurrentRoundDto currentRound;
-    
+    private List<DepositAction> deposits;
+
     /**
-     * 보험 거래
+     * 적금 가입 목록
      */
-    private InsuranceDto insurance;
-    
+    private List<SavingAction> savings;
+
     /**
-     * 펀드 거래 목록
+     * 채권 가입/해지 목록 (요청 순서대로 처리)
      */
-    private List<FundTransactionDto> fund;
-    
+    private List<BondAction> bonds;
+
     /**
-     * 주식 거래 목록
+     * 주식 매수 목록
      */
-    private List<StockTransactionDto> stock;
-    
+    private List<StockTrade> stockBuys;
+
     /**
-     * 채권 거래 목록
+     * 주식 매도 목록
      */
-    private List<BondTransactionDto> bond;
-    
+    private List<StockTrade> stockSells;
+
     /**
-     * 예적금 거래 목록
+     * 펀드 매수 목록 (금액 단위)
      */
-    private List<DepositTransactionDto> deposit;
-    
+    private List<FundTrade> fundBuys;
+
     /**
-     * 연금 거래 목록
+     * 펀드 매도 목록 (금액 단위)
      */
-    private List<PensionTransactionDto> pension;
-    
+    private List<FundTrade> fundSells;
+
     /**
-     * 불법사금융 사용 여부
+     * 연금 가입 목록
      */
-    private IllegalPrivateLoanDto illegalPrivateLoan;
-    
+    private List<PensionAction> pensions;
+
     /**
-     * 인생이벤트 해결
+     * 대출 실행 (금액이 없으면 무시)
      */
-    private LifeEventResolutionDto lifeEvent;
-    
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class CurrentRoundDto {
-        private Integer roundNo;
+    private LoanAction loan;
+
+    /**
+     * 보험 가입 목록 (항목이 있으면 가입)
+     */
+    private List<InsuranceAction> insuranceSubscribes;
+
+    /**
+     * 보험 가입 여부 (하위 호환)
+     */
+    private Boolean subscribeInsurance;
+
+    /**
+     * 처리할 액션이 없는지 확인
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return isEmpty(deposits) && isEmpty(savings) && isEmpty(bonds)
+            && isEmpty(stockBuys) && isEmpty(stockSells)
+            && isEmpty(fundBuys) && isEmpty(fundSells)
+            && isEmpty(pensions) && (loan == null || loan.getAmount() == null)
+            && isEmpty(insuranceSubscribes) && !Boolean.TRUE.equals(subscribeInsurance);
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class InsuranceDto {
-        private Boolean subscribe;  // 가입
-        private Boolean cancel;     // 해지
+    public static class DepositAction {
+        private String productKey;
+        private Long amount;
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class FundTransactionDto {
-        private String action;  // "BUY" | "SELL"
-        private Long amount;    // 거래 금액
+    public static class SavingAction {
+        private String productKey;  // SAVING_A, SAVING_B
+        private Long monthlyAmount;
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class StockTransactionDto {
-        private String action;  // "BUY" | "SELL"
-        private Integer quantity; // 수량
+    public static class BondAction {
+        private String bondId;      // BOND_NATIONAL, BOND_CORPORATE
+        private String action;      // SUBSCRIBE, CANCEL
+        private Long amount;        // 가입 금액 또는 해지 액면가
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class BondTransactionDto {
-        private String action;  // "SUBSCRIBE" | "CANCEL"
-        private Long amount;
+    public static class StockTrade {
+        private String stockId;
+        private Integer quantity;
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class DepositTransactionDto {
-        private String action;  // "SUBSCRIBE" | "CANCEL"
-        private Long amount;
+    public static class FundTrade {
+        private String fundId;
+        private Long amount;        // 좌수 = 금액 / NAV (반올림)
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class PensionTransactionDto {
-        private String action;  // "SUBSCRIBE" | "CANCEL"
-        private Long amount;
+    public static class PensionAction {
+        private String pensionId;
+        private Long monthlyAmount;
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class IllegalPrivateLoanDto {
-        private Boolean executed;  // 실행 여부
+    public static class LoanAction {
+        private Long amount;
     }
-    
+
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class LifeEventResolutionDto {
-        private String eventKey;       // 이벤트 키
-        private String resolutionType; // 해결 방법
-        // "USE_CASH", "USE_SAVINGS", "USE_DEPOSIT", "REDEEM_FUND",
-        // "SELL_STOCK", "REDEEM_BOND", "INSURANCE_COVERED", "TAKE_LOAN"
+    public static class InsuranceAction {
+        private String insuranceId;
     }
 }
-
@@ -40,9 +40,9 @@ public class ResolveLifeEventRequest {
     
     /**
      * 해지할 상품 정보 (resolutionType이 SELL_ASSETS 또는 MIXED인 경우)
-     * 프론트에서 선택한 상품 정보
+     * 프론트에서 선택한 상품 정보 (라운드 진행 요청과 같은 형식)
      */
-    private Object sellActions; // Map<String, Object> 형태
+    private ProceedRoundRequest sellActions;
     
     /**
      * 해결 이유
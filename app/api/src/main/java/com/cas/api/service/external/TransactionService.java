@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 게임 데이터 트랜잭션 서비스
@@ -213,6 +214,72 @@ public class TransactionService {
         return resData;
     }
     
+    /**
+     * MCI 비동기 호출 wrapper
+     * - useExternalDb=true: httpHandler.postToMCIAsync 후 resData 추출
+     * - useExternalDb=false: Mock 응답을 완료된 Future 로 반환
+     * 
+     * @param param 요청 파라미터
+     * @param ifId MCI 인터페이스 ID
+     * @param opType Operation 타입 (INSERT, UPDATE, SELECT, LIST)
+     * @param deadlineAt 제한 시각 (epoch ms, 0 이하면 설정된 읽기 타임아웃 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<HashMap<String, Object>> executeRequestAsync(HashMap<String, Object> param, String ifId, String opType,
+                                                                           long deadlineAt) {
+        if (!useExternalDb) {
+            log.debug("[MOCK MODE] Skipping MCI async call: {} ({}) with params: {}", ifId, opType, param);
+            return CompletableFuture.completedFuture(createMockResponse(ifId, opType, param));
+        }
+        
+        log.info("[MCI] Calling interface async: {} with params: {}", ifId, param);
+        
+        return httpHandler.postToMCIAsync(param, ifId, SCREEN_ID, deadlineAt)
+                .thenApply(jsonObj -> {
+                    if (jsonObj != null && jsonObj.get("resData") != null) {
+                        return (HashMap<String, Object>) jsonObj.get("resData");
+                    }
+                    return jsonObj; // resData가 없으면 전체 응답 반환
+                });
+    }
+    
+    /**
+     * MCI 호출 wrapper (요청 객체)
+     */
+    private HashMap<String, Object> executeRequest(MciRequest request) throws KinfaRunException {
+        return executeRequest(request.param, request.ifId, request.opType);
+    }
+    
+    /**
+     * MCI 비동기 호출 wrapper (요청 객체)
+     */
+    private CompletableFuture<HashMap<String, Object>> executeRequestAsync(MciRequest request) {
+        return executeRequestAsync(request, 0L);
+    }
+    
+    /**
+     * MCI 비동기 호출 wrapper (요청 객체, 제한 시각)
+     */
+    private CompletableFuture<HashMap<String, Object>> executeRequestAsync(MciRequest request, long deadlineAt) {
+        return executeRequestAsync(request.param, request.ifId, request.opType, deadlineAt);
+    }
+    
+    /**
+     * MCI 요청 (파라미터 + 인터페이스 ID + Operation 타입)
+     * - 동기/비동기 조회가 같은 요청 생성 메서드를 공유
+     */
+    private static final class MciRequest {
+        private final HashMap<String, Object> param;
+        private final String ifId;
+        private final String opType;
+        
+        private MciRequest(HashMap<String, Object> param, String ifId, String opType) {
+            this.param = param;
+            this.ifId = ifId;
+            this.opType = opType;
+        }
+    }
+    
     /**
      * Mock 응답 생성
      * - Development 환경에서 사용
@@ -336,9 +403,13 @@ public class TransactionService {
      *   AND DTA_DEL_YN = 'N'
      */
     public HashMap<String, Object> getGameBasicInfo(Long mbrSno) throws KinfaRunException {
+        return executeRequest(gameBasicInfoRequest(mbrSno));
+    }
+
+    private static MciRequest gameBasicInfoRequest(Long mbrSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("MBR_SNO", mbrSno);
-        return executeRequest(param, IF_055_SELECT, OP_SELECT);
+        return new MciRequest(param, IF_055_SELECT, OP_SELECT);
     }
 
     /**
@@ -443,9 +514,13 @@ public class TransactionService {
      * ORDER BY T.FIRST_CRT_DT DESC
      */
     public HashMap<String, Object> getTutorialListByUser(Long mbrSno) throws KinfaRunException {
+        return executeRequest(tutorialListByUserRequest(mbrSno));
+    }
+
+    private static MciRequest tutorialListByUserRequest(Long mbrSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("MBR_SNO", mbrSno);
-        return executeRequest(param, IF_057_LIST, OP_LIST);
+        return new MciRequest(param, IF_057_LIST, OP_LIST);
     }
 
     // ========================================
@@ -515,9 +590,13 @@ public class TransactionService {
      * ORDER BY P.TTRL_RND_NO ASC
      */
     public HashMap<String, Object> getTutorialAllRounds(Long ttrlSno) throws KinfaRunException {
+        return executeRequest(tutorialAllRoundsRequest(ttrlSno));
+    }
+
+    private static MciRequest tutorialAllRoundsRequest(Long ttrlSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("TTRL_SNO", ttrlSno);
-        return executeRequest(param, IF_058_SELECT_ALL, OP_LIST);
+        return new MciRequest(param, IF_058_SELECT_ALL, OP_LIST);
     }
 
     /*
@@ -646,9 +725,13 @@ public class TransactionService {
      * ORDER BY C.FIRST_CRT_DT DESC
      */
     public HashMap<String, Object> getCompetitionListByUser(Long mbrSno) throws KinfaRunException {
+        return executeRequest(competitionListByUserRequest(mbrSno));
+    }
+
+    private static MciRequest competitionListByUserRequest(Long mbrSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("MBR_SNO", mbrSno);
-        return executeRequest(param, IF_060_LIST, OP_LIST);
+        return new MciRequest(param, IF_060_LIST, OP_LIST);
     }
 
     // ========================================
@@ -718,9 +801,13 @@ public class TransactionService {
      * ORDER BY P.CMPTT_RND_NO ASC
      */
     public HashMap<String, Object> getCompetitionAllRounds(Long cmpttSno) throws KinfaRunException {
+        return executeRequest(competitionAllRoundsRequest(cmpttSno));
+    }
+
+    private static MciRequest competitionAllRoundsRequest(Long cmpttSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("CMPTT_SNO", cmpttSno);
-        return executeRequest(param, IF_061_SELECT_ALL, OP_LIST);
+        return new MciRequest(param, IF_061_SELECT_ALL, OP_LIST);
     }
 
     /*
@@ -816,9 +903,13 @@ public class TransactionService {
      * FETCH FIRST #{LIMIT} ROWS ONLY
      */
     public HashMap<String, Object> getRanking(Integer limit) throws KinfaRunException {
+        return executeRequest(rankingRequest(limit));
+    }
+
+    private static MciRequest rankingRequest(Integer limit) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("LIMIT", limit);
-        return executeRequest(param, IF_062_RANKING, OP_LIST);
+        return new MciRequest(param, IF_062_RANKING, OP_LIST);
     }
 
     /**
@@ -849,10 +940,14 @@ public class TransactionService {
      * @param limit 조회 건수
      */
     public HashMap<String, Object> getMonthlyRanking(String yearMonth, Integer limit) throws KinfaRunException {
+        return executeRequest(monthlyRankingRequest(yearMonth, limit));
+    }
+
+    private static MciRequest monthlyRankingRequest(String yearMonth, Integer limit) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("YEAR_MONTH", yearMonth);
         param.put("LIMIT", limit);
-        return executeRequest(param, IF_062_MONTHLY_RANKING, OP_LIST);
+        return new MciRequest(param, IF_062_MONTHLY_RANKING, OP_LIST);
     }
 
     /**
@@ -879,10 +974,14 @@ public class TransactionService {
      * @param yearMonth 년월 (형식: YYYYMM)
      */
     public HashMap<String, Object> getMyMonthlyRanking(Long mbrSno, String yearMonth) throws KinfaRunException {
+        return executeRequest(myMonthlyRankingRequest(mbrSno, yearMonth));
+    }
+
+    private static MciRequest myMonthlyRankingRequest(Long mbrSno, String yearMonth) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("MBR_SNO", mbrSno);
         param.put("YEAR_MONTH", yearMonth);
-        return executeRequest(param, IF_062_MONTHLY_RANKING, OP_SELECT);
+        return new MciRequest(param, IF_062_MONTHLY_RANKING, OP_SELECT);
     }
 
     // ========================================
@@ -936,9 +1035,13 @@ public class TransactionService {
      * ORDER BY L.FIRST_CRT_DT ASC
      */
     public HashMap<String, Object> getLearningInfoByTutorial(Long ttrlSno) throws KinfaRunException {
+        return executeRequest(learningInfoByTutorialRequest(ttrlSno));
+    }
+
+    private static MciRequest learningInfoByTutorialRequest(Long ttrlSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("TTRL_SNO", ttrlSno);
-        return executeRequest(param, IF_063_SELECT_TUTORIAL, OP_LIST);
+        return new MciRequest(param, IF_063_SELECT_TUTORIAL, OP_LIST);
     }
 
     /**
@@ -955,9 +1058,13 @@ public class TransactionService {
      * ORDER BY L.FIRST_CRT_DT ASC
      */
     public HashMap<String, Object> getLearningInfoByCompetition(Long cmpttSno) throws KinfaRunException {
+        return executeRequest(learningInfoByCompetitionRequest(cmpttSno));
+    }
+
+    private static MciRequest learningInfoByCompetitionRequest(Long cmpttSno) {
         HashMap<String, Object> param = new HashMap<>();
         param.put("CMPTT_SNO", cmpttSno);
-        return executeRequest(param, IF_063_SELECT_COMPETITION, OP_LIST);
+        return new MciRequest(param, IF_063_SELECT_COMPETITION, OP_LIST);
     }
 
     /*
@@ -969,4 +1076,95 @@ public class TransactionService {
         return executeRequest(param, IF_063_STATS, OP_LIST);
     }
     */
+
+    // ========================================
+    // 10. 비동기 조회 (CompletableFuture)
+    // ========================================
+
+    /**
+     * 게임 기본 정보 조회 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getGameBasicInfo(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getGameBasicInfoAsync(Long mbrSno, long deadlineAt) {
+        return executeRequestAsync(gameBasicInfoRequest(mbrSno), deadlineAt);
+    }
+
+    /**
+     * 사용자 튜토리얼 목록 조회 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getTutorialListByUser(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getTutorialListByUserAsync(Long mbrSno, long deadlineAt) {
+        return executeRequestAsync(tutorialListByUserRequest(mbrSno), deadlineAt);
+    }
+
+    /**
+     * 튜토리얼 전체 라운드 조회 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getTutorialAllRounds(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getTutorialAllRoundsAsync(Long ttrlSno, long deadlineAt) {
+        return executeRequestAsync(tutorialAllRoundsRequest(ttrlSno), deadlineAt);
+    }
+
+    /**
+     * 사용자 경쟁 목록 조회 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getCompetitionListByUser(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getCompetitionListByUserAsync(Long mbrSno, long deadlineAt) {
+        return executeRequestAsync(competitionListByUserRequest(mbrSno), deadlineAt);
+    }
+
+    /**
+     * 경쟁 전체 라운드 조회 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getCompetitionAllRounds(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getCompetitionAllRoundsAsync(Long cmpttSno, long deadlineAt) {
+        return executeRequestAsync(competitionAllRoundsRequest(cmpttSno), deadlineAt);
+    }
+
+    /**
+     * 전체 랭킹 조회 (비동기)
+     * @see #getRanking(Integer)
+     */
+    public CompletableFuture<HashMap<String, Object>> getRankingAsync(Integer limit) {
+        return executeRequestAsync(rankingRequest(limit));
+    }
+
+    /**
+     * 월간 랭킹 조회 (비동기)
+     * @see #getMonthlyRanking(String, Integer)
+     */
+    public CompletableFuture<HashMap<String, Object>> getMonthlyRankingAsync(String yearMonth, Integer limit) {
+        return executeRequestAsync(monthlyRankingRequest(yearMonth, limit));
+    }
+
+    /**
+     * 사용자의 월간 순위 조회 (비동기)
+     * @see #getMyMonthlyRanking(Long, String)
+     */
+    public CompletableFuture<HashMap<String, Object>> getMyMonthlyRankingAsync(Long mbrSno, String yearMonth) {
+        return executeRequestAsync(myMonthlyRankingRequest(mbrSno, yearMonth));
+    }
+
+    /**
+     * 학습 정보 조회 - 튜토리얼 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getLearningInfoByTutorial(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getLearningInfoByTutorialAsync(Long ttrlSno, long deadlineAt) {
+        return executeRequestAsync(learningInfoByTutorialRequest(ttrlSno), deadlineAt);
+    }
+
+    /**
+     * 학습 정보 조회 - 경쟁 (비동기)
+     * @param deadlineAt 제한 시각 (epoch ms, 남은 시간으로 MCI 읽기 타임아웃을 줄임)
+     * @see #getLearningInfoByCompetition(Long)
+     */
+    public CompletableFuture<HashMap<String, Object>> getLearningInfoByCompetitionAsync(Long cmpttSno, long deadlineAt) {
+        return executeRequestAsync(learningInfoByCompetitionRequest(cmpttSno), deadlineAt);
+    }
 }
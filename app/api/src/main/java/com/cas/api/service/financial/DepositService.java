@@ -16,6 +16,7 @@ import java.math.RoundingMode;
 public class DepositService {
     
     private static final BigDecimal PENALTY_RATE = new BigDecimal("0.005"); // 중도해지 0.5%
+    private static final long PENALTY_RATE_FIXED = FixedPoint.of(PENALTY_RATE);
     private static final int MONTHS_PER_YEAR = 12;
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
     private static final int SCALE = 0; // 원 단위
@@ -43,6 +44,17 @@ public class DepositService {
         return result;
     }
     
+    /**
+     * 정기예금 중도해지 금액 계산 (고정소수점)
+     * 
+     * @param principal 예치금
+     * @param elapsedMonths 경과 개월 수
+     * @return 중도해지 금액
+     */
+    public long calculateDepositEarlyWithdrawal(long principal, int elapsedMonths) {
+        return FixedPoint.applyRate(principal, FixedPoint.monthlyRate(PENALTY_RATE_FIXED, elapsedMonths));
+    }
+    
     /**
      * 정기예금 만기 금액 계산
      * 
@@ -68,6 +80,18 @@ public class DepositService {
         return result;
     }
     
+    /**
+     * 정기예금 만기 금액 계산 (고정소수점)
+     * 
+     * @param principal 예치금
+     * @param preferentialRate 우대 금리 (FixedPoint)
+     * @param termMonths 만기 개월 수
+     * @return 만기 금액
+     */
+    public long calculateDepositMaturity(long principal, long preferentialRate, int termMonths) {
+        return FixedPoint.applyRate(principal, FixedPoint.monthlyRate(preferentialRate, termMonths));
+    }
+    
     /**
      * 적금 중도해지 금액 계산
      * 
@@ -96,6 +120,18 @@ public class DepositService {
         return result;
     }
     
+    /**
+     * 적금 중도해지 금액 계산 (고정소수점)
+     * 
+     * @param monthlyPayment 월 납입액
+     * @param paymentCount 납입 회차
+     * @return 중도해지 금액
+     */
+    public long calculateSavingEarlyWithdrawal(long monthlyPayment, int paymentCount) {
+        return FixedPoint.multiplyHalfUp(monthlyPayment,
+            installmentFactor(PENALTY_RATE_FIXED, 0, paymentCount - 1), FixedPoint.ONE);
+    }
+    
     /**
      * 적금 만기 금액 계산
      * 
@@ -126,6 +162,19 @@ public class DepositService {
         return result;
     }
     
+    /**
+     * 적금 만기 금액 계산 (고정소수점)
+     * 
+     * @param monthlyPayment 월 납입액
+     * @param preferentialRate 우대 금리 (FixedPoint)
+     * @param paymentCount 납입 회차
+     * @return 만기 금액
+     */
+    public long calculateSavingMaturity(long monthlyPayment, long preferentialRate, int paymentCount) {
+        return FixedPoint.multiplyHalfUp(monthlyPayment,
+            installmentFactor(preferentialRate, 1, paymentCount), FixedPoint.ONE);
+    }
+    
     /**
      * 적금 게임종료 시 강제정산 금액 계산
      * (만기 미도달 시 우대금리 적용)
@@ -144,5 +193,16 @@ public class DepositService {
         // 강제정산 = 월납입액 × Σ(1 + 우대금리×n/12), n=1~paymentCount
         return calculateSavingMaturity(monthlyPayment, preferentialRate, paymentCount);
     }
+    
+    /**
+     * 분할 납입 계수 Σ(1 + 연이율×n/12), n=from~to (FixedPoint)
+     * 월납입액이 매회 같으므로 월납입액 × 계수 후 한 번만 반올림하면 기존 계산과 같음
+     */
+    static long installmentFactor(long annualRate, int from, int to) {
+        long factor = 0L;
+        for (int n = from; n <= to; n++) {
+            factor += FixedPoint.ONE + FixedPoint.monthlyRate(annualRate, n);
+        }
+        return factor;
+    }
 }
-
@@ -0,0 +1,112 @@
+package com.cas.api.service.financial;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * 고정소수점(long) 계산 유틸
+ *
+ * 금리/등락률/비중은 소수점 10자리 정수(1.0 = ONE)로, 금액은 원 단위 long 으로 다룹니다.
+ * 기존 BigDecimal 계산과 같은 결과가 나오도록 반올림은 모두 HALF_UP 이며,
+ * 중간 금리 계산은 기존 divide(..., 10, HALF_UP) 와 동일하게 10자리에서 반올림합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * long rate = FixedPoint.of(new BigDecimal("0.056"));  // 560000000
+ * long closePrice = FixedPoint.applyRate(10000L, rate); // 10560
+ * </pre>
+ */
+public final class FixedPoint {
+
+    public static final int SCALE = 10;
+    public static final long ONE = 10_000_000_000L;
+
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * BigDecimal → 고정소수점 (소수점 10자리를 넘으면 ArithmeticException)
+     */
+    public static long of(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * double → 고정소수점 (BigDecimal.valueOf(double) 과 동일한 값 기준)
+     */
+    public static long of(double value) {
+        return of(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * 고정소수점 → BigDecimal (로그/응답용)
+     */
+    public static BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+    /**
+     * dividend / divisor (HALF_UP)
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder != 0 && remainder >= Math.abs(divisor) - remainder) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * a × b / divisor (HALF_UP, long 범위를 넘는 곱은 BigInteger 로 계산)
+     */
+    public static long multiplyHalfUp(long a, long b, long divisor) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return divideHalfUp(low, divisor);
+        }
+        return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * 금액 × (1 + 비율), 원 단위 반올림
+     */
+    public static long applyRate(long amount, long rate) {
+        return multiplyHalfUp(amount, ONE + rate, ONE);
+    }
+
+    /**
+     * 금액 × 비율, 원 단위 반올림
+     */
+    public static long multiplyRate(long amount, long rate) {
+        return multiplyHalfUp(amount, rate, ONE);
+    }
+
+    /**
+     * 연이율 × 개월 / 12 (소수점 10자리 반올림)
+     */
+    public static long monthlyRate(long annualRate, int months) {
+        return divideHalfUp(Math.multiplyExact(annualRate, months), MONTHS_PER_YEAR);
+    }
+
+    /**
+     * 비율 × 비율 (결과가 소수점 10자리를 넘으면 ArithmeticException)
+     */
+    public static long multiplyExact(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if (!((high == 0 && low >= 0) || (high == -1 && low < 0)) || low % ONE != 0) {
+            return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)), SCALE * 2)
+                    .setScale(SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+        }
+        return low / ONE;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map;
 public class FundService {
     
     private static final BigDecimal PREFERENTIAL_RATE = new BigDecimal("0.95"); // 우대 가입 95%
+    private static final long PREFERENTIAL_RATE_FIXED = FixedPoint.of(PREFERENTIAL_RATE);
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
     private static final int SCALE = 0; // 원 단위
     
@@ -97,6 +98,18 @@ public class FundService {
         return result;
     }
     
+    /**
+     * 펀드 배당금 계산 (반기, 고정소수점)
+     * 
+     * @param currentNav 현재 기준가
+     * @param units 보유 좌수
+     * @param semiannualRate 반기 배당률 (FixedPoint)
+     * @return 배당금
+     */
+    public long calculateSemiannualDividend(long currentNav, int units, long semiannualRate) {
+        return FixedPoint.multiplyRate(Math.multiplyExact(currentNav, units), semiannualRate);
+    }
+    
     /**
      * 우대 가입가 계산 (퀴즈 정답 시)
      * 
@@ -115,6 +128,16 @@ public class FundService {
         return result;
     }
     
+    /**
+     * 우대 가입가 계산 (퀴즈 정답 시, 고정소수점)
+     * 
+     * @param regularNav 일반 기준가
+     * @return 우대 가입가 (95%)
+     */
+    public long calculatePreferentialNav(long regularNav) {
+        return FixedPoint.multiplyRate(regularNav, PREFERENTIAL_RATE_FIXED);
+    }
+    
     /**
      * 펀드 가입 총액 계산
      * 
@@ -18,6 +18,8 @@ public class PensionService {
     
     private static final BigDecimal PENSION_RATE = new BigDecimal("0.032"); // 연 3.2%
     private static final BigDecimal LOAN_RATE = new BigDecimal("0.05"); // 연 5%
+    private static final long PENSION_RATE_FIXED = FixedPoint.of(PENSION_RATE);
+    private static final long LOAN_MONTHLY_RATE_FIXED = FixedPoint.monthlyRate(FixedPoint.of(LOAN_RATE), 1);
     private static final int LOAN_TERM_MONTHS = 3; // 대출 기간 3개월
     private static final int MONTHS_PER_YEAR = 12;
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
@@ -51,6 +53,18 @@ public class PensionService {
         return result;
     }
     
+    /**
+     * 연금 게임종료 시 수령액 계산 (고정소수점)
+     * 
+     * @param monthlyPayment 월 납입액
+     * @param paymentCount 납입 회차
+     * @return 수령액
+     */
+    public long calculatePensionPayout(long monthlyPayment, int paymentCount) {
+        return FixedPoint.multiplyHalfUp(monthlyPayment,
+            DepositService.installmentFactor(PENSION_RATE_FIXED, 1, paymentCount), FixedPoint.ONE);
+    }
+    
     /**
      * 보험 납입 누적액 계산
      * 
@@ -92,6 +106,16 @@ public class PensionService {
         return result;
     }
     
+    /**
+     * 대출 월 이자 계산 (고정소수점)
+     * 
+     * @param loanAmount 대출금
+     * @return 월 이자
+     */
+    public long calculateLoanMonthlyInterest(long loanAmount) {
+        return FixedPoint.multiplyRate(loanAmount, LOAN_MONTHLY_RATE_FIXED);
+    }
+    
     /**
      * 대출 총 이자 비용 계산
      * 
@@ -1,8 +1,10 @@
 package com.cas.api.service.financial;
 
 import com.cas.api.dto.domain.*;
+import com.cas.api.dto.domain.PortfolioTotals.AssetClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -13,6 +15,9 @@ import java.math.RoundingMode;
  * - 총 자산 계산
  * - 순자산 계산 (자산 - 부채)
  * - 자산 배분 비율 계산
+ * 
+ * 요약 갱신(updatePortfolioSummary)은 PortfolioDto 의 자산군별 합계(PortfolioTotals)를 사용하며,
+ * 보유 자산을 바꾸는 Service 는 변경 시 PortfolioDto.adjustTotal 로 합계를 함께 갱신합니다.
  */
 @Slf4j
 @Service
@@ -26,8 +31,12 @@ public class PortfolioService {
     private static final int SCALE = 0; // 원 단위
     private static final int PERCENTAGE_SCALE = 2; // 비율 소수점 2자리
     
+    // true: 요약 갱신 시 증분 합계를 전체 재계산과 비교 (불일치 시 에러 로그 후 재계산 값 사용)
+    @Value("${portfolio.totals.verify:false}")
+    private boolean verifyTotals;
+    
     /**
-     * 총 자산 계산
+     * 총 자산 계산 (전체 재계산)
      * 
      * @param portfolio 포트폴리오
      * @return 총 자산
@@ -35,66 +44,8 @@ public class PortfolioService {
     public Long calculateTotalAssets(PortfolioDto portfolio) {
         log.debug("Calculating total assets");
         
-        long total = 0L;
-        
-        // 현금
-        if (portfolio.getCash() != null) {
-            total += portfolio.getCash();
-        }
-        
-        // 예금
-        if (portfolio.getDeposits() != null) {
-            for (DepositDto deposit : portfolio.getDeposits()) {
-                if (deposit.getBalance() != null) {
-                    total += deposit.getBalance();
-                }
-            }
-        }
-        
-        // 적금
-        if (portfolio.getSavings() != null) {
-            for (SavingDto saving : portfolio.getSavings()) {
-                if (saving.getBalance() != null) {
-                    total += saving.getBalance();
-                }
-            }
-        }
-        
-        // 채권
-        if (portfolio.getBonds() != null) {
-            for (BondDto bond : portfolio.getBonds()) {
-                if (bond.getEvaluationAmount() != null) {
-                    total += bond.getEvaluationAmount();
-                }
-            }
-        }
-        
-        // 주식
-        if (portfolio.getStocks() != null) {
-            for (StockHoldingDto stock : portfolio.getStocks()) {
-                if (stock.getEvaluationAmount() != null) {
-                    total += stock.getEvaluationAmount();
-                }
-            }
-        }
-        
-        // 펀드
-        if (portfolio.getFunds() != null) {
-            for (FundHoldingDto fund : portfolio.getFunds()) {
-                if (fund.getEvaluationAmount() != null) {
-                    total += fund.getEvaluationAmount();
-                }
-            }
-        }
-        
-        // 연금
-        if (portfolio.getPensions() != null) {
-            for (PensionDto pension : portfolio.getPensions()) {
-                if (pension.getEvaluationAmount() != null) {
-                    total += pension.getEvaluationAmount();
-                }
-            }
-        }
+        // 현금 + 예금/적금 잔액 + 채권/주식/펀드/연금 평가금액
+        long total = PortfolioTotals.amountOf(portfolio.getCash()) + PortfolioTotals.of(portfolio).sum();
         
         log.debug("Total assets: {}", total);
         return total;
@@ -142,7 +93,7 @@ public class PortfolioService {
     }
     
     /**
-     * 자산 배분 비율 계산
+     * 자산 배분 비율 계산 (전체 재계산)
      * 
      * @param portfolio 포트폴리오
      * @return 자산 배분 비율 DTO
@@ -150,8 +101,21 @@ public class PortfolioService {
     public AllocationDto calculateAllocation(PortfolioDto portfolio) {
         log.debug("Calculating asset allocation");
         
-        Long totalAssets = calculateTotalAssets(portfolio);
+        long cash = PortfolioTotals.amountOf(portfolio.getCash());
+        PortfolioTotals totals = PortfolioTotals.of(portfolio);
         
+        return buildAllocation(cash, totals, cash + totals.sum());
+    }
+    
+    /**
+     * 자산군별 합계 → 자산 배분 비율
+     * 
+     * @param cash 현금
+     * @param totals 자산군별 합계
+     * @param totalAssets 총 자산
+     * @return 자산 배분 비율 DTO
+     */
+    private AllocationDto buildAllocation(long cash, PortfolioTotals totals, long totalAssets) {
         if (totalAssets == 0) {
             log.warn("Total assets is zero, returning zero allocation");
             return AllocationDto.builder()
@@ -164,60 +128,14 @@ public class PortfolioService {
                 .build();
         }
         
-        // 각 자산별 합계
-        long cash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
-        
-        long depositSum = portfolio.getDeposits() != null 
-            ? portfolio.getDeposits().stream()
-                .mapToLong(d -> d.getBalance() != null ? d.getBalance() : 0L)
-                .sum()
-            : 0L;
-        
-        long savingSum = portfolio.getSavings() != null
-            ? portfolio.getSavings().stream()
-                .mapToLong(s -> s.getBalance() != null ? s.getBalance() : 0L)
-                .sum()
-            : 0L;
-        
-        long bondSum = portfolio.getBonds() != null
-            ? portfolio.getBonds().stream()
-                .mapToLong(b -> b.getEvaluationAmount() != null ? b.getEvaluationAmount() : 0L)
-                .sum()
-            : 0L;
-        
-        long stockSum = portfolio.getStocks() != null
-            ? portfolio.getStocks().stream()
-                .mapToLong(s -> s.getEvaluationAmount() != null ? s.getEvaluationAmount() : 0L)
-                .sum()
-            : 0L;
-        
-        long fundSum = portfolio.getFunds() != null
-            ? portfolio.getFunds().stream()
-                .mapToLong(f -> f.getEvaluationAmount() != null ? f.getEvaluationAmount() : 0L)
-                .sum()
-            : 0L;
-        
-        long pensionSum = portfolio.getPensions() != null
-            ? portfolio.getPensions().stream()
-                .mapToLong(p -> p.getEvaluationAmount() != null ? p.getEvaluationAmount() : 0L)
-                .sum()
-            : 0L;
-        
-        // 비율 계산 (백분율, 소수점 4자리)
-        BigDecimal cashRatio = calculateRatio(cash, totalAssets);
-        BigDecimal depositRatio = calculateRatio(depositSum + savingSum, totalAssets);
-        BigDecimal bondRatio = calculateRatio(bondSum, totalAssets);
-        BigDecimal stockRatio = calculateRatio(stockSum, totalAssets);
-        BigDecimal fundRatio = calculateRatio(fundSum, totalAssets);
-        BigDecimal pensionRatio = calculateRatio(pensionSum, totalAssets);
-        
+        // 비율 계산 (소수점 4자리, 예금 비율은 예금 + 적금)
         AllocationDto allocation = AllocationDto.builder()
-            .cashRatio(cashRatio)
-            .depositRatio(depositRatio)
-            .bondRatio(bondRatio)
-            .stockRatio(stockRatio)
-            .fundRatio(fundRatio)
-            .pensionRatio(pensionRatio)
+            .cashRatio(calculateRatio(cash, totalAssets))
+            .depositRatio(calculateRatio(totals.get(AssetClass.DEPOSIT) + totals.get(AssetClass.SAVING), totalAssets))
+            .bondRatio(calculateRatio(totals.get(AssetClass.BOND), totalAssets))
+            .stockRatio(calculateRatio(totals.get(AssetClass.STOCK), totalAssets))
+            .fundRatio(calculateRatio(totals.get(AssetClass.FUND), totalAssets))
+            .pensionRatio(calculateRatio(totals.get(AssetClass.PENSION), totalAssets))
             .build();
         
         log.debug("Asset allocation: {}", allocation);
@@ -242,16 +160,32 @@ public class PortfolioService {
     
     /**
      * 포트폴리오 요약 정보 업데이트
+     * 자산군별 합계는 변경 시 증분 갱신된 값을 사용 (없으면 1회 전체 재계산)
      * 
      * @param portfolio 포트폴리오
      */
     public void updatePortfolioSummary(PortfolioDto portfolio) {
         log.debug("Updating portfolio summary");
         
-        Long totalAssets = calculateTotalAssets(portfolio);
+        PortfolioTotals totals = portfolio.getTotals();
+        if (totals == null) {
+            totals = PortfolioTotals.of(portfolio);
+            portfolio.setTotals(totals);
+        } else if (verifyTotals) {
+            PortfolioTotals recomputed = PortfolioTotals.of(portfolio);
+            if (!recomputed.equals(totals)) {
+                log.error("Portfolio totals mismatch, using full recompute: incremental={}, recomputed={}", 
+                    totals, recomputed);
+                totals = recomputed;
+                portfolio.setTotals(totals);
+            }
+        }
+        
+        long cash = PortfolioTotals.amountOf(portfolio.getCash());
+        long totalAssets = cash + totals.sum();
         Long totalLiabilities = calculateTotalLiabilities(portfolio);
-        Long netWorth = calculateNetWorth(portfolio);
-        AllocationDto allocation = calculateAllocation(portfolio);
+        Long netWorth = totalAssets - totalLiabilities;
+        AllocationDto allocation = buildAllocation(cash, totals, totalAssets);
         
         portfolio.setTotalAssets(totalAssets);
         portfolio.setTotalLiabilities(totalLiabilities);
@@ -262,4 +196,3 @@ public class PortfolioService {
             totalAssets, netWorth);
     }
 }
-
@@ -17,6 +17,7 @@ import java.math.RoundingMode;
 public class StockService {
     
     private static final BigDecimal PREFERENTIAL_RATE = new BigDecimal("0.95"); // 우대 매수 95%
+    private static final long PREFERENTIAL_RATE_FIXED = FixedPoint.of(PREFERENTIAL_RATE);
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
     private static final int SCALE = 0; // 원 단위
     
@@ -40,6 +41,17 @@ public class StockService {
         return result;
     }
     
+    /**
+     * 주식 종가 계산 (고정소수점)
+     * 
+     * @param openPrice 시가
+     * @param changeRate 등락률 (FixedPoint)
+     * @return 종가
+     */
+    public long calculateClosePrice(long openPrice, long changeRate) {
+        return FixedPoint.applyRate(openPrice, changeRate);
+    }
+    
     /**
      * 주식 평가 금액 계산
      * 
@@ -82,6 +94,18 @@ public class StockService {
         return result;
     }
     
+    /**
+     * 배당금 계산 (분기, 고정소수점)
+     * 
+     * @param closePrice 종가
+     * @param quantity 보유 수량
+     * @param quarterlyRate 분기 배당률 (FixedPoint)
+     * @return 배당금
+     */
+    public long calculateQuarterlyDividend(long closePrice, int quantity, long quarterlyRate) {
+        return FixedPoint.multiplyRate(Math.multiplyExact(closePrice, quantity), quarterlyRate);
+    }
+    
     /**
      * 배당금 계산 (반기)
      * 
@@ -105,6 +129,18 @@ public class StockService {
         return result;
     }
     
+    /**
+     * 배당금 계산 (반기, 고정소수점)
+     * 
+     * @param closePrice 종가
+     * @param quantity 보유 수량
+     * @param semiannualRate 반기 배당률 (FixedPoint)
+     * @return 배당금
+     */
+    public long calculateSemiannualDividend(long closePrice, int quantity, long semiannualRate) {
+        return FixedPoint.multiplyRate(Math.multiplyExact(closePrice, quantity), semiannualRate);
+    }
+    
     /**
      * 우대 매수가 계산 (퀴즈 정답 시)
      * 
@@ -123,6 +159,16 @@ public class StockService {
         return result;
     }
     
+    /**
+     * 우대 매수가 계산 (퀴즈 정답 시, 고정소수점)
+     * 
+     * @param regularPrice 일반 매수가 (시가)
+     * @return 우대 매수가 (95%)
+     */
+    public long calculatePreferentialBuyPrice(long regularPrice) {
+        return FixedPoint.multiplyRate(regularPrice, PREFERENTIAL_RATE_FIXED);
+    }
+    
     /**
      * 주식 매수 총액 계산
      * 
@@ -2,6 +2,7 @@ package com.cas.api.service.game;
 
 import com.cas.api.dto.domain.GameSessionDto;
 import com.cas.api.enums.GameMode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +14,11 @@ import java.util.*;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AchievementService {
     
+    private final MarketEventService marketEventService;
+    
     /**
      * 업적 체크 및 달성 처리
      */
@@ -81,12 +85,17 @@ public class AchievementService {
         if (session.getPortfolio() != null && 
             session.getPortfolio().getFunds() != null) {
             
-            Set<String> fundTypes = new HashSet<>();
+            // 보유 펀드 종류 (레지스트리 인덱스 비트셋)
+            InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+            BitSet fundTypes = new BitSet(instruments.fundCount());
             for (var fund : session.getPortfolio().getFunds()) {
-                fundTypes.add(fund.getFundId());
+                int fundIndex = instruments.fundIndex(fund.getFundId());
+                if (fundIndex >= 0) {
+                    fundTypes.set(fundIndex);
+                }
             }
             
-            int fundCount = fundTypes.size();
+            int fundCount = fundTypes.cardinality();
             session.getAchievementProgress().put("fundTypes", fundCount);
             
             if (fundCount >= 5) {
@@ -2,278 +2,375 @@ package com.cas.api.service.game;
 
 import com.cas.api.constant.GameConstants;
 import com.cas.api.dto.domain.*;
+import com.cas.api.dto.domain.PortfolioTotals.AssetClass;
+import com.cas.api.dto.request.ProceedRoundRequest;
+import com.cas.api.dto.request.ProceedRoundRequest.*;
 import com.cas.api.enums.GameMode;
 import com.cas.api.service.financial.*;
+import com.cas.common.web.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * 플레이어 액션 처리 Service
  * - 금융상품 매수/매도
  * - 대출/보험 가입
+ *
+ * 처리 방식:
+ * 1. 계획: 요청 전체를 처리 순서대로 한 번 훑으며 현금/보유수량을 모의 계산하고 검증
+ *    (상품 키, 수량/금액, 현금 잔액, 매도 보유량) - 이 단계에서는 세션/포트폴리오를 바꾸지 않음
+ * 2. 반영: 검증을 통과한 액션을 순서대로 반영, 도중에 실패하면 반영 전 상태로 되돌림
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ActionService {
-    
+
+    private static final long DEPOSIT_BASE_RATE_FIXED = FixedPoint.of(GameConstants.DEPOSIT_BASE_RATE);
+
+    /**
+     * 예금 상품 키 (화면 예시 데이터의 DEPOSIT 포함)
+     */
+    private static final Set<String> DEPOSIT_PRODUCT_KEYS = Set.of("DEPOSIT", "DEPOSIT_01", "DEPOSIT_02");
+
+    /**
+     * 연금 상품 ID
+     */
+    private static final Set<String> PENSION_IDS = Set.of("PENSION_1");
+
     private final MarketEventService marketEventService;
     private final DepositService depositService;
     private final StockService stockService;
     private final FundService fundService;
     private final BondService bondService;
     private final PensionService pensionService;
-    
+
+    /**
+     * 검증 실패 시 요청 전체 거부 여부
+     * false 면 잘못된 항목만 건너뛰고 나머지를 반영 (이전 동작)
+     */
+    @Value("${action.validation.strict:true}")
+    private boolean strictValidation;
+
     /**
      * 플레이어 액션 처리
-     * 
+     *
      * @param session 게임 세션
      * @param portfolio 포트폴리오
-     * @param actions 액션 맵
+     * @param actions 액션 요청
+     * @throws BusinessException 진행 중인 라운드가 아니거나 (ROUND_NOT_AVAILABLE),
+     *         검증에 실패했거나 (INVALID_ACTIONS), 반영 중 오류로 되돌린 경우 (ACTION_FAILED)
      */
-    public void processActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        log.info("Processing player actions: uid={}, round={}", 
+    public void processActions(GameSessionDto session, PortfolioDto portfolio, ProceedRoundRequest actions) {
+        log.info("Processing player actions: uid={}, round={}",
             session.getUid(), session.getCurrentRound());
-        
+
         if (actions == null || actions.isEmpty()) {
             log.debug("No actions to process");
             return;
         }
-        
+
+        validateRound(session);
+
+        ActionPlan plan = planActions(session, portfolio, actions);
+        if (!plan.violations.isEmpty()) {
+            if (strictValidation) {
+                log.warn("Actions rejected: uid={}, violations={}", session.getUid(), plan.violations);
+                throw new BusinessException("INVALID_ACTIONS", plan.describeViolations());
+            }
+            log.warn("Skipping invalid actions: uid={}, violations={}", session.getUid(), plan.violations);
+        }
+
+        applyPlan(session, portfolio, plan);
+
+        log.info("Actions processed successfully: steps={}", plan.steps.size());
+    }
+
+    /**
+     * 라운드 진행 가능 여부 확인
+     */
+    private void validateRound(GameSessionDto session) {
+        Integer currentRound = session.getCurrentRound();
+        if (Boolean.TRUE.equals(session.getCompleted()) || currentRound == null
+            || currentRound < 1 || currentRound > session.getGameMode().getMaxRounds()) {
+            log.warn("Round not available: uid={}, round={}, completed={}",
+                session.getUid(), currentRound, session.getCompleted());
+            throw new BusinessException("ROUND_NOT_AVAILABLE", "진행 중인 라운드가 아닙니다.");
+        }
+    }
+
+    /**
+     * 액션 계획 (처리 순서대로 검증, 세션/포트폴리오는 변경하지 않음)
+     */
+    private ActionPlan planActions(GameSessionDto session, PortfolioDto portfolio, ProceedRoundRequest actions) {
+        ActionPlan plan = new ActionPlan(portfolio);
+
         // 1. 예금 가입
-        processDepositActions(session, portfolio, actions);
-        
+        planDeposits(session, portfolio, actions.getDeposits(), plan);
+
         // 2. 적금 가입
-        processSavingActions(session, portfolio, actions);
-        
-        // 3. 채권 매수
-        processBondActions(session, portfolio, actions);
-        
+        planSavings(session, portfolio, actions.getSavings(), plan);
+
+        // 3. 채권 가입/해지
+        planBonds(session, portfolio, actions.getBonds(), plan);
+
         // 4. 주식 매수/매도
-        processStockActions(session, portfolio, actions);
-        
+        planStockBuys(session, portfolio, actions.getStockBuys(), plan);
+        planStockSells(session, portfolio, actions.getStockSells(), plan);
+
         // 5. 펀드 매수/매도
-        processFundActions(session, portfolio, actions);
-        
+        planFundBuys(session, portfolio, actions.getFundBuys(), plan);
+        planFundSells(session, portfolio, actions.getFundSells(), plan);
+
         // 6. 연금 가입
-        processPensionActions(session, portfolio, actions);
-        
+        planPensions(session, portfolio, actions.getPensions(), plan);
+
         // 7. 대출 실행
-        processLoanActions(session, portfolio, actions);
-        
+        planLoan(session, portfolio, actions.getLoan(), plan);
+
         // 8. 보험 가입
-        processInsuranceActions(session, actions);
-        
-        log.info("Actions processed successfully");
+        planInsurance(session, actions, plan);
+
+        return plan;
     }
-    
+
     /**
-     * 예금 가입 처리
+     * 계획된 액션 반영 (실패 시 반영 전 상태로 복원)
      */
-    private void processDepositActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> deposits = (List<Map<String, Object>>) actions.get("deposits");
-        
+    private void applyPlan(GameSessionDto session, PortfolioDto portfolio, ActionPlan plan) {
+        if (plan.steps.isEmpty()) {
+            return;
+        }
+
+        ActionSnapshot snapshot = new ActionSnapshot(session, portfolio);
+        try {
+            for (Runnable step : plan.steps) {
+                step.run();
+            }
+        } catch (RuntimeException e) {
+            snapshot.restore(session, portfolio);
+            log.error("Failed to apply actions, rolled back: uid={}", session.getUid(), e);
+            throw new BusinessException("ACTION_FAILED", "액션 처리 중 오류가 발생하여 반영하지 않았습니다.", e);
+        }
+    }
+
+    /**
+     * 예금 가입 계획
+     */
+    private void planDeposits(GameSessionDto session, PortfolioDto portfolio,
+                              List<DepositAction> deposits, ActionPlan plan) {
         if (deposits == null || deposits.isEmpty()) {
             return;
         }
-        
-        for (Map<String, Object> deposit : deposits) {
-            String productKey = (String) deposit.get("productKey");
-            Long amount = getLongValue(deposit.get("amount"));
-            
+
+        for (DepositAction deposit : deposits) {
+            String productKey = deposit.getProductKey();
+            Long amount = deposit.getAmount();
+
+            if (productKey == null || !DEPOSIT_PRODUCT_KEYS.contains(productKey)) {
+                plan.reject("알 수 없는 예금 상품입니다: " + productKey);
+                continue;
+            }
             if (amount == null || amount <= 0) {
-                log.warn("Invalid deposit amount: {}", amount);
+                plan.reject("예금 가입 금액이 올바르지 않습니다: " + amount);
                 continue;
             }
-            
-            // 현금 확인
-            if (portfolio.getCash() < amount) {
-                log.warn("Insufficient cash for deposit: cash={}, amount={}", 
-                    portfolio.getCash(), amount);
+            if (!plan.spend("예금 가입", amount)) {
                 continue;
             }
-            
+
             // 예금 생성 (고정 금리, 모드별 만기)
-            int maturityMonths = (session.getGameMode() == GameMode.TUTORIAL) 
-                ? GameConstants.TUTORIAL_DEPOSIT_MATURITY_MONTHS 
+            int maturityMonths = (session.getGameMode() == GameMode.TUTORIAL)
+                ? GameConstants.TUTORIAL_DEPOSIT_MATURITY_MONTHS
                 : GameConstants.COMPETITION_DEPOSIT_MATURITY_MONTHS;
-            
-            // 만기는 최대 라운드를 초과할 수 없음
-            int calculatedMaturity = session.getCurrentRound() + maturityMonths;
-            int maxRound = session.getGameMode().getMaxRounds();
-            int maturityRound = Math.min(calculatedMaturity, maxRound);
-            
+
             // 예상 만기금액 계산 (우대금리 적용)
-            BigDecimal expectedMaturity = depositService.calculateDepositMaturity(
-                BigDecimal.valueOf(amount),
-                GameConstants.DEPOSIT_BASE_RATE,
+            long expectedMaturity = depositService.calculateDepositMaturity(
+                amount,
+                DEPOSIT_BASE_RATE_FIXED,
                 maturityMonths
             );
-            
+
             DepositDto newDeposit = DepositDto.builder()
                 .productKey(productKey)
                 .name(getDepositName(productKey))
                 .principal(amount)
                 .balance(amount)
-                .expectedMaturityAmount(expectedMaturity.longValue())
+                .expectedMaturityAmount(expectedMaturity)
                 .interestRate(GameConstants.DEPOSIT_BASE_RATE)
                 .subscriptionRound(session.getCurrentRound())
-                .maturityRound(maturityRound)
+                .maturityRound(cappedMaturityRound(session, maturityMonths))
                 .build();
-            
-            portfolio.getDeposits().add(newDeposit);
-            portfolio.setCash(portfolio.getCash() - amount);
-            
-            log.info("Deposit created: productKey={}, amount={}", productKey, amount);
+
+            plan.steps.add(() -> applyDeposit(portfolio, newDeposit));
         }
     }
-    
+
+    /**
+     * 예금 가입 반영
+     */
+    private void applyDeposit(PortfolioDto portfolio, DepositDto deposit) {
+        portfolio.getDeposits().add(deposit);
+        portfolio.adjustTotal(AssetClass.DEPOSIT, deposit.getPrincipal());
+        portfolio.setCash(portfolio.getCash() - deposit.getPrincipal());
+
+        log.info("Deposit created: productKey={}, amount={}", deposit.getProductKey(), deposit.getPrincipal());
+    }
+
     /**
-     * 적금 가입 처리
+     * 적금 가입 계획
      */
-    private void processSavingActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> savings = (List<Map<String, Object>>) actions.get("savings");
-        
+    private void planSavings(GameSessionDto session, PortfolioDto portfolio,
+                             List<SavingAction> savings, ActionPlan plan) {
         if (savings == null || savings.isEmpty()) {
             return;
         }
-        
-        for (Map<String, Object> saving : savings) {
-            String productKey = (String) saving.get("productKey");
-            Long monthlyAmount = getLongValue(saving.get("monthlyAmount"));
-            
+
+        for (SavingAction saving : savings) {
+            String productKey = saving.getProductKey();
+            Long monthlyAmount = saving.getMonthlyAmount();
+
+            if (!"SAVING_A".equals(productKey) && !"SAVING_B".equals(productKey)) {
+                plan.reject("알 수 없는 적금 상품입니다: " + productKey);
+                continue;
+            }
             if (monthlyAmount == null || monthlyAmount <= 0) {
-                log.warn("Invalid saving amount: {}", monthlyAmount);
+                plan.reject("적금 월 납입액이 올바르지 않습니다: " + monthlyAmount);
                 continue;
             }
-            
-            // 현금 확인 (첫 달 납입)
-            if (portfolio.getCash() < monthlyAmount) {
-                log.warn("Insufficient cash for saving: cash={}, amount={}", 
-                    portfolio.getCash(), monthlyAmount);
+            // 첫 달 납입
+            if (!plan.spend("적금 가입", monthlyAmount)) {
                 continue;
             }
-            
+
             // 적금 생성 (고정 금리, 모드별 만기)
             BigDecimal interestRate;
             int maturityMonths;
-            
+
             if (productKey.equals("SAVING_A")) {
                 interestRate = GameConstants.SAVING_A_BASE_RATE;
-                maturityMonths = (session.getGameMode() == GameMode.TUTORIAL) 
-                    ? GameConstants.TUTORIAL_SAVING_A_MATURITY_MONTHS 
+                maturityMonths = (session.getGameMode() == GameMode.TUTORIAL)
+                    ? GameConstants.TUTORIAL_SAVING_A_MATURITY_MONTHS
                     : GameConstants.COMPETITION_SAVING_A_MATURITY_MONTHS;
             } else { // SAVING_B
                 interestRate = GameConstants.SAVING_B_BASE_RATE;
-                maturityMonths = (session.getGameMode() == GameMode.TUTORIAL) 
-                    ? GameConstants.TUTORIAL_SAVING_B_MATURITY_MONTHS 
+                maturityMonths = (session.getGameMode() == GameMode.TUTORIAL)
+                    ? GameConstants.TUTORIAL_SAVING_B_MATURITY_MONTHS
                     : GameConstants.COMPETITION_SAVING_B_MATURITY_MONTHS;
             }
-            
-            // 만기는 최대 라운드를 초과할 수 없음
-            int calculatedMaturity = session.getCurrentRound() + maturityMonths;
-            int maxRound = session.getGameMode().getMaxRounds();
-            int maturityRound = Math.min(calculatedMaturity, maxRound);
-            
+
             // 예상 만기금액 계산 (우대금리 적용)
-            BigDecimal expectedMaturity = depositService.calculateSavingMaturity(
-                BigDecimal.valueOf(monthlyAmount),
-                interestRate,
+            long expectedMaturity = depositService.calculateSavingMaturity(
+                monthlyAmount,
+                FixedPoint.of(interestRate),
                 maturityMonths
             );
-            
+
             SavingDto newSaving = SavingDto.builder()
                 .productKey(productKey)
                 .name(getSavingName(productKey))
                 .monthlyAmount(monthlyAmount)
                 .balance(monthlyAmount)
-                .expectedMaturityAmount(expectedMaturity.longValue())
+                .expectedMaturityAmount(expectedMaturity)
                 .interestRate(interestRate)
                 .subscriptionRound(session.getCurrentRound())
-                .maturityRound(maturityRound)
+                .maturityRound(cappedMaturityRound(session, maturityMonths))
                 .paymentCount(1)
                 .build();
-            
-            portfolio.getSavings().add(newSaving);
-            portfolio.setCash(portfolio.getCash() - monthlyAmount);
-            
-            log.info("Saving created: productKey={}, monthlyAmount={}", productKey, monthlyAmount);
+
+            plan.steps.add(() -> applySaving(portfolio, newSaving));
         }
     }
-    
+
+    /**
+     * 적금 가입 반영
+     */
+    private void applySaving(PortfolioDto portfolio, SavingDto saving) {
+        portfolio.getSavings().add(saving);
+        portfolio.adjustTotal(AssetClass.SAVING, saving.getMonthlyAmount());
+        portfolio.setCash(portfolio.getCash() - saving.getMonthlyAmount());
+
+        log.info("Saving created: productKey={}, monthlyAmount={}", saving.getProductKey(), saving.getMonthlyAmount());
+    }
+
     /**
-     * 채권 가입/해지 처리
+     * 채권 가입/해지 계획 (요청 순서대로, 앞선 가입/해지 결과를 반영하여 검증)
      */
-    private void processBondActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> bonds = (List<Map<String, Object>>) actions.get("bonds");
-        
+    private void planBonds(GameSessionDto session, PortfolioDto portfolio,
+                           List<BondAction> bonds, ActionPlan plan) {
         if (bonds == null || bonds.isEmpty()) {
             return;
         }
-        
-        for (Map<String, Object> bond : bonds) {
-            String bondId = (String) bond.get("bondId");
-            String action = (String) bond.get("action");
-            Long amount = getLongValue(bond.get("amount"));
-            
+
+        // 현재 기준금리 조회 (경쟁모드는 baseRateCase 반영)
+        BigDecimal baseRate = marketEventService.getBaseRate(session);
+
+        for (BondAction bond : bonds) {
+            String bondId = bond.getBondId();
+            String action = bond.getAction();
+            Long amount = bond.getAmount();
+
+            if (!"BOND_NATIONAL".equals(bondId) && !"BOND_CORPORATE".equals(bondId)) {
+                plan.reject("알 수 없는 채권입니다: " + bondId);
+                continue;
+            }
             if (amount == null || amount <= 0) {
-                log.warn("Invalid bond amount: {}", amount);
+                plan.reject("채권 금액이 올바르지 않습니다: " + amount);
                 continue;
             }
-            
+
             // 액션 처리
             if ("SUBSCRIBE".equalsIgnoreCase(action)) {
                 // 채권 가입
-                processBondSubscribe(session, portfolio, bondId, amount);
+                planBondSubscribe(session, portfolio, bondId, amount, baseRate, plan);
             } else if ("CANCEL".equalsIgnoreCase(action)) {
                 // 채권 해지 (FIFO)
-                processBondCancel(session, portfolio, bondId, amount);
+                planBondCancel(session, portfolio, bondId, amount, baseRate, plan);
             } else {
-                log.warn("Unknown bond action: {}", action);
+                plan.reject("알 수 없는 채권 액션입니다: " + action);
             }
         }
     }
-    
+
     /**
-     * 채권 가입 처리
+     * 채권 가입 계획
      */
-    private void processBondSubscribe(GameSessionDto session, PortfolioDto portfolio, 
-                                       String bondId, Long amount) {
-        // 현금 확인
-        if (portfolio.getCash() < amount) {
-            log.warn("Insufficient cash for bond: cash={}, amount={}", 
-                portfolio.getCash(), amount);
+    private void planBondSubscribe(GameSessionDto session, PortfolioDto portfolio,
+                                   String bondId, long amount, BigDecimal baseRate, ActionPlan plan) {
+        if (!plan.spend("채권 가입", amount)) {
             return;
         }
-        
-        // 현재 기준금리 조회 (경쟁모드는 baseRateCase 반영)
-        BigDecimal baseRate = marketEventService.getBaseRate(session);
-        
+
         // 채권 금리 = 기준금리 + 스프레드 (모드별 만기)
         BigDecimal interestRate;
         int maturityMonths;
-        
+
         if (bondId.equals("BOND_NATIONAL")) {
             interestRate = baseRate.add(GameConstants.BOND_NATIONAL_SPREAD);
-            maturityMonths = (session.getGameMode() == GameMode.TUTORIAL) 
-                ? GameConstants.TUTORIAL_BOND_NATIONAL_MATURITY_MONTHS 
+            maturityMonths = (session.getGameMode() == GameMode.TUTORIAL)
+                ? GameConstants.TUTORIAL_BOND_NATIONAL_MATURITY_MONTHS
                 : GameConstants.COMPETITION_BOND_NATIONAL_MATURITY_MONTHS;
         } else { // BOND_CORPORATE
             interestRate = baseRate.add(GameConstants.BOND_CORPORATE_SPREAD);
-            maturityMonths = (session.getGameMode() == GameMode.TUTORIAL) 
-                ? GameConstants.TUTORIAL_BOND_CORPORATE_MATURITY_MONTHS 
+            maturityMonths = (session.getGameMode() == GameMode.TUTORIAL)
+                ? GameConstants.TUTORIAL_BOND_CORPORATE_MATURITY_MONTHS
                 : GameConstants.COMPETITION_BOND_CORPORATE_MATURITY_MONTHS;
         }
-        
+
         BondDto newBond = BondDto.builder()
             .bondId(bondId)
             .name(getBondName(bondId))
@@ -284,203 +381,236 @@ public class ActionService {
             .maturityRound(session.getCurrentRound() + maturityMonths)
             .elapsedMonths(0)
             .build();
-        
-        portfolio.getBonds().add(newBond);
-        portfolio.setCash(portfolio.getCash() - amount);
-        
-        log.info("Bond subscribed: bondId={}, amount={}", bondId, amount);
+
+        // 같은 요청의 이후 해지에서 찾을 수 있도록 모의 보유 목록에 추가
+        plan.pendingBonds.add(newBond);
+        plan.bondFaceValues.put(newBond, amount);
+
+        plan.steps.add(() -> applyBondSubscribe(portfolio, newBond));
     }
-    
+
     /**
-     * 채권 해지 처리 (FIFO - 먼저 가입한 것부터 해지)
+     * 채권 가입 반영
      */
-    private void processBondCancel(GameSessionDto session, PortfolioDto portfolio, 
-                                     String bondId, Long cancelAmount) {
-        if (portfolio.getBonds() == null || portfolio.getBonds().isEmpty()) {
-            log.warn("No bonds to cancel: bondId={}", bondId);
-            return;
-        }
-        
-        // 현재 기준금리 조회
-        BigDecimal baseRate = marketEventService.getBaseRate(session);
-        
+    private void applyBondSubscribe(PortfolioDto portfolio, BondDto bond) {
+        portfolio.getBonds().add(bond);
+        portfolio.adjustTotal(AssetClass.BOND, bond.getFaceValue());
+        portfolio.setCash(portfolio.getCash() - bond.getFaceValue());
+
+        log.info("Bond subscribed: bondId={}, amount={}", bond.getBondId(), bond.getFaceValue());
+    }
+
+    /**
+     * 채권 해지 계획 (FIFO - 먼저 가입한 것부터 해지)
+     */
+    private void planBondCancel(GameSessionDto session, PortfolioDto portfolio,
+                                String bondId, long cancelAmount, BigDecimal baseRate, ActionPlan plan) {
         // 해당 bondId의 채권들을 가입 순서대로 정렬 (subscriptionRound 오름차순)
-        List<BondDto> targetBonds = portfolio.getBonds().stream()
-            .filter(b -> bondId.equals(b.getBondId()))
-            .sorted((b1, b2) -> Integer.compare(
-                b1.getSubscriptionRound() != null ? b1.getSubscriptionRound() : 0,
-                b2.getSubscriptionRound() != null ? b2.getSubscriptionRound() : 0
-            ))
-            .collect(java.util.stream.Collectors.toList());
-        
-        if (targetBonds.isEmpty()) {
-            log.warn("No matching bonds to cancel: bondId={}", bondId);
-            return;
+        List<BondDto> targetBonds = new ArrayList<>();
+        if (portfolio.getBonds() != null) {
+            for (BondDto bond : portfolio.getBonds()) {
+                if (bondId.equals(bond.getBondId())) {
+                    targetBonds.add(bond);
+                }
+            }
+        }
+        for (BondDto bond : plan.pendingBonds) {
+            if (bondId.equals(bond.getBondId())) {
+                targetBonds.add(bond);
+            }
         }
-        
+        targetBonds.sort(Comparator.comparingInt(
+            b -> b.getSubscriptionRound() != null ? b.getSubscriptionRound() : 0));
+
         long remainingCancelAmount = cancelAmount;
         long totalReceivedAmount = 0L;
         List<BondDto> bondsToRemove = new ArrayList<>();
-        
+        BondDto partialBond = null;
+        long partialRemainingFaceValue = 0L;
+
         // FIFO 방식으로 해지
         for (BondDto bond : targetBonds) {
             if (remainingCancelAmount <= 0) {
                 break;
             }
-            
-            Long faceValue = bond.getFaceValue() != null ? bond.getFaceValue() : 0L;
-            
+
+            long faceValue = plan.bondFaceValues.getOrDefault(bond, 0L);
             if (faceValue <= 0) {
                 continue;
             }
-            
-            // 해지 금액 계산
-            int currentRound = session.getCurrentRound();
-            int subscriptionRound = bond.getSubscriptionRound() != null ? bond.getSubscriptionRound() : currentRound;
-            int elapsedMonths = currentRound - subscriptionRound;
-            int maturityRound = bond.getMaturityRound() != null ? bond.getMaturityRound() : currentRound;
-            int remainingMonths = Math.max(0, maturityRound - currentRound);
-            
-            // 중도 해지 금액 계산
-            BigDecimal redemptionAmount;
-            if (bondId.equals("BOND_NATIONAL")) {
-                // 국채 중도 해지
-                redemptionAmount = bondService.calculateGovernmentBondEarlyWithdrawal(
-                    BigDecimal.valueOf(faceValue),
-                    baseRate,
-                    elapsedMonths,
-                    remainingMonths
-                );
-            } else {
-                // 회사채 중도 해지 (분기 이자 고려)
-                int quarterCount = elapsedMonths / 3;
-                BigDecimal receivedQuarterlyInterest = bondService.calculateCorporateBondQuarterlyInterest(
-                    BigDecimal.valueOf(faceValue)
-                ).multiply(BigDecimal.valueOf(quarterCount));
-                
-                redemptionAmount = bondService.calculateCorporateBondEarlyWithdrawal(
-                    BigDecimal.valueOf(faceValue),
-                    baseRate,
-                    elapsedMonths,
-                    remainingMonths,
-                    receivedQuarterlyInterest
-                );
-            }
-            
-            // 반올림 처리 (BondService에서 이미 반올림되어 있지만 명시적으로 처리)
-            long redemptionAmountLong = redemptionAmount.setScale(0, java.math.RoundingMode.HALF_UP).longValue();
-            
+
+            long redemptionAmount = calculateRedemptionAmount(session, bondId, bond, faceValue, baseRate);
+
             // 이 채권을 전부 또는 일부 해지
             if (faceValue <= remainingCancelAmount) {
                 // 전부 해지
-                totalReceivedAmount += redemptionAmountLong;
+                totalReceivedAmount += redemptionAmount;
                 remainingCancelAmount -= faceValue;
                 bondsToRemove.add(bond);
-                
-                log.info("Bond fully cancelled: bondId={}, faceValue={}, received={}", 
-                    bondId, faceValue, redemptionAmountLong);
+                plan.bondFaceValues.put(bond, 0L);
             } else {
                 // 일부 해지 (비율 계산)
                 double ratio = (double) remainingCancelAmount / faceValue;
-                long partialRedemption = (long) (redemptionAmountLong * ratio);
-                
-                // 채권을 분할: 해지된 부분은 제거, 남은 부분은 업데이트
-                totalReceivedAmount += partialRedemption;
-                
-                // 남은 채권 금액 업데이트
-                long remainingFaceValue = faceValue - remainingCancelAmount;
-                bond.setFaceValue(remainingFaceValue);
-                bond.setEvaluationAmount(remainingFaceValue);
-                
-                log.info("Bond partially cancelled: bondId={}, cancelled={}, remaining={}, received={}", 
-                    bondId, remainingCancelAmount, remainingFaceValue, partialRedemption);
-                
+                totalReceivedAmount += (long) (redemptionAmount * ratio);
+
+                // 채권을 분할: 해지된 부분은 제거, 남은 부분은 유지
+                partialBond = bond;
+                partialRemainingFaceValue = faceValue - remainingCancelAmount;
+                plan.bondFaceValues.put(bond, partialRemainingFaceValue);
                 remainingCancelAmount = 0;
-                break;
             }
         }
-        
-        // 제거할 채권 삭제
-        portfolio.getBonds().removeAll(bondsToRemove);
-        
-        // 현금 추가
-        portfolio.setCash(portfolio.getCash() + totalReceivedAmount);
-        
-        log.info("Bond cancellation completed: bondId={}, totalReceived={}, remainingCancel={}", 
-            bondId, totalReceivedAmount, remainingCancelAmount);
-        
+
+        if (bondsToRemove.isEmpty() && partialBond == null) {
+            plan.reject("해지할 채권이 없습니다: " + bondId);
+            return;
+        }
         if (remainingCancelAmount > 0) {
-            log.warn("Could not cancel full amount: bondId={}, remainingCancel={}", 
-                bondId, remainingCancelAmount);
+            // 엄격 모드가 아니면 보유분만 해지 (이전 동작)
+            plan.reject("채권 보유 금액이 부족합니다: " + bondId + " (해지 요청 " + cancelAmount
+                + ", 부족 " + remainingCancelAmount + ")");
         }
+
+        plan.cash += totalReceivedAmount;
+
+        long cancelledAmount = cancelAmount - remainingCancelAmount;
+        long receivedAmount = totalReceivedAmount;
+        BondDto splitBond = partialBond;
+        long splitFaceValue = partialRemainingFaceValue;
+        plan.steps.add(() -> applyBondCancel(portfolio, bondId, bondsToRemove, splitBond, splitFaceValue,
+            cancelledAmount, receivedAmount));
     }
-    
+
     /**
-     * 주식 매수/매도 처리
+     * 채권 중도 해지 금액 계산
      */
-    private void processStockActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        // 매수
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> stockBuys = (List<Map<String, Object>>) actions.get("stockBuys");
-        
-        if (stockBuys != null && !stockBuys.isEmpty()) {
-            for (Map<String, Object> buy : stockBuys) {
-                processStockBuy(session, portfolio, buy);
-            }
+    private long calculateRedemptionAmount(GameSessionDto session, String bondId, BondDto bond,
+                                           long faceValue, BigDecimal baseRate) {
+        int currentRound = session.getCurrentRound();
+        int subscriptionRound = bond.getSubscriptionRound() != null ? bond.getSubscriptionRound() : currentRound;
+        int elapsedMonths = currentRound - subscriptionRound;
+        int maturityRound = bond.getMaturityRound() != null ? bond.getMaturityRound() : currentRound;
+        int remainingMonths = Math.max(0, maturityRound - currentRound);
+
+        BigDecimal redemptionAmount;
+        if (bondId.equals("BOND_NATIONAL")) {
+            // 국채 중도 해지
+            redemptionAmount = bondService.calculateGovernmentBondEarlyWithdrawal(
+                BigDecimal.valueOf(faceValue),
+                baseRate,
+                elapsedMonths,
+                remainingMonths
+            );
+        } else {
+            // 회사채 중도 해지 (분기 이자 고려)
+            int quarterCount = elapsedMonths / 3;
+            BigDecimal receivedQuarterlyInterest = bondService.calculateCorporateBondQuarterlyInterest(
+                BigDecimal.valueOf(faceValue)
+            ).multiply(BigDecimal.valueOf(quarterCount));
+
+            redemptionAmount = bondService.calculateCorporateBondEarlyWithdrawal(
+                BigDecimal.valueOf(faceValue),
+                baseRate,
+                elapsedMonths,
+                remainingMonths,
+                receivedQuarterlyInterest
+            );
         }
-        
-        // 매도
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> stockSells = (List<Map<String, Object>>) actions.get("stockSells");
-        
-        if (stockSells != null && !stockSells.isEmpty()) {
-            for (Map<String, Object> sell : stockSells) {
-                processStockSell(session, portfolio, sell);
+
+        // 반올림 처리 (BondService에서 이미 반올림되어 있지만 명시적으로 처리)
+        return redemptionAmount.setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * 채권 해지 반영
+     */
+    private void applyBondCancel(PortfolioDto portfolio, String bondId, List<BondDto> bondsToRemove,
+                                 BondDto partialBond, long partialRemainingFaceValue,
+                                 long cancelledAmount, long receivedAmount) {
+        if (partialBond != null) {
+            // 남은 채권 금액 업데이트
+            long previousEvaluation = PortfolioTotals.amountOf(partialBond.getEvaluationAmount());
+            partialBond.setFaceValue(partialRemainingFaceValue);
+            partialBond.setEvaluationAmount(partialRemainingFaceValue);
+            portfolio.adjustTotal(AssetClass.BOND, partialRemainingFaceValue - previousEvaluation);
+        }
+
+        // 해지한 채권 삭제 (같은 값의 다른 채권이 함께 지워지지 않도록 인스턴스 기준)
+        if (!bondsToRemove.isEmpty()) {
+            Set<BondDto> removing = Collections.newSetFromMap(new IdentityHashMap<>());
+            removing.addAll(bondsToRemove);
+            long removedEvaluation = 0L;
+            for (BondDto bond : portfolio.getBonds()) {
+                if (removing.contains(bond)) {
+                    removedEvaluation += PortfolioTotals.amountOf(bond.getEvaluationAmount());
+                }
             }
+            portfolio.getBonds().removeIf(removing::contains);
+            portfolio.adjustTotal(AssetClass.BOND, -removedEvaluation);
         }
+
+        // 현금 추가
+        portfolio.setCash(portfolio.getCash() + receivedAmount);
+
+        log.info("Bond cancellation completed: bondId={}, cancelled={}, removed={}, totalReceived={}",
+            bondId, cancelledAmount, bondsToRemove.size(), receivedAmount);
     }
-    
+
     /**
-     * 주식 매수
+     * 주식 매수 계획
      */
-    private void processStockBuy(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> buy) {
-        String stockId = (String) buy.get("stockId");
-        Integer quantity = getIntValue(buy.get("quantity"));
-        
-        if (quantity == null || quantity <= 0) {
-            log.warn("Invalid stock quantity: {}", quantity);
+    private void planStockBuys(GameSessionDto session, PortfolioDto portfolio,
+                               List<StockTrade> buys, ActionPlan plan) {
+        if (buys == null || buys.isEmpty()) {
             return;
         }
-        
-        // 현재가 조회
-        Long currentPrice = marketEventService.getCurrentStockPrice(
-            stockId, session.getGameMode(), session.getCurrentRound());
-        
-        Long totalCost = currentPrice * quantity;
-        
-        // 현금 확인
-        if (portfolio.getCash() < totalCost) {
-            log.warn("Insufficient cash for stock: cash={}, cost={}", 
-                portfolio.getCash(), totalCost);
-            return;
+
+        InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+        for (StockTrade buy : buys) {
+            String stockId = buy.getStockId();
+            Integer quantity = buy.getQuantity();
+
+            if (instruments.stockIndex(stockId) < 0) {
+                plan.reject("알 수 없는 주식 종목입니다: " + stockId);
+                continue;
+            }
+            if (quantity == null || quantity <= 0) {
+                plan.reject("주식 매수 수량이 올바르지 않습니다: " + quantity);
+                continue;
+            }
+
+            // 현재가 조회
+            long currentPrice = marketEventService.getCurrentStockPrice(session, stockId);
+            if (!plan.spend("주식 매수", currentPrice * quantity)) {
+                continue;
+            }
+            plan.stockQuantities.merge(stockId, quantity, Integer::sum);
+
+            plan.steps.add(() -> applyStockBuy(portfolio, stockId, quantity, currentPrice));
         }
-        
+    }
+
+    /**
+     * 주식 매수 반영
+     */
+    private void applyStockBuy(PortfolioDto portfolio, String stockId, int quantity, long currentPrice) {
+        long totalCost = currentPrice * quantity;
+
         // 기존 보유 주식 찾기
-        StockHoldingDto existingStock = portfolio.getStocks().stream()
-            .filter(s -> s.getStockId().equals(stockId))
-            .findFirst()
-            .orElse(null);
-        
+        StockHoldingDto existingStock = findStock(portfolio, stockId);
+
         if (existingStock != null) {
             // 기존 보유 주식에 추가
             long totalQuantity = existingStock.getQuantity() + quantity;
-            long totalPurchaseAmount = (existingStock.getAvgPrice() * existingStock.getQuantity()) 
+            long totalPurchaseAmount = (existingStock.getAvgPrice() * existingStock.getQuantity())
                 + (currentPrice * quantity);
             long newAvgPrice = totalPurchaseAmount / totalQuantity;
-            
+
+            long previousEvaluation = PortfolioTotals.amountOf(existingStock.getEvaluationAmount());
             existingStock.setQuantity((int) totalQuantity);
             existingStock.setAvgPrice(newAvgPrice);
             existingStock.setEvaluationAmount(currentPrice * totalQuantity);
+            portfolio.adjustTotal(AssetClass.STOCK, existingStock.getEvaluationAmount() - previousEvaluation);
             existingStock.setProfitLoss(existingStock.getEvaluationAmount() - totalPurchaseAmount);
             existingStock.setReturnRate((double) existingStock.getProfitLoss() / totalPurchaseAmount);
         } else {
@@ -495,143 +625,152 @@ public class ActionService {
                 .profitLoss(0L)
                 .returnRate(0.0)
                 .build();
-            
+
             portfolio.getStocks().add(newStock);
+            portfolio.adjustTotal(AssetClass.STOCK, totalCost);
         }
-        
+
         portfolio.setCash(portfolio.getCash() - totalCost);
-        
-        log.info("Stock purchased: stockId={}, quantity={}, price={}", 
+
+        log.info("Stock purchased: stockId={}, quantity={}, price={}",
             stockId, quantity, currentPrice);
     }
-    
+
     /**
-     * 주식 매도
+     * 주식 매도 계획
      */
-    private void processStockSell(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> sell) {
-        String stockId = (String) sell.get("stockId");
-        Integer quantity = getIntValue(sell.get("quantity"));
-        
-        if (quantity == null || quantity <= 0) {
-            log.warn("Invalid stock quantity: {}", quantity);
+    private void planStockSells(GameSessionDto session, PortfolioDto portfolio,
+                                List<StockTrade> sells, ActionPlan plan) {
+        if (sells == null || sells.isEmpty()) {
             return;
         }
-        
-        // 보유 주식 찾기
-        StockHoldingDto stock = portfolio.getStocks().stream()
-            .filter(s -> s.getStockId().equals(stockId))
-            .findFirst()
-            .orElse(null);
-        
-        if (stock == null) {
-            log.warn("Stock not found: stockId={}", stockId);
-            return;
+
+        InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+        for (StockTrade sell : sells) {
+            String stockId = sell.getStockId();
+            Integer quantity = sell.getQuantity();
+
+            if (instruments.stockIndex(stockId) < 0) {
+                plan.reject("알 수 없는 주식 종목입니다: " + stockId);
+                continue;
+            }
+            if (quantity == null || quantity <= 0) {
+                plan.reject("주식 매도 수량이 올바르지 않습니다: " + quantity);
+                continue;
+            }
+
+            int held = plan.stockQuantities.getOrDefault(stockId, 0);
+            if (held < quantity) {
+                plan.reject("주식 보유 수량이 부족합니다: " + stockId + " (보유 " + held + ", 매도 " + quantity + ")");
+                continue;
+            }
+
+            // 현재가 조회
+            long currentPrice = marketEventService.getCurrentStockPrice(session, stockId);
+            plan.cash += currentPrice * quantity;
+            plan.stockQuantities.put(stockId, held - quantity);
+
+            plan.steps.add(() -> applyStockSell(portfolio, stockId, quantity, currentPrice));
         }
-        
-        if (stock.getQuantity() < quantity) {
-            log.warn("Insufficient stock quantity: have={}, sell={}", 
-                stock.getQuantity(), quantity);
-            return;
+    }
+
+    /**
+     * 주식 매도 반영
+     */
+    private void applyStockSell(PortfolioDto portfolio, String stockId, int quantity, long currentPrice) {
+        // 보유 주식 찾기
+        StockHoldingDto stock = findStock(portfolio, stockId);
+        if (stock == null || stock.getQuantity() < quantity) {
+            throw new IllegalStateException("Stock holding changed during apply: stockId=" + stockId);
         }
-        
-        // 현재가 조회
-        Long currentPrice = marketEventService.getCurrentStockPrice(
-            stockId, session.getGameMode(), session.getCurrentRound());
-        
-        Long sellAmount = currentPrice * quantity;
-        
+
+        long sellAmount = currentPrice * quantity;
+
         // 매도 처리
         if (stock.getQuantity() == quantity) {
             // 전량 매도
             portfolio.getStocks().remove(stock);
+            portfolio.adjustTotal(AssetClass.STOCK, -PortfolioTotals.amountOf(stock.getEvaluationAmount()));
         } else {
             // 일부 매도
+            long previousEvaluation = PortfolioTotals.amountOf(stock.getEvaluationAmount());
             stock.setQuantity(stock.getQuantity() - quantity);
             long totalCost = stock.getAvgPrice() * stock.getQuantity();
             stock.setEvaluationAmount(currentPrice * stock.getQuantity());
+            portfolio.adjustTotal(AssetClass.STOCK, stock.getEvaluationAmount() - previousEvaluation);
             stock.setProfitLoss(stock.getEvaluationAmount() - totalCost);
             stock.setReturnRate((double) stock.getProfitLoss() / totalCost);
         }
-        
+
         portfolio.setCash(portfolio.getCash() + sellAmount);
-        
-        log.info("Stock sold: stockId={}, quantity={}, price={}", 
+
+        log.info("Stock sold: stockId={}, quantity={}, price={}",
             stockId, quantity, currentPrice);
     }
-    
+
     /**
-     * 펀드 매수/매도 처리
+     * 펀드 매수 계획 (금액 단위)
      */
-    private void processFundActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        // 매수
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> fundBuys = (List<Map<String, Object>>) actions.get("fundBuys");
-        
-        if (fundBuys != null && !fundBuys.isEmpty()) {
-            for (Map<String, Object> buy : fundBuys) {
-                processFundBuy(session, portfolio, buy);
-            }
+    private void planFundBuys(GameSessionDto session, PortfolioDto portfolio,
+                              List<FundTrade> buys, ActionPlan plan) {
+        if (buys == null || buys.isEmpty()) {
+            return;
         }
-        
-        // 매도
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> fundSells = (List<Map<String, Object>>) actions.get("fundSells");
-        
-        if (fundSells != null && !fundSells.isEmpty()) {
-            for (Map<String, Object> sell : fundSells) {
-                processFundSell(session, portfolio, sell);
+
+        InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+        for (FundTrade buy : buys) {
+            String fundId = buy.getFundId();
+            Long amount = buy.getAmount();
+
+            if (instruments.fundIndex(fundId) < 0) {
+                plan.reject("알 수 없는 펀드입니다: " + fundId);
+                continue;
+            }
+            if (amount == null || amount <= 0) {
+                plan.reject("펀드 매수 금액이 올바르지 않습니다: " + amount);
+                continue;
+            }
+
+            // 현재 NAV 조회
+            long currentNav = marketEventService.getCurrentFundNav(session, fundId);
+
+            // 좌수 계산 (금액 / NAV, 반올림)
+            int quantity = (int) Math.round((double) amount / currentNav);
+            if (quantity <= 0) {
+                plan.reject("펀드 매수 금액이 기준가보다 작습니다: " + fundId + " (금액 " + amount + ", 기준가 " + currentNav + ")");
+                continue;
+            }
+            if (!plan.spend("펀드 매수", currentNav * quantity)) {
+                continue;
             }
+            plan.fundShares.merge(fundId, quantity, Integer::sum);
+
+            plan.steps.add(() -> applyFundBuy(session, portfolio, fundId, quantity, currentNav));
         }
     }
-    
+
     /**
-     * 펀드 매수
+     * 펀드 매수 반영
      */
-    private void processFundBuy(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> buy) {
-        String fundId = (String) buy.get("fundId");
-        Long amount = getLongValue(buy.get("amount"));
-        
-        if (amount == null || amount <= 0) {
-            log.warn("Invalid fund amount: {}", amount);
-            return;
-        }
-        
-        // 현재 NAV 조회
-        Long currentNav = marketEventService.getCurrentFundNav(
-            fundId, session.getGameMode(), session.getCurrentRound());
-        
-        // 좌수 계산 (금액 / NAV, 반올림)
-        int quantity = (int) Math.round((double) amount / currentNav);
-        if (quantity <= 0) {
-            log.warn("Insufficient amount for fund: amount={}, nav={}", amount, currentNav);
-            return;
-        }
-        
-        Long totalCost = currentNav * quantity;
-        
-        // 현금 확인
-        if (portfolio.getCash() < totalCost) {
-            log.warn("Insufficient cash for fund: cash={}, cost={}", 
-                portfolio.getCash(), totalCost);
-            return;
-        }
-        
+    private void applyFundBuy(GameSessionDto session, PortfolioDto portfolio,
+                              String fundId, int quantity, long currentNav) {
+        long totalCost = currentNav * quantity;
+
         // 기존 보유 펀드 찾기
-        FundHoldingDto existingFund = portfolio.getFunds().stream()
-            .filter(f -> f.getFundId().equals(fundId))
-            .findFirst()
-            .orElse(null);
-        
+        FundHoldingDto existingFund = findFund(portfolio, fundId);
+
         if (existingFund != null) {
             // 기존 보유 펀드에 추가
             long totalShares = existingFund.getShares() + quantity;
-            long totalPurchaseAmount = (existingFund.getAvgNav() * existingFund.getShares()) 
+            long totalPurchaseAmount = (existingFund.getAvgNav() * existingFund.getShares())
                 + (currentNav * quantity);
             long newAvgNav = totalPurchaseAmount / totalShares;
-            
+
+            long previousEvaluation = PortfolioTotals.amountOf(existingFund.getEvaluationAmount());
             existingFund.setShares((int) totalShares);
             existingFund.setAvgNav(newAvgNav);
             existingFund.setEvaluationAmount(currentNav * totalShares);
+            portfolio.adjustTotal(AssetClass.FUND, existingFund.getEvaluationAmount() - previousEvaluation);
             existingFund.setProfitLoss(existingFund.getEvaluationAmount() - totalPurchaseAmount);
             existingFund.setReturnRate((double) existingFund.getProfitLoss() / totalPurchaseAmount);
         } else {
@@ -647,105 +786,129 @@ public class ActionService {
                 .returnRate(0.0)
                 .purchaseRound(session.getCurrentRound())
                 .build();
-            
+
             portfolio.getFunds().add(newFund);
+            portfolio.adjustTotal(AssetClass.FUND, totalCost);
         }
-        
+
         portfolio.setCash(portfolio.getCash() - totalCost);
-        
-        log.info("Fund purchased: fundId={}, quantity={}, nav={}", 
+
+        log.info("Fund purchased: fundId={}, quantity={}, nav={}",
             fundId, quantity, currentNav);
     }
-    
+
     /**
-     * 펀드 매도 (금액 단위)
+     * 펀드 매도 계획 (금액 단위)
      */
-    private void processFundSell(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> sell) {
-        String fundId = (String) sell.get("fundId");
-        Long amount = getLongValue(sell.get("amount"));
-        
-        if (amount == null || amount <= 0) {
-            log.warn("Invalid fund amount: {}", amount);
+    private void planFundSells(GameSessionDto session, PortfolioDto portfolio,
+                               List<FundTrade> sells, ActionPlan plan) {
+        if (sells == null || sells.isEmpty()) {
             return;
         }
-        
-        // 보유 펀드 찾기
-        FundHoldingDto fund = portfolio.getFunds().stream()
-            .filter(f -> f.getFundId().equals(fundId))
-            .findFirst()
-            .orElse(null);
-        
-        if (fund == null) {
-            log.warn("Fund not found: fundId={}", fundId);
-            return;
-        }
-        
-        // 현재 NAV 조회
-        Long currentNav = marketEventService.getCurrentFundNav(
-            fundId, session.getGameMode(), session.getCurrentRound());
-        
-        // 좌수 계산 (금액 / NAV, 반올림)
-        int quantity = (int) Math.round((double) amount / currentNav);
-        if (quantity <= 0) {
-            log.warn("Insufficient amount for fund sell: amount={}, nav={}", amount, currentNav);
-            return;
+
+        InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+        for (FundTrade sell : sells) {
+            String fundId = sell.getFundId();
+            Long amount = sell.getAmount();
+
+            if (instruments.fundIndex(fundId) < 0) {
+                plan.reject("알 수 없는 펀드입니다: " + fundId);
+                continue;
+            }
+            if (amount == null || amount <= 0) {
+                plan.reject("펀드 매도 금액이 올바르지 않습니다: " + amount);
+                continue;
+            }
+
+            Integer held = plan.fundShares.get(fundId);
+            if (held == null || held <= 0) {
+                plan.reject("보유하지 않은 펀드입니다: " + fundId);
+                continue;
+            }
+
+            // 현재 NAV 조회
+            long currentNav = marketEventService.getCurrentFundNav(session, fundId);
+
+            // 좌수 계산 (금액 / NAV, 반올림)
+            int quantity = (int) Math.round((double) amount / currentNav);
+            if (quantity <= 0) {
+                plan.reject("펀드 매도 금액이 기준가보다 작습니다: " + fundId + " (금액 " + amount + ", 기준가 " + currentNav + ")");
+                continue;
+            }
+            if (held < quantity) {
+                plan.reject("펀드 보유 좌수가 부족합니다: " + fundId + " (보유 " + held + ", 매도 " + quantity + ")");
+                continue;
+            }
+
+            // 실제 매도 금액 (좌수 * NAV)
+            plan.cash += currentNav * quantity;
+            plan.fundShares.put(fundId, held - quantity);
+
+            plan.steps.add(() -> applyFundSell(portfolio, fundId, amount, quantity, currentNav));
         }
-        
-        if (fund.getShares() < quantity) {
-            log.warn("Insufficient fund shares: have={}, need={}", 
-                fund.getShares(), quantity);
-            return;
+    }
+
+    /**
+     * 펀드 매도 반영
+     */
+    private void applyFundSell(PortfolioDto portfolio, String fundId, long requestAmount,
+                               int quantity, long currentNav) {
+        // 보유 펀드 찾기
+        FundHoldingDto fund = findFund(portfolio, fundId);
+        if (fund == null || fund.getShares() < quantity) {
+            throw new IllegalStateException("Fund holding changed during apply: fundId=" + fundId);
         }
-        
-        // 실제 매도 금액 (좌수 * NAV)
-        Long sellAmount = currentNav * quantity;
-        
+
+        long sellAmount = currentNav * quantity;
+
         // 매도 처리
         if (fund.getShares() == quantity) {
             // 전량 매도
             portfolio.getFunds().remove(fund);
+            portfolio.adjustTotal(AssetClass.FUND, -PortfolioTotals.amountOf(fund.getEvaluationAmount()));
         } else {
             // 일부 매도
+            long previousEvaluation = PortfolioTotals.amountOf(fund.getEvaluationAmount());
             fund.setShares(fund.getShares() - quantity);
             long totalCost = fund.getAvgNav() * fund.getShares();
             fund.setEvaluationAmount(currentNav * fund.getShares());
+            portfolio.adjustTotal(AssetClass.FUND, fund.getEvaluationAmount() - previousEvaluation);
             fund.setProfitLoss(fund.getEvaluationAmount() - totalCost);
             fund.setReturnRate((double) fund.getProfitLoss() / totalCost);
         }
-        
+
         portfolio.setCash(portfolio.getCash() + sellAmount);
-        
-        log.info("Fund sold: fundId={}, requestAmount={}, quantity={}, sellAmount={}, nav={}", 
-            fundId, amount, quantity, sellAmount, currentNav);
+
+        log.info("Fund sold: fundId={}, requestAmount={}, quantity={}, sellAmount={}, nav={}",
+            fundId, requestAmount, quantity, sellAmount, currentNav);
     }
-    
+
     /**
-     * 연금 가입 처리
+     * 연금 가입 계획
      */
-    private void processPensionActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> pensions = (List<Map<String, Object>>) actions.get("pensions");
-        
+    private void planPensions(GameSessionDto session, PortfolioDto portfolio,
+                              List<PensionAction> pensions, ActionPlan plan) {
         if (pensions == null || pensions.isEmpty()) {
             return;
         }
-        
-        for (Map<String, Object> pension : pensions) {
-            String pensionId = (String) pension.get("pensionId");
-            Long monthlyAmount = getLongValue(pension.get("monthlyAmount"));
-            
+
+        for (PensionAction pension : pensions) {
+            String pensionId = pension.getPensionId();
+            Long monthlyAmount = pension.getMonthlyAmount();
+
+            if (pensionId == null || !PENSION_IDS.contains(pensionId)) {
+                plan.reject("알 수 없는 연금 상품입니다: " + pensionId);
+                continue;
+            }
             if (monthlyAmount == null || monthlyAmount <= 0) {
-                log.warn("Invalid pension amount: {}", monthlyAmount);
+                plan.reject("연금 월 납입액이 올바르지 않습니다: " + monthlyAmount);
                 continue;
             }
-            
-            // 현금 확인 (첫 달 납입)
-            if (portfolio.getCash() < monthlyAmount) {
-                log.warn("Insufficient cash for pension: cash={}, amount={}", 
-                    portfolio.getCash(), monthlyAmount);
+            // 첫 달 납입
+            if (!plan.spend("연금 가입", monthlyAmount)) {
                 continue;
             }
-            
+
             // 연금 생성
             PensionDto newPension = PensionDto.builder()
                 .pensionId(pensionId)
@@ -755,38 +918,42 @@ public class ActionService {
                 .interestRate(GameConstants.PENSION_BASE_RATE)
                 .subscriptionRound(session.getCurrentRound())
                 .build();
-            
-            portfolio.getPensions().add(newPension);
-            portfolio.setCash(portfolio.getCash() - monthlyAmount);
-            
-            log.info("Pension created: pensionId={}, monthlyAmount={}", pensionId, monthlyAmount);
+
+            plan.steps.add(() -> applyPension(portfolio, newPension));
         }
     }
-    
+
     /**
-     * 대출 실행 처리
+     * 연금 가입 반영
      */
-    private void processLoanActions(GameSessionDto session, PortfolioDto portfolio, Map<String, Object> actions) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> loan = (Map<String, Object>) actions.get("loan");
-        
-        if (loan == null || loan.isEmpty()) {
+    private void applyPension(PortfolioDto portfolio, PensionDto pension) {
+        portfolio.getPensions().add(pension);
+        portfolio.adjustTotal(AssetClass.PENSION, pension.getMonthlyAmount());
+        portfolio.setCash(portfolio.getCash() - pension.getMonthlyAmount());
+
+        log.info("Pension created: pensionId={}, monthlyAmount={}", pension.getPensionId(), pension.getMonthlyAmount());
+    }
+
+    /**
+     * 대출 실행 계획
+     */
+    private void planLoan(GameSessionDto session, PortfolioDto portfolio, LoanAction loan, ActionPlan plan) {
+        if (loan == null || loan.getAmount() == null) {
             return;
         }
-        
+
         // 이미 대출이 있는지 확인
-        if (session.getLoanUsed() != null && session.getLoanUsed()) {
-            log.warn("Loan already used");
+        if (Boolean.TRUE.equals(session.getLoanUsed())) {
+            plan.reject("이미 대출을 사용했습니다.");
             return;
         }
-        
-        Long amount = getLongValue(loan.get("amount"));
-        
-        if (amount == null || amount <= 0) {
-            log.warn("Invalid loan amount: {}", amount);
+
+        Long amount = loan.getAmount();
+        if (amount <= 0) {
+            plan.reject("대출 금액이 올바르지 않습니다: " + amount);
             return;
         }
-        
+
         // 대출 생성
         LoanDto newLoan = LoanDto.builder()
             .loanId("LOAN_01")
@@ -798,110 +965,227 @@ public class ActionService {
             .executionRound(session.getCurrentRound())
             .maturityRound(session.getCurrentRound() + GameConstants.LOAN_PERIOD_MONTHS)
             .build();
-        
-        session.setLoanInfo(newLoan);
+
+        plan.cash += amount;
+        plan.steps.add(() -> applyLoan(session, portfolio, newLoan));
+    }
+
+    /**
+     * 대출 실행 반영
+     */
+    private void applyLoan(GameSessionDto session, PortfolioDto portfolio, LoanDto loan) {
+        session.setLoanInfo(loan);
         session.setLoanUsed(true);
-        portfolio.setCash(portfolio.getCash() + amount);
-        
-        log.info("Loan executed: amount={}", amount);
-    }
-    
-    /**
-     * 보험 가입 처리
-     */
-    private void processInsuranceActions(GameSessionDto session, Map<String, Object> actions) {
-        // 배열 형식으로 받기
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> insuranceSubscribes = (List<Map<String, Object>>) actions.get("insuranceSubscribes");
-        
-        if (insuranceSubscribes != null && !insuranceSubscribes.isEmpty()) {
-            // 이미 가입되어 있지 않은 경우에만 가입
-            if (session.getInsuranceSubscribed() == null || !session.getInsuranceSubscribed()) {
-                session.setInsuranceSubscribed(true);
-                session.setMonthlyInsurancePremium(
-                    session.getGameMode() == GameMode.TUTORIAL 
-                        ? GameConstants.TUTORIAL_INSURANCE_PREMIUM 
-                        : GameConstants.COMPETITION_INSURANCE_PREMIUM
-                );
-                
-                log.info("Insurance subscribed: premium={}", session.getMonthlyInsurancePremium());
-            }
-        }
-        
-        // 하위 호환성: 기존 방식도 지원
-        Boolean subscribeInsurance = (Boolean) actions.get("subscribeInsurance");
-        if (subscribeInsurance != null && subscribeInsurance && 
-            (session.getInsuranceSubscribed() == null || !session.getInsuranceSubscribed())) {
-            
-            session.setInsuranceSubscribed(true);
-            session.setMonthlyInsurancePremium(
-                session.getGameMode() == GameMode.TUTORIAL 
-                    ? GameConstants.TUTORIAL_INSURANCE_PREMIUM 
-                    : GameConstants.COMPETITION_INSURANCE_PREMIUM
-            );
-            
-            log.info("Insurance subscribed (legacy): premium={}", session.getMonthlyInsurancePremium());
+        portfolio.setCash(portfolio.getCash() + loan.getPrincipal());
+
+        log.info("Loan executed: amount={}", loan.getPrincipal());
+    }
+
+    /**
+     * 보험 가입 계획 (insuranceSubscribes 항목 또는 하위 호환 subscribeInsurance)
+     */
+    private void planInsurance(GameSessionDto session, ProceedRoundRequest actions, ActionPlan plan) {
+        boolean subscribe = (actions.getInsuranceSubscribes() != null && !actions.getInsuranceSubscribes().isEmpty())
+            || Boolean.TRUE.equals(actions.getSubscribeInsurance());
+
+        // 이미 가입되어 있지 않은 경우에만 가입
+        if (subscribe && !Boolean.TRUE.equals(session.getInsuranceSubscribed())) {
+            plan.steps.add(() -> applyInsurance(session));
         }
     }
-    
+
+    /**
+     * 보험 가입 반영
+     */
+    private void applyInsurance(GameSessionDto session) {
+        session.setInsuranceSubscribed(true);
+        session.setMonthlyInsurancePremium(
+            session.getGameMode() == GameMode.TUTORIAL
+                ? GameConstants.TUTORIAL_INSURANCE_PREMIUM
+                : GameConstants.COMPETITION_INSURANCE_PREMIUM
+        );
+
+        log.info("Insurance subscribed: premium={}", session.getMonthlyInsurancePremium());
+    }
+
     // Helper methods
-    
-    private Long getLongValue(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Integer) {
-            return ((Integer) value).longValue();
-        }
-        if (value instanceof Long) {
-            return (Long) value;
-        }
-        if (value instanceof Double) {
-            return ((Double) value).longValue();
+
+    /**
+     * 만기 라운드 (최대 라운드를 초과할 수 없음)
+     */
+    private int cappedMaturityRound(GameSessionDto session, int maturityMonths) {
+        return Math.min(session.getCurrentRound() + maturityMonths, session.getGameMode().getMaxRounds());
+    }
+
+    private StockHoldingDto findStock(PortfolioDto portfolio, String stockId) {
+        for (StockHoldingDto stock : portfolio.getStocks()) {
+            if (stockId.equals(stock.getStockId())) {
+                return stock;
+            }
         }
         return null;
     }
-    
-    private Integer getIntValue(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Integer) {
-            return (Integer) value;
-        }
-        if (value instanceof Long) {
-            return ((Long) value).intValue();
-        }
-        if (value instanceof Double) {
-            return ((Double) value).intValue();
+
+    private FundHoldingDto findFund(PortfolioDto portfolio, String fundId) {
+        for (FundHoldingDto fund : portfolio.getFunds()) {
+            if (fundId.equals(fund.getFundId())) {
+                return fund;
+            }
         }
         return null;
     }
-    
+
     private String getDepositName(String productKey) {
         return productKey.equals("DEPOSIT_01") ? "예금" : "예금";
     }
-    
+
     private String getSavingName(String productKey) {
         return productKey.equals("SAVING_A") ? "적금 A" : "적금 B";
     }
-    
+
     private String getBondName(String bondId) {
         return bondId.equals("BOND_01") ? "국채" : "회사채";
     }
-    
+
     private String getStockName(String stockId) {
-        // TODO: 실제 주식명 매핑
-        return stockId;
+        return marketEventService.getInstrumentRegistry().stockName(stockId);
     }
-    
+
     private String getFundName(String fundId) {
-        switch (fundId) {
-            case "FUND_01": return "성장형 펀드";
-            case "FUND_02": return "안정형 펀드";
-            case "FUND_03": return "고위험 고수익 펀드";
-            default: return fundId;
+        return marketEventService.getInstrumentRegistry().fundName(fundId);
+    }
+
+    /**
+     * 액션 계획
+     * 처리 순서대로 쌓은 반영 단계와 검증 실패 목록, 그리고 검증에 쓰는 모의 현금/보유량
+     */
+    private static final class ActionPlan {
+
+        private static final int MAX_DESCRIBED_VIOLATIONS = 3;
+
+        private final List<Runnable> steps = new ArrayList<>();
+        private final List<String> violations = new ArrayList<>();
+
+        /**
+         * 모의 현금 (앞선 액션 반영 후 잔액)
+         */
+        private long cash;
+
+        /**
+         * 모의 보유량 (주식 수량 / 펀드 좌수 / 채권 액면가)
+         */
+        private final Map<String, Integer> stockQuantities = new HashMap<>();
+        private final Map<String, Integer> fundShares = new HashMap<>();
+        private final Map<BondDto, Long> bondFaceValues = new IdentityHashMap<>();
+
+        /**
+         * 이번 요청에서 가입할 채권 (반영 전)
+         */
+        private final List<BondDto> pendingBonds = new ArrayList<>();
+
+        private ActionPlan(PortfolioDto portfolio) {
+            this.cash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
+            // 매수/매도는 종목별 첫 보유 항목을 대상으로 함
+            if (portfolio.getStocks() != null) {
+                for (StockHoldingDto stock : portfolio.getStocks()) {
+                    stockQuantities.putIfAbsent(stock.getStockId(),
+                        stock.getQuantity() != null ? stock.getQuantity() : 0);
+                }
+            }
+            if (portfolio.getFunds() != null) {
+                for (FundHoldingDto fund : portfolio.getFunds()) {
+                    fundShares.putIfAbsent(fund.getFundId(), fund.getShares() != null ? fund.getShares() : 0);
+                }
+            }
+            if (portfolio.getBonds() != null) {
+                for (BondDto bond : portfolio.getBonds()) {
+                    bondFaceValues.put(bond, bond.getFaceValue() != null ? bond.getFaceValue() : 0L);
+                }
+            }
+        }
+
+        private void reject(String violation) {
+            violations.add(violation);
+        }
+
+        /**
+         * 모의 현금 차감 (부족하면 검증 실패로 기록)
+         */
+        private boolean spend(String label, long amount) {
+            if (cash < amount) {
+                reject("현금이 부족합니다: " + label + " (필요 " + amount + ", 보유 " + cash + ")");
+                return false;
+            }
+            cash -= amount;
+            return true;
+        }
+
+        private String describeViolations() {
+            String described = String.join(" / ",
+                violations.subList(0, Math.min(violations.size(), MAX_DESCRIBED_VIOLATIONS)));
+            return violations.size() > MAX_DESCRIBED_VIOLATIONS
+                ? described + " 외 " + (violations.size() - MAX_DESCRIBED_VIOLATIONS) + "건"
+                : described;
         }
     }
-}
 
+    /**
+     * 액션 반영 전 상태 (반영 중 실패 시 복원용)
+     * 반영 단계가 직접 수정하는 채권/주식/펀드 항목은 복사본을, 추가만 하는 목록은 목록만 복사
+     */
+    private static final class ActionSnapshot {
+
+        private final Long cash;
+        private final List<DepositDto> deposits;
+        private final List<SavingDto> savings;
+        private final List<BondDto> bonds;
+        private final List<StockHoldingDto> stocks;
+        private final List<FundHoldingDto> funds;
+        private final List<PensionDto> pensions;
+        private final LoanDto loanInfo;
+        private final Boolean loanUsed;
+        private final Boolean insuranceSubscribed;
+        private final Long monthlyInsurancePremium;
+
+        private ActionSnapshot(GameSessionDto session, PortfolioDto portfolio) {
+            this.cash = portfolio.getCash();
+            this.deposits = copy(portfolio.getDeposits(), UnaryOperator.identity());
+            this.savings = copy(portfolio.getSavings(), UnaryOperator.identity());
+            this.bonds = copy(portfolio.getBonds(), bond -> bond.toBuilder().build());
+            this.stocks = copy(portfolio.getStocks(), stock -> stock.toBuilder().build());
+            this.funds = copy(portfolio.getFunds(), fund -> fund.toBuilder().build());
+            this.pensions = copy(portfolio.getPensions(), UnaryOperator.identity());
+            this.loanInfo = session.getLoanInfo();
+            this.loanUsed = session.getLoanUsed();
+            this.insuranceSubscribed = session.getInsuranceSubscribed();
+            this.monthlyInsurancePremium = session.getMonthlyInsurancePremium();
+        }
+
+        private void restore(GameSessionDto session, PortfolioDto portfolio) {
+            portfolio.setCash(cash);
+            portfolio.setDeposits(deposits);
+            portfolio.setSavings(savings);
+            portfolio.setBonds(bonds);
+            portfolio.setStocks(stocks);
+            portfolio.setFunds(funds);
+            portfolio.setPensions(pensions);
+            // 자산군 합계는 다음 요약 갱신 시 전체 재계산
+            portfolio.setTotals(null);
+            session.setLoanInfo(loanInfo);
+            session.setLoanUsed(loanUsed);
+            session.setInsuranceSubscribed(insuranceSubscribed);
+            session.setMonthlyInsurancePremium(monthlyInsurancePremium);
+        }
+
+        private static <T> List<T> copy(List<T> source, UnaryOperator<T> copier) {
+            if (source == null) {
+                return null;
+            }
+            List<T> result = new ArrayList<>(source.size());
+            for (T item : source) {
+                result.add(copier.apply(item));
+            }
+            return result;
+        }
+    }
+}
@@ -8,14 +8,20 @@ import com.cas.common.core.util.KinfaRunException;
 import com.cas.common.infra.cache.CacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 게임 데이터 로드/저장 Service
@@ -31,6 +37,7 @@ public class GameLoadService {
     private final TransactionService transactionService;
     private final GameSessionService gameSessionService;
     private final CacheService cacheService;
+    private final RankingService rankingService;
 
     // Redis 키 패턴
     private static final String REDIS_KEY_GAME_DATA = "game:data:%s:%s"; // mbrSno:gameMode
@@ -38,6 +45,12 @@ public class GameLoadService {
     private static final String REDIS_KEY_COMPETITION_PROGRESS = "game:competition:%s";
     private static final int GAME_DATA_TTL = 86400; // 24시간
 
+    /**
+     * DB 게임 데이터 로드 제한 시간 (ms)
+     */
+    @Value("${game.load.deadline-ms:5000}")
+    private long loadDeadlineMs;
+
     // 금융상품 코드 매핑 (FNPRD_NO)
     private static final Map<Integer, String> PRODUCT_NAMES = Map.of(
         1, "deposit", 2, "stock", 3, "bond",
@@ -128,27 +141,58 @@ public class GameLoadService {
     /**
      * DB에서 게임 데이터 로드 (완전 구현)
      * 
-     * 로드 순서:
-     * 1. 사용자 기본 정보 (KMHAD055M)
-     * 2. 튜토리얼/경쟁 목록 (KMHAD057M/060M)
-     * 3. 진행 중인 게임 식별 (MFILE_FNSH_YN = 'N')
-     * 4. 해당 게임의 라운드 정보 (KMHAD058M/061M)
-     * 5. 학습 정보 (KMHAD063M)
+     * 로드 순서 (의존 관계가 없는 조회는 병렬 실행):
+     * 1. 사용자 기본 정보 (KMHAD055M)          ─┐
+     * 2. 튜토리얼/경쟁 목록 (KMHAD057M/060M)    ─┤ 병렬
+     * 3. 진행 중인 게임 식별 (MFILE_FNSH_YN = 'N')  │ (2 완료 후)
+     * 4. 해당 게임의 라운드 정보 (KMHAD058M/061M) ─┐ 병렬 (3의 일련번호 필요)
+     * 5. 학습 정보 (KMHAD063M)                  ─┘
+     * 
+     * 전체 로드는 game.load.deadline-ms 안에 완료되어야 하며, 초과 시 KinfaRunException
+     * 각 MCI 호출의 읽기 타임아웃은 호출 시점에 남은 시간으로 줄어듭니다 (제한 시각 이후 호출하지 않음).
      */
     private Map<String, Object> loadFromDb(Long mbrSno, GameMode gameMode) throws KinfaRunException {
         Map<String, Object> gameData = new HashMap<>();
+        long deadlineAt = System.currentTimeMillis() + loadDeadlineMs;
 
-        // 1. 사용자 기본 정보 로드
-        HashMap<String, Object> userInfo = transactionService.getGameBasicInfo(mbrSno);
-        if (userInfo != null) {
-            gameData.put("user", userInfo);
-            log.info("■ User info loaded: {}", userInfo);
-        }
+        // 1. 사용자 기본 정보 로드 (게임 데이터와 독립적)
+        CompletableFuture<HashMap<String, Object>> userInfoFuture = transactionService.getGameBasicInfoAsync(mbrSno, deadlineAt);
 
+        // 2~5. 모드별 게임 데이터 로드
+        CompletableFuture<Void> gameDataFuture;
         if (gameMode == GameMode.TUTORIAL) {
-            loadTutorialData(mbrSno, gameData);
+            gameDataFuture = loadTutorialData(mbrSno, gameData, deadlineAt);
         } else if (gameMode == GameMode.COMPETITION) {
-            loadCompetitionData(mbrSno, gameData);
+            gameDataFuture = loadCompetitionData(mbrSno, gameData, deadlineAt);
+        } else {
+            gameDataFuture = CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(userInfoFuture, gameDataFuture);
+        try {
+            all.get(loadDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            all.cancel(true);
+            userInfoFuture.cancel(true);
+            gameDataFuture.cancel(true);
+            log.error("■ Game load deadline exceeded ({}ms) - mbrSno: {}, gameMode: {}", loadDeadlineMs, mbrSno, gameMode);
+            throw new KinfaRunException("게임 데이터 로드 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KinfaRunException("게임 데이터 로드가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof KinfaRunException) {
+                throw (KinfaRunException) cause;
+            }
+            throw new KinfaRunException("게임 데이터 로드 중 오류: " + (cause != null ? cause.getMessage() : e.getMessage()));
+        }
+
+        HashMap<String, Object> userInfo = userInfoFuture.join();
+        if (userInfo != null) {
+            gameData.put("user", userInfo);
+            log.info("■ User info loaded: {}", userInfo);
         }
 
         return gameData.isEmpty() ? null : gameData;
@@ -156,109 +200,97 @@ public class GameLoadService {
 
     /**
      * 튜토리얼 데이터 로드
+     * - 목록 조회 후, 진행 중인 튜토리얼의 라운드/학습 정보를 병렬 조회
+     * - gameData 는 각 단계에서 순차적으로만 갱신됨 (Future 완료 순서 보장)
      */
-    private void loadTutorialData(Long mbrSno, Map<String, Object> gameData) throws KinfaRunException {
+    private CompletableFuture<Void> loadTutorialData(Long mbrSno, Map<String, Object> gameData, long deadlineAt) {
         // 2. 튜토리얼 목록 조회
-        HashMap<String, Object> tutorialResult = transactionService.getTutorialListByUser(mbrSno);
-        List<Map<String, Object>> tutorialList = extractList(tutorialResult, "data");
-
-        if (tutorialList == null || tutorialList.isEmpty()) {
-            log.info("■ No tutorials found for mbrSno: {}", mbrSno);
-            return;
-        }
-
-        gameData.put("tutorials", tutorialList);
-        log.info("■ Found {} tutorials", tutorialList.size());
-
-        // 3. 진행 중인 튜토리얼 찾기 (MFILE_FNSH_YN = 'N' 또는 null)
-        Map<String, Object> activeTutorial = findActiveGame(tutorialList, "MFILE_FNSH_YN");
-
-        if (activeTutorial == null) {
-            log.info("■ No active tutorial found, all completed");
-            gameData.put("allCompleted", true);
-            return;
-        }
-
-        Long ttrlSno = extractLong(activeTutorial, "TTRL_SNO");
-        gameData.put("activeGame", activeTutorial);
-        gameData.put("activeGameId", ttrlSno);
-        log.info("■ Active tutorial found: TTRL_SNO={}", ttrlSno);
+        return transactionService.getTutorialListByUserAsync(mbrSno, deadlineAt).thenCompose(tutorialResult -> {
+            List<Map<String, Object>> tutorialList = extractList(tutorialResult, "data");
 
-        // 4. 해당 튜토리얼의 전체 라운드 정보 조회
-        HashMap<String, Object> roundsResult = transactionService.getTutorialAllRounds(ttrlSno);
-        List<Map<String, Object>> rounds = extractList(roundsResult, "data");
-
-        if (rounds != null && !rounds.isEmpty()) {
-            gameData.put("rounds", rounds);
-
-            // 마지막 라운드 정보 추출
-            Map<String, Object> lastRound = rounds.get(rounds.size() - 1);
-            Integer lastRoundNo = extractInt(lastRound, "TTRL_RND_NO");
-            gameData.put("currentRound", lastRoundNo);
-            gameData.put("lastRoundData", lastRound);
+            if (tutorialList == null || tutorialList.isEmpty()) {
+                log.info("■ No tutorials found for mbrSno: {}", mbrSno);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
 
-            // 포트폴리오 정보 추출
-            Map<String, Object> portfolio = extractPortfolioFromRound(lastRound);
-            gameData.put("portfolio", portfolio);
+            gameData.put("tutorials", tutorialList);
+            log.info("■ Found {} tutorials", tutorialList.size());
 
-            log.info("■ Loaded {} rounds, current round: {}", rounds.size(), lastRoundNo);
-        } else {
-            // 라운드가 없으면 1라운드 시작 전
-            gameData.put("currentRound", 0);
-            log.info("■ No rounds found, game not started yet");
-        }
+            // 3. 진행 중인 튜토리얼 찾기 (MFILE_FNSH_YN = 'N' 또는 null)
+            Map<String, Object> activeTutorial = findActiveGame(tutorialList, "MFILE_FNSH_YN");
 
-        // 5. 학습 정보 조회 (영상 시청, 퀴즈 정답 여부)
-        HashMap<String, Object> learningResult = transactionService.getLearningInfoByTutorial(ttrlSno);
-        List<Map<String, Object>> learningList = extractList(learningResult, "data");
+            if (activeTutorial == null) {
+                log.info("■ No active tutorial found, all completed");
+                gameData.put("allCompleted", true);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
 
-        if (learningList != null && !learningList.isEmpty()) {
-            Map<String, Object> learningStatus = parseLearningStatus(learningList);
-            gameData.put("learning", learningStatus);
-            log.info("■ Learning info loaded: {} items", learningList.size());
-        }
+            Long ttrlSno = extractLong(activeTutorial, "TTRL_SNO");
+            gameData.put("activeGame", activeTutorial);
+            gameData.put("activeGameId", ttrlSno);
+            log.info("■ Active tutorial found: TTRL_SNO={}", ttrlSno);
+
+            // 4. 전체 라운드 정보 / 5. 학습 정보 병렬 조회
+            return transactionService.getTutorialAllRoundsAsync(ttrlSno, deadlineAt)
+                    .thenAcceptBoth(transactionService.getLearningInfoByTutorialAsync(ttrlSno, deadlineAt),
+                            (roundsResult, learningResult) -> {
+                                applyRounds(gameData, extractList(roundsResult, "data"), "TTRL_RND_NO");
+                                applyLearning(gameData, extractList(learningResult, "data"));
+                            });
+        });
     }
 
     /**
      * 경쟁 모드 데이터 로드
+     * - 목록 조회 후, 진행 중인 경쟁의 라운드/학습 정보를 병렬 조회
      */
-    private void loadCompetitionData(Long mbrSno, Map<String, Object> gameData) throws KinfaRunException {
+    private CompletableFuture<Void> loadCompetitionData(Long mbrSno, Map<String, Object> gameData, long deadlineAt) {
         // 2. 경쟁 목록 조회
-        HashMap<String, Object> competitionResult = transactionService.getCompetitionListByUser(mbrSno);
-        List<Map<String, Object>> competitionList = extractList(competitionResult, "data");
+        return transactionService.getCompetitionListByUserAsync(mbrSno, deadlineAt).thenCompose(competitionResult -> {
+            List<Map<String, Object>> competitionList = extractList(competitionResult, "data");
 
-        if (competitionList == null || competitionList.isEmpty()) {
-            log.info("■ No competitions found for mbrSno: {}", mbrSno);
-            return;
-        }
-
-        gameData.put("competitions", competitionList);
-        log.info("■ Found {} competitions", competitionList.size());
+            if (competitionList == null || competitionList.isEmpty()) {
+                log.info("■ No competitions found for mbrSno: {}", mbrSno);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
 
-        // 3. 진행 중인 경쟁 찾기 (MFILE_FNSH_YN = 'N' 또는 null)
-        Map<String, Object> activeCompetition = findActiveGame(competitionList, "MFILE_FNSH_YN");
+            gameData.put("competitions", competitionList);
+            log.info("■ Found {} competitions", competitionList.size());
 
-        if (activeCompetition == null) {
-            log.info("■ No active competition found, all completed");
-            gameData.put("allCompleted", true);
-            return;
-        }
+            // 3. 진행 중인 경쟁 찾기 (MFILE_FNSH_YN = 'N' 또는 null)
+            Map<String, Object> activeCompetition = findActiveGame(competitionList, "MFILE_FNSH_YN");
 
-        Long cmpttSno = extractLong(activeCompetition, "CMPTT_SNO");
-        gameData.put("activeGame", activeCompetition);
-        gameData.put("activeGameId", cmpttSno);
-        log.info("■ Active competition found: CMPTT_SNO={}", cmpttSno);
+            if (activeCompetition == null) {
+                log.info("■ No active competition found, all completed");
+                gameData.put("allCompleted", true);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
 
-        // 4. 해당 경쟁의 전체 라운드 정보 조회
-        HashMap<String, Object> roundsResult = transactionService.getCompetitionAllRounds(cmpttSno);
-        List<Map<String, Object>> rounds = extractList(roundsResult, "data");
+            Long cmpttSno = extractLong(activeCompetition, "CMPTT_SNO");
+            gameData.put("activeGame", activeCompetition);
+            gameData.put("activeGameId", cmpttSno);
+            log.info("■ Active competition found: CMPTT_SNO={}", cmpttSno);
+
+            // 4. 전체 라운드 정보 / 5. 학습 정보 병렬 조회
+            return transactionService.getCompetitionAllRoundsAsync(cmpttSno, deadlineAt)
+                    .thenAcceptBoth(transactionService.getLearningInfoByCompetitionAsync(cmpttSno, deadlineAt),
+                            (roundsResult, learningResult) -> {
+                                applyRounds(gameData, extractList(roundsResult, "data"), "CMPTT_RND_NO");
+                                applyLearning(gameData, extractList(learningResult, "data"));
+                            });
+        });
+    }
 
+    /**
+     * 라운드 정보 반영 (마지막 라운드 기준으로 현재 라운드/포트폴리오 설정)
+     */
+    private void applyRounds(Map<String, Object> gameData, List<Map<String, Object>> rounds, String roundNoKey) {
         if (rounds != null && !rounds.isEmpty()) {
             gameData.put("rounds", rounds);
 
             // 마지막 라운드 정보 추출
             Map<String, Object> lastRound = rounds.get(rounds.size() - 1);
-            Integer lastRoundNo = extractInt(lastRound, "CMPTT_RND_NO");
+            Integer lastRoundNo = extractInt(lastRound, roundNoKey);
             gameData.put("currentRound", lastRoundNo);
             gameData.put("lastRoundData", lastRound);
 
@@ -268,14 +300,16 @@ public class GameLoadService {
 
             log.info("■ Loaded {} rounds, current round: {}", rounds.size(), lastRoundNo);
         } else {
+            // 라운드가 없으면 1라운드 시작 전
             gameData.put("currentRound", 0);
             log.info("■ No rounds found, game not started yet");
         }
+    }
 
-        // 5. 학습 정보 조회
-        HashMap<String, Object> learningResult = transactionService.getLearningInfoByCompetition(cmpttSno);
-        List<Map<String, Object>> learningList = extractList(learningResult, "data");
-
+    /**
+     * 학습 정보 반영 (영상 시청, 퀴즈 정답 여부)
+     */
+    private void applyLearning(Map<String, Object> gameData, List<Map<String, Object>> learningList) {
         if (learningList != null && !learningList.isEmpty()) {
             Map<String, Object> learningStatus = parseLearningStatus(learningList);
             gameData.put("learning", learningStatus);
@@ -626,6 +660,11 @@ public class GameLoadService {
                     mbrSno, gameId, score, fnnrMngScr, riskMngScr, abslYildScr
                 );
                 result.put("dbResult", dbResult);
+
+                // 실시간 리더보드 등록 (DB 저장 성공 후)
+                if (score != null) {
+                    rankingService.recordScore(String.valueOf(mbrSno), score);
+                }
             }
 
             // 2. Redis 세션 완료 표시 후 삭제
@@ -809,15 +848,18 @@ public class GameLoadService {
      * 모든 게임 캐시 초기화
      */
     public void clearAllGameCache(Long mbrSno) {
-        clearGameCache(mbrSno, GameMode.TUTORIAL);
-        clearGameCache(mbrSno, GameMode.COMPETITION);
-
-        String tutorialKey = String.format(REDIS_KEY_TUTORIAL_PROGRESS, mbrSno);
-        String competitionKey = String.format(REDIS_KEY_COMPETITION_PROGRESS, mbrSno);
-        cacheService.delete(tutorialKey);
-        cacheService.delete(competitionKey);
+        // 게임 데이터/세션/진행 키를 한 번의 DEL 로 삭제
+        String uid = String.valueOf(mbrSno);
+        List<String> keys = new ArrayList<>();
+        for (GameMode gameMode : new GameMode[] {GameMode.TUTORIAL, GameMode.COMPETITION}) {
+            keys.add(String.format(REDIS_KEY_GAME_DATA, mbrSno, gameMode.getCode()));
+            keys.addAll(gameSessionService.getSessionKeys(uid, gameMode));
+        }
+        keys.add(String.format(REDIS_KEY_TUTORIAL_PROGRESS, mbrSno));
+        keys.add(String.format(REDIS_KEY_COMPETITION_PROGRESS, mbrSno));
+        long deleted = cacheService.multiDelete(keys);
 
-        log.info("■ All game cache cleared for mbrSno: {}", mbrSno);
+        log.info("■ All game cache cleared for mbrSno: {} (deleted keys: {})", mbrSno, deleted);
     }
 
     /**
@@ -2,18 +2,43 @@ package com.cas.api.service.game;
 
 import com.cas.api.constant.GameConstants;
 import com.cas.api.dto.domain.GameSessionDto;
+import com.cas.api.dto.domain.PortfolioDto;
 import com.cas.api.enums.GameMode;
 import com.cas.common.infra.cache.CacheService;
+import com.cas.common.web.exception.BusinessException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 게임 세션 관리 Service
  * Redis를 사용하여 게임 상태를 저장/조회/업데이트/삭제
+ * 
+ * 동시성 제어:
+ * - 세션은 버전(version)을 가지며 저장 시 Compare-And-Set 으로 기록
+ * - 조회 이후 다른 요청이 먼저 저장했다면 SESSION_CONFLICT 예외 발생 (덮어쓰기 방지)
+ * - 멱등한 변경은 updateSessionWithRetry 로 재조회 후 재시도
+ * 
+ * 저장 방식 (game.session.store-mode):
+ * - json: 세션 전체를 하나의 JSON 문자열로 저장 (기본값)
+ * - hash: 세션 필드를 Redis 해시로, 포트폴리오는 별도 키(:portfolio)로 저장
+ *         진행 플래그 등 일부 필드만 HSET/HMGET 가능
  */
 @Slf4j
 @Service
@@ -21,6 +46,24 @@ import java.util.concurrent.TimeUnit;
 public class GameSessionService {
     
     private final CacheService cacheService;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 세션 저장 방식 (json, hash)
+     */
+    @Value("${game.session.store-mode:json}")
+    private String storeMode;
+    
+    /** 해시 저장 시 포트폴리오 보조 키 접미사 */
+    private static final String PORTFOLIO_KEY_SUFFIX = ":portfolio";
+    
+    /** 해시 저장 시 버전 필드명 */
+    private static final String VERSION_FIELD = "version";
+    
+    /** 해시 저장 시 포트폴리오 필드명 (별도 키로 분리) */
+    private static final String PORTFOLIO_FIELD = "portfolio";
+    
+    private static final TypeReference<Map<String, Object>> FIELD_MAP_TYPE = new TypeReference<Map<String, Object>>() {};
     
     /**
      * Redis 키 생성
@@ -50,8 +93,9 @@ public class GameSessionService {
         initialData.setInsuranceSubscribed(false);
         initialData.setInsurableEventOccurred(false);
         
-        // Redis에 저장 (24시간 TTL)
-        cacheService.setObject(key, initialData, GameConstants.TTL_ACTIVE_SESSION, TimeUnit.SECONDS);
+        // Redis에 저장 (24시간 TTL, 기존 세션은 덮어쓰기)
+        initialData.setVersion(null);
+        compareAndSetSession(uid, gameMode, initialData);
         
         log.info("Game session created successfully: {}", key);
         return initialData;
@@ -64,7 +108,7 @@ public class GameSessionService {
         String key = generateKey(uid, gameMode);
         log.debug("Getting game session: {}", key);
         
-        GameSessionDto session = cacheService.getObject(key, GameSessionDto.class);
+        GameSessionDto session = isHashStore() ? getSessionFromHash(key) : cacheService.getObject(key, GameSessionDto.class);
         
         if (session == null) {
             log.warn("Game session not found: {}", key);
@@ -74,6 +118,34 @@ public class GameSessionService {
         return session;
     }
     
+    /**
+     * 여러 모드의 게임 세션 일괄 조회
+     * json 저장 방식은 MGET 1회로 조회하며, hash 저장 방식은 모드별로 조회
+     * 
+     * @return 모드 → 세션 (세션이 없는 모드는 제외)
+     */
+    public Map<GameMode, GameSessionDto> getSessions(String uid, GameMode... gameModes) {
+        Map<GameMode, GameSessionDto> sessions = new EnumMap<>(GameMode.class);
+        if (isHashStore()) {
+            for (GameMode gameMode : gameModes) {
+                GameSessionDto session = getSessionFromHash(generateKey(uid, gameMode));
+                if (session != null) {
+                    sessions.put(gameMode, session);
+                }
+            }
+            return sessions;
+        }
+        
+        Map<String, GameMode> keys = new LinkedHashMap<>();
+        for (GameMode gameMode : gameModes) {
+            keys.put(generateKey(uid, gameMode), gameMode);
+        }
+        cacheService.multiGetObject(keys.keySet(), GameSessionDto.class)
+                .forEach((key, session) -> sessions.put(keys.get(key), session));
+        log.debug("Getting game sessions: uid={}, requested={}, found={}", uid, gameModes.length, sessions.keySet());
+        return sessions;
+    }
+    
     /**
      * 게임 세션 조회 또는 생성
      */
@@ -128,11 +200,31 @@ public class GameSessionService {
     
     /**
      * 게임 세션 업데이트
+     * - 조회한 세션(version 보유)은 버전이 일치할 때만 저장, 불일치 시 SESSION_CONFLICT
+     * - 새로 만든 세션(version 없음)은 기존 세션을 덮어씀
      */
     public void updateSession(String uid, GameMode gameMode, GameSessionDto sessionData) {
         String key = generateKey(uid, gameMode);
         log.debug("Updating game session: {}", key);
         
+        if (!compareAndSetSession(uid, gameMode, sessionData)) {
+            log.warn("Game session version conflict: key={}, version={}", key, sessionData.getVersion());
+            throw new BusinessException("SESSION_CONFLICT", "다른 요청에 의해 게임 상태가 변경되었습니다. 다시 시도해주세요.");
+        }
+        
+        log.debug("Game session updated successfully: {}, version={}", key, sessionData.getVersion());
+    }
+    
+    /**
+     * 게임 세션 Compare-And-Set 저장
+     * - sessionData.version 이 Redis 의 현재 버전과 같을 때만 저장하고 버전을 1 증가
+     * - version 이 null 이면 현재 버전을 기준으로 덮어쓰기
+     * 
+     * @return 저장 성공 여부 (버전 충돌 시 false, sessionData 는 변경 전 버전 유지)
+     */
+    public boolean compareAndSetSession(String uid, GameMode gameMode, GameSessionDto sessionData) {
+        String key = generateKey(uid, gameMode);
+        
         // 업데이트 시간 갱신
         sessionData.setUpdatedAt(LocalDateTime.now());
         
@@ -141,10 +233,175 @@ public class GameSessionService {
             ? GameConstants.TTL_COMPLETED_GAME 
             : GameConstants.TTL_ACTIVE_SESSION;
         
-        // Redis에 저장
-        cacheService.setObject(key, sessionData, ttl, TimeUnit.SECONDS);
+        if (isHashStore()) {
+            return compareAndSetSessionHash(key, sessionData, ttl);
+        }
+        
+        if (sessionData.getVersion() == null) {
+            writeSession(key, sessionData, ttl);
+            return true;
+        }
         
-        log.debug("Game session updated successfully: {}", key);
+        long expectedVersion = sessionData.getVersion();
+        sessionData.setVersion(expectedVersion + 1);
+        if (cacheService.compareAndSetObject(key, sessionData, expectedVersion, ttl, TimeUnit.SECONDS)) {
+            return true;
+        }
+        sessionData.setVersion(expectedVersion);
+        return false;
+    }
+    
+    /**
+     * 재조회-재시도 방식의 세션 업데이트
+     * - 세션을 조회(없으면 생성)하여 mutator 를 적용한 뒤 CAS 저장
+     * - 버전 충돌 시 최신 세션을 다시 조회하여 mutator 를 재적용
+     * - mutator 는 여러 번 호출될 수 있으므로 멱등한 변경에만 사용
+     * 
+     * @return 저장된 세션
+     */
+    public GameSessionDto updateSessionWithRetry(String uid, GameMode gameMode, Consumer<GameSessionDto> mutator) {
+        String key = generateKey(uid, gameMode);
+        
+        for (int attempt = 1; attempt <= GameConstants.MAX_SESSION_CAS_RETRIES; attempt++) {
+            GameSessionDto session = getOrCreateSession(uid, gameMode);
+            mutator.accept(session);
+            
+            if (compareAndSetSession(uid, gameMode, session)) {
+                log.debug("Game session updated with retry: {}, version={}, attempt={}", key, session.getVersion(), attempt);
+                return session;
+            }
+            
+            log.info("Game session version conflict, reloading: key={}, attempt={}", key, attempt);
+        }
+        
+        log.warn("Game session update retries exhausted: key={}", key);
+        throw new BusinessException("SESSION_CONFLICT", "다른 요청에 의해 게임 상태가 변경되었습니다. 다시 시도해주세요.");
+    }
+    
+    /**
+     * 버전 확인 없이 세션 저장 (현재 버전 + 1 로 기록)
+     */
+    private void writeSession(String key, GameSessionDto sessionData, int ttl) {
+        for (int attempt = 1; attempt <= GameConstants.MAX_SESSION_CAS_RETRIES; attempt++) {
+            long currentVersion = cacheService.getVersion(key);
+            sessionData.setVersion(currentVersion + 1);
+            if (cacheService.compareAndSetObject(key, sessionData, currentVersion, ttl, TimeUnit.SECONDS)) {
+                return;
+            }
+        }
+        sessionData.setVersion(null);
+        throw new BusinessException("SESSION_CONFLICT", "다른 요청에 의해 게임 상태가 변경되었습니다. 다시 시도해주세요.");
+    }
+    
+    // ============================================
+    // 필드 단위 조회/업데이트
+    // ============================================
+    
+    /**
+     * 세션 일부 필드 업데이트
+     * - hash 모드: 기존 해시에 지정한 필드만 HSET (버전 1 증가, 기존 TTL 유지)
+     *   세션이 없거나 JSON 문자열로 저장된 기존 세션이면 전체 세션을 읽어 필드를 반영한 뒤 해시로 저장
+     * - json 모드: 재조회-재시도 방식으로 전체 세션에 반영
+     * 
+     * @param fields 필드명(GameSessionDto 속성명) → 값
+     */
+    public void updateSessionFields(String uid, GameMode gameMode, Map<String, Object> fields) {
+        String key = generateKey(uid, gameMode);
+        
+        if (isHashStore()) {
+            Map<String, Object> values = new HashMap<>(fields);
+            values.put("updatedAt", LocalDateTime.now());
+            Map<String, Object> hashFields = objectMapper.convertValue(values, FIELD_MAP_TYPE);
+            
+            long version = cacheService.updateHashFields(key, hashFields, VERSION_FIELD);
+            if (version >= 0) {
+                log.debug("Game session fields updated: {}, fields={}, version={}", key, fields.keySet(), version);
+                return;
+            }
+            log.info("Game session is not stored as hash, rewriting full session: {}", key);
+        }
+        
+        updateSessionWithRetry(uid, gameMode, session -> applyFields(session, fields));
+    }
+    
+    /**
+     * 세션 일부 필드 조회
+     * - hash 모드: 지정한 필드만 HMGET (나머지 필드는 null, portfolio 지정 시 포트폴리오 키도 조회)
+     *   해시가 없으면(JSON 문자열로 저장된 기존 세션 등) 전체 세션 조회
+     * - json 모드: 전체 세션 조회
+     * 
+     * @param fieldNames 필드명(GameSessionDto 속성명)
+     * @return 세션 (없으면 null)
+     */
+    public GameSessionDto getSessionFields(String uid, GameMode gameMode, String... fieldNames) {
+        if (!isHashStore()) {
+            return getSession(uid, gameMode);
+        }
+        
+        String key = generateKey(uid, gameMode);
+        List<String> names = Arrays.asList(fieldNames);
+        GameSessionDto session = cacheService.getHashFields(key, GameSessionDto.class, names);
+        if (session == null) {
+            return getSession(uid, gameMode);
+        }
+        if (names.contains(PORTFOLIO_FIELD)) {
+            session.setPortfolio(cacheService.getObject(key + PORTFOLIO_KEY_SUFFIX, PortfolioDto.class));
+        }
+        return session;
+    }
+    
+    private boolean isHashStore() {
+        return "hash".equalsIgnoreCase(storeMode);
+    }
+    
+    /**
+     * 해시 저장 방식 세션 조회 (해시 + 포트폴리오 키)
+     * 기존 JSON 문자열로 저장된 세션은 그대로 읽고, 다음 저장 시 해시로 전환
+     */
+    private GameSessionDto getSessionFromHash(String key) {
+        GameSessionDto session = cacheService.getObjectFromHash(key, GameSessionDto.class);
+        if (session == null) {
+            session = cacheService.getObject(key, GameSessionDto.class);
+            if (session != null) {
+                session.setVersion(null);
+            }
+            return session;
+        }
+        session.setPortfolio(cacheService.getObject(key + PORTFOLIO_KEY_SUFFIX, PortfolioDto.class));
+        return session;
+    }
+    
+    /**
+     * 해시 저장 방식 Compare-And-Set (해시 필드 + 포트폴리오 키를 원자적으로 저장)
+     */
+    private boolean compareAndSetSessionHash(String key, GameSessionDto sessionData, int ttl) {
+        long expectedVersion = sessionData.getVersion() == null ? -1 : sessionData.getVersion();
+        
+        Map<String, Object> fields = objectMapper.convertValue(sessionData, FIELD_MAP_TYPE);
+        fields.remove(VERSION_FIELD);
+        fields.remove(PORTFOLIO_FIELD);
+        
+        Map<String, Object> subKeys = new HashMap<>();
+        subKeys.put(key + PORTFOLIO_KEY_SUFFIX, sessionData.getPortfolio());
+        
+        long version = cacheService.compareAndSetHash(key, fields, VERSION_FIELD, expectedVersion,
+                subKeys, ttl, TimeUnit.SECONDS);
+        if (version < 0) {
+            return false;
+        }
+        sessionData.setVersion(version);
+        return true;
+    }
+    
+    /**
+     * 필드 맵을 세션 객체에 반영
+     */
+    private void applyFields(GameSessionDto session, Map<String, Object> fields) {
+        try {
+            objectMapper.updateValue(session, fields);
+        } catch (JsonMappingException e) {
+            throw new IllegalArgumentException("Invalid session fields: " + fields.keySet(), e);
+        }
     }
     
     /**
@@ -154,11 +411,23 @@ public class GameSessionService {
         String key = generateKey(uid, gameMode);
         log.info("Deleting game session: {}", key);
         
-        cacheService.delete(key);
+        cacheService.multiDelete(getSessionKeys(uid, gameMode));
         
         log.info("Game session deleted successfully: {}", key);
     }
     
+    /**
+     * 게임 세션을 구성하는 Redis 키 목록 (세션 + 버전 + 포트폴리오)
+     */
+    public List<String> getSessionKeys(String uid, GameMode gameMode) {
+        String key = generateKey(uid, gameMode);
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        keys.add(key + CacheService.VERSION_KEY_SUFFIX);
+        keys.add(key + PORTFOLIO_KEY_SUFFIX);
+        return keys;
+    }
+    
     /**
      * 게임 세션 존재 여부 확인
      */
@@ -167,6 +436,20 @@ public class GameSessionService {
         return session != null;
     }
     
+    /**
+     * 현재 세션 버전 조회 (세션이 없으면 0)
+     * json 저장 방식은 버전 키만, hash 저장 방식은 버전 필드만 읽음
+     */
+    public long getSessionVersion(String uid, GameMode gameMode) {
+        String key = generateKey(uid, gameMode);
+        if (!isHashStore()) {
+            return cacheService.getVersion(key);
+        }
+        GameSessionDto session = cacheService.getHashFields(key, GameSessionDto.class,
+                Collections.singletonList(VERSION_FIELD));
+        return session != null && session.getVersion() != null ? session.getVersion() : 0L;
+    }
+    
     /**
      * 라운드 증가
      */
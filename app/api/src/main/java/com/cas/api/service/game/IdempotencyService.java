@@ -0,0 +1,121 @@
+package com.cas.api.service.game;
+
+import com.cas.api.constant.GameConstants;
+import com.cas.api.dto.domain.IdempotencyRecordDto;
+import com.cas.api.enums.GameMode;
+import com.cas.common.infra.cache.CacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 멱등 요청 응답 캐시 Service
+ *
+ * Idempotency-Key 헤더가 있는 게임 변경 요청의 성공 응답을 세션 키 옆
+ * (game:session:{uid}:{mode}:idem:{handler}:{key})에 짧은 TTL 로 저장합니다.
+ * 같은 키로 재시도하면 액션/라운드 처리를 다시 실행하지 않고 저장된 응답을 그대로 돌려줍니다.
+ *
+ * - 키는 처리 메서드(handler)별로 구분 (같은 키를 다른 API 에 보내도 서로의 응답을 돌려주지 않음)
+ * - 요청 본문 해시를 함께 저장하여, 같은 키로 본문이 다른 요청이 오면 재생하지 않고 거부
+ * - 응답과 함께 저장 시점의 세션 버전을 기록 (어느 상태에서 만든 응답인지 추적)
+ * - 실패 응답은 저장하지 않음 (세션이 저장되지 않았으므로 재시도하면 다시 처리)
+ * - 같은 사용자의 요청은 @UserLock 으로 직렬화되므로 조회 후 저장 사이에 경합 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    /**
+     * 멱등 키 요청 헤더
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_:.-]{1,64}");
+
+    private final CacheService cacheService;
+    private final GameSessionService gameSessionService;
+
+    @Value("${idempotency.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 응답 보관 시간 (초)
+     */
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 멱등 키 형식 확인 (영문/숫자/_:.- 64자 이내, UUID 권장)
+     */
+    public boolean isValidKey(String idempotencyKey) {
+        return idempotencyKey != null && KEY_PATTERN.matcher(idempotencyKey).matches();
+    }
+
+    /**
+     * 저장된 응답 조회
+     *
+     * @param handler 처리 메서드 (예: CompetitionController.proceedRound)
+     * @return 저장된 응답 (없으면 null)
+     */
+    public IdempotencyRecordDto find(String uid, GameMode gameMode, String handler, String idempotencyKey) {
+        return cacheService.getObject(generateKey(uid, gameMode, handler, idempotencyKey), IdempotencyRecordDto.class);
+    }
+
+    /**
+     * 응답 저장 (현재 세션 버전, 요청 본문 해시와 함께)
+     *
+     * @param handler 처리 메서드
+     * @param requestHash 요청 본문 해시 (hashRequest)
+     * @param response 응답 본문 JSON
+     */
+    public void store(String uid, GameMode gameMode, String handler, String idempotencyKey,
+                      String requestHash, String response) {
+        String key = generateKey(uid, gameMode, handler, idempotencyKey);
+        try {
+            IdempotencyRecordDto record = IdempotencyRecordDto.builder()
+                    .sessionVersion(gameSessionService.getSessionVersion(uid, gameMode))
+                    .requestHash(requestHash)
+                    .response(response)
+                    .storedAt(LocalDateTime.now())
+                    .build();
+            cacheService.setObject(key, record, ttlSeconds, TimeUnit.SECONDS);
+            log.debug("Idempotent response stored: key={}, sessionVersion={}", key, record.getSessionVersion());
+        } catch (Exception e) {
+            // 저장 실패 시 같은 키로 재시도하면 다시 처리됨
+            log.error("Failed to store idempotent response. key={}", key, e);
+        }
+    }
+
+    /**
+     * 요청 본문 해시 (SHA-256 hex)
+     *
+     * @param request 요청 본문 JSON (본문이 없으면 null)
+     */
+    public String hashRequest(String request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((request != null ? request : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String generateKey(String uid, GameMode gameMode, String handler, String idempotencyKey) {
+        return String.format(GameConstants.REDIS_KEY_IDEMPOTENCY, uid, gameMode.getCode(), handler, idempotencyKey);
+    }
+}
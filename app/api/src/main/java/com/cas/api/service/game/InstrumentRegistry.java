@@ -0,0 +1,217 @@
+package com.cas.api.service.game;
+
+import com.cas.api.enums.GameMode;
+import com.cas.api.service.game.scenario.MarketScenario;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목/펀드 레지스트리 (불변, 시장 시나리오마다 1개)
+ *
+ * 문자열 ID(STOCK_01, FUND_02 ...)를 0부터 시작하는 연속 인덱스로 바꾸고,
+ * 이름 / 모드별 시작가 / 배당 라운드 / 펀드 구성은 인덱스 배열로 보관합니다.
+ * 서비스 내부 계산은 인덱스로 하고, JSON API 와 세션 데이터는 기존 문자열 ID 를 그대로 사용합니다.
+ */
+public final class InstrumentRegistry {
+
+    /** 시나리오에 시작가가 없을 때 사용하는 기본 시작가 / 시작 NAV */
+    public static final long DEFAULT_START_PRICE = 10000L;
+
+    private final String[] stockIds;
+    private final String[] stockNames;
+    private final int[][] stockDividendRounds;
+    private final Map<String, Integer> stockIndex;
+
+    private final String[] fundIds;
+    private final String[] fundNames;
+    private final int[][] fundDividendRounds;
+    private final Map<String, Integer> fundIndex;
+
+    /** [fund] → 구성 종목 인덱스 */
+    private final int[][] fundStocks;
+
+    /** [fund] → 구성 종목 비중 (fundStocks 와 같은 순서) */
+    private final double[][] fundWeights;
+
+    /** 모드 → [stock] 시작가 */
+    private final Map<GameMode, long[]> startPrices;
+
+    /** 모드 → 펀드 시작 NAV */
+    private final Map<GameMode, Long> startNavs;
+
+    private InstrumentRegistry(MarketScenario scenario) {
+        List<String> stocks = scenario.getStockIds();
+        stockIds = stocks.toArray(new String[0]);
+        stockNames = new String[stockIds.length];
+        stockDividendRounds = new int[stockIds.length][];
+        for (int s = 0; s < stockIds.length; s++) {
+            stockNames[s] = scenario.nameOf(stockIds[s]);
+            stockDividendRounds[s] = scenario.dividendRoundsOf(stockIds[s]);
+        }
+        stockIndex = indexOf(stockIds);
+
+        fundIds = scenario.getFundCompositions().keySet().toArray(new String[0]);
+        fundNames = new String[fundIds.length];
+        fundDividendRounds = new int[fundIds.length][];
+        fundStocks = new int[fundIds.length][];
+        fundWeights = new double[fundIds.length][];
+        for (int f = 0; f < fundIds.length; f++) {
+            fundNames[f] = scenario.nameOf(fundIds[f]);
+            fundDividendRounds[f] = scenario.dividendRoundsOf(fundIds[f]);
+
+            Map<String, Double> composition = scenario.getFundCompositions().get(fundIds[f]);
+            fundStocks[f] = new int[composition.size()];
+            fundWeights[f] = new double[composition.size()];
+            int i = 0;
+            for (Map.Entry<String, Double> weight : composition.entrySet()) {
+                int s = stocks.indexOf(weight.getKey());
+                if (s < 0) {
+                    throw new IllegalArgumentException("Unknown stock in fund " + fundIds[f] + ": " + weight.getKey());
+                }
+                fundStocks[f][i] = s;
+                fundWeights[f][i] = weight.getValue();
+                i++;
+            }
+        }
+        fundIndex = indexOf(fundIds);
+
+        startPrices = new EnumMap<>(GameMode.class);
+        startNavs = new EnumMap<>(GameMode.class);
+        for (Map.Entry<GameMode, MarketScenario.Mode> entry : scenario.getModes().entrySet()) {
+            long[] prices = new long[stockIds.length];
+            for (int s = 0; s < stockIds.length; s++) {
+                prices[s] = entry.getValue().getStartPrices().getOrDefault(stockIds[s], DEFAULT_START_PRICE);
+            }
+            startPrices.put(entry.getKey(), prices);
+            startNavs.put(entry.getKey(), entry.getValue().getStartNav());
+        }
+    }
+
+    /**
+     * 시나리오 → 레지스트리
+     */
+    static InstrumentRegistry of(MarketScenario scenario) {
+        return new InstrumentRegistry(scenario);
+    }
+
+    public int stockCount() {
+        return stockIds.length;
+    }
+
+    public int fundCount() {
+        return fundIds.length;
+    }
+
+    /**
+     * 종목 ID → 종목 인덱스 (없으면 -1)
+     */
+    public int stockIndex(String stockId) {
+        Integer index = stockId != null ? stockIndex.get(stockId) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 펀드 ID → 펀드 인덱스 (없으면 -1)
+     */
+    public int fundIndex(String fundId) {
+        Integer index = fundId != null ? fundIndex.get(fundId) : null;
+        return index != null ? index : -1;
+    }
+
+    public String stockId(int stockIndex) {
+        return stockIds[stockIndex];
+    }
+
+    public String fundId(int fundIndex) {
+        return fundIds[fundIndex];
+    }
+
+    public String stockName(int stockIndex) {
+        return stockNames[stockIndex];
+    }
+
+    public String fundName(int fundIndex) {
+        return fundNames[fundIndex];
+    }
+
+    /**
+     * 종목명 (등록되지 않은 종목은 ID)
+     */
+    public String stockName(String stockId) {
+        int index = stockIndex(stockId);
+        return index >= 0 ? stockNames[index] : stockId;
+    }
+
+    /**
+     * 펀드명 (등록되지 않은 펀드는 ID)
+     */
+    public String fundName(String fundId) {
+        int index = fundIndex(fundId);
+        return index >= 0 ? fundNames[index] : fundId;
+    }
+
+    /**
+     * 모드별 종목 시작가 (시나리오에 없는 모드는 기본 시작가)
+     */
+    public long startPrice(GameMode gameMode, int stockIndex) {
+        long[] prices = startPrices.get(gameMode);
+        return prices != null ? prices[stockIndex] : DEFAULT_START_PRICE;
+    }
+
+    /**
+     * 모드별 펀드 시작 NAV (시나리오에 없는 모드는 기본값)
+     */
+    public long startNav(GameMode gameMode) {
+        Long nav = startNavs.get(gameMode);
+        return nav != null ? nav : DEFAULT_START_PRICE;
+    }
+
+    /**
+     * 종목 배당 지급 라운드 여부
+     */
+    public boolean isStockDividendRound(int stockIndex, int round) {
+        return contains(stockDividendRounds[stockIndex], round);
+    }
+
+    /**
+     * 펀드 배당 지급 라운드 여부
+     */
+    public boolean isFundDividendRound(int fundIndex, int round) {
+        return contains(fundDividendRounds[fundIndex], round);
+    }
+
+    /**
+     * 펀드 구성 종목 인덱스 (복사하지 않으므로 수정 금지)
+     */
+    int[] fundStocks(int fundIndex) {
+        return fundStocks[fundIndex];
+    }
+
+    /**
+     * 펀드 구성 종목 비중 (fundStocks 와 같은 순서, 복사하지 않으므로 수정 금지)
+     */
+    double[] fundWeights(int fundIndex) {
+        return fundWeights[fundIndex];
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Integer> indexOf(String[] ids) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            index.put(ids[i], i);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -1,14 +1,21 @@
 package com.cas.api.service.game;
 
 import com.cas.api.dto.domain.*;
+import com.cas.api.dto.domain.PortfolioTotals.AssetClass;
 import com.cas.api.enums.GameMode;
+import com.cas.api.service.financial.FixedPoint;
 import com.cas.api.service.financial.FundService;
 import com.cas.api.service.financial.StockService;
+import com.cas.api.service.game.scenario.MarketScenario;
+import com.cas.api.service.game.scenario.MarketScenarioLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,640 +24,117 @@ import java.util.Map;
  * - 주식 시세 변동
  * - 펀드 기준가 변동
  * - 기준금리 변동
+ *
+ * 등락률/시작가/기준금리 원본은 시장 시나리오(MarketScenarioLoader)에서 읽고,
+ * 시세/NAV/기준금리는 모드별 시세 테이블(MarketPriceTable)로 미리 계산해 두고
+ * 조회 시에는 배열 인덱스로만 읽습니다. 시나리오가 교체되면 테이블도 통째로 다시 만듭니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class MarketEventService {
+public class MarketEventService implements InitializingBean {
     
     private final StockService stockService;
     private final FundService fundService;
+    private final MarketScenarioLoader marketScenarioLoader;
     
-    // 튜토리얼 모드 주식 등락률 (하드코딩)
-    // 라운드별, 종목별 등락률
-    private static final Map<String, BigDecimal[]> TUTORIAL_STOCK_CHANGE_RATES = new HashMap<>() {{
-        // 에버반도체 (UP)
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("0.056"),  // 1라운드: +5.6%
-            new BigDecimal("-0.034"), // 2라운드: -3.4%
-            new BigDecimal("0.059"),  // 3라운드: +5.9%
-            new BigDecimal("0.007"),  // 4라운드: +0.7%
-            new BigDecimal("0.044"),  // 5라운드: +4.4%
-            new BigDecimal("0.099")   // 6라운드: +9.9%
-        });
-        
-        // 케어금융 (UP)
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("0.081"),  // 1라운드: +8.1%
-            new BigDecimal("0.183"),  // 2라운드: +18.3%
-            new BigDecimal("0.179"),  // 3라운드: +17.9%
-            new BigDecimal("-0.088"), // 4라운드: -8.8%
-            new BigDecimal("-0.013"), // 5라운드: -1.3%
-            new BigDecimal("0.133")   // 6라운드: +13.3%
-        });
-        
-        // 아톰에너지 (UP)
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("0.085"),  // 1라운드: +8.5%
-            new BigDecimal("-0.030"), // 2라운드: -3.0%
-            new BigDecimal("-0.021"), // 3라운드: -2.1%
-            new BigDecimal("-0.070"), // 4라운드: -7.0%
-            new BigDecimal("0.045"),  // 5라운드: +4.5%
-            new BigDecimal("0.015")   // 6라운드: +1.5%
-        });
-        
-        // 피크건설 (DOWN)
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.005"),  // 1라운드: +0.5%
-            new BigDecimal("-0.160"), // 2라운드: -16.0%
-            new BigDecimal("-0.044"), // 3라운드: -4.4%
-            new BigDecimal("0.019"),  // 4라운드: +1.9%
-            new BigDecimal("-0.064"), // 5라운드: -6.4%
-            new BigDecimal("-0.029")  // 6라운드: -2.9%
-        });
-        
-        // 제네틱바이오 (DOWN)
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("-0.118"), // 1라운드: -11.8%
-            new BigDecimal("-0.157"), // 2라운드: -15.7%
-            new BigDecimal("-0.027"), // 3라운드: -2.7%
-            new BigDecimal("-0.638"), // 4라운드: -63.8%
-            new BigDecimal("0.460"),  // 5라운드: +46.0%
-            new BigDecimal("-0.061")  // 6라운드: -6.1%
-        });
-        
-        // 비트온엔터 (DOWN)
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.040"), // 1라운드: -4.0%
-            new BigDecimal("-0.100"), // 2라운드: -10.0%
-            new BigDecimal("-0.059"), // 3라운드: -5.9%
-            new BigDecimal("0.125"),  // 4라운드: +12.5%
-            new BigDecimal("-0.009"), // 5라운드: -0.9%
-            new BigDecimal("0.039")   // 6라운드: +3.9%
-        });
-        
-        // 웨이브조선 (UP)
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("0.140"),  // 1라운드: +14.0%
-            new BigDecimal("-0.010"), // 2라운드: -1.0%
-            new BigDecimal("0.240"),  // 3라운드: +24.0%
-            new BigDecimal("0.100"),  // 4라운드: +10.0%
-            new BigDecimal("-0.070"), // 5라운드: -7.0%
-            new BigDecimal("0.040")   // 6라운드: +4.0%
-        });
-    }};
-    
-    // 튜토리얼 모드 주식 시작가
-    private static final Map<String, Long> TUTORIAL_STOCK_START_PRICES = new HashMap<>() {{
-        put("STOCK_01", 50000L);  // 에버반도체
-        put("STOCK_02", 30000L);  // 케어금융
-        put("STOCK_03", 15000L);  // 아톰에너지
-        put("STOCK_04", 10000L);  // 피크건설
-        put("STOCK_05", 5000L);   // 제네틱바이오
-        put("STOCK_06", 25000L);  // 비트온엔터
-        put("STOCK_07", 20000L);  // 웨이브조선
-    }};
+    // 종목/펀드 레지스트리 + 모드별 시세 테이블 (시나리오 적용 시 통째로 교체, 교체 전까지 읽기 전용)
+    private volatile Market market;
     
-    // 튜토리얼 모드 기준금리
-    private static final BigDecimal[] TUTORIAL_BASE_RATES = new BigDecimal[] {
-        new BigDecimal("0.0175"), // 1라운드: 1.75%
-        new BigDecimal("0.015"),  // 2라운드: 1.50%
-        new BigDecimal("0.015"),  // 3라운드: 1.50%
-        new BigDecimal("0.015"),  // 4라운드: 1.50%
-        new BigDecimal("0.0125"), // 5라운드: 1.25%
-        new BigDecimal("0.0125")  // 6라운드: 1.25%
-    };
-    
-    // 경쟁모드 기준금리 (2019.01 ~ 2020.04, 16개월)
-    private static final BigDecimal[] COMPETITION_BASE_RATES_ALL = new BigDecimal[] {
-        new BigDecimal("0.0175"), // 2019.01
-        new BigDecimal("0.0175"), // 2019.02
-        new BigDecimal("0.0175"), // 2019.03
-        new BigDecimal("0.0175"), // 2019.04
-        new BigDecimal("0.0175"), // 2019.05
-        new BigDecimal("0.0175"), // 2019.06
-        new BigDecimal("0.015"),  // 2019.07
-        new BigDecimal("0.015"),  // 2019.08
-        new BigDecimal("0.015"),  // 2019.09
-        new BigDecimal("0.0125"), // 2019.10
-        new BigDecimal("0.0125"), // 2019.11
-        new BigDecimal("0.0125"), // 2020.01
-        new BigDecimal("0.0125"), // 2020.02
-        new BigDecimal("0.0075"), // 2020.03
-        new BigDecimal("0.0075"), // 2020.04
-        new BigDecimal("0.0075")  // 추가 (13개월 선택을 위해)
-    };
-    
-    // 경쟁모드 주식 시작가
-    private static final Map<String, Long> COMPETITION_STOCK_START_PRICES = new HashMap<>() {{
-        put("STOCK_01", 50000L);  // 에버반도체
-        put("STOCK_02", 30000L);  // 케어금융
-        put("STOCK_03", 15000L);  // 아톰에너지
-        put("STOCK_04", 10000L);  // 피크건설
-        put("STOCK_05", 5000L);   // 제네틱바이오
-        put("STOCK_06", 25000L);  // 비트온엔터
-        put("STOCK_07", 20000L);  // 웨이브조선
-    }};
-    
-    // ==================== 경쟁모드 주식 등락률 ====================
-    // Case 1: 2019.01~2020.01, UP 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE1_UP = new HashMap<>() {{
-        // 에버반도체 UP
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("-0.036"), // R1: 2019.01
-            new BigDecimal("0.042"),  // R2: 2019.02
-            new BigDecimal("0.000"),  // R3: 2019.03
-            new BigDecimal("0.159"),  // R4: 2019.04
-            new BigDecimal("0.038"),  // R5: 2019.05
-            new BigDecimal("0.056"),  // R6: 2019.06
-            new BigDecimal("-0.034"), // R7: 2019.07
-            new BigDecimal("0.059"),  // R8: 2019.08
-            new BigDecimal("0.007"),  // R9: 2019.09
-            new BigDecimal("0.044"),  // R10: 2019.10
-            new BigDecimal("0.099"),  // R11: 2019.11
-            new BigDecimal("-0.013")  // R12: 2019.12
-        });
-        
-        // 케어금융 UP
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.087"), // R1
-            new BigDecimal("-0.079"), // R2
-            new BigDecimal("-0.169"), // R3
-            new BigDecimal("0.065"),  // R4
-            new BigDecimal("0.100"),  // R5
-            new BigDecimal("0.081"),  // R6
-            new BigDecimal("0.183"),  // R7
-            new BigDecimal("0.179"),  // R8
-            new BigDecimal("-0.088"), // R9
-            new BigDecimal("-0.013"), // R10
-            new BigDecimal("0.133"),  // R11
-            new BigDecimal("-0.004")  // R12
-        });
+    /**
+     * 시나리오 하나로 만든 시장 데이터 (레지스트리와 시세 테이블은 항상 함께 교체)
+     */
+    private static final class Market {
         
-        // 아톰에너지 UP
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("0.061"),  // R1
-            new BigDecimal("0.061"),  // R2
-            new BigDecimal("-0.063"), // R3
-            new BigDecimal("-0.014"), // R4
-            new BigDecimal("-0.050"), // R5
-            new BigDecimal("0.085"),  // R6
-            new BigDecimal("-0.030"), // R7
-            new BigDecimal("-0.021"), // R8
-            new BigDecimal("-0.070"), // R9
-            new BigDecimal("0.045"),  // R10
-            new BigDecimal("0.015"),  // R11
-            new BigDecimal("0.055")   // R12
-        });
+        private final InstrumentRegistry registry;
         
-        // 피크건설 UP
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.002"),  // R1
-            new BigDecimal("0.000"),  // R2
-            new BigDecimal("0.048"),  // R3
-            new BigDecimal("0.041"),  // R4
-            new BigDecimal("0.044"),  // R5
-            new BigDecimal("0.058"),  // R6
-            new BigDecimal("0.074"),  // R7
-            new BigDecimal("0.044"),  // R8
-            new BigDecimal("0.053"),  // R9
-            new BigDecimal("0.071"),  // R10
-            new BigDecimal("-0.033"), // R11
-            new BigDecimal("-0.082")  // R12
-        });
+        private final Map<GameMode, MarketPriceTable> tables;
         
-        // 제네틱바이오 UP
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.181"),  // R1
-            new BigDecimal("0.140"),  // R2
-            new BigDecimal("0.016"),  // R3
-            new BigDecimal("0.073"),  // R4
-            new BigDecimal("0.245"),  // R5
-            new BigDecimal("-0.097"), // R6
-            new BigDecimal("0.171"),  // R7
-            new BigDecimal("0.157"),  // R8
-            new BigDecimal("-0.058"), // R9
-            new BigDecimal("0.042"),  // R10
-            new BigDecimal("0.325"),  // R11
-            new BigDecimal("0.089")   // R12
-        });
+        // 라운드 범위 밖 조회 시 펀드 NAV 변동률 (전 펀드 0)
+        private final Map<String, BigDecimal> zeroFundNavChangeRates;
         
-        // 비트온엔터 UP
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("0.017"),  // R1
-            new BigDecimal("-0.012"), // R2
-            new BigDecimal("-0.037"), // R3
-            new BigDecimal("-0.023"), // R4
-            new BigDecimal("-0.180"), // R5
-            new BigDecimal("0.020"),  // R6
-            new BigDecimal("-0.120"), // R7
-            new BigDecimal("0.065"),  // R8
-            new BigDecimal("0.025"),  // R9
-            new BigDecimal("0.085"),  // R10
-            new BigDecimal("0.122"),  // R11
-            new BigDecimal("-0.021")  // R12
-        });
+        private Market(InstrumentRegistry registry, Map<GameMode, MarketPriceTable> tables) {
+            this.registry = registry;
+            this.tables = Collections.unmodifiableMap(tables);
+            
+            Map<String, BigDecimal> zeroRates = new HashMap<>();
+            for (int f = 0; f < registry.fundCount(); f++) {
+                zeroRates.put(registry.fundId(f), BigDecimal.ZERO);
+            }
+            this.zeroFundNavChangeRates = Collections.unmodifiableMap(zeroRates);
+        }
         
-        // 웨이브조선 UP
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("-0.034"), // R1
-            new BigDecimal("0.049"),  // R2
-            new BigDecimal("0.044"),  // R3
-            new BigDecimal("-0.070"), // R4
-            new BigDecimal("-0.010"), // R5
-            new BigDecimal("0.140"),  // R6
-            new BigDecimal("-0.010"), // R7
-            new BigDecimal("0.240"),  // R8
-            new BigDecimal("0.100"),  // R9
-            new BigDecimal("-0.070"), // R10
-            new BigDecimal("0.040"),  // R11
-            new BigDecimal("-0.060")  // R12
-        });
-    }};
+        /**
+         * 모드별 시세 테이블 (미지원 모드는 null)
+         */
+        private MarketPriceTable tableOf(GameMode gameMode) {
+            return gameMode != null ? tables.get(gameMode) : null;
+        }
+    }
     
-    // Case 1: 2019.01~2020.01, DOWN 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE1_DOWN = new HashMap<>() {{
-        // 에버반도체 DOWN
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("-0.043"), // R1
-            new BigDecimal("0.010"),  // R2
-            new BigDecimal("-0.035"), // R3
-            new BigDecimal("-0.016"), // R4
-            new BigDecimal("0.012"),  // R5
-            new BigDecimal("0.034"),  // R6
-            new BigDecimal("-0.041"), // R7
-            new BigDecimal("-0.036"), // R8
-            new BigDecimal("0.008"),  // R9
-            new BigDecimal("-0.019"), // R10
-            new BigDecimal("0.038"),  // R11
-            new BigDecimal("-0.033")  // R12
-        });
-        
-        // 케어금융 DOWN
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.125"), // R1
-            new BigDecimal("-0.053"), // R2
-            new BigDecimal("-0.204"), // R3
-            new BigDecimal("0.103"),  // R4
-            new BigDecimal("0.082"),  // R5
-            new BigDecimal("-0.035"), // R6
-            new BigDecimal("-0.035"), // R7
-            new BigDecimal("-0.005"), // R8
-            new BigDecimal("0.014"),  // R9
-            new BigDecimal("0.036"),  // R10
-            new BigDecimal("0.106"),  // R11
-            new BigDecimal("-0.010")  // R12
-        });
-        
-        // 아톰에너지 DOWN
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("0.050"),  // R1
-            new BigDecimal("-0.003"), // R2
-            new BigDecimal("-0.045"), // R3
-            new BigDecimal("0.017"),  // R4
-            new BigDecimal("-0.096"), // R5
-            new BigDecimal("-0.036"), // R6
-            new BigDecimal("0.076"),  // R7
-            new BigDecimal("-0.035"), // R8
-            new BigDecimal("0.006"),  // R9
-            new BigDecimal("-0.036"), // R10
-            new BigDecimal("-0.084"), // R11
-            new BigDecimal("0.024")   // R12
-        });
-        
-        // 피크건설 DOWN
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.075"),  // R1
-            new BigDecimal("-0.090"), // R2
-            new BigDecimal("-0.005"), // R3
-            new BigDecimal("-0.047"), // R4
-            new BigDecimal("-0.011"), // R5
-            new BigDecimal("0.005"),  // R6
-            new BigDecimal("-0.160"), // R7
-            new BigDecimal("-0.044"), // R8
-            new BigDecimal("0.019"),  // R9
-            new BigDecimal("-0.064"), // R10
-            new BigDecimal("-0.029"), // R11
-            new BigDecimal("0.035")   // R12
-        });
+    /**
+     * 활성 시나리오로 시세 테이블 생성 + 시나리오 교체 시 재생성 등록
+     */
+    @Override
+    public void afterPropertiesSet() {
+        applyScenario(marketScenarioLoader.getActive());
+        marketScenarioLoader.addListener(this::applyScenario);
+    }
+    
+    /**
+     * 시나리오 → 종목/펀드 레지스트리 + 모드별 시세 테이블
+     * 모든 (시작 케이스, 패턴, 종목/펀드, 라운드) 조합의 종가 / NAV / 등락률 / 기준금리를 미리 계산
+     * 
+     * @param scenario 시장 시나리오
+     */
+    private void applyScenario(MarketScenario scenario) {
+        long startTime = System.currentTimeMillis();
         
-        // 제네틱바이오 DOWN
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.087"),  // R1
-            new BigDecimal("0.007"),  // R2
-            new BigDecimal("0.007"),  // R3
-            new BigDecimal("-0.070"), // R4
-            new BigDecimal("-0.252"), // R5
-            new BigDecimal("-0.118"), // R6
-            new BigDecimal("-0.157"), // R7
-            new BigDecimal("-0.027"), // R8
-            new BigDecimal("-0.638"), // R9
-            new BigDecimal("0.460"),  // R10
-            new BigDecimal("-0.061"), // R11
-            new BigDecimal("0.020")   // R12
-        });
+        InstrumentRegistry registry = InstrumentRegistry.of(scenario);
         
-        // 비트온엔터 DOWN
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.051"), // R1
-            new BigDecimal("-0.007"), // R2
-            new BigDecimal("0.081"),  // R3
-            new BigDecimal("-0.033"), // R4
-            new BigDecimal("-0.100"), // R5
-            new BigDecimal("-0.040"), // R6
-            new BigDecimal("-0.100"), // R7
-            new BigDecimal("-0.059"), // R8
-            new BigDecimal("0.125"),  // R9
-            new BigDecimal("-0.009"), // R10
-            new BigDecimal("0.039"),  // R11
-            new BigDecimal("0.088")   // R12
-        });
+        Map<GameMode, MarketPriceTable> built = new EnumMap<>(GameMode.class);
+        for (Map.Entry<GameMode, MarketScenario.Mode> entry : scenario.getModes().entrySet()) {
+            MarketScenario.Mode mode = entry.getValue();
+            built.put(entry.getKey(), new MarketPriceTable(registry, entry.getKey(), mode.getRounds(),
+                mode.getCaseCount(), mode.isPatterned(), mode::rates,
+                mode.getBaseRates(), stockService::calculateClosePrice));
+        }
+        market = new Market(registry, built);
         
-        // 웨이브조선 DOWN
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("0.166"),  // R1
-            new BigDecimal("-0.271"), // R2
-            new BigDecimal("-0.064"), // R3
-            new BigDecimal("0.045"),  // R4
-            new BigDecimal("-0.106"), // R5
-            new BigDecimal("-0.008"), // R6
-            new BigDecimal("-0.018"), // R7
-            new BigDecimal("-0.018"), // R8
-            new BigDecimal("0.137"),  // R9
-            new BigDecimal("-0.097"), // R10
-            new BigDecimal("-0.111"), // R11
-            new BigDecimal("0.048")   // R12
-        });
-    }};
-    
-    // Case 2: 2019.02~2020.02, UP 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE2_UP = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("0.042"), new BigDecimal("0.000"), new BigDecimal("0.159"), new BigDecimal("0.038"),
-            new BigDecimal("0.056"), new BigDecimal("-0.034"), new BigDecimal("0.059"), new BigDecimal("0.007"),
-            new BigDecimal("0.044"), new BigDecimal("0.099"), new BigDecimal("-0.013"), new BigDecimal("0.036")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.079"), new BigDecimal("-0.169"), new BigDecimal("0.065"), new BigDecimal("0.100"),
-            new BigDecimal("0.081"), new BigDecimal("0.183"), new BigDecimal("0.179"), new BigDecimal("-0.088"),
-            new BigDecimal("-0.013"), new BigDecimal("0.133"), new BigDecimal("-0.004"), new BigDecimal("0.006")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("0.061"), new BigDecimal("-0.063"), new BigDecimal("-0.014"), new BigDecimal("-0.050"),
-            new BigDecimal("0.085"), new BigDecimal("-0.030"), new BigDecimal("-0.021"), new BigDecimal("-0.070"),
-            new BigDecimal("0.045"), new BigDecimal("0.015"), new BigDecimal("0.055"), new BigDecimal("0.085")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.000"), new BigDecimal("0.048"), new BigDecimal("0.041"), new BigDecimal("0.044"),
-            new BigDecimal("0.058"), new BigDecimal("0.074"), new BigDecimal("0.044"), new BigDecimal("0.053"),
-            new BigDecimal("0.071"), new BigDecimal("-0.033"), new BigDecimal("-0.082"), new BigDecimal("-0.009")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.140"), new BigDecimal("0.016"), new BigDecimal("0.073"), new BigDecimal("0.245"),
-            new BigDecimal("-0.097"), new BigDecimal("0.171"), new BigDecimal("0.157"), new BigDecimal("-0.058"),
-            new BigDecimal("0.042"), new BigDecimal("0.325"), new BigDecimal("0.089"), new BigDecimal("-0.018")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.012"), new BigDecimal("-0.037"), new BigDecimal("-0.023"), new BigDecimal("-0.180"),
-            new BigDecimal("0.020"), new BigDecimal("-0.120"), new BigDecimal("0.065"), new BigDecimal("0.025"),
-            new BigDecimal("0.085"), new BigDecimal("0.122"), new BigDecimal("-0.021"), new BigDecimal("0.105")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("0.049"), new BigDecimal("0.044"), new BigDecimal("-0.070"), new BigDecimal("-0.010"),
-            new BigDecimal("0.140"), new BigDecimal("-0.010"), new BigDecimal("0.240"), new BigDecimal("0.100"),
-            new BigDecimal("-0.070"), new BigDecimal("0.040"), new BigDecimal("-0.060"), new BigDecimal("-0.050")
-        });
-    }};
-    
-    // Case 2: 2019.02~2020.02, DOWN 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE2_DOWN = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("0.010"), new BigDecimal("-0.035"), new BigDecimal("-0.016"), new BigDecimal("0.012"),
-            new BigDecimal("0.034"), new BigDecimal("-0.041"), new BigDecimal("-0.036"), new BigDecimal("0.008"),
-            new BigDecimal("-0.019"), new BigDecimal("0.038"), new BigDecimal("-0.033"), new BigDecimal("-0.036")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.053"), new BigDecimal("-0.204"), new BigDecimal("0.103"), new BigDecimal("0.082"),
-            new BigDecimal("-0.035"), new BigDecimal("-0.035"), new BigDecimal("-0.005"), new BigDecimal("0.014"),
-            new BigDecimal("0.036"), new BigDecimal("0.106"), new BigDecimal("-0.010"), new BigDecimal("-0.096")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("-0.003"), new BigDecimal("-0.045"), new BigDecimal("0.017"), new BigDecimal("-0.096"),
-            new BigDecimal("-0.036"), new BigDecimal("0.076"), new BigDecimal("-0.035"), new BigDecimal("0.006"),
-            new BigDecimal("-0.036"), new BigDecimal("-0.084"), new BigDecimal("0.024"), new BigDecimal("-0.133")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("-0.090"), new BigDecimal("-0.005"), new BigDecimal("-0.047"), new BigDecimal("-0.011"),
-            new BigDecimal("0.005"), new BigDecimal("-0.160"), new BigDecimal("-0.044"), new BigDecimal("0.019"),
-            new BigDecimal("-0.064"), new BigDecimal("-0.029"), new BigDecimal("0.035"), new BigDecimal("-0.098")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.007"), new BigDecimal("0.007"), new BigDecimal("-0.070"), new BigDecimal("-0.252"),
-            new BigDecimal("-0.118"), new BigDecimal("-0.157"), new BigDecimal("-0.027"), new BigDecimal("-0.638"),
-            new BigDecimal("0.460"), new BigDecimal("-0.061"), new BigDecimal("0.020"), new BigDecimal("-0.167")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.007"), new BigDecimal("0.081"), new BigDecimal("-0.033"), new BigDecimal("-0.100"),
-            new BigDecimal("-0.040"), new BigDecimal("-0.100"), new BigDecimal("-0.059"), new BigDecimal("0.125"),
-            new BigDecimal("-0.009"), new BigDecimal("0.039"), new BigDecimal("0.088"), new BigDecimal("-0.020")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("-0.271"), new BigDecimal("-0.064"), new BigDecimal("0.045"), new BigDecimal("-0.106"),
-            new BigDecimal("-0.008"), new BigDecimal("-0.018"), new BigDecimal("-0.018"), new BigDecimal("0.137"),
-            new BigDecimal("-0.097"), new BigDecimal("-0.111"), new BigDecimal("0.048"), new BigDecimal("-0.044")
-        });
-    }};
-    
-    // Case 3: 2019.03~2020.03, UP 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE3_UP = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("0.000"), new BigDecimal("0.159"), new BigDecimal("0.038"), new BigDecimal("0.056"),
-            new BigDecimal("-0.034"), new BigDecimal("0.059"), new BigDecimal("0.007"), new BigDecimal("0.044"),
-            new BigDecimal("0.099"), new BigDecimal("-0.013"), new BigDecimal("0.036"), new BigDecimal("0.082")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.169"), new BigDecimal("0.065"), new BigDecimal("0.100"), new BigDecimal("0.081"),
-            new BigDecimal("0.183"), new BigDecimal("0.179"), new BigDecimal("-0.088"), new BigDecimal("-0.013"),
-            new BigDecimal("0.133"), new BigDecimal("-0.004"), new BigDecimal("0.006"), new BigDecimal("-0.017")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("-0.063"), new BigDecimal("-0.014"), new BigDecimal("-0.050"), new BigDecimal("0.085"),
-            new BigDecimal("-0.030"), new BigDecimal("-0.021"), new BigDecimal("-0.070"), new BigDecimal("0.045"),
-            new BigDecimal("0.015"), new BigDecimal("0.055"), new BigDecimal("0.085"), new BigDecimal("0.115")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.048"), new BigDecimal("0.041"), new BigDecimal("0.044"), new BigDecimal("0.058"),
-            new BigDecimal("0.074"), new BigDecimal("0.044"), new BigDecimal("0.053"), new BigDecimal("0.071"),
-            new BigDecimal("-0.033"), new BigDecimal("-0.082"), new BigDecimal("-0.009"), new BigDecimal("-0.073")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.016"), new BigDecimal("0.073"), new BigDecimal("0.245"), new BigDecimal("-0.097"),
-            new BigDecimal("0.171"), new BigDecimal("0.157"), new BigDecimal("-0.058"), new BigDecimal("0.042"),
-            new BigDecimal("0.325"), new BigDecimal("0.089"), new BigDecimal("-0.018"), new BigDecimal("0.213")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.037"), new BigDecimal("-0.023"), new BigDecimal("-0.180"), new BigDecimal("0.020"),
-            new BigDecimal("-0.120"), new BigDecimal("0.065"), new BigDecimal("0.025"), new BigDecimal("0.085"),
-            new BigDecimal("0.122"), new BigDecimal("-0.021"), new BigDecimal("0.105"), new BigDecimal("-0.090")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("0.044"), new BigDecimal("-0.070"), new BigDecimal("-0.010"), new BigDecimal("0.140"),
-            new BigDecimal("-0.010"), new BigDecimal("0.240"), new BigDecimal("0.100"), new BigDecimal("-0.070"),
-            new BigDecimal("0.040"), new BigDecimal("-0.060"), new BigDecimal("-0.050"), new BigDecimal("-0.120")
-        });
-    }};
-    
-    // Case 3: 2019.03~2020.03, DOWN 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE3_DOWN = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("-0.035"), new BigDecimal("-0.016"), new BigDecimal("0.012"), new BigDecimal("0.034"),
-            new BigDecimal("-0.041"), new BigDecimal("-0.036"), new BigDecimal("0.008"), new BigDecimal("-0.019"),
-            new BigDecimal("0.038"), new BigDecimal("-0.033"), new BigDecimal("-0.036"), new BigDecimal("-0.074")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("-0.204"), new BigDecimal("0.103"), new BigDecimal("0.082"), new BigDecimal("-0.035"),
-            new BigDecimal("-0.035"), new BigDecimal("-0.005"), new BigDecimal("0.014"), new BigDecimal("0.036"),
-            new BigDecimal("0.106"), new BigDecimal("-0.010"), new BigDecimal("-0.096"), new BigDecimal("0.089")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("-0.045"), new BigDecimal("0.017"), new BigDecimal("-0.096"), new BigDecimal("-0.036"),
-            new BigDecimal("0.076"), new BigDecimal("-0.035"), new BigDecimal("0.006"), new BigDecimal("-0.036"),
-            new BigDecimal("-0.084"), new BigDecimal("0.024"), new BigDecimal("-0.133"), new BigDecimal("-0.131")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("-0.005"), new BigDecimal("-0.047"), new BigDecimal("-0.011"), new BigDecimal("0.005"),
-            new BigDecimal("-0.160"), new BigDecimal("-0.044"), new BigDecimal("0.019"), new BigDecimal("-0.064"),
-            new BigDecimal("-0.029"), new BigDecimal("0.035"), new BigDecimal("-0.098"), new BigDecimal("-0.063")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.007"), new BigDecimal("-0.070"), new BigDecimal("-0.252"), new BigDecimal("-0.118"),
-            new BigDecimal("-0.157"), new BigDecimal("-0.027"), new BigDecimal("-0.638"), new BigDecimal("0.460"),
-            new BigDecimal("-0.061"), new BigDecimal("0.020"), new BigDecimal("-0.167"), new BigDecimal("-0.196")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("0.081"), new BigDecimal("-0.033"), new BigDecimal("-0.100"), new BigDecimal("-0.040"),
-            new BigDecimal("-0.100"), new BigDecimal("-0.059"), new BigDecimal("0.125"), new BigDecimal("-0.009"),
-            new BigDecimal("0.039"), new BigDecimal("0.088"), new BigDecimal("-0.020"), new BigDecimal("-0.120")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("-0.064"), new BigDecimal("0.045"), new BigDecimal("-0.106"), new BigDecimal("-0.008"),
-            new BigDecimal("-0.018"), new BigDecimal("-0.018"), new BigDecimal("0.137"), new BigDecimal("-0.097"),
-            new BigDecimal("-0.111"), new BigDecimal("0.048"), new BigDecimal("-0.044"), new BigDecimal("-0.084")
-        });
-    }};
-    
-    // Case 4: 2019.04~2020.04, UP 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE4_UP = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("0.159"), new BigDecimal("0.038"), new BigDecimal("0.056"), new BigDecimal("-0.034"),
-            new BigDecimal("0.059"), new BigDecimal("0.007"), new BigDecimal("0.044"), new BigDecimal("0.099"),
-            new BigDecimal("-0.013"), new BigDecimal("0.036"), new BigDecimal("0.082"), new BigDecimal("-0.096")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("0.065"), new BigDecimal("0.100"), new BigDecimal("0.081"), new BigDecimal("0.183"),
-            new BigDecimal("0.179"), new BigDecimal("-0.088"), new BigDecimal("-0.013"), new BigDecimal("0.133"),
-            new BigDecimal("-0.004"), new BigDecimal("0.006"), new BigDecimal("-0.017"), new BigDecimal("-0.169")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("-0.014"), new BigDecimal("-0.050"), new BigDecimal("0.085"), new BigDecimal("-0.030"),
-            new BigDecimal("-0.021"), new BigDecimal("-0.070"), new BigDecimal("0.045"), new BigDecimal("0.015"),
-            new BigDecimal("0.055"), new BigDecimal("0.085"), new BigDecimal("0.115"), new BigDecimal("-0.171")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("0.041"), new BigDecimal("0.044"), new BigDecimal("0.058"), new BigDecimal("0.074"),
-            new BigDecimal("0.044"), new BigDecimal("0.053"), new BigDecimal("0.071"), new BigDecimal("-0.033"),
-            new BigDecimal("-0.082"), new BigDecimal("-0.009"), new BigDecimal("-0.073"), new BigDecimal("-0.023")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("0.073"), new BigDecimal("0.245"), new BigDecimal("-0.097"), new BigDecimal("0.171"),
-            new BigDecimal("0.157"), new BigDecimal("-0.058"), new BigDecimal("0.042"), new BigDecimal("0.325"),
-            new BigDecimal("0.089"), new BigDecimal("-0.018"), new BigDecimal("0.213"), new BigDecimal("2.044")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.023"), new BigDecimal("-0.180"), new BigDecimal("0.020"), new BigDecimal("-0.120"),
-            new BigDecimal("0.065"), new BigDecimal("0.025"), new BigDecimal("0.085"), new BigDecimal("0.122"),
-            new BigDecimal("-0.021"), new BigDecimal("0.105"), new BigDecimal("-0.090"), new BigDecimal("-0.247")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("-0.070"), new BigDecimal("-0.010"), new BigDecimal("0.140"), new BigDecimal("-0.010"),
-            new BigDecimal("0.240"), new BigDecimal("0.100"), new BigDecimal("-0.070"), new BigDecimal("0.040"),
-            new BigDecimal("-0.060"), new BigDecimal("-0.050"), new BigDecimal("-0.120"), new BigDecimal("-0.253")
-        });
-    }};
+        log.info("Market price tables built: stocks={}, funds={}, modes={}, {}ms", registry.stockCount(),
+            registry.fundCount(), built.keySet(), System.currentTimeMillis() - startTime);
+    }
     
-    // Case 4: 2019.04~2020.04, DOWN 패턴
-    private static final Map<String, BigDecimal[]> COMPETITION_STOCK_CHANGE_RATES_CASE4_DOWN = new HashMap<>() {{
-        put("STOCK_01", new BigDecimal[] {
-            new BigDecimal("-0.016"), new BigDecimal("0.012"), new BigDecimal("0.034"), new BigDecimal("-0.041"),
-            new BigDecimal("-0.036"), new BigDecimal("0.008"), new BigDecimal("-0.019"), new BigDecimal("0.038"),
-            new BigDecimal("-0.033"), new BigDecimal("-0.036"), new BigDecimal("-0.074"), new BigDecimal("-0.167")
-        });
-        put("STOCK_02", new BigDecimal[] {
-            new BigDecimal("0.103"), new BigDecimal("0.082"), new BigDecimal("-0.035"), new BigDecimal("-0.035"),
-            new BigDecimal("-0.005"), new BigDecimal("0.014"), new BigDecimal("0.036"), new BigDecimal("0.106"),
-            new BigDecimal("-0.010"), new BigDecimal("-0.096"), new BigDecimal("0.089"), new BigDecimal("-0.204")
-        });
-        put("STOCK_03", new BigDecimal[] {
-            new BigDecimal("0.017"), new BigDecimal("-0.096"), new BigDecimal("-0.036"), new BigDecimal("0.076"),
-            new BigDecimal("-0.035"), new BigDecimal("0.006"), new BigDecimal("-0.036"), new BigDecimal("-0.084"),
-            new BigDecimal("0.024"), new BigDecimal("-0.133"), new BigDecimal("-0.131"), new BigDecimal("-0.230")
-        });
-        put("STOCK_04", new BigDecimal[] {
-            new BigDecimal("-0.047"), new BigDecimal("-0.011"), new BigDecimal("0.005"), new BigDecimal("-0.160"),
-            new BigDecimal("-0.044"), new BigDecimal("0.019"), new BigDecimal("-0.064"), new BigDecimal("-0.029"),
-            new BigDecimal("0.035"), new BigDecimal("-0.098"), new BigDecimal("-0.063"), new BigDecimal("0.234")
-        });
-        put("STOCK_05", new BigDecimal[] {
-            new BigDecimal("-0.070"), new BigDecimal("-0.252"), new BigDecimal("-0.118"), new BigDecimal("-0.157"),
-            new BigDecimal("-0.027"), new BigDecimal("-0.638"), new BigDecimal("0.460"), new BigDecimal("-0.061"),
-            new BigDecimal("0.020"), new BigDecimal("-0.167"), new BigDecimal("-0.196"), new BigDecimal("0.106")
-        });
-        put("STOCK_06", new BigDecimal[] {
-            new BigDecimal("-0.033"), new BigDecimal("-0.100"), new BigDecimal("-0.040"), new BigDecimal("-0.100"),
-            new BigDecimal("-0.059"), new BigDecimal("0.125"), new BigDecimal("-0.009"), new BigDecimal("0.039"),
-            new BigDecimal("0.088"), new BigDecimal("-0.020"), new BigDecimal("-0.120"), new BigDecimal("0.200")
-        });
-        put("STOCK_07", new BigDecimal[] {
-            new BigDecimal("0.045"), new BigDecimal("-0.106"), new BigDecimal("-0.008"), new BigDecimal("-0.018"),
-            new BigDecimal("-0.018"), new BigDecimal("0.137"), new BigDecimal("-0.097"), new BigDecimal("-0.111"),
-            new BigDecimal("0.048"), new BigDecimal("-0.044"), new BigDecimal("-0.084"), new BigDecimal("-0.318")
-        });
-    }};
+    /**
+     * 활성 시나리오의 종목/펀드 레지스트리
+     */
+    public InstrumentRegistry getInstrumentRegistry() {
+        return market.registry;
+    }
     
     /**
-     * 경쟁모드 주식 등락률 선택 헬퍼
-     * 
-     * @param stockId 주식 ID
-     * @param pattern UP 또는 DOWN
-     * @param startCase 시작 케이스 (1~4)
-     * @return 등락률 배열
+     * 시작 케이스 → 테이블 케이스 인덱스 (케이스가 여러 개인 모드만 사용, 잘못된 값은 1)
      */
-    private BigDecimal[] getCompetitionStockChangeRates(String stockId, String pattern, Integer startCase) {
-        if (startCase == null || startCase < 1 || startCase > 4) {
+    private int caseIndexOf(MarketPriceTable table, Integer startCase) {
+        if (startCase == null || table.getCaseCount() == 1) {
+            return 0;
+        }
+        int caseIndex = table.caseIndex(startCase);
+        if (caseIndex < 0) {
             log.warn("Invalid startCase, defaulting to 1: {}", startCase);
-            startCase = 1;
+            return 0;
         }
-        
-        boolean isUp = "UP".equals(pattern);
-        
-        switch (startCase) {
-            case 1:
-                return isUp ? COMPETITION_STOCK_CHANGE_RATES_CASE1_UP.get(stockId) 
-                            : COMPETITION_STOCK_CHANGE_RATES_CASE1_DOWN.get(stockId);
-            case 2:
-                return isUp ? COMPETITION_STOCK_CHANGE_RATES_CASE2_UP.get(stockId) 
-                            : COMPETITION_STOCK_CHANGE_RATES_CASE2_DOWN.get(stockId);
-            case 3:
-                return isUp ? COMPETITION_STOCK_CHANGE_RATES_CASE3_UP.get(stockId) 
-                            : COMPETITION_STOCK_CHANGE_RATES_CASE3_DOWN.get(stockId);
-            case 4:
-                return isUp ? COMPETITION_STOCK_CHANGE_RATES_CASE4_UP.get(stockId) 
-                            : COMPETITION_STOCK_CHANGE_RATES_CASE4_DOWN.get(stockId);
-            default:
-                log.warn("Unexpected startCase: {}, using case 1", startCase);
-                return isUp ? COMPETITION_STOCK_CHANGE_RATES_CASE1_UP.get(stockId) 
-                            : COMPETITION_STOCK_CHANGE_RATES_CASE1_DOWN.get(stockId);
+        return caseIndex;
+    }
+    
+    /**
+     * 종목 패턴 (패턴 사용 모드만, 패턴 맵이 있으면 "UP" 이 아닌 값은 DOWN)
+     */
+    private int stockPatternOf(MarketPriceTable table, Map<String, String> stockPatterns, String stockId) {
+        if (table.isPatterned() && stockPatterns != null && !"UP".equals(stockPatterns.get(stockId))) {
+            return MarketPriceTable.PATTERN_DOWN;
         }
+        return MarketPriceTable.PATTERN_UP;
     }
     
     /**
@@ -670,88 +154,21 @@ public class MarketEventService {
             return;
         }
         
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null) {
+            log.warn("Stock price update not implemented for mode: {}", gameMode);
+            return;
+        }
+        int caseIndex = caseIndexOf(table, session.getStockStartCase());
+        
         for (StockHoldingDto stock : portfolio.getStocks()) {
-            String stockId = stock.getStockId();
-            
-            // 이전 시가 (현재 currentPrice)
-            Long previousPrice = stock.getCurrentPrice();
-            
-            // 등락률 가져오기 (모드별)
-            BigDecimal[] changeRates;
-            int maxRound;
-            
-            if (gameMode == GameMode.TUTORIAL) {
-                changeRates = TUTORIAL_STOCK_CHANGE_RATES.get(stockId);
-                maxRound = 6;
-            } else if (gameMode == GameMode.COMPETITION) {
-                // 세션의 패턴 정보 사용
-                String pattern = session.getStockPatterns() != null 
-                    ? session.getStockPatterns().get(stockId) 
-                    : "UP";
-                Integer startCase = session.getStockStartCase() != null 
-                    ? session.getStockStartCase() 
-                    : 1;
-                
-                changeRates = getCompetitionStockChangeRates(stockId, pattern, startCase);
-                maxRound = 12;
-                
-                log.debug("Using competition pattern: stockId={}, pattern={}, case={}", 
-                    stockId, pattern, startCase);
-            } else {
-                log.warn("Stock price update not implemented for mode: {}", gameMode);
-                continue;
-            }
-            
-            if (changeRates == null || currentRound < 1 || currentRound > maxRound) {
-                log.warn("Change rate not found: stockId={}, round={}, mode={}", stockId, currentRound, gameMode);
-                continue;
+            long previousEvaluation = PortfolioTotals.amountOf(stock.getEvaluationAmount());
+            if (revalueStock(table, caseIndex, session, stock)) {
+                portfolio.adjustTotal(AssetClass.STOCK, stock.getEvaluationAmount() - previousEvaluation);
             }
-            
-            BigDecimal changeRate = changeRates[currentRound - 1];
-            
-            // 새로운 종가 계산 (StockService에서 이미 반올림 적용됨)
-            Long newPrice = stockService.calculateClosePrice(
-                BigDecimal.valueOf(previousPrice), 
-                changeRate
-            ).longValue();
-            
-            // 평가금액 및 손익 업데이트
-            stock.setCurrentPrice(newPrice);
-            stock.setEvaluationAmount(newPrice * stock.getQuantity());
-            
-            Long totalCost = stock.getAvgPrice() * stock.getQuantity();
-            stock.setProfitLoss(stock.getEvaluationAmount() - totalCost);
-            stock.setReturnRate((double) stock.getProfitLoss() / totalCost);
-            
-            log.debug("Stock updated: stockId={}, {} -> {}, changeRate={}%", 
-                stockId, previousPrice, newPrice, changeRate.multiply(new BigDecimal("100")));
         }
     }
     
-    // 펀드 구성 정보 (펀드ID -> 구성 종목 및 비율)
-    private static final Map<String, Map<String, Double>> FUND_COMPOSITIONS = new HashMap<>() {{
-        // FUND_01: 성장형 (UP 종목 중심)
-        put("FUND_01", new HashMap<>() {{
-            put("STOCK_01", 0.30); // 에버반도체 30%
-            put("STOCK_02", 0.30); // 케어금융 30%
-            put("STOCK_07", 0.40); // 웨이브조선 40%
-        }});
-        
-        // FUND_02: 안정형 (혼합)
-        put("FUND_02", new HashMap<>() {{
-            put("STOCK_03", 0.40); // 아톰에너지 40%
-            put("STOCK_04", 0.30); // 피크건설 30%
-            put("STOCK_06", 0.30); // 비트온엔터 30%
-        }});
-        
-        // FUND_03: 고위험 고수익형 (변동성 큰 종목)
-        put("FUND_03", new HashMap<>() {{
-            put("STOCK_02", 0.40); // 케어금융 40%
-            put("STOCK_05", 0.30); // 제네틱바이오 30%
-            put("STOCK_07", 0.30); // 웨이브조선 30%
-        }});
-    }};
-    
     /**
      * 라운드 시작 시 펀드 기준가 업데이트
      * 
@@ -769,53 +186,162 @@ public class MarketEventService {
             return;
         }
         
-        // 주식 등락률 조회
-        Map<String, BigDecimal> stockChangeRates = getStockChangeRates(session);
+        // 펀드 NAV 변동률 (구성 종목의 가중평균, 테이블에 미리 계산됨 / 라운드 범위 밖이면 0)
+        Market market = this.market;
+        MarketPriceTable table = market.tableOf(gameMode);
+        boolean hasRates = table != null && currentRound >= 1 && currentRound <= table.getRounds();
+        int caseIndex = hasRates ? caseIndexOf(table, session.getStockStartCase()) : 0;
+        int mask = hasRates ? table.patternMask(session.getStockPatterns()) : 0;
         
         for (FundHoldingDto fund : portfolio.getFunds()) {
-            String fundId = fund.getFundId();
-            
-            // 펀드 구성 정보 조회
-            Map<String, Double> composition = FUND_COMPOSITIONS.get(fundId);
-            if (composition == null) {
-                log.warn("Fund composition not found: fundId={}", fundId);
-                continue;
+            long previousEvaluation = PortfolioTotals.amountOf(fund.getEvaluationAmount());
+            if (revalueFund(market.registry, hasRates ? table : null, caseIndex, mask, currentRound, fund)) {
+                portfolio.adjustTotal(AssetClass.FUND, fund.getEvaluationAmount() - previousEvaluation);
             }
-            
-            // 펀드 NAV 변동률 계산 (구성 종목의 가중평균)
-            BigDecimal navChangeRate = BigDecimal.ZERO;
-            for (Map.Entry<String, Double> entry : composition.entrySet()) {
-                String stockId = entry.getKey();
-                Double weight = entry.getValue();
-                
-                BigDecimal stockChangeRate = stockChangeRates.get(stockId);
-                if (stockChangeRate != null) {
-                    navChangeRate = navChangeRate.add(
-                        stockChangeRate.multiply(BigDecimal.valueOf(weight))
-                    );
+        }
+    }
+    
+    /**
+     * 라운드 시세 재평가 (단일 패스)
+     * 주식 시세 / 펀드 NAV 변동을 반영하고 평가금액 / 손익 / 수익률을 계산하면서,
+     * 같은 순회에서 자산군별 합계(PortfolioTotals)를 새로 만들어 포트폴리오에 설정합니다.
+     * 
+     * updateStockPrices + updateFundNavs + 합계 전체 재계산과 결과가 같고, 보유 자산은 한 번씩만 방문합니다.
+     * 
+     * @param session 게임 세션
+     * @param portfolio 포트폴리오
+     */
+    public void revaluePortfolio(GameSessionDto session, PortfolioDto portfolio) {
+        GameMode gameMode = session.getGameMode();
+        int currentRound = session.getCurrentRound();
+        
+        Market market = this.market;
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null) {
+            log.warn("Market revaluation not implemented for mode: {}", gameMode);
+        }
+        boolean hasRates = table != null && currentRound >= 1 && currentRound <= table.getRounds();
+        int caseIndex = table != null ? caseIndexOf(table, session.getStockStartCase()) : 0;
+        int mask = hasRates ? table.patternMask(session.getStockPatterns()) : 0;
+        
+        PortfolioTotals totals = new PortfolioTotals();
+        
+        if (portfolio.getStocks() != null) {
+            for (StockHoldingDto stock : portfolio.getStocks()) {
+                if (table != null) {
+                    revalueStock(table, caseIndex, session, stock);
                 }
+                totals.add(AssetClass.STOCK, PortfolioTotals.amountOf(stock.getEvaluationAmount()));
+            }
+        }
+        
+        if (portfolio.getFunds() != null) {
+            for (FundHoldingDto fund : portfolio.getFunds()) {
+                revalueFund(market.registry, hasRates ? table : null, caseIndex, mask, currentRound, fund);
+                totals.add(AssetClass.FUND, PortfolioTotals.amountOf(fund.getEvaluationAmount()));
             }
-            
-            // 이전 NAV
-            Long previousNav = fund.getCurrentNav();
-            
-            // 새로운 NAV 계산 (반올림)
-            BigDecimal newNav = BigDecimal.valueOf(previousNav)
-                .multiply(BigDecimal.ONE.add(navChangeRate))
-                .setScale(0, java.math.RoundingMode.HALF_UP);
-            Long newNavLong = newNav.longValue();
-            
-            // 평가금액 및 손익 업데이트
-            fund.setCurrentNav(newNavLong);
-            fund.setEvaluationAmount(newNavLong * fund.getShares());
-            
-            Long totalCost = fund.getAvgNav() * fund.getShares();
-            fund.setProfitLoss(fund.getEvaluationAmount() - totalCost);
-            fund.setReturnRate((double) fund.getProfitLoss() / totalCost);
-            
-            log.debug("Fund updated: fundId={}, NAV {} -> {}, changeRate={}%", 
-                fundId, previousNav, newNavLong, navChangeRate.multiply(new BigDecimal("100")));
         }
+        
+        // 예금 / 적금 / 채권 / 연금은 라운드 시작 시 평가금액 변동 없음 (합계만 집계)
+        if (portfolio.getDeposits() != null) {
+            for (DepositDto deposit : portfolio.getDeposits()) {
+                totals.add(AssetClass.DEPOSIT, PortfolioTotals.amountOf(deposit.getBalance()));
+            }
+        }
+        if (portfolio.getSavings() != null) {
+            for (SavingDto saving : portfolio.getSavings()) {
+                totals.add(AssetClass.SAVING, PortfolioTotals.amountOf(saving.getBalance()));
+            }
+        }
+        if (portfolio.getBonds() != null) {
+            for (BondDto bond : portfolio.getBonds()) {
+                totals.add(AssetClass.BOND, PortfolioTotals.amountOf(bond.getEvaluationAmount()));
+            }
+        }
+        if (portfolio.getPensions() != null) {
+            for (PensionDto pension : portfolio.getPensions()) {
+                totals.add(AssetClass.PENSION, PortfolioTotals.amountOf(pension.getEvaluationAmount()));
+            }
+        }
+        
+        portfolio.setTotals(totals);
+        
+        log.info("Portfolio revalued: mode={}, round={}, {}", gameMode, currentRound, totals);
+    }
+    
+    /**
+     * 주식 1종목 재평가 (종가 반영 + 평가금액 / 손익 / 수익률)
+     * 
+     * @return 반영 여부 (등락률이 없으면 false, 보유 정보 변경 없음)
+     */
+    private boolean revalueStock(MarketPriceTable table, int caseIndex, GameSessionDto session, StockHoldingDto stock) {
+        String stockId = stock.getStockId();
+        int currentRound = session.getCurrentRound();
+        
+        // 이전 시가 (현재 currentPrice)
+        Long previousPrice = stock.getCurrentPrice();
+        
+        // 세션의 패턴 정보 사용 (경쟁모드)
+        int pattern = stockPatternOf(table, session.getStockPatterns(), stockId);
+        
+        int stockIndex = table.getRegistry().stockIndex(stockId);
+        if (stockIndex < 0 || currentRound < 1 || currentRound > table.getRounds()
+                || table.stockRate(caseIndex, pattern, stockIndex, currentRound) == null) {
+            log.warn("Change rate not found: stockId={}, round={}, mode={}", stockId, currentRound, session.getGameMode());
+            return false;
+        }
+        long changeRate = table.stockRateFixed(caseIndex, pattern, stockIndex, currentRound);
+        
+        // 새로운 종가 계산 (고정소수점, 원 단위 반올림)
+        long newPrice = stockService.calculateClosePrice(previousPrice, changeRate);
+        
+        // 평가금액 및 손익 업데이트
+        stock.setCurrentPrice(newPrice);
+        stock.setEvaluationAmount(newPrice * stock.getQuantity());
+        
+        Long totalCost = stock.getAvgPrice() * stock.getQuantity();
+        stock.setProfitLoss(stock.getEvaluationAmount() - totalCost);
+        stock.setReturnRate((double) stock.getProfitLoss() / totalCost);
+        
+        log.debug("Stock updated: stockId={}, {} -> {}, changeRate={}", 
+            stockId, previousPrice, newPrice, table.stockRate(caseIndex, pattern, stockIndex, currentRound));
+        return true;
+    }
+    
+    /**
+     * 펀드 1종목 재평가 (NAV 반영 + 평가금액 / 손익 / 수익률)
+     * 
+     * @param table 시세 테이블 (라운드 범위 밖 등 변동률이 없으면 null, 이 경우 NAV 유지)
+     * @return 반영 여부 (등록되지 않은 펀드면 false, 보유 정보 변경 없음)
+     */
+    private boolean revalueFund(InstrumentRegistry registry, MarketPriceTable table, int caseIndex, int mask,
+                                int currentRound, FundHoldingDto fund) {
+        String fundId = fund.getFundId();
+        
+        int fundIndex = registry.fundIndex(fundId);
+        if (fundIndex < 0) {
+            log.warn("Fund composition not found: fundId={}", fundId);
+            return false;
+        }
+        long navChangeRate = table != null ? table.fundNavRateFixed(caseIndex, mask, fundIndex, currentRound) : 0L;
+        
+        // 이전 NAV
+        Long previousNav = fund.getCurrentNav();
+        
+        // 새로운 NAV 계산 (고정소수점, 원 단위 반올림)
+        long newNavLong = FixedPoint.applyRate(previousNav, navChangeRate);
+        
+        // 평가금액 및 손익 업데이트
+        fund.setCurrentNav(newNavLong);
+        fund.setEvaluationAmount(newNavLong * fund.getShares());
+        
+        Long totalCost = fund.getAvgNav() * fund.getShares();
+        fund.setProfitLoss(fund.getEvaluationAmount() - totalCost);
+        fund.setReturnRate((double) fund.getProfitLoss() / totalCost);
+        
+        log.debug("Fund updated: fundId={}, NAV {} -> {}, changeRate={}", fundId, previousNav, newNavLong,
+            table != null ? table.fundNavRate(caseIndex, mask, fundIndex, currentRound) : BigDecimal.ZERO);
+        return true;
     }
     
     /**
@@ -826,12 +352,24 @@ public class MarketEventService {
      * @return 시작 NAV
      */
     public Long getFundStartNav(String fundId, GameMode gameMode) {
-        // 펀드 초기 NAV는 10,000원으로 고정
-        return 10000L;
+        // 펀드 초기 NAV는 시나리오 값 (기본 10,000원)
+        return market.registry.startNav(gameMode);
     }
     
     /**
-     * 현재 라운드의 펀드 NAV 조회 (매수/매도 시 사용)
+     * 현재 라운드의 펀드 NAV 조회 (세션 기반, 매수/매도 시 사용)
+     * 
+     * @param session 게임 세션
+     * @param fundId 펀드 ID
+     * @return 현재 NAV
+     */
+    public Long getCurrentFundNav(GameSessionDto session, String fundId) {
+        return getCurrentFundNav(fundId, session.getGameMode(), session.getCurrentRound(),
+            session.getStockStartCase(), session.getStockPatterns());
+    }
+    
+    /**
+     * 현재 라운드의 펀드 NAV 조회 (기본 케이스/패턴)
      * 
      * @param fundId 펀드 ID
      * @param gameMode 게임 모드
@@ -839,43 +377,42 @@ public class MarketEventService {
      * @return 현재 NAV
      */
     public Long getCurrentFundNav(String fundId, GameMode gameMode, int currentRound) {
+        return getCurrentFundNav(fundId, gameMode, currentRound, null, null);
+    }
+    
+    /**
+     * 현재 라운드의 펀드 NAV 조회 (케이스/패턴 정보 포함)
+     * 
+     * @param fundId 펀드 ID
+     * @param gameMode 게임 모드
+     * @param currentRound 현재 라운드
+     * @param stockStartCase 시작 케이스 (경쟁모드용)
+     * @param stockPatterns 주식 패턴 맵 (경쟁모드용)
+     * @return 현재 NAV
+     */
+    public Long getCurrentFundNav(String fundId, GameMode gameMode, int currentRound,
+                                  Integer stockStartCase, Map<String, String> stockPatterns) {
         log.debug("Getting current fund NAV: fundId={}, mode={}, round={}", 
             fundId, gameMode, currentRound);
         
         Long startNav = getFundStartNav(fundId, gameMode);
         
-        // 펀드 구성 정보 조회
-        Map<String, Double> composition = FUND_COMPOSITIONS.get(fundId);
-        if (composition == null) {
+        Market market = this.market;
+        int fundIndex = market.registry.fundIndex(fundId);
+        if (fundIndex < 0) {
             log.warn("Fund composition not found: fundId={}", fundId);
             return startNav;
         }
         
-        // 1라운드부터 현재 라운드까지의 NAV 변동 누적 계산
-        BigDecimal currentNav = BigDecimal.valueOf(startNav);
-        
-        for (int round = 1; round <= currentRound && round <= 6; round++) {
-            Map<String, BigDecimal> stockChangeRates = getStockChangeRates(gameMode, round);
-            
-            // 펀드 NAV 변동률 계산
-            BigDecimal navChangeRate = BigDecimal.ZERO;
-            for (Map.Entry<String, Double> entry : composition.entrySet()) {
-                String stockId = entry.getKey();
-                Double weight = entry.getValue();
-                
-                BigDecimal stockChangeRate = stockChangeRates.get(stockId);
-                if (stockChangeRate != null) {
-                    navChangeRate = navChangeRate.add(
-                        stockChangeRate.multiply(BigDecimal.valueOf(weight))
-                    );
-                }
-            }
-            
-            currentNav = currentNav.multiply(BigDecimal.ONE.add(navChangeRate));
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null) {
+            return startNav;
         }
         
-        // 반올림 처리
-        return currentNav.setScale(0, java.math.RoundingMode.HALF_UP).longValue();
+        // 1라운드부터 현재 라운드까지 누적된 NAV (케이스/패턴별로 미리 계산된 경로)
+        int round = Math.max(0, Math.min(currentRound, table.getRounds()));
+        return table.fundNav(caseIndexOf(table, stockStartCase),
+            table.patternMask(stockPatterns), fundIndex, round);
     }
     
     /**
@@ -910,36 +447,23 @@ public class MarketEventService {
     private BigDecimal getBaseRate(GameMode gameMode, int currentRound, Integer baseRateCase) {
         log.debug("Getting base rate: mode={}, round={}, case={}", gameMode, currentRound, baseRateCase);
         
-        if (gameMode == GameMode.TUTORIAL) {
-            if (currentRound < 1 || currentRound > 6) {
-                log.warn("Invalid round for tutorial: {}", currentRound);
-                return TUTORIAL_BASE_RATES[0];
-            }
-            return TUTORIAL_BASE_RATES[currentRound - 1];
-        }
-        
-        // 경쟁모드
-        if (gameMode == GameMode.COMPETITION) {
-            if (baseRateCase == null || baseRateCase < 1 || baseRateCase > 4) {
-                log.warn("Invalid or null baseRateCase, defaulting to 1: {}", baseRateCase);
-                baseRateCase = 1;
-            }
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table != null) {
+            int caseIndex = caseIndexOf(table, baseRateCase);
             
-            // Case에 따라 시작 인덱스 결정
-            // Case 1: index 0~12 (2019.01~2020.01)
-            // Case 2: index 1~13 (2019.02~2020.02)
-            // Case 3: index 2~14 (2019.03~2020.03)
-            // Case 4: index 3~15 (2019.04~2020.04)
-            int startIndex = baseRateCase - 1;
-            int index = startIndex + (currentRound - 1);
-            
-            if (index < 0 || index >= COMPETITION_BASE_RATES_ALL.length) {
-                log.warn("Invalid index for competition base rate: index={}, currentRound={}, baseRateCase={}", 
-                    index, currentRound, baseRateCase);
-                return COMPETITION_BASE_RATES_ALL[startIndex]; // 해당 케이스의 첫 번째 값
+            if (currentRound >= 1 && currentRound <= table.getRounds()) {
+                return table.baseRate(caseIndex, currentRound);
             }
             
-            return COMPETITION_BASE_RATES_ALL[index];
+            // 테이블 범위 밖 라운드는 시계열에서 직접 조회 (케이스 c 는 c번째 값부터)
+            // 예) 경쟁모드 Case 1: index 0~12 (2019.01~2020.01), Case 4: index 3~15 (2019.04~2020.04)
+            BigDecimal rate = table.baseRateAt(caseIndex + (currentRound - 1));
+            if (rate == null) {
+                log.warn("Invalid round for base rate: mode={}, currentRound={}, baseRateCase={}", 
+                    gameMode, currentRound, baseRateCase);
+                return table.baseRateAt(caseIndex); // 해당 케이스의 첫 번째 값
+            }
+            return rate;
         }
         
         log.warn("Base rate not implemented for mode: {}", gameMode);
@@ -956,31 +480,34 @@ public class MarketEventService {
     public Long getStockStartPrice(String stockId, GameMode gameMode) {
         log.debug("Getting stock start price: stockId={}, mode={}", stockId, gameMode);
         
-        if (gameMode == GameMode.TUTORIAL) {
-            Long price = TUTORIAL_STOCK_START_PRICES.get(stockId);
-            if (price == null) {
-                log.warn("Start price not found: stockId={}", stockId);
-                return 10000L; // 기본값
-            }
-            return price;
+        Market market = this.market;
+        if (market.tableOf(gameMode) == null) {
+            log.warn("Stock start price not implemented for mode: {}", gameMode);
+            return InstrumentRegistry.DEFAULT_START_PRICE;
         }
         
-        // 경쟁모드
-        if (gameMode == GameMode.COMPETITION) {
-            Long price = COMPETITION_STOCK_START_PRICES.get(stockId);
-            if (price == null) {
-                log.warn("Start price not found for competition: stockId={}", stockId);
-                return 10000L; // 기본값
-            }
-            return price;
+        int stockIndex = market.registry.stockIndex(stockId);
+        if (stockIndex < 0) {
+            log.warn("Start price not found: stockId={}, mode={}", stockId, gameMode);
+            return InstrumentRegistry.DEFAULT_START_PRICE; // 기본값
         }
-        
-        log.warn("Stock start price not implemented for mode: {}", gameMode);
-        return 10000L;
+        return market.registry.startPrice(gameMode, stockIndex);
     }
     
     /**
-     * 현재 라운드의 주식 시세 조회 (매수/매도 시 사용)
+     * 현재 라운드의 주식 시세 조회 (세션 기반, 매수/매도 시 사용)
+     * 
+     * @param session 게임 세션
+     * @param stockId 주식 ID
+     * @return 현재가
+     */
+    public Long getCurrentStockPrice(GameSessionDto session, String stockId) {
+        return getCurrentStockPrice(stockId, session.getGameMode(), session.getCurrentRound(),
+            session.getStockStartCase(), session.getStockPatterns());
+    }
+    
+    /**
+     * 현재 라운드의 주식 시세 조회 (기본 케이스/패턴)
      * 
      * @param stockId 주식 ID
      * @param gameMode 게임 모드
@@ -988,40 +515,47 @@ public class MarketEventService {
      * @return 현재가
      */
     public Long getCurrentStockPrice(String stockId, GameMode gameMode, int currentRound) {
+        return getCurrentStockPrice(stockId, gameMode, currentRound, null, null);
+    }
+    
+    /**
+     * 현재 라운드의 주식 시세 조회 (케이스/패턴 정보 포함)
+     * 
+     * @param stockId 주식 ID
+     * @param gameMode 게임 모드
+     * @param currentRound 현재 라운드
+     * @param stockStartCase 시작 케이스 (경쟁모드용)
+     * @param stockPatterns 주식 패턴 맵 (경쟁모드용)
+     * @return 현재가
+     */
+    public Long getCurrentStockPrice(String stockId, GameMode gameMode, int currentRound,
+                                     Integer stockStartCase, Map<String, String> stockPatterns) {
         log.debug("Getting current stock price: stockId={}, mode={}, round={}", 
             stockId, gameMode, currentRound);
         
-        if (gameMode == GameMode.TUTORIAL) {
-            Long startPrice = getStockStartPrice(stockId, gameMode);
-            
-            // 1라운드부터 현재 라운드까지의 등락률 누적 적용
-            BigDecimal currentPrice = BigDecimal.valueOf(startPrice);
-            BigDecimal[] changeRates = TUTORIAL_STOCK_CHANGE_RATES.get(stockId);
-            
-            if (changeRates == null) {
-                log.warn("Change rates not found: stockId={}", stockId);
-                return startPrice;
-            }
-            
-            for (int round = 1; round <= currentRound && round <= 6; round++) {
-                BigDecimal changeRate = changeRates[round - 1];
-                currentPrice = stockService.calculateClosePrice(currentPrice, changeRate);
-            }
-            
-            // StockService.calculateClosePrice()에서 이미 반올림 적용됨
-            return currentPrice.longValue();
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null) {
+            log.warn("Current stock price not implemented for mode: {}", gameMode);
+            return getStockStartPrice(stockId, gameMode);
         }
         
-        // 경쟁모드는 나중에 구현
-        log.warn("Current stock price not implemented for mode: {}", gameMode);
-        return 10000L;
+        int stockIndex = table.getRegistry().stockIndex(stockId);
+        if (stockIndex < 0) {
+            log.warn("Change rates not found: stockId={}", stockId);
+            return getStockStartPrice(stockId, gameMode);
+        }
+        
+        // 1라운드부터 현재 라운드까지 등락률이 누적 적용된 종가 (반올림 포함, 미리 계산된 경로)
+        int round = Math.max(0, Math.min(currentRound, table.getRounds()));
+        return table.stockPrice(caseIndexOf(table, stockStartCase),
+            stockPatternOf(table, stockPatterns, stockId), stockIndex, round);
     }
     
     /**
      * 라운드 시작 시 주식 등락률 조회 (세션 기반)
      * 
      * @param session 게임 세션
-     * @return 주식ID -> 등락률 맵
+     * @return 주식ID -> 등락률 맵 (읽기 전용)
      */
     public Map<String, BigDecimal> getStockChangeRates(GameSessionDto session) {
         return getStockChangeRates(session.getGameMode(), session.getCurrentRound(), 
@@ -1033,7 +567,7 @@ public class MarketEventService {
      * 
      * @param gameMode 게임 모드
      * @param currentRound 현재 라운드
-     * @return 주식ID -> 등락률 맵
+     * @return 주식ID -> 등락률 맵 (읽기 전용)
      */
     public Map<String, BigDecimal> getStockChangeRates(GameMode gameMode, int currentRound) {
         return getStockChangeRates(gameMode, currentRound, null, null);
@@ -1046,48 +580,24 @@ public class MarketEventService {
      * @param currentRound 현재 라운드
      * @param stockPatterns 주식 패턴 맵 (경쟁모드용)
      * @param stockStartCase 시작 케이스 (경쟁모드용)
-     * @return 주식ID -> 등락률 맵
+     * @return 주식ID -> 등락률 맵 (읽기 전용)
      */
     private Map<String, BigDecimal> getStockChangeRates(GameMode gameMode, int currentRound,
                                                          Map<String, String> stockPatterns, 
                                                          Integer stockStartCase) {
         log.debug("Getting stock change rates: mode={}, round={}", gameMode, currentRound);
         
-        Map<String, BigDecimal> result = new HashMap<>();
-        
-        if (gameMode == GameMode.TUTORIAL) {
-            if (currentRound < 1 || currentRound > 6) {
-                log.warn("Invalid round for tutorial: {}", currentRound);
-                return result;
-            }
-            
-            for (Map.Entry<String, BigDecimal[]> entry : TUTORIAL_STOCK_CHANGE_RATES.entrySet()) {
-                String stockId = entry.getKey();
-                BigDecimal changeRate = entry.getValue()[currentRound - 1];
-                result.put(stockId, changeRate);
-            }
-        } else if (gameMode == GameMode.COMPETITION) {
-            if (currentRound < 1 || currentRound > 12) {
-                log.warn("Invalid round for competition: {}", currentRound);
-                return result;
-            }
-            
-            // 7개 종목에 대해 패턴별 등락률 조회
-            for (int i = 1; i <= 7; i++) {
-                String stockId = "STOCK_0" + i;
-                String pattern = (stockPatterns != null && stockPatterns.containsKey(stockId)) 
-                    ? stockPatterns.get(stockId) 
-                    : "UP";
-                Integer startCase = (stockStartCase != null) ? stockStartCase : 1;
-                
-                BigDecimal[] changeRates = getCompetitionStockChangeRates(stockId, pattern, startCase);
-                if (changeRates != null && currentRound - 1 < changeRates.length) {
-                    result.put(stockId, changeRates[currentRound - 1]);
-                }
-            }
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null) {
+            return Collections.emptyMap();
+        }
+        if (currentRound < 1 || currentRound > table.getRounds()) {
+            log.warn("Invalid round for {}: {}", gameMode, currentRound);
+            return Collections.emptyMap();
         }
         
-        return result;
+        return table.stockRates(caseIndexOf(table, stockStartCase),
+            table.patternMask(stockPatterns), currentRound);
     }
     
     /**
@@ -1113,39 +623,17 @@ public class MarketEventService {
      * 
      * @param gameMode 게임 모드
      * @param currentRound 현재 라운드
-     * @return 펀드ID -> NAV 변동률 맵
+     * @return 펀드ID -> NAV 변동률 맵 (읽기 전용)
      */
     public Map<String, BigDecimal> getFundNavChangeRates(GameMode gameMode, int currentRound) {
         log.debug("Getting fund NAV change rates: mode={}, round={}", gameMode, currentRound);
         
-        Map<String, BigDecimal> result = new HashMap<>();
-        
-        // 주식 등락률 조회
-        Map<String, BigDecimal> stockChangeRates = getStockChangeRates(gameMode, currentRound);
-        
-        // 각 펀드의 NAV 변동률 계산
-        for (Map.Entry<String, Map<String, Double>> entry : FUND_COMPOSITIONS.entrySet()) {
-            String fundId = entry.getKey();
-            Map<String, Double> composition = entry.getValue();
-            
-            // 가중평균 계산
-            BigDecimal navChangeRate = BigDecimal.ZERO;
-            for (Map.Entry<String, Double> comp : composition.entrySet()) {
-                String stockId = comp.getKey();
-                Double weight = comp.getValue();
-                
-                BigDecimal stockChangeRate = stockChangeRates.get(stockId);
-                if (stockChangeRate != null) {
-                    navChangeRate = navChangeRate.add(
-                        stockChangeRate.multiply(BigDecimal.valueOf(weight))
-                    );
-                }
-            }
-            
-            result.put(fundId, navChangeRate);
+        Market market = this.market;
+        MarketPriceTable table = market.tableOf(gameMode);
+        if (table == null || currentRound < 1 || currentRound > table.getRounds()) {
+            return market.zeroFundNavChangeRates;
         }
         
-        return result;
+        return table.fundNavRates(0, 0, currentRound);
     }
 }
-
@@ -0,0 +1,315 @@
+package com.cas.api.service.game;
+
+import com.cas.api.enums.GameMode;
+import com.cas.api.service.financial.FixedPoint;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
+/**
+ * 시장 시세 테이블 (불변, 기동 시 1회 생성)
+ *
+ * 게임 모드별로 하나씩 생성되며 모든 값은 (시작 케이스, 패턴, 종목/펀드, 라운드) 인덱스로 조회합니다.
+ * - 라운드 0: 시작가 / 시작 NAV, 라운드 n: n라운드 종가 / NAV
+ * - 패턴: 종목별 UP(0) / DOWN(1)
+ * - 종목/펀드 인덱스: InstrumentRegistry 의 인덱스
+ * - 패턴 마스크: 종목 패턴을 비트로 표현 (bit i = 1 이면 i번째 종목이 DOWN)
+ *
+ * 조회 시 객체를 생성하지 않도록 등락률 맵과 고정소수점(FixedPoint) 등락률도 미리 만들어 둡니다.
+ */
+final class MarketPriceTable {
+
+    static final int PATTERN_UP = 0;
+    static final int PATTERN_DOWN = 1;
+
+    /** 패턴 사용 테이블의 최대 종목 수 (마스크 수 = 2^종목 수) */
+    static final int MAX_PATTERNED_STOCKS = 12;
+
+    /**
+     * 등락률 원본 (시작 케이스 인덱스, 패턴, 종목 ID → 라운드별 등락률)
+     */
+    @FunctionalInterface
+    interface RateSource {
+        BigDecimal[] rates(int caseIndex, int pattern, String stockId);
+    }
+
+    private final InstrumentRegistry registry;
+    private final int rounds;
+    private final int caseCount;
+    private final int maskCount;
+
+    /** 기준금리 월별 시계열 (원본 복사본) */
+    private final BigDecimal[] baseRateSeries;
+
+    /** [case][pattern][stock][round] */
+    private final long[][][][] stockPrices;
+
+    /** [case][pattern][stock][round - 1] */
+    private final BigDecimal[][][][] stockRates;
+
+    /** [case][pattern][stock][round - 1], FixedPoint (원본에 없으면 0) */
+    private final long[][][][] stockRatesFixed;
+
+    /** [case][mask][fund][round] */
+    private final long[][][][] fundNavs;
+
+    /** [case][mask][fund][round - 1] */
+    private final BigDecimal[][][][] fundNavRates;
+
+    /** [case][mask][fund][round - 1], FixedPoint */
+    private final long[][][][] fundNavRatesFixed;
+
+    /** [case][mask][round - 1] → 종목ID → 등락률 */
+    private final Map<String, BigDecimal>[][][] stockRateMaps;
+
+    /** [case][mask][round - 1] → 펀드ID → NAV 변동률 */
+    private final Map<String, BigDecimal>[][][] fundRateMaps;
+
+    /** [case][round - 1] */
+    private final BigDecimal[][] baseRates;
+
+    /**
+     * @param registry 종목/펀드 레지스트리 (시작가 / 시작 NAV / 펀드 구성)
+     * @param gameMode 게임 모드 (시작가 조회용)
+     * @param rounds 라운드 수
+     * @param caseCount 시작 케이스 수 (튜토리얼 1, 경쟁모드 4)
+     * @param patterned 종목별 UP/DOWN 패턴 사용 여부 (false 면 마스크 0 만 생성)
+     * @param rateSource 등락률 원본
+     * @param baseRateSeries 기준금리 월별 시계열 (케이스 c 는 c번째 값부터 사용)
+     * @param closePrice 종가 계산 (시가, 등락률 → 종가, 반올림 포함)
+     */
+    @SuppressWarnings("unchecked")
+    MarketPriceTable(InstrumentRegistry registry, GameMode gameMode, int rounds, int caseCount,
+                     boolean patterned, RateSource rateSource,
+                     BigDecimal[] baseRateSeries, BinaryOperator<BigDecimal> closePrice) {
+        int stockCount = registry.stockCount();
+        int fundCount = registry.fundCount();
+        if (patterned && stockCount > MAX_PATTERNED_STOCKS) {
+            throw new IllegalArgumentException("Too many stocks for patterned market: " + stockCount);
+        }
+        this.registry = registry;
+        this.rounds = rounds;
+        this.caseCount = caseCount;
+        this.maskCount = patterned ? 1 << stockCount : 1;
+        this.baseRateSeries = baseRateSeries.clone();
+
+        int patternCount = patterned ? 2 : 1;
+        stockPrices = new long[caseCount][2][stockCount][];
+        stockRates = new BigDecimal[caseCount][2][stockCount][];
+        stockRatesFixed = new long[caseCount][2][stockCount][];
+        for (int c = 0; c < caseCount; c++) {
+            for (int p = 0; p < 2; p++) {
+                for (int s = 0; s < stockCount; s++) {
+                    BigDecimal[] source = rateSource.rates(c, p < patternCount ? p : PATTERN_UP, registry.stockId(s));
+                    stockRates[c][p][s] = new BigDecimal[rounds];
+                    stockRatesFixed[c][p][s] = new long[rounds];
+                    stockPrices[c][p][s] = new long[rounds + 1];
+
+                    BigDecimal price = BigDecimal.valueOf(registry.startPrice(gameMode, s));
+                    stockPrices[c][p][s][0] = price.longValue();
+                    for (int r = 1; r <= rounds; r++) {
+                        BigDecimal rate = source != null && r - 1 < source.length ? source[r - 1] : null;
+                        stockRates[c][p][s][r - 1] = rate;
+                        if (rate != null) {
+                            stockRatesFixed[c][p][s][r - 1] = FixedPoint.of(rate);
+                            price = closePrice.apply(price, rate);
+                        }
+                        stockPrices[c][p][s][r] = price.longValue();
+
+                        // 고정소수점 계산 결과가 BigDecimal 계산과 다르면 기동 실패
+                        long fixedPrice = FixedPoint.applyRate(stockPrices[c][p][s][r - 1], stockRatesFixed[c][p][s][r - 1]);
+                        if (fixedPrice != stockPrices[c][p][s][r]) {
+                            throw new IllegalStateException("Fixed-point close price mismatch: " + registry.stockId(s)
+                                + ", case=" + (c + 1) + ", round=" + r + ", " + fixedPrice + " != " + stockPrices[c][p][s][r]);
+                        }
+                    }
+                }
+            }
+        }
+
+        long startNav = registry.startNav(gameMode);
+        fundNavs = new long[caseCount][maskCount][fundCount][];
+        fundNavRates = new BigDecimal[caseCount][maskCount][fundCount][];
+        fundNavRatesFixed = new long[caseCount][maskCount][fundCount][];
+        stockRateMaps = new Map[caseCount][maskCount][rounds];
+        fundRateMaps = new Map[caseCount][maskCount][rounds];
+        for (int c = 0; c < caseCount; c++) {
+            for (int m = 0; m < maskCount; m++) {
+                for (int f = 0; f < fundCount; f++) {
+                    int[] fundStocks = registry.fundStocks(f);
+                    double[] fundWeights = registry.fundWeights(f);
+                    fundNavRates[c][m][f] = new BigDecimal[rounds];
+                    fundNavRatesFixed[c][m][f] = new long[rounds];
+                    fundNavs[c][m][f] = new long[rounds + 1];
+
+                    // 누적 NAV 는 반올림 없이 계산하고 라운드별 값만 반올림 (기존 계산과 동일)
+                    BigDecimal nav = BigDecimal.valueOf(startNav);
+                    fundNavs[c][m][f][0] = startNav;
+                    for (int r = 1; r <= rounds; r++) {
+                        BigDecimal navRate = BigDecimal.ZERO;
+                        for (int i = 0; i < fundStocks.length; i++) {
+                            BigDecimal rate = maskedStockRate(c, m, fundStocks[i], r);
+                            if (rate != null) {
+                                navRate = navRate.add(rate.multiply(BigDecimal.valueOf(fundWeights[i])));
+                            }
+                        }
+                        fundNavRates[c][m][f][r - 1] = navRate;
+                        fundNavRatesFixed[c][m][f][r - 1] = FixedPoint.of(navRate);
+                        nav = nav.multiply(BigDecimal.ONE.add(navRate));
+                        fundNavs[c][m][f][r] = nav.setScale(0, RoundingMode.HALF_UP).longValue();
+                    }
+                }
+
+                for (int r = 1; r <= rounds; r++) {
+                    Map<String, BigDecimal> stockMap = new HashMap<>();
+                    for (int s = 0; s < stockCount; s++) {
+                        BigDecimal rate = maskedStockRate(c, m, s, r);
+                        if (rate != null) {
+                            stockMap.put(registry.stockId(s), rate);
+                        }
+                    }
+                    Map<String, BigDecimal> fundMap = new HashMap<>();
+                    for (int f = 0; f < fundCount; f++) {
+                        fundMap.put(registry.fundId(f), fundNavRates[c][m][f][r - 1]);
+                    }
+                    stockRateMaps[c][m][r - 1] = Collections.unmodifiableMap(stockMap);
+                    fundRateMaps[c][m][r - 1] = Collections.unmodifiableMap(fundMap);
+                }
+            }
+        }
+
+        baseRates = new BigDecimal[caseCount][rounds];
+        for (int c = 0; c < caseCount; c++) {
+            for (int r = 1; r <= rounds; r++) {
+                int index = c + r - 1;
+                baseRates[c][r - 1] = index < baseRateSeries.length ? baseRateSeries[index] : baseRateSeries[c];
+            }
+        }
+    }
+
+    InstrumentRegistry getRegistry() {
+        return registry;
+    }
+
+    int getRounds() {
+        return rounds;
+    }
+
+    int getCaseCount() {
+        return caseCount;
+    }
+
+    boolean isPatterned() {
+        return maskCount > 1;
+    }
+
+    /**
+     * 시작 케이스(1부터) → 케이스 인덱스 (범위 밖이면 -1)
+     */
+    int caseIndex(Integer startCase) {
+        if (startCase == null || startCase < 1 || startCase > caseCount) {
+            return -1;
+        }
+        return startCase - 1;
+    }
+
+    /**
+     * 종목 패턴 맵 → 패턴 마스크 (패턴 미사용 테이블은 항상 0)
+     * 맵에 없는 종목은 UP, "UP" 이 아닌 값은 DOWN
+     */
+    int patternMask(Map<String, String> stockPatterns) {
+        if (maskCount == 1 || stockPatterns == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (int s = 0; s < registry.stockCount(); s++) {
+            String stockId = registry.stockId(s);
+            if (stockPatterns.containsKey(stockId) && !"UP".equals(stockPatterns.get(stockId))) {
+                mask |= 1 << s;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 종목 종가 (round 0 = 시작가)
+     */
+    long stockPrice(int caseIndex, int pattern, int stockIndex, int round) {
+        return stockPrices[caseIndex][pattern][stockIndex][round];
+    }
+
+    /**
+     * 종목 등락률 (원본에 없으면 null)
+     */
+    BigDecimal stockRate(int caseIndex, int pattern, int stockIndex, int round) {
+        return stockRates[caseIndex][pattern][stockIndex][round - 1];
+    }
+
+    /**
+     * 종목 등락률 (FixedPoint, 원본에 없으면 0 이므로 stockRate 로 존재 여부 확인)
+     */
+    long stockRateFixed(int caseIndex, int pattern, int stockIndex, int round) {
+        return stockRatesFixed[caseIndex][pattern][stockIndex][round - 1];
+    }
+
+    /**
+     * 펀드 NAV (round 0 = 시작 NAV)
+     */
+    long fundNav(int caseIndex, int mask, int fundIndex, int round) {
+        return fundNavs[caseIndex][mask][fundIndex][round];
+    }
+
+    /**
+     * 펀드 NAV 변동률
+     */
+    BigDecimal fundNavRate(int caseIndex, int mask, int fundIndex, int round) {
+        return fundNavRates[caseIndex][mask][fundIndex][round - 1];
+    }
+
+    /**
+     * 펀드 NAV 변동률 (FixedPoint)
+     */
+    long fundNavRateFixed(int caseIndex, int mask, int fundIndex, int round) {
+        return fundNavRatesFixed[caseIndex][mask][fundIndex][round - 1];
+    }
+
+    /**
+     * 라운드 종목 등락률 맵 (불변)
+     */
+    Map<String, BigDecimal> stockRates(int caseIndex, int mask, int round) {
+        return stockRateMaps[caseIndex][mask][round - 1];
+    }
+
+    /**
+     * 라운드 펀드 NAV 변동률 맵 (불변)
+     */
+    Map<String, BigDecimal> fundNavRates(int caseIndex, int mask, int round) {
+        return fundRateMaps[caseIndex][mask][round - 1];
+    }
+
+    /**
+     * 라운드 기준금리
+     */
+    BigDecimal baseRate(int caseIndex, int round) {
+        return baseRates[caseIndex][round - 1];
+    }
+
+    /**
+     * 기준금리 시계열 값 (범위 밖이면 null)
+     */
+    BigDecimal baseRateAt(int index) {
+        return index >= 0 && index < baseRateSeries.length ? baseRateSeries[index] : null;
+    }
+
+    private BigDecimal maskedStockRate(int caseIndex, int mask, int stockIndex, int round) {
+        if (stockIndex < 0) {
+            return null;
+        }
+        int pattern = (mask >> stockIndex) & 1;
+        return stockRates[caseIndex][pattern][stockIndex][round - 1];
+    }
+}
@@ -147,30 +147,37 @@ public class MonthlyRankingService implements InitializingBean {
         String redisKey = String.format(REDIS_KEY_MONTHLY_RANKING, yearMonth);
 
         try {
-            // 1. Redis에서 먼저 조회
-            List<Map<String, Object>> cachedRanking = cacheService.getObject(redisKey, List.class);
+            // Redis 캐시 우선, 미스 시 한 요청만 DB 조회
+            boolean[] loaded = new boolean[1];
+            List<Map<String, Object>> rankingList = cacheService.getOrLoad(redisKey, List.class,
+                cacheTtl, TimeUnit.SECONDS, () -> {
+                    loaded[0] = true;
+                    return loadMonthlyRanking(yearMonth);
+                });
+            if (rankingList == null) {
+                rankingList = new ArrayList<>();
+            }
+            log.debug("■ Monthly ranking loaded from {}: {}", loaded[0] ? "db" : "redis", yearMonth);
 
-            if (cachedRanking != null && !cachedRanking.isEmpty()) {
-                log.debug("■ Monthly ranking loaded from Redis cache: {}", yearMonth);
+            // 요청한 개수만큼만 반환
+            List<Map<String, Object>> limitedRanking = rankingList.stream()
+                .limit(limit != null ? limit : cacheSize)
+                .toList();
 
-                // 요청한 개수만큼만 반환
-                List<Map<String, Object>> limitedRanking = cachedRanking.stream()
-                    .limit(limit != null ? limit : cacheSize)
-                    .toList();
+            result.put("success", true);
+            result.put("source", loaded[0] ? "db" : "redis");
+            result.put("yearMonth", yearMonth);
+            result.put("data", limitedRanking);
+            result.put("totalCount", rankingList.size());
+            return result;
 
-                result.put("success", true);
-                result.put("source", "redis");
-                result.put("yearMonth", yearMonth);
-                result.put("data", limitedRanking);
-                result.put("totalCount", cachedRanking.size());
+        } catch (Exception e) {
+            if (e.getCause() instanceof KinfaRunException) {
+                log.error("■ Error fetching monthly ranking from DB: {}", e.getCause().getMessage(), e);
+                result.put("success", false);
+                result.put("message", "DB에서 월간 랭킹을 조회하는 중 오류가 발생했습니다.");
                 return result;
             }
-
-            // 2. 캐시 없으면 DB에서 조회 후 캐싱
-            log.info("■ Monthly ranking cache miss for {}, fetching from DB", yearMonth);
-            return fetchAndCacheMonthlyRanking(yearMonth, limit);
-
-        } catch (Exception e) {
             log.error("■ Error getting monthly ranking: {}", e.getMessage(), e);
             result.put("success", false);
             result.put("message", "월간 랭킹 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -179,59 +186,33 @@ public class MonthlyRankingService implements InitializingBean {
     }
 
     /**
-     * DB에서 월간 랭킹 조회 후 Redis에 캐싱
+     * DB에서 월간 랭킹 조회 (캐시 로더, 데이터가 없으면 null)
      */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> fetchAndCacheMonthlyRanking(String yearMonth, Integer limit) {
-        Map<String, Object> result = new HashMap<>();
-        String redisKey = String.format(REDIS_KEY_MONTHLY_RANKING, yearMonth);
-
-        try {
-            HashMap<String, Object> dbResult = transactionService.getMonthlyRanking(yearMonth, cacheSize);
-
-            // Mock 모드 또는 실제 DB 응답에서 데이터 추출
-            List<Map<String, Object>> rankingList = null;
-            
-            if (dbResult.get("data") instanceof List) {
-                rankingList = (List<Map<String, Object>>) dbResult.get("data");
-            } else if (dbResult.get("mock") != null) {
-                // Mock 모드: 빈 리스트 또는 테스트 데이터 생성
-                rankingList = generateMockMonthlyRanking(yearMonth);
-            }
+    private List<Map<String, Object>> loadMonthlyRanking(String yearMonth) throws KinfaRunException {
+        HashMap<String, Object> dbResult = transactionService.getMonthlyRanking(yearMonth, cacheSize);
 
-            if (rankingList == null) {
-                rankingList = new ArrayList<>();
-            }
-
-            // 순위 번호 추가
-            for (int i = 0; i < rankingList.size(); i++) {
-                rankingList.get(i).put("rank", i + 1);
-            }
-
-            // Redis에 캐싱
-            if (!rankingList.isEmpty()) {
-                cacheService.setObject(redisKey, rankingList, cacheTtl, TimeUnit.SECONDS);
-                log.info("■ Monthly ranking cached: yearMonth={}, count={}", yearMonth, rankingList.size());
-            }
-
-            int effectiveLimit = (limit != null) ? limit : cacheSize;
-            List<Map<String, Object>> limitedRanking = rankingList.stream()
-                .limit(effectiveLimit)
-                .toList();
+        // Mock 모드 또는 실제 DB 응답에서 데이터 추출
+        List<Map<String, Object>> rankingList = null;
+        
+        if (dbResult.get("data") instanceof List) {
+            rankingList = (List<Map<String, Object>>) dbResult.get("data");
+        } else if (dbResult.get("mock") != null) {
+            // Mock 모드: 빈 리스트 또는 테스트 데이터 생성
+            rankingList = generateMockMonthlyRanking(yearMonth);
+        }
 
-            result.put("success", true);
-            result.put("source", "db");
-            result.put("yearMonth", yearMonth);
-            result.put("data", limitedRanking);
-            result.put("totalCount", rankingList.size());
-            return result;
+        if (rankingList == null || rankingList.isEmpty()) {
+            return null;
+        }
 
-        } catch (KinfaRunException e) {
-            log.error("■ Error fetching monthly ranking from DB: {}", e.getMessage(), e);
-            result.put("success", false);
-            result.put("message", "DB에서 월간 랭킹을 조회하는 중 오류가 발생했습니다.");
-            return result;
+        // 순위 번호 추가
+        for (int i = 0; i < rankingList.size(); i++) {
+            rankingList.get(i).put("rank", i + 1);
         }
+
+        log.info("■ Monthly ranking fetched: yearMonth={}, count={}", yearMonth, rankingList.size());
+        return rankingList;
     }
 
     /**
@@ -240,9 +221,7 @@ public class MonthlyRankingService implements InitializingBean {
     public void refreshMonthlyRankingCache() {
         String yearMonth = LocalDate.now().format(YEAR_MONTH_FORMATTER);
         log.info("■ Refreshing monthly ranking cache: {}", yearMonth);
-        String redisKey = String.format(REDIS_KEY_MONTHLY_RANKING, yearMonth);
-        cacheService.delete(redisKey);
-        fetchAndCacheMonthlyRanking(yearMonth, cacheSize);
+        refreshMonthlyRankingCacheInternal(yearMonth);
     }
 
     /**
@@ -252,7 +231,12 @@ public class MonthlyRankingService implements InitializingBean {
         log.info("■ Refreshing monthly ranking cache (internal): {}", yearMonth);
         String redisKey = String.format(REDIS_KEY_MONTHLY_RANKING, yearMonth);
         cacheService.delete(redisKey);
-        fetchAndCacheMonthlyRanking(yearMonth, cacheSize);
+        try {
+            cacheService.getOrLoad(redisKey, List.class, cacheTtl, TimeUnit.SECONDS,
+                () -> loadMonthlyRanking(yearMonth));
+        } catch (Exception e) {
+            log.error("■ Error refreshing monthly ranking: yearMonth={}, {}", yearMonth, e.getMessage(), e);
+        }
     }
 
     /**
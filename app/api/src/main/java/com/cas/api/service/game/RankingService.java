@@ -1,6 +1,7 @@
 package com.cas.api.service.game;
 
 import com.cas.api.service.external.TransactionService;
+import com.cas.api.service.user.UserService;
 import com.cas.common.core.util.KinfaRunException;
 import com.cas.common.infra.cache.CacheService;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,8 @@ import java.util.concurrent.TimeUnit;
  * 랭킹 서비스
  * - Redis 캐싱 기반 랭킹 조회
  * - properties에 정의된 시간에 자동 갱신
+ * - 실시간 리더보드 (Redis Sorted Set, 사용자별 최고 점수)
+ *   게임 결과 시 점수 등록, 갱신 시점마다 MCI 랭킹 기준으로 누락 점수 보정
  */
 @Slf4j
 @Service
@@ -25,14 +28,17 @@ public class RankingService implements InitializingBean {
 
     private final TransactionService transactionService;
     private final CacheService cacheService;
+    private final UserService userService;
 
-    public RankingService(TransactionService transactionService, CacheService cacheService) {
+    public RankingService(TransactionService transactionService, CacheService cacheService, UserService userService) {
         this.transactionService = transactionService;
         this.cacheService = cacheService;
+        this.userService = userService;
     }
 
     // Redis 키
     private static final String REDIS_KEY_RANKING = "ranking:competition";
+    private static final String REDIS_KEY_LEADERBOARD = "leaderboard:competition";  // ZSET (member: uid, score: 총점)
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     // Properties 설정
@@ -48,6 +54,12 @@ public class RankingService implements InitializingBean {
     @Value("${ranking.cache.ttl:300}")
     private int cacheTtl;
 
+    @Value("${ranking.leaderboard.around-range:5}")
+    private int aroundRange;
+
+    @Value("${ranking.leaderboard.max-limit:100}")
+    private int maxLimit;
+
     // 파싱된 갱신 시간 리스트
     private Set<String> refreshTimes;
 
@@ -89,7 +101,7 @@ public class RankingService implements InitializingBean {
     }
 
     /**
-     * 랭킹 조회 (Redis 캐시 우선)
+     * 랭킹 조회 (Redis 캐시 우선, 미스 시 한 요청만 DB 조회)
      *
      * @param limit 조회할 순위 개수
      * @return 랭킹 데이터
@@ -101,32 +113,40 @@ public class RankingService implements InitializingBean {
         Map<String, Object> result = new HashMap<>();
 
         try {
-            // 1. Redis에서 먼저 조회
-            List<Map<String, Object>> cachedRanking = cacheService.getObject(REDIS_KEY_RANKING, List.class);
+            boolean[] loaded = new boolean[1];
+            List<Map<String, Object>> rankingList = cacheService.getOrLoad(REDIS_KEY_RANKING, List.class,
+                cacheTtl, TimeUnit.SECONDS, () -> {
+                    loaded[0] = true;
+                    return loadRanking();
+                });
+            String source = loaded[0] ? "db" : "redis";
 
-            if (cachedRanking != null && !cachedRanking.isEmpty()) {
-                log.debug("■ Ranking loaded from Redis cache");
+            if (rankingList != null && !rankingList.isEmpty()) {
+                log.debug("■ Ranking loaded from {}", source);
 
                 // 요청한 개수만큼만 반환
-                List<Map<String, Object>> limitedRanking = cachedRanking.stream()
+                List<Map<String, Object>> limitedRanking = rankingList.stream()
                     .limit(limit != null ? limit : cacheSize)
                     .toList();
 
                 result.put("success", true);
-                result.put("source", "redis");
+                result.put("source", source);
                 result.put("data", limitedRanking);
-                result.put("totalCount", cachedRanking.size());
-                return result;
+                result.put("totalCount", rankingList.size());
+            } else {
+                result.put("success", true);
+                result.put("source", source);
+                result.put("data", Collections.emptyList());
+                result.put("totalCount", 0);
+                result.put("message", "랭킹 데이터가 없습니다.");
             }
-
-            // 2. 캐시 없으면 DB에서 조회 후 캐싱
-            log.info("■ Ranking cache miss, fetching from DB");
-            return fetchAndCacheRanking(limit);
+            return result;
 
         } catch (Exception e) {
-            log.error("■ Error getting ranking: {}", e.getMessage(), e);
+            Throwable cause = e.getCause() instanceof KinfaRunException ? e.getCause() : e;
+            log.error("■ Error getting ranking: {}", cause.getMessage(), e);
             result.put("success", false);
-            result.put("message", "랭킹 조회 중 오류가 발생했습니다: " + e.getMessage());
+            result.put("message", "랭킹 조회 중 오류가 발생했습니다: " + cause.getMessage());
             return result;
         }
     }
@@ -134,65 +154,45 @@ public class RankingService implements InitializingBean {
     /**
      * 랭킹 캐시 강제 갱신
      */
+    @SuppressWarnings("unchecked")
     public Map<String, Object> refreshRankingCache() {
         log.info("■ RankingService.refreshRankingCache - Refreshing ranking cache");
         
         // 기존 캐시 삭제
         cacheService.delete(REDIS_KEY_RANKING);
         
-        // 새로 조회하여 캐싱
-        return fetchAndCacheRanking(cacheSize);
+        // 새로 조회하여 캐싱 (동시 요청은 getOrLoad 에서 한 번만 조회)
+        Map<String, Object> result = getRanking(cacheSize);
+        
+        // MCI 랭킹 기준으로 리더보드 보정
+        if (Boolean.TRUE.equals(result.get("success")) && result.get("data") instanceof List) {
+            reconcileLeaderboard((List<Map<String, Object>>) result.get("data"));
+        }
+        return result;
     }
 
     /**
-     * DB에서 랭킹 조회 후 Redis에 캐싱
+     * DB에서 랭킹 조회 (캐시 로더, 데이터가 없으면 null)
      */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> fetchAndCacheRanking(Integer limit) {
-        Map<String, Object> result = new HashMap<>();
-
-        try {
-            HashMap<String, Object> dbResult = transactionService.getRanking(cacheSize);
-
-            // Mock 모드 또는 실제 DB 응답에서 데이터 추출
-            List<Map<String, Object>> rankingList = null;
-            
-            if (dbResult.get("data") instanceof List) {
-                rankingList = (List<Map<String, Object>>) dbResult.get("data");
-            } else if (dbResult.get("mock") != null) {
-                // Mock 모드: 샘플 데이터 생성
-                rankingList = generateMockRankingData();
-            }
-
-            if (rankingList != null && !rankingList.isEmpty()) {
-                // Redis에 캐싱
-                cacheService.setObject(REDIS_KEY_RANKING, rankingList, cacheTtl, TimeUnit.SECONDS);
-                log.info("■ Ranking cached to Redis: {} entries, TTL: {}s", rankingList.size(), cacheTtl);
-
-                // 요청한 개수만큼만 반환
-                List<Map<String, Object>> limitedRanking = rankingList.stream()
-                    .limit(limit != null ? limit : cacheSize)
-                    .toList();
-
-                result.put("success", true);
-                result.put("source", "db");
-                result.put("data", limitedRanking);
-                result.put("totalCount", rankingList.size());
-            } else {
-                result.put("success", true);
-                result.put("source", "db");
-                result.put("data", Collections.emptyList());
-                result.put("totalCount", 0);
-                result.put("message", "랭킹 데이터가 없습니다.");
-            }
+    private List<Map<String, Object>> loadRanking() throws KinfaRunException {
+        HashMap<String, Object> dbResult = transactionService.getRanking(cacheSize);
 
-        } catch (KinfaRunException e) {
-            log.error("■ Error fetching ranking from DB: {}", e.getMessage());
-            result.put("success", false);
-            result.put("message", "랭킹 조회 중 오류가 발생했습니다: " + e.getMessage());
+        // Mock 모드 또는 실제 DB 응답에서 데이터 추출
+        List<Map<String, Object>> rankingList = null;
+        
+        if (dbResult.get("data") instanceof List) {
+            rankingList = (List<Map<String, Object>>) dbResult.get("data");
+        } else if (dbResult.get("mock") != null) {
+            // Mock 모드: 샘플 데이터 생성
+            rankingList = generateMockRankingData();
         }
 
-        return result;
+        if (rankingList == null || rankingList.isEmpty()) {
+            return null;
+        }
+        log.info("■ Ranking fetched from DB: {} entries, TTL: {}s", rankingList.size(), cacheTtl);
+        return rankingList;
     }
 
     /**
@@ -221,38 +221,23 @@ public class RankingService implements InitializingBean {
     }
 
     /**
-     * 내 순위 조회
+     * 내 순위 조회 (실시간 리더보드)
      *
      * @param mbrSno 회원 일련번호
      * @return 내 순위 정보
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> getMyRanking(Long mbrSno) {
         log.debug("■ RankingService.getMyRanking - mbrSno: {}", mbrSno);
 
         Map<String, Object> result = new HashMap<>();
 
         try {
-            // 전체 랭킹에서 내 순위 찾기
-            List<Map<String, Object>> cachedRanking = cacheService.getObject(REDIS_KEY_RANKING, List.class);
-            
-            if (cachedRanking == null || cachedRanking.isEmpty()) {
-                // 캐시 없으면 갱신
-                Map<String, Object> refreshResult = refreshRankingCache();
-                if (refreshResult.get("data") instanceof List) {
-                    cachedRanking = (List<Map<String, Object>>) refreshResult.get("data");
-                }
-            }
-
-            if (cachedRanking != null) {
-                // TODO: mbrSno로 내 닉네임을 찾아서 랭킹에서 검색
-                // 현재는 간단히 전체 랭킹 반환
-                result.put("success", true);
-                result.put("totalCount", cachedRanking.size());
-                result.put("message", "전체 랭킹을 확인하세요.");
-        } else {
-                result.put("success", false);
-                result.put("message", "랭킹 데이터를 불러올 수 없습니다.");
+            result.putAll(getLeaderboardRank(String.valueOf(mbrSno)));
+            result.put("success", true);
+            if (result.get("rank") != null) {
+                result.put("around", getLeaderboardAround(String.valueOf(mbrSno), aroundRange));
+            } else {
+                result.put("message", "아직 랭킹에 등록된 기록이 없습니다.");
             }
 
         } catch (Exception e) {
@@ -303,6 +288,131 @@ public class RankingService implements InitializingBean {
         return nextTime;
     }
 
+    // ========================================
+    // 실시간 리더보드 (Redis Sorted Set)
+    // ========================================
+
+    /**
+     * 경쟁모드 점수 등록 (사용자별 최고 점수만 유지)
+     *
+     * @param uid 사용자 식별자 (회원 일련번호)
+     * @param totalScore calculateScore 총점
+     * @return 최고 점수 갱신 여부
+     */
+    public boolean recordScore(String uid, long totalScore) {
+        boolean updated = cacheService.zAddIfHigher(REDIS_KEY_LEADERBOARD, uid, totalScore);
+        log.info("■ Leaderboard score recorded - uid: {}, score: {}, updated: {}", uid, totalScore, updated);
+        return updated;
+    }
+
+    /**
+     * 내 순위/점수 (리더보드에 없으면 rank, score 는 null)
+     */
+    public Map<String, Object> getLeaderboardRank(String uid) {
+        Long rank = cacheService.zReverseRank(REDIS_KEY_LEADERBOARD, uid);
+        Double score = rank != null ? cacheService.zScore(REDIS_KEY_LEADERBOARD, uid) : null;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("rank", rank != null ? rank + 1 : null);
+        result.put("score", score != null ? score.longValue() : null);
+        result.put("totalCount", cacheService.zCard(REDIS_KEY_LEADERBOARD));
+        return result;
+    }
+
+    /**
+     * 상위 N명 (최대 ranking.leaderboard.max-limit 명)
+     */
+    public List<Map<String, Object>> getLeaderboardTop(int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        int count = Math.min(limit, maxLimit);
+        return toLeaderboardEntries(cacheService.zReverseRangeWithScores(REDIS_KEY_LEADERBOARD, 0, count - 1L), 0);
+    }
+
+    /**
+     * 내 주변 순위 (위/아래 range 명씩, 최대 ranking.leaderboard.around-range, 리더보드에 없으면 빈 목록)
+     */
+    public List<Map<String, Object>> getLeaderboardAround(String uid, int range) {
+        if (range < 0) {
+            return Collections.emptyList();
+        }
+        range = Math.min(range, aroundRange);
+        Long rank = cacheService.zReverseRank(REDIS_KEY_LEADERBOARD, uid);
+        if (rank == null) {
+            return Collections.emptyList();
+        }
+        long start = Math.max(0, rank - range);
+        return toLeaderboardEntries(cacheService.zReverseRangeWithScores(REDIS_KEY_LEADERBOARD, start, rank + range), start);
+    }
+
+    /**
+     * MCI 랭킹(영구 저장) 기준 리더보드 보정
+     * Redis 유실 등으로 빠진 점수를 복구하며, 더 높은 실시간 점수는 유지
+     *
+     * @param rankingList MCI 랭킹 목록 (MBR_SNO, CMPTT_MODE_SCR)
+     * @return 갱신된 멤버 수
+     */
+    public int reconcileLeaderboard(List<Map<String, Object>> rankingList) {
+        int updated = 0;
+        for (Map<String, Object> entry : rankingList) {
+            Object mbrSno = firstValue(entry, "MBR_SNO", "mbrSno");
+            Object score = firstValue(entry, "CMPTT_MODE_SCR", "cmpttModeScr");
+            if (mbrSno == null || score == null) {
+                continue;
+            }
+            try {
+                double value = score instanceof Number ? ((Number) score).doubleValue() : Double.parseDouble(score.toString());
+                if (cacheService.zAddIfHigher(REDIS_KEY_LEADERBOARD, mbrSno.toString(), value)) {
+                    updated++;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("■ Invalid ranking score: mbrSno={}, score={}", mbrSno, score);
+            }
+        }
+        log.info("■ Leaderboard reconciled - entries: {}, updated: {}", rankingList.size(), updated);
+        return updated;
+    }
+
+    /**
+     * 리더보드 구간 → 응답 목록 (닉네임은 사용자 캐시에서 일괄 조회)
+     */
+    private List<Map<String, Object>> toLeaderboardEntries(Map<String, Double> members, long startRank) {
+        Map<String, Long> mbrSnos = new HashMap<>();
+        for (String uid : members.keySet()) {
+            try {
+                mbrSnos.put(uid, Long.parseLong(uid));
+            } catch (NumberFormatException e) {
+                // 숫자가 아닌 uid 는 닉네임 없이 표시
+            }
+        }
+        Map<Long, Map<String, Object>> users = mbrSnos.isEmpty()
+            ? Collections.emptyMap() : userService.loadUsersFromCache(mbrSnos.values());
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        long rank = startRank;
+        for (Map.Entry<String, Double> member : members.entrySet()) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("rank", ++rank);
+            entry.put("uid", member.getKey());
+            entry.put("score", member.getValue() != null ? member.getValue().longValue() : 0L);
+            Map<String, Object> user = users.get(mbrSnos.get(member.getKey()));
+            entry.put("ninamNm", user != null ? user.get("NINAM_NM") : null);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private Object firstValue(Map<String, Object> entry, String... keys) {
+        for (String key : keys) {
+            Object value = entry.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
     // ========================================
     // 점수 계산
     // ========================================
@@ -4,8 +4,10 @@ import com.cas.api.dto.domain.GameSessionDto;
 import com.cas.api.dto.domain.PortfolioDto;
 import com.cas.api.dto.response.StartSettlementResultDto;
 import com.cas.api.enums.GameMode;
+import com.cas.api.service.financial.PortfolioService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,10 +24,15 @@ public class RoundService {
     private final SettlementService settlementService;
     private final MarketEventService marketEventService;
     private final GameSessionService gameSessionService;
+    private final PortfolioService portfolioService;
+    
+    // true: 시세 재평가를 단일 패스(revaluePortfolio)로 처리, false: 기존 주식 → 펀드 → 요약 순서로 처리
+    @Value("${round.revalue.fused:true}")
+    private boolean fusedRevalue;
     
     /**
      * 라운드 시작 처리
-     * 1. 시장 시세 업데이트 (주식, 펀드)
+     * 1. 시장 시세 재평가 (주식, 펀드, 자산군별 합계)
      * 2. 라운드 시작 정산 (월급, 생활비, 이자)
      * 3. 배당금 지급 (해당 라운드인 경우)
      * 
@@ -39,9 +46,8 @@ public class RoundService {
         
         int currentRound = session.getCurrentRound();
         
-        // 1. 시장 시세 업데이트
-        marketEventService.updateStockPrices(session, portfolio);
-        marketEventService.updateFundNavs(session, portfolio);
+        // 1. 시장 시세 재평가
+        revalueRound(session, portfolio);
         
         // 2. 라운드 시작 정산 (자동 납입 포함)
         StartSettlementResultDto settlementResult = 
@@ -58,6 +64,30 @@ public class RoundService {
         return settlementResult;
     }
     
+    /**
+     * 라운드 시세 재평가
+     * 주식 시세 / 펀드 NAV 변동을 반영하고 평가금액 / 손익 / 수익률과 자산 배분까지 갱신
+     * 
+     * round.revalue.fused=true (기본) 이면 보유 자산을 한 번만 순회하는 revaluePortfolio 를 사용하고,
+     * false 이면 기존 순서(주식 시세 → 펀드 NAV → 요약 갱신)로 처리합니다. 두 경우 결과는 같습니다.
+     * 
+     * @param session 게임 세션
+     * @param portfolio 포트폴리오
+     */
+    public void revalueRound(GameSessionDto session, PortfolioDto portfolio) {
+        long startTime = System.nanoTime();
+        
+        if (fusedRevalue) {
+            marketEventService.revaluePortfolio(session, portfolio);
+        } else {
+            marketEventService.updateStockPrices(session, portfolio);
+            marketEventService.updateFundNavs(session, portfolio);
+        }
+        portfolioService.updatePortfolioSummary(portfolio);
+        
+        log.debug("Round revalued: fused={}, {}us", fusedRevalue, (System.nanoTime() - startTime) / 1000);
+    }
+    
     /**
      * 라운드 종료 처리
      * 1. 만기 상품 정산
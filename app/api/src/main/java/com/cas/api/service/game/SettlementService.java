@@ -1,6 +1,7 @@
 package com.cas.api.service.game;
 
 import com.cas.api.dto.domain.*;
+import com.cas.api.dto.domain.PortfolioTotals.AssetClass;
 import com.cas.api.dto.response.AutoPaymentFailureDto;
 import com.cas.api.dto.response.AutoPaymentResultDto;
 import com.cas.api.dto.response.StartSettlementResultDto;
@@ -30,6 +31,7 @@ public class SettlementService {
     private final BondService bondService;
     private final PensionService pensionService;
     private final PortfolioService portfolioService;
+    private final MarketEventService marketEventService;
     
     /**
      * 라운드 시작 정산
@@ -180,7 +182,7 @@ public class SettlementService {
                     pension.setTotalContribution(totalContribution + monthlyAmount);
                     
                     // 평가액 업데이트 (연 3.2% 월복리)
-                    updatePensionEvaluation(pension);
+                    updatePensionEvaluation(portfolio, pension);
                     
                     autoPayments.getPensions().add(AutoPaymentResultDto.PaymentItemDto.builder()
                         .productKey(pension.getProductKey())
@@ -236,6 +238,7 @@ public class SettlementService {
                         // 잔액 업데이트
                         long balance = saving.getBalance() != null ? saving.getBalance() : 0L;
                         saving.setBalance(balance + monthlyAmount);
+                        portfolio.adjustTotal(AssetClass.SAVING, monthlyAmount);
                         
                         autoPayments.getSavings().add(AutoPaymentResultDto.PaymentItemDto.builder()
                             .productKey(saving.getProductKey())
@@ -287,7 +290,9 @@ public class SettlementService {
     /**
      * 연금 평가액 업데이트 (연 3.2% 월복리)
      */
-    private void updatePensionEvaluation(PensionDto pension) {
+    private void updatePensionEvaluation(PortfolioDto portfolio, PensionDto pension) {
+        long previousEvaluation = PortfolioTotals.amountOf(pension.getEvaluationAmount());
+        
         // 간단한 계산: 총 납입액 + 이자
         // 실제로는 각 납입금별로 경과 개월수에 따른 복리 계산 필요
         long totalContribution = pension.getTotalContribution() != null ? pension.getTotalContribution() : 0L;
@@ -299,6 +304,7 @@ public class SettlementService {
         double accumulatedReturn = totalContribution * monthlyRate * avgMonths;
         
         pension.setEvaluationAmount(totalContribution + Math.round(accumulatedReturn));
+        portfolio.adjustTotal(AssetClass.PENSION, pension.getEvaluationAmount() - previousEvaluation);
     }
     
     /**
@@ -334,10 +340,13 @@ public class SettlementService {
         long totalDividend = 0L;
         long cash = portfolio.getCash() != null ? portfolio.getCash() : 0L;
         
-        // 주식 배당금 (3라운드, 6라운드)
-        if (currentRound == 3 || currentRound == 6) {
-            if (portfolio.getStocks() != null) {
-                for (StockHoldingDto stock : portfolio.getStocks()) {
+        InstrumentRegistry instruments = marketEventService.getInstrumentRegistry();
+        
+        // 주식 배당금 (시나리오의 종목별 배당 라운드, 기본 3라운드 / 6라운드)
+        if (portfolio.getStocks() != null) {
+            for (StockHoldingDto stock : portfolio.getStocks()) {
+                int stockIndex = instruments.stockIndex(stock.getStockId());
+                if (stockIndex >= 0 && instruments.isStockDividendRound(stockIndex, currentRound)) {
                     // TODO: 주식별 배당률 정보 필요 (CSV 또는 상수)
                     // BigDecimal dividend = stockService.calculateQuarterlyDividend(
                     //     BigDecimal.valueOf(stock.getCurrentPrice()), 
@@ -350,10 +359,11 @@ public class SettlementService {
             }
         }
         
-        // 펀드 배당금 (6라운드)
-        if (currentRound == 6) {
-            if (portfolio.getFunds() != null) {
-                for (FundHoldingDto fund : portfolio.getFunds()) {
+        // 펀드 배당금 (시나리오의 펀드별 배당 라운드, 기본 6라운드)
+        if (portfolio.getFunds() != null) {
+            for (FundHoldingDto fund : portfolio.getFunds()) {
+                int fundIndex = instruments.fundIndex(fund.getFundId());
+                if (fundIndex >= 0 && instruments.isFundDividendRound(fundIndex, currentRound)) {
                     // TODO: 펀드별 배당률 정보 필요
                     log.debug("Fund dividend calculation skipped (rate info needed)");
                 }
@@ -410,6 +420,7 @@ public class SettlementService {
                 }
                 return false;
             });
+            portfolio.adjustTotal(AssetClass.DEPOSIT, -maturedAmount[0]);
             maturedTotal += maturedAmount[0];
         }
         
@@ -429,6 +440,7 @@ public class SettlementService {
                 }
                 return false;
             });
+            portfolio.adjustTotal(AssetClass.SAVING, -maturedAmount[0]);
             maturedTotal += maturedAmount[0];
         }
         
@@ -448,6 +460,7 @@ public class SettlementService {
                 }
                 return false;
             });
+            portfolio.adjustTotal(AssetClass.BOND, -maturedAmount[0]);
             maturedTotal += maturedAmount[0];
         }
         
@@ -522,6 +535,8 @@ public class SettlementService {
         // 6. 대출 상환
         // TODO: LoanDto 추가 후 구현
         
+        // 보유 자산 목록을 모두 비웠으므로 자산군별 합계는 요약 갱신 시 다시 계산 (빈 목록)
+        portfolio.setTotals(null);
         portfolio.setCash(cash);
         portfolioService.updatePortfolioSummary(portfolio);
         
@@ -0,0 +1,140 @@
+package com.cas.api.service.game.scenario;
+
+import com.cas.api.enums.GameMode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시장 시나리오 (불변)
+ * 종목/펀드 이름과 배당 라운드, 모드별 주식 등락률 / 시작가 / 기준금리와 펀드 구성 정보를 담습니다.
+ *
+ * 원본은 scenario/market-scenario.json 이며, 빌드 시 MarketScenarioCompiler 가
+ * 바이너리 팩(market-scenario.pack)으로 변환하고 MarketScenarioLoader 가 기동 시 읽습니다.
+ */
+@Getter
+public final class MarketScenario {
+
+    public static final String PATTERN_UP = "UP";
+    public static final String PATTERN_DOWN = "DOWN";
+
+    /**
+     * 종목 ID 목록 (순서 유지)
+     */
+    private final List<String> stockIds;
+
+    /**
+     * 펀드ID → (종목ID → 비중), 펀드 순서 유지
+     */
+    private final Map<String, Map<String, Double>> fundCompositions;
+
+    /**
+     * 종목/펀드 ID → 이름
+     */
+    private final Map<String, String> names;
+
+    /**
+     * 종목/펀드 ID → 배당 지급 라운드 (없으면 배당 없음)
+     */
+    private final Map<String, int[]> dividendRounds;
+
+    /**
+     * 모드별 시나리오
+     */
+    private final Map<GameMode, Mode> modes;
+
+    public MarketScenario(List<String> stockIds, Map<String, Map<String, Double>> fundCompositions,
+                          Map<String, String> names, Map<String, int[]> dividendRounds,
+                          Map<GameMode, Mode> modes) {
+        this.stockIds = Collections.unmodifiableList(stockIds);
+        this.fundCompositions = Collections.unmodifiableMap(fundCompositions);
+        this.names = Collections.unmodifiableMap(names);
+        this.dividendRounds = Collections.unmodifiableMap(dividendRounds);
+        this.modes = Collections.unmodifiableMap(modes);
+    }
+
+    /**
+     * 종목/펀드 이름 (없으면 ID)
+     */
+    public String nameOf(String id) {
+        return names.getOrDefault(id, id);
+    }
+
+    /**
+     * 종목/펀드 배당 지급 라운드 (없으면 빈 배열)
+     */
+    public int[] dividendRoundsOf(String id) {
+        int[] rounds = dividendRounds.get(id);
+        return rounds != null ? rounds.clone() : new int[0];
+    }
+
+    /**
+     * 모드별 시나리오
+     */
+    @Getter
+    public static final class Mode {
+
+        private final int rounds;
+
+        /**
+         * 종목별 UP / DOWN 패턴 사용 여부 (false 면 UP 만 사용)
+         */
+        private final boolean patterned;
+
+        private final long startNav;
+
+        /**
+         * 종목ID → 시작가
+         */
+        private final Map<String, Long> startPrices;
+
+        /**
+         * 기준금리 월별 시계열 (케이스 c 는 c번째 값부터 사용)
+         */
+        private final BigDecimal[] baseRates;
+
+        /**
+         * [케이스 인덱스][패턴 (0: UP, 1: DOWN)] → 종목ID → 라운드별 등락률
+         */
+        private final Map<String, BigDecimal[]>[][] cases;
+
+        public Mode(int rounds, boolean patterned, long startNav, Map<String, Long> startPrices,
+                    BigDecimal[] baseRates, Map<String, BigDecimal[]>[][] cases) {
+            if (rounds < 1) {
+                throw new IllegalArgumentException("rounds must be positive: " + rounds);
+            }
+            if (cases.length < 1) {
+                throw new IllegalArgumentException("at least one case is required");
+            }
+            if (baseRates.length < cases.length) {
+                throw new IllegalArgumentException("baseRates must have at least one value per case");
+            }
+            for (Map<String, BigDecimal[]>[] patterns : cases) {
+                if (patterns.length != (patterned ? 2 : 1)) {
+                    throw new IllegalArgumentException("each case must define " + (patterned ? "UP and DOWN" : "UP"));
+                }
+            }
+            this.rounds = rounds;
+            this.patterned = patterned;
+            this.startNav = startNav;
+            this.startPrices = Collections.unmodifiableMap(startPrices);
+            this.baseRates = baseRates;
+            this.cases = cases;
+        }
+
+        public int getCaseCount() {
+            return cases.length;
+        }
+
+        /**
+         * 라운드별 등락률 (없으면 null, 패턴 미사용 모드는 항상 UP)
+         */
+        public BigDecimal[] rates(int caseIndex, int pattern, String stockId) {
+            Map<String, BigDecimal[]>[] patterns = cases[caseIndex];
+            return patterns[pattern < patterns.length ? pattern : 0].get(stockId);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.cas.api.service.game.scenario;
+
+import com.cas.api.enums.GameMode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시장 시나리오 JSON → 바이너리 팩 변환
+ *
+ * 빌드 시 exec-maven-plugin 으로 실행되어 src/main/resources/scenario/market-scenario.json 을
+ * target/classes/scenario/market-scenario.pack 으로 변환합니다.
+ * 운영 중 새 시나리오를 배포할 때도 같은 방식으로 팩을 만들어 market.scenario.path 에 두면 됩니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * java -cp api.jar com.cas.api.service.game.scenario.MarketScenarioCompiler market-scenario.json market-scenario.pack
+ * </pre>
+ */
+@Slf4j
+public final class MarketScenarioCompiler {
+
+    // 소수 자릿수까지 원본 그대로 읽음 (0.140 → 0.140, 기존 등락률 표기와 동일)
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .setNodeFactory(new JsonNodeFactory(true));
+
+    private MarketScenarioCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: MarketScenarioCompiler <source.json> <target.pack>");
+        }
+
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+
+        MarketScenario scenario;
+        try (InputStream in = Files.newInputStream(source)) {
+            scenario = parse(in);
+        }
+        byte[] pack = MarketScenarioPack.encode(scenario);
+
+        // 변환 결과를 다시 읽어 검증
+        MarketScenarioPack.decode(ByteBuffer.wrap(pack));
+
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.write(target, pack);
+        log.info("Market scenario pack written: {} ({} bytes)", target, pack.length);
+    }
+
+    /**
+     * JSON 원본 → 시나리오
+     */
+    @SuppressWarnings("unchecked")
+    public static MarketScenario parse(InputStream json) throws IOException {
+        JsonNode root = MAPPER.readTree(json);
+
+        List<String> stockIds = new ArrayList<>();
+        Map<String, String> names = new HashMap<>();
+        Map<String, int[]> dividendRounds = new HashMap<>();
+        for (JsonNode stock : required(root, "stocks")) {
+            String stockId = required(stock, "id").asText();
+            if (stockIds.contains(stockId)) {
+                throw new IllegalArgumentException("Duplicate stock in market scenario: " + stockId);
+            }
+            stockIds.add(stockId);
+            readInstrument(stock, stockId, names, dividendRounds);
+        }
+
+        Map<String, Map<String, Double>> fundCompositions = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> funds = required(root, "funds").fields();
+        while (funds.hasNext()) {
+            Map.Entry<String, JsonNode> fund = funds.next();
+            if (stockIds.contains(fund.getKey())) {
+                throw new IllegalArgumentException("Fund id conflicts with stock id: " + fund.getKey());
+            }
+            readInstrument(fund.getValue(), fund.getKey(), names, dividendRounds);
+            Map<String, Double> composition = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> weights = required(fund.getValue(), "weights").fields();
+            while (weights.hasNext()) {
+                Map.Entry<String, JsonNode> weight = weights.next();
+                requireStock(stockIds, weight.getKey(), "fund " + fund.getKey());
+                // 기존 계산과 같은 값이 되도록 double 로 보관 (BigDecimal.valueOf(double))
+                composition.put(weight.getKey(), weight.getValue().asDouble());
+            }
+            fundCompositions.put(fund.getKey(), composition);
+        }
+
+        Map<GameMode, MarketScenario.Mode> modes = new EnumMap<>(GameMode.class);
+        Iterator<Map.Entry<String, JsonNode>> modeNodes = required(root, "modes").fields();
+        while (modeNodes.hasNext()) {
+            Map.Entry<String, JsonNode> entry = modeNodes.next();
+            GameMode gameMode = GameMode.valueOf(entry.getKey());
+            JsonNode node = entry.getValue();
+
+            boolean patterned = node.path("patterned").asBoolean(false);
+
+            Map<String, Long> startPrices = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> prices = required(node, "startPrices").fields();
+            while (prices.hasNext()) {
+                Map.Entry<String, JsonNode> price = prices.next();
+                requireStock(stockIds, price.getKey(), gameMode + " startPrices");
+                startPrices.put(price.getKey(), price.getValue().asLong());
+            }
+
+            JsonNode caseNodes = required(node, "cases");
+            String[] patterns = patterned
+                ? new String[] {MarketScenario.PATTERN_UP, MarketScenario.PATTERN_DOWN}
+                : new String[] {MarketScenario.PATTERN_UP};
+            Map<String, BigDecimal[]>[][] cases = new Map[caseNodes.size()][patterns.length];
+            for (int c = 0; c < caseNodes.size(); c++) {
+                for (int p = 0; p < patterns.length; p++) {
+                    Map<String, BigDecimal[]> rates = new HashMap<>();
+                    Iterator<Map.Entry<String, JsonNode>> stocks = required(caseNodes.get(c), patterns[p]).fields();
+                    while (stocks.hasNext()) {
+                        Map.Entry<String, JsonNode> stock = stocks.next();
+                        requireStock(stockIds, stock.getKey(), gameMode + " case " + (c + 1));
+                        rates.put(stock.getKey(), decimals(stock.getValue()));
+                    }
+                    cases[c][p] = rates;
+                }
+            }
+
+            modes.put(gameMode, new MarketScenario.Mode(
+                required(node, "rounds").asInt(),
+                patterned,
+                node.path("startNav").asLong(10000L),
+                startPrices,
+                decimals(required(node, "baseRates")),
+                cases));
+        }
+
+        return new MarketScenario(stockIds, fundCompositions, names, dividendRounds, modes);
+    }
+
+    private static void readInstrument(JsonNode node, String id, Map<String, String> names,
+                                       Map<String, int[]> dividendRounds) {
+        names.put(id, node.path("name").asText(id));
+        JsonNode rounds = node.path("dividendRounds");
+        if (rounds.isArray() && rounds.size() > 0) {
+            int[] values = new int[rounds.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rounds.get(i).asInt();
+            }
+            dividendRounds.put(id, values);
+        }
+    }
+
+    private static BigDecimal[] decimals(JsonNode array) {
+        BigDecimal[] values = new BigDecimal[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i).decimalValue();
+        }
+        return values;
+    }
+
+    private static JsonNode required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Missing field in market scenario: " + field);
+        }
+        return value;
+    }
+
+    private static void requireStock(List<String> stockIds, String stockId, String where) {
+        if (!stockIds.contains(stockId)) {
+            throw new IllegalArgumentException("Unknown stock in " + where + ": " + stockId);
+        }
+    }
+}
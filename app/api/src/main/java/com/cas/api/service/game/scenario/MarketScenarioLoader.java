@@ -0,0 +1,176 @@
+package com.cas.api.service.game.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 시장 시나리오 로더
+ *
+ * - 기본: classpath 의 scenario/market-scenario.pack (빌드 시 JSON 에서 변환)
+ * - market.scenario.path 지정 시 해당 파일 사용 (.pack: 메모리 매핑, .json: 기동/교체 시 1회 변환)
+ * - market.scenario.watch-enabled=true 이면 파일 변경을 감지하여 재배포 없이 활성 시나리오 교체
+ *
+ * 교체 시 새 시나리오를 리스너(MarketEventService 등)에 먼저 적용하고, 실패하면 기존 시나리오를 유지합니다.
+ */
+@Slf4j
+@Component
+public class MarketScenarioLoader implements InitializingBean {
+
+    public static final String CLASSPATH_PACK = "scenario/market-scenario.pack";
+    public static final String CLASSPATH_SOURCE = "scenario/market-scenario.json";
+
+    @Value("${market.scenario.path:}")
+    private String scenarioPath;
+
+    @Value("${market.scenario.watch-enabled:false}")
+    private boolean watchEnabled;
+
+    private final List<Consumer<MarketScenario>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile MarketScenario active;
+
+    private volatile String activeSource;
+
+    private long loadedModified;
+    private long loadedSize;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        active = load();
+        log.info("Market scenario loaded: source={}, modes={}", activeSource, active.getModes().keySet());
+    }
+
+    /**
+     * 활성 시나리오
+     */
+    public MarketScenario getActive() {
+        return active;
+    }
+
+    /**
+     * 시나리오 교체 리스너 등록 (교체 전에 호출되며, 예외를 던지면 교체 취소)
+     */
+    public void addListener(Consumer<MarketScenario> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 시나리오 다시 읽기
+     *
+     * @return 교체 성공 여부
+     */
+    public synchronized boolean reload() {
+        try {
+            MarketScenario scenario = load();
+            for (Consumer<MarketScenario> listener : listeners) {
+                listener.accept(scenario);
+            }
+            active = scenario;
+            log.info("Market scenario reloaded: source={}, modes={}", activeSource, scenario.getModes().keySet());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to reload market scenario, keeping current one. path={}", scenarioPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * 시나리오 파일 변경 감지
+     */
+    @Scheduled(fixedDelayString = "${market.scenario.watch-interval-ms:10000}")
+    public void checkForUpdate() {
+        if (!watchEnabled || scenarioPath == null || scenarioPath.isEmpty()) {
+            return;
+        }
+
+        try {
+            Path path = Paths.get(scenarioPath);
+            if (!Files.exists(path)) {
+                return;
+            }
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            long size = Files.size(path);
+            synchronized (this) {
+                if (modified == loadedModified && size == loadedSize) {
+                    return;
+                }
+            }
+            log.info("Market scenario file changed: path={}", path);
+            reload();
+        } catch (IOException e) {
+            log.error("Failed to check market scenario file. path={}", scenarioPath, e);
+        }
+    }
+
+    private synchronized MarketScenario load() throws IOException {
+        if (scenarioPath != null && !scenarioPath.isEmpty()) {
+            Path path = Paths.get(scenarioPath);
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            long size = Files.size(path);
+
+            MarketScenario scenario;
+            if (scenarioPath.endsWith(".json")) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    scenario = MarketScenarioCompiler.parse(in);
+                }
+            } else {
+                scenario = MarketScenarioPack.decode(map(path));
+            }
+
+            loadedModified = modified;
+            loadedSize = size;
+            activeSource = path.toString();
+            return scenario;
+        }
+
+        ClassLoader classLoader = getClass().getClassLoader();
+        URL pack = classLoader.getResource(CLASSPATH_PACK);
+        if (pack != null) {
+            activeSource = "classpath:" + CLASSPATH_PACK;
+            if ("file".equals(pack.getProtocol())) {
+                try {
+                    return MarketScenarioPack.decode(map(Paths.get(pack.toURI())));
+                } catch (URISyntaxException e) {
+                    log.warn("Invalid market scenario pack URL, reading as stream: {}", pack);
+                }
+            }
+            try (InputStream in = pack.openStream()) {
+                return MarketScenarioPack.decode(ByteBuffer.wrap(in.readAllBytes()));
+            }
+        }
+
+        // 팩이 없으면 (IDE 실행 등) JSON 원본을 직접 변환
+        URL source = classLoader.getResource(CLASSPATH_SOURCE);
+        if (source == null) {
+            throw new IllegalStateException("Market scenario not found: " + CLASSPATH_PACK + ", " + CLASSPATH_SOURCE);
+        }
+        log.warn("Market scenario pack not found, compiling {} at startup", CLASSPATH_SOURCE);
+        activeSource = "classpath:" + CLASSPATH_SOURCE;
+        try (InputStream in = source.openStream()) {
+            return MarketScenarioCompiler.parse(in);
+        }
+    }
+
+    private ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.cas.api.service.game.scenario;
+
+import com.cas.api.enums.GameMode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 시장 시나리오 바이너리 팩 형식 (big-endian)
+ *
+ * <pre>
+ * int     MAGIC ("MKSP")
+ * short   FORMAT_VERSION
+ * u8      종목 수, { 종목 ID, 이름, 배당 라운드 }[]          (문자열 = u8 길이 + UTF-8)
+ * u8      펀드 수, { 펀드 ID, 이름, 배당 라운드, u8 구성 수, { u8 종목 인덱스, double 비중 }[] }[]
+ * u8      모드 수, {
+ *           모드 이름, u8 라운드 수, u8 케이스 수, u8 패턴 사용 여부,
+ *           long 시작 NAV, long[종목 수] 시작가 (-1 = 없음),
+ *           u16 기준금리 수, decimal[],
+ *           케이스 × 패턴 × 종목 { u8 등락률 수 (0 = 없음), decimal[] }
+ *         }[]
+ * int     CRC32 (앞의 모든 바이트)
+ *
+ * decimal = long unscaled + u8 scale (원본 소수 자릿수 그대로 복원)
+ * 배당 라운드 = u8 개수 + u8 라운드[]
+ * </pre>
+ */
+public final class MarketScenarioPack {
+
+    public static final int MAGIC = 0x4D4B5350;
+    public static final short FORMAT_VERSION = 2;
+
+    private static final long NO_PRICE = -1L;
+
+    private MarketScenarioPack() {
+    }
+
+    /**
+     * 시나리오 → 팩 바이트
+     */
+    public static byte[] encode(MarketScenario scenario) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+
+            List<String> stockIds = scenario.getStockIds();
+            Map<String, Integer> stockIndex = new HashMap<>();
+            out.writeByte(checkU8(stockIds.size(), "stock count"));
+            for (int i = 0; i < stockIds.size(); i++) {
+                writeString(out, stockIds.get(i));
+                writeInstrument(out, scenario, stockIds.get(i));
+                stockIndex.put(stockIds.get(i), i);
+            }
+
+            out.writeByte(checkU8(scenario.getFundCompositions().size(), "fund count"));
+            for (Map.Entry<String, Map<String, Double>> fund : scenario.getFundCompositions().entrySet()) {
+                writeString(out, fund.getKey());
+                writeInstrument(out, scenario, fund.getKey());
+                out.writeByte(checkU8(fund.getValue().size(), "fund composition"));
+                for (Map.Entry<String, Double> weight : fund.getValue().entrySet()) {
+                    Integer index = stockIndex.get(weight.getKey());
+                    if (index == null) {
+                        throw new IllegalArgumentException("Unknown stock in fund " + fund.getKey() + ": " + weight.getKey());
+                    }
+                    out.writeByte(index);
+                    out.writeDouble(weight.getValue());
+                }
+            }
+
+            out.writeByte(checkU8(scenario.getModes().size(), "mode count"));
+            for (Map.Entry<GameMode, MarketScenario.Mode> entry : scenario.getModes().entrySet()) {
+                MarketScenario.Mode mode = entry.getValue();
+                writeString(out, entry.getKey().name());
+                out.writeByte(checkU8(mode.getRounds(), "rounds"));
+                out.writeByte(checkU8(mode.getCaseCount(), "case count"));
+                out.writeByte(mode.isPatterned() ? 1 : 0);
+                out.writeLong(mode.getStartNav());
+                for (String stockId : stockIds) {
+                    Long price = mode.getStartPrices().get(stockId);
+                    out.writeLong(price != null ? price : NO_PRICE);
+                }
+
+                BigDecimal[] baseRates = mode.getBaseRates();
+                out.writeShort(checkU16(baseRates.length, "base rate count"));
+                for (BigDecimal rate : baseRates) {
+                    writeDecimal(out, rate);
+                }
+
+                int patternCount = mode.isPatterned() ? 2 : 1;
+                for (int c = 0; c < mode.getCaseCount(); c++) {
+                    for (int p = 0; p < patternCount; p++) {
+                        for (String stockId : stockIds) {
+                            BigDecimal[] rates = mode.rates(c, p, stockId);
+                            if (rates == null) {
+                                out.writeByte(0);
+                                continue;
+                            }
+                            out.writeByte(checkU8(rates.length, "rate count"));
+                            for (BigDecimal rate : rates) {
+                                writeDecimal(out, rate);
+                            }
+                        }
+                    }
+                }
+            }
+            out.flush();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode market scenario pack", e);
+        }
+    }
+
+    /**
+     * 팩 바이트 → 시나리오 (메모리 매핑된 버퍼를 그대로 읽음)
+     */
+    @SuppressWarnings("unchecked")
+    public static MarketScenario decode(ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.remaining() < 10) {
+                throw new IllegalArgumentException("Invalid market scenario pack: too short");
+            }
+            verifyChecksum(in);
+
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Invalid market scenario pack: bad magic");
+            }
+            short version = in.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported market scenario pack version: " + version);
+            }
+
+            Map<String, String> names = new HashMap<>();
+            Map<String, int[]> dividendRounds = new HashMap<>();
+
+            int stockCount = readU8(in);
+            List<String> stockIds = new ArrayList<>(stockCount);
+            for (int i = 0; i < stockCount; i++) {
+                String stockId = readString(in);
+                readInstrument(in, stockId, names, dividendRounds);
+                stockIds.add(stockId);
+            }
+
+            int fundCount = readU8(in);
+            Map<String, Map<String, Double>> fundCompositions = new LinkedHashMap<>();
+            for (int f = 0; f < fundCount; f++) {
+                String fundId = readString(in);
+                readInstrument(in, fundId, names, dividendRounds);
+                int size = readU8(in);
+                Map<String, Double> composition = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    composition.put(stockIds.get(readU8(in)), in.getDouble());
+                }
+                fundCompositions.put(fundId, composition);
+            }
+
+            int modeCount = readU8(in);
+            Map<GameMode, MarketScenario.Mode> modes = new EnumMap<>(GameMode.class);
+            for (int m = 0; m < modeCount; m++) {
+                GameMode gameMode = GameMode.valueOf(readString(in));
+                int rounds = readU8(in);
+                int caseCount = readU8(in);
+                boolean patterned = readU8(in) != 0;
+                long startNav = in.getLong();
+
+                Map<String, Long> startPrices = new HashMap<>();
+                for (String stockId : stockIds) {
+                    long price = in.getLong();
+                    if (price != NO_PRICE) {
+                        startPrices.put(stockId, price);
+                    }
+                }
+
+                BigDecimal[] baseRates = new BigDecimal[in.getShort() & 0xFFFF];
+                for (int i = 0; i < baseRates.length; i++) {
+                    baseRates[i] = readDecimal(in);
+                }
+
+                int patternCount = patterned ? 2 : 1;
+                Map<String, BigDecimal[]>[][] cases = new Map[caseCount][patternCount];
+                for (int c = 0; c < caseCount; c++) {
+                    for (int p = 0; p < patternCount; p++) {
+                        Map<String, BigDecimal[]> rates = new HashMap<>();
+                        for (String stockId : stockIds) {
+                            int length = readU8(in);
+                            if (length == 0) {
+                                continue;
+                            }
+                            BigDecimal[] values = new BigDecimal[length];
+                            for (int i = 0; i < length; i++) {
+                                values[i] = readDecimal(in);
+                            }
+                            rates.put(stockId, values);
+                        }
+                        cases[c][p] = rates;
+                    }
+                }
+
+                modes.put(gameMode, new MarketScenario.Mode(rounds, patterned, startNav, startPrices, baseRates, cases));
+            }
+
+            if (in.remaining() != 4) {
+                throw new IllegalArgumentException("Invalid market scenario pack: unexpected trailing bytes");
+            }
+            return new MarketScenario(stockIds, fundCompositions, names, dividendRounds, modes);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid market scenario pack: truncated", e);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer in) {
+        ByteBuffer body = in.duplicate();
+        body.limit(in.limit() - 4);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != in.getInt(in.limit() - 4)) {
+            throw new IllegalArgumentException("Invalid market scenario pack: checksum mismatch");
+        }
+    }
+
+    private static void writeInstrument(DataOutputStream out, MarketScenario scenario, String id) throws IOException {
+        writeString(out, scenario.nameOf(id));
+        int[] rounds = scenario.dividendRoundsOf(id);
+        out.writeByte(checkU8(rounds.length, "dividend round count"));
+        for (int round : rounds) {
+            out.writeByte(checkU8(round, "dividend round"));
+        }
+    }
+
+    private static void readInstrument(ByteBuffer in, String id, Map<String, String> names,
+                                       Map<String, int[]> dividendRounds) {
+        names.put(id, readString(in));
+        int[] rounds = new int[readU8(in)];
+        for (int i = 0; i < rounds.length; i++) {
+            rounds[i] = readU8(in);
+        }
+        if (rounds.length > 0) {
+            dividendRounds.put(id, rounds);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(checkU8(bytes.length, "string length"));
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readU8(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeLong(value.unscaledValue().longValueExact());
+        out.writeByte(checkU8(value.scale(), "decimal scale"));
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        long unscaled = in.getLong();
+        return new BigDecimal(BigInteger.valueOf(unscaled), readU8(in));
+    }
+
+    private static int readU8(ByteBuffer in) {
+        return in.get() & 0xFF;
+    }
+
+    private static int checkU8(int value, String name) {
+        if (value < 0 || value > 0xFF) {
+            throw new IllegalArgumentException(name + " out of range: " + value);
+        }
+        return value;
+    }
+
+    private static int checkU16(int value, String name) {
+        if (value < 0 || value > 0xFFFF) {
+            throw new IllegalArgumentException(name + " out of range: " + value);
+        }
+        return value;
+    }
+}
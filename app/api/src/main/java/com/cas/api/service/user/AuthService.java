@@ -1,15 +1,21 @@
 package com.cas.api.service.user;
 
+import com.cas.api.dto.domain.LoginSessionDto;
 import com.cas.api.service.external.TransactionService;
 import com.cas.common.core.util.KinfaRunException;
 import com.cas.common.infra.cache.CacheService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -26,10 +32,12 @@ public class AuthService {
     private final TransactionService transactionService;
     private final UserService userService;
     private final CacheService cacheService;
+    private final ObjectMapper objectMapper;
 
     // Redis 키 패턴
     private static final String REDIS_KEY_LOGIN_SESSION = "login:session:%s";
     private static final int LOGIN_SESSION_TTL = 86400; // 24시간
+    private static final TypeReference<Map<String, Object>> USER_TYPE = new TypeReference<Map<String, Object>>() {};
 
     // 로그인 방법 코드
     public static final String LOGIN_METHOD_SIMPLE = "01"; // 간편인증
@@ -53,9 +61,18 @@ public class AuthService {
         String loginDt = LocalDateTime.now().format(DATE_FORMATTER);
 
         try {
-            // 1. 사용자 확인
-            Map<String, Object> userCheck = userService.checkUser(mbrSno);
-            if (!(Boolean) userCheck.get("exists")) {
+            // 1. 사용자 캐시와 기존 세션 일괄 조회 (MGET 1회), 사용자 캐시 미스면 DB 조회
+            String redisKey = String.format(REDIS_KEY_LOGIN_SESSION, mbrSno);
+            String userKey = userService.getUserCacheKey(mbrSno);
+            Map<String, JsonNode> cached = cacheService.multiGetObject(Arrays.asList(userKey, redisKey), JsonNode.class);
+
+            Map<String, Object> user = cached.containsKey(userKey)
+                ? objectMapper.convertValue(cached.get(userKey), USER_TYPE) : null;
+            boolean userLoaded = user == null;
+            if (userLoaded) {
+                user = userService.loadUserFromDb(mbrSno);
+            }
+            if (user == null) {
                 log.warn("■ User not found for login: {}", mbrSno);
                 result.put("success", false);
                 result.put("message", "등록되지 않은 사용자입니다.");
@@ -63,13 +80,13 @@ public class AuthService {
             }
 
             // 2. 기존 세션 확인 (중복 로그인 체크)
-            String redisKey = String.format(REDIS_KEY_LOGIN_SESSION, mbrSno);
-            Map<String, Object> existingSession = cacheService.getObject(redisKey, Map.class);
+            LoginSessionDto existingSession = cached.containsKey(redisKey)
+                ? objectMapper.convertValue(cached.get(redisKey), LoginSessionDto.class) : null;
             
             if (existingSession != null) {
                 log.info("■ Existing session found, will be replaced: {}", mbrSno);
                 // 기존 세션의 로그아웃 처리 (필요시)
-                String prevLoginDt = (String) existingSession.get("loginDt");
+                String prevLoginDt = existingSession.getLoginDt();
                 if (prevLoginDt != null) {
                     try {
                         transactionService.updateLogout(mbrSno, prevLoginDt);
@@ -83,15 +100,24 @@ public class AuthService {
             HashMap<String, Object> dbResult = transactionService.createLoginLog(mbrSno, LOGIN_METHOD_SIMPLE, LOGIN_TYPE_NORMAL);
             log.info("■ Login log created in DB: {}", dbResult);
 
-            // 4. Redis에 세션 저장
-            Map<String, Object> sessionData = new HashMap<>();
-            sessionData.put("mbrSno", mbrSno);
-            sessionData.put("loginDt", loginDt);
-            sessionData.put("user", userCheck.get("user"));
-            sessionData.put("isLoggedIn", true);
-
-            cacheService.setObject(redisKey, sessionData, LOGIN_SESSION_TTL, TimeUnit.SECONDS);
-            log.info("■ Session saved to Redis: {}", redisKey);
+            // 4. Redis에 세션 저장 (DB에서 읽은 사용자 정보도 함께, 키별 TTL 로 파이프라인 1회)
+            LoginSessionDto sessionData = LoginSessionDto.builder()
+                .mbrSno(mbrSno)
+                .loginDt(loginDt)
+                .user(user)
+                .isLoggedIn(true)
+                .build();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            Map<String, Long> ttlSeconds = new HashMap<>();
+            values.put(redisKey, sessionData);
+            ttlSeconds.put(redisKey, (long) LOGIN_SESSION_TTL);
+            if (userLoaded) {
+                values.put(userKey, user);
+                ttlSeconds.put(userKey, userService.getUserCacheTtlSeconds());
+            }
+            cacheService.multiSetObject(values, ttlSeconds);
+            log.info("■ Session saved to Redis: {}, userCached={}", redisKey, userLoaded);
 
             result.put("success", true);
             result.put("mbrSno", mbrSno);
@@ -178,16 +204,12 @@ public class AuthService {
     }
 
     /**
-     * 세션 갱신 (TTL 연장)
+     * 세션 갱신 (TTL 연장, 세션이 없으면 무시)
      */
     public void refreshSession(Long mbrSno) {
         String redisKey = String.format(REDIS_KEY_LOGIN_SESSION, mbrSno);
-        Map<String, Object> sessionData = cacheService.getObject(redisKey, Map.class);
-
-        if (sessionData != null) {
-            cacheService.setObject(redisKey, sessionData, LOGIN_SESSION_TTL, TimeUnit.SECONDS);
-            log.debug("■ Session refreshed: {}", redisKey);
-        }
+        cacheService.expire(redisKey, LOGIN_SESSION_TTL, TimeUnit.SECONDS);
+        log.debug("■ Session refreshed: {}", redisKey);
     }
 
     /**
@@ -196,11 +218,9 @@ public class AuthService {
     public void forceLogout(Long mbrSno) {
         log.info("■ AuthService.forceLogout - mbrSno: {}", mbrSno);
 
+        // 로그인 세션과 사용자 캐시 함께 삭제
         String redisKey = String.format(REDIS_KEY_LOGIN_SESSION, mbrSno);
-        cacheService.delete(redisKey);
-
-        // 사용자 캐시도 삭제
-        userService.removeUserFromCache(mbrSno);
+        cacheService.multiDelete(Arrays.asList(redisKey, userService.getUserCacheKey(mbrSno)));
 
         log.info("■ Force logout completed: {}", mbrSno);
     }
@@ -3,6 +3,7 @@ package com.cas.api.service.user;
 import com.cas.api.service.external.TransactionService;
 import com.cas.common.core.util.KinfaRunException;
 import com.cas.common.infra.cache.CacheService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class UserService {
     private static final String REDIS_KEY_USER = "user:%s";
     private static final String REDIS_KEY_NICKNAME_COUNTER = "nickname:counter:%d:%d"; // adjective:npc
     private static final int USER_CACHE_TTL = 86400; // 24시간
+    private static final TypeReference<Map<String, Object>> USER_TYPE = new TypeReference<Map<String, Object>>() {};
     private static final int MAX_AUTO_NUMBER = 9999;
     private static final int MAX_NICKNAME_ATTEMPTS = 100; // 최대 시도 횟수
 
@@ -148,44 +150,37 @@ public class UserService {
     /**
      * 사용자 존재 여부 확인
      */
+    @SuppressWarnings("unchecked")
     public Map<String, Object> checkUser(Long mbrSno) {
         log.info("■ UserService.checkUser - mbrSno: {}", mbrSno);
 
         Map<String, Object> result = new HashMap<>();
 
         try {
-            // 1. Redis 캐시 먼저 확인
-            String redisKey = String.format(REDIS_KEY_USER, mbrSno);
-            Map<String, Object> cachedUser = cacheService.getObject(redisKey, Map.class);
-
-            if (cachedUser != null) {
-                log.info("■ User found in Redis cache: {}", mbrSno);
-                result.put("exists", true);
-                result.put("user", cachedUser);
-                return result;
-            }
-
-            // 2. DB 조회
-            HashMap<String, Object> dbResult = transactionService.getGameBasicInfo(mbrSno);
-
-            if (dbResult != null && !dbResult.isEmpty()) {
-                log.info("■ User found in DB: {}", mbrSno);
-
-                // Redis에 캐싱
-                cacheService.setObject(redisKey, dbResult, USER_CACHE_TTL, TimeUnit.SECONDS);
-
+            // 1. Redis 캐시 먼저 확인, 없으면 DB 조회 후 캐싱 (미스 시 한 요청만 DB 조회)
+            boolean[] loaded = new boolean[1];
+            Map<String, Object> user = cacheService.getOrLoad(getUserCacheKey(mbrSno), Map.class, USER_CACHE_TTL, TimeUnit.SECONDS, () -> {
+                loaded[0] = true;
+                return loadUserFromDb(mbrSno);
+            });
+
+            // 2. 결과 반환
+            if (user != null) {
+                log.info("■ User found in {}: {}", loaded[0] ? "DB" : "Redis cache", mbrSno);
                 result.put("exists", true);
-                result.put("user", dbResult);
+                result.put("user", user);
             } else {
                 log.info("■ User not found: {}", mbrSno);
                 result.put("exists", false);
                 result.put("user", null);
             }
 
-        } catch (KinfaRunException e) {
-            log.error("■ Error checking user: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // 로더의 KinfaRunException 은 RuntimeException 으로 감싸서 전달됨
+            String message = e.getCause() instanceof KinfaRunException ? e.getCause().getMessage() : e.getMessage();
+            log.error("■ Error checking user: {}", message);
             result.put("exists", false);
-            result.put("error", e.getMessage());
+            result.put("error", message);
         }
 
         return result;
@@ -228,7 +223,7 @@ public class UserService {
             HashMap<String, Object> dbResult = transactionService.createGameBasicInfo(mbrSno, nicknameResult.nickname);
 
             // 4. Redis 캐싱
-            String redisKey = String.format(REDIS_KEY_USER, mbrSno);
+            String redisKey = getUserCacheKey(mbrSno);
             Map<String, Object> userData = new HashMap<>();
             userData.put("MBR_SNO", mbrSno);
             userData.put("NINAM_SNO", nicknameResult.ninamSno);
@@ -280,7 +275,7 @@ public class UserService {
             // transactionService.updateNickname(mbrSno, nicknameResult.nickname);
 
             // 3. Redis 업데이트
-            String redisKey = String.format(REDIS_KEY_USER, mbrSno);
+            String redisKey = getUserCacheKey(mbrSno);
             Map<String, Object> cachedUser = cacheService.getObject(redisKey, Map.class);
 
             if (cachedUser != null) {
@@ -407,11 +402,35 @@ public class UserService {
         return NPC_NAMES.getOrDefault(npcNo, "포용이");
     }
 
+    /**
+     * 사용자 정보 Redis 키
+     */
+    public String getUserCacheKey(Long mbrSno) {
+        return String.format(REDIS_KEY_USER, mbrSno);
+    }
+
+    /**
+     * 사용자 정보 캐시 TTL (초)
+     */
+    public long getUserCacheTtlSeconds() {
+        return USER_CACHE_TTL;
+    }
+
+    /**
+     * DB에서 사용자 정보 조회 (캐싱하지 않음, 캐시 미스를 이미 확인한 경우 사용)
+     * 
+     * @return 사용자 정보, 없으면 null
+     */
+    public Map<String, Object> loadUserFromDb(Long mbrSno) throws KinfaRunException {
+        HashMap<String, Object> dbResult = transactionService.getGameBasicInfo(mbrSno);
+        return dbResult == null || dbResult.isEmpty() ? null : dbResult;
+    }
+
     /**
      * Redis에서 사용자 정보 로드
      */
     public Map<String, Object> loadUserFromCache(Long mbrSno) {
-        String redisKey = String.format(REDIS_KEY_USER, mbrSno);
+        String redisKey = getUserCacheKey(mbrSno);
         return cacheService.getObject(redisKey, Map.class);
     }
 
@@ -419,15 +438,32 @@ public class UserService {
      * Redis에 사용자 정보 저장
      */
     public void saveUserToCache(Long mbrSno, Map<String, Object> userData) {
-        String redisKey = String.format(REDIS_KEY_USER, mbrSno);
+        String redisKey = getUserCacheKey(mbrSno);
         cacheService.setObject(redisKey, userData, USER_CACHE_TTL, TimeUnit.SECONDS);
     }
 
+    /**
+     * Redis에서 여러 사용자 정보 일괄 로드 (MGET 1회)
+     * 
+     * @return 회원일련번호 → 사용자 정보 (캐시에 없는 사용자는 제외)
+     */
+    public Map<Long, Map<String, Object>> loadUsersFromCache(Collection<Long> mbrSnos) {
+        Map<String, Long> keys = new LinkedHashMap<>();
+        for (Long mbrSno : mbrSnos) {
+            keys.put(getUserCacheKey(mbrSno), mbrSno);
+        }
+
+        Map<Long, Map<String, Object>> users = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> cached = cacheService.multiGetObject(keys.keySet(), USER_TYPE);
+        cached.forEach((key, user) -> users.put(keys.get(key), user));
+        return users;
+    }
+
     /**
      * Redis에서 사용자 정보 삭제
      */
     public void removeUserFromCache(Long mbrSno) {
-        String redisKey = String.format(REDIS_KEY_USER, mbrSno);
+        String redisKey = getUserCacheKey(mbrSno);
         cacheService.delete(redisKey);
     }
 }
@@ -0,0 +1,118 @@
+package com.cas.api.service.financial;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 금융상품 계산 고정소수점(long) 오버로드 ↔ 기존 BigDecimal 계산 동치 테스트
+ *
+ * 금액/금리/수량/회차 조합별로 두 계산 결과가 같아야 합니다.
+ */
+public class FixedPointEquivalenceTest {
+
+    private static final long[] AMOUNTS = {
+        0L, 1L, 7L, 99L, 1_001L, 9_999L, 10_000L, 12_345L, 98_765L, 500_000L, 1_234_567L, 50_000_000L, 999_999_999L
+    };
+
+    private static final String[] RATES = {
+        "0", "0.001", "0.005", "0.00875", "0.01225", "0.025", "0.026", "0.027", "0.028", "0.032", "0.034",
+        "0.035", "0.05", "0.056", "0.099", "0.183", "0.318", "-0.001", "-0.034", "-0.088", "-0.318", "-0.5"
+    };
+
+    private static final int[] QUANTITIES = {0, 1, 3, 10, 77, 1000};
+
+    private static final int MAX_MONTHS = 24;
+
+    private final StockService stockService = new StockService();
+    private final FundService fundService = new FundService();
+    private final DepositService depositService = new DepositService();
+    private final PensionService pensionService = new PensionService();
+
+    @Test
+    public void preferentialPricesAndLoanInterest() {
+        for (long amount : AMOUNTS) {
+            BigDecimal amountDecimal = BigDecimal.valueOf(amount);
+            check("stock.preferentialBuyPrice", amount, null,
+                stockService.calculatePreferentialBuyPrice(amountDecimal),
+                stockService.calculatePreferentialBuyPrice(amount));
+            check("fund.preferentialNav", amount, null,
+                fundService.calculatePreferentialNav(amountDecimal),
+                fundService.calculatePreferentialNav(amount));
+            check("pension.loanMonthlyInterest", amount, null,
+                pensionService.calculateLoanMonthlyInterest(amountDecimal),
+                pensionService.calculateLoanMonthlyInterest(amount));
+        }
+    }
+
+    @Test
+    public void closePriceAndDividends() {
+        for (long amount : AMOUNTS) {
+            BigDecimal amountDecimal = BigDecimal.valueOf(amount);
+            for (String rateValue : RATES) {
+                BigDecimal rate = new BigDecimal(rateValue);
+                long rateFixed = FixedPoint.of(rate);
+
+                check("stock.closePrice", amount, rateValue,
+                    stockService.calculateClosePrice(amountDecimal, rate),
+                    stockService.calculateClosePrice(amount, rateFixed));
+
+                for (int quantity : QUANTITIES) {
+                    check("stock.quarterlyDividend", amount, rateValue + " x" + quantity,
+                        stockService.calculateQuarterlyDividend(amountDecimal, quantity, rate),
+                        stockService.calculateQuarterlyDividend(amount, quantity, rateFixed));
+                    check("stock.semiannualDividend", amount, rateValue + " x" + quantity,
+                        stockService.calculateSemiannualDividend(amountDecimal, quantity, rate),
+                        stockService.calculateSemiannualDividend(amount, quantity, rateFixed));
+                    check("fund.semiannualDividend", amount, rateValue + " x" + quantity,
+                        fundService.calculateSemiannualDividend(amountDecimal, quantity, rate),
+                        fundService.calculateSemiannualDividend(amount, quantity, rateFixed));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void depositAndSavingMaturity() {
+        for (long amount : AMOUNTS) {
+            BigDecimal amountDecimal = BigDecimal.valueOf(amount);
+            for (String rateValue : RATES) {
+                BigDecimal rate = new BigDecimal(rateValue);
+                long rateFixed = FixedPoint.of(rate);
+
+                for (int months = 0; months <= MAX_MONTHS; months++) {
+                    check("deposit.maturity", amount, rateValue + " " + months + "m",
+                        depositService.calculateDepositMaturity(amountDecimal, rate, months),
+                        depositService.calculateDepositMaturity(amount, rateFixed, months));
+                    check("saving.maturity", amount, rateValue + " " + months + "m",
+                        depositService.calculateSavingMaturity(amountDecimal, rate, months),
+                        depositService.calculateSavingMaturity(amount, rateFixed, months));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void earlyWithdrawalAndPensionPayout() {
+        for (long amount : AMOUNTS) {
+            BigDecimal amountDecimal = BigDecimal.valueOf(amount);
+            for (int months = 0; months <= MAX_MONTHS; months++) {
+                check("deposit.earlyWithdrawal", amount, months + "m",
+                    depositService.calculateDepositEarlyWithdrawal(amountDecimal, months),
+                    depositService.calculateDepositEarlyWithdrawal(amount, months));
+                check("saving.earlyWithdrawal", amount, months + "m",
+                    depositService.calculateSavingEarlyWithdrawal(amountDecimal, months),
+                    depositService.calculateSavingEarlyWithdrawal(amount, months));
+                check("pension.payout", amount, months + "m",
+                    pensionService.calculatePensionPayout(amountDecimal, months),
+                    pensionService.calculatePensionPayout(amount, months));
+            }
+        }
+    }
+
+    private void check(String name, long amount, String params, BigDecimal expected, long actual) {
+        assertEquals(name + ", amount=" + amount + ", params=" + params, expected.longValueExact(), actual);
+    }
+}
@@ -0,0 +1,152 @@
+package com.cas.api.service.financial;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * FixedPoint 단위 테스트
+ *
+ * 기준값은 기존 BigDecimal 계산(HALF_UP)으로 구합니다.
+ */
+public class FixedPointTest {
+
+    private static final long[] AMOUNTS = {
+        0L, 1L, 2L, 3L, 5L, 7L, 99L, 1_001L, 9_999L, 10_000L, 12_345L, 500_000L, 999_999_999L,
+        -1L, -3L, -12_345L
+    };
+
+    private static final String[] RATES = {
+        "0", "0.0000000001", "0.0000000005", "0.001", "0.005", "0.00875", "0.056", "0.1", "0.25", "0.5",
+        "0.999", "-0.0000000001", "-0.001", "-0.034", "-0.318", "-0.5", "-1"
+    };
+
+    @Test
+    public void of_convertsToTenDecimalPlaces() {
+        assertEquals(560_000_000L, FixedPoint.of(new BigDecimal("0.056")));
+        assertEquals(-340_000_000L, FixedPoint.of(new BigDecimal("-0.034")));
+        assertEquals(1L, FixedPoint.of(new BigDecimal("0.0000000001")));
+        assertEquals(FixedPoint.ONE, FixedPoint.of(1.0));
+        assertEquals(new BigDecimal("0.0560000000"), FixedPoint.toBigDecimal(560_000_000L));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void of_rejectsMoreThanTenDecimalPlaces() {
+        FixedPoint.of(new BigDecimal("0.00000000001"));
+    }
+
+    @Test
+    public void divideHalfUp_roundsHalfAwayFromZero() {
+        assertEquals(2L, FixedPoint.divideHalfUp(15, 10));
+        assertEquals(1L, FixedPoint.divideHalfUp(14, 10));
+        assertEquals(-2L, FixedPoint.divideHalfUp(-15, 10));
+        assertEquals(-1L, FixedPoint.divideHalfUp(-14, 10));
+        assertEquals(-2L, FixedPoint.divideHalfUp(15, -10));
+        assertEquals(2L, FixedPoint.divideHalfUp(-15, -10));
+        assertEquals(0L, FixedPoint.divideHalfUp(4, 10));
+        assertEquals(1L, FixedPoint.divideHalfUp(6, 12));
+        assertEquals(0L, FixedPoint.divideHalfUp(5, 12));
+    }
+
+    @Test
+    public void applyRate_matchesBigDecimal() {
+        for (long amount : AMOUNTS) {
+            for (String rate : RATES) {
+                BigDecimal expected = BigDecimal.valueOf(amount)
+                        .multiply(BigDecimal.ONE.add(new BigDecimal(rate)))
+                        .setScale(0, RoundingMode.HALF_UP);
+                assertEquals("amount=" + amount + ", rate=" + rate,
+                        expected.longValueExact(), FixedPoint.applyRate(amount, FixedPoint.of(new BigDecimal(rate))));
+            }
+        }
+    }
+
+    @Test
+    public void multiplyRate_matchesBigDecimal() {
+        for (long amount : AMOUNTS) {
+            for (String rate : RATES) {
+                BigDecimal expected = BigDecimal.valueOf(amount)
+                        .multiply(new BigDecimal(rate))
+                        .setScale(0, RoundingMode.HALF_UP);
+                assertEquals("amount=" + amount + ", rate=" + rate,
+                        expected.longValueExact(), FixedPoint.multiplyRate(amount, FixedPoint.of(new BigDecimal(rate))));
+            }
+        }
+    }
+
+    @Test
+    public void applyRate_halfUpBoundaries() {
+        // 1 × 1.5 = 1.5 → 2, 1 × 0.5 = 0.5 → 1, -1 × 1.5 = -1.5 → -2
+        assertEquals(2L, FixedPoint.applyRate(1L, FixedPoint.of(new BigDecimal("0.5"))));
+        assertEquals(1L, FixedPoint.applyRate(1L, FixedPoint.of(new BigDecimal("-0.5"))));
+        assertEquals(-2L, FixedPoint.applyRate(-1L, FixedPoint.of(new BigDecimal("0.5"))));
+        // 10000 × 1.00005 = 10000.5 → 10001, 10000 × 0.99995 = 9999.5 → 10000
+        assertEquals(10_001L, FixedPoint.applyRate(10_000L, FixedPoint.of(new BigDecimal("0.00005"))));
+        assertEquals(10_000L, FixedPoint.applyRate(10_000L, FixedPoint.of(new BigDecimal("-0.00005"))));
+        // 10000 × 1.000049999 = 10000.49999 → 10000
+        assertEquals(10_000L, FixedPoint.applyRate(10_000L, FixedPoint.of(new BigDecimal("0.000049999"))));
+    }
+
+    @Test
+    public void monthlyRate_matchesBigDecimal() {
+        for (String rate : RATES) {
+            for (int months = 0; months <= 36; months++) {
+                BigDecimal expected = new BigDecimal(rate)
+                        .multiply(BigDecimal.valueOf(months))
+                        .divide(BigDecimal.valueOf(12), FixedPoint.SCALE, RoundingMode.HALF_UP);
+                assertEquals("rate=" + rate + ", months=" + months,
+                        FixedPoint.of(expected), FixedPoint.monthlyRate(FixedPoint.of(new BigDecimal(rate)), months));
+            }
+        }
+    }
+
+    @Test
+    public void monthlyRate_halfUpBoundaries() {
+        // 6 × 1 / 12 = 0.5 → 1, 5 × 1 / 12 → 0, -6 × 1 / 12 = -0.5 → -1
+        assertEquals(1L, FixedPoint.monthlyRate(6L, 1));
+        assertEquals(0L, FixedPoint.monthlyRate(5L, 1));
+        assertEquals(-1L, FixedPoint.monthlyRate(-6L, 1));
+    }
+
+    @Test
+    public void multiplyHalfUp_overflowBranchMatchesBigDecimal() {
+        // 금액 × (ONE + rate) 가 long 범위를 넘어 BigInteger 로 계산되는 경우
+        long[] amounts = {999_999_999_999L, 922_337_203_685L, Long.MAX_VALUE / FixedPoint.ONE + 1, -999_999_999_999L};
+        for (long amount : amounts) {
+            for (String rate : RATES) {
+                long rateFixed = FixedPoint.of(new BigDecimal(rate));
+                BigDecimal expected = BigDecimal.valueOf(amount)
+                        .multiply(BigDecimal.ONE.add(new BigDecimal(rate)))
+                        .setScale(0, RoundingMode.HALF_UP);
+                assertEquals("amount=" + amount + ", rate=" + rate,
+                        expected.longValueExact(), FixedPoint.applyRate(amount, rateFixed));
+
+                BigDecimal expectedProduct = BigDecimal.valueOf(amount)
+                        .multiply(new BigDecimal(rate))
+                        .setScale(0, RoundingMode.HALF_UP);
+                assertEquals("amount=" + amount + ", rate=" + rate,
+                        expectedProduct.longValueExact(), FixedPoint.multiplyRate(amount, rateFixed));
+            }
+        }
+        // 경계: 곱이 정확히 .5 인 큰 값
+        assertEquals(500_000_000_001L, FixedPoint.multiplyHalfUp(1_000_000_000_001L, 5_000_000_000L, FixedPoint.ONE));
+    }
+
+    @Test
+    public void multiplyExact_multipliesRates() {
+        assertEquals(FixedPoint.of(new BigDecimal("0.25")),
+                FixedPoint.multiplyExact(FixedPoint.of(new BigDecimal("0.5")), FixedPoint.of(new BigDecimal("0.5"))));
+        assertEquals(1L,
+                FixedPoint.multiplyExact(FixedPoint.of(new BigDecimal("0.00001")), FixedPoint.of(new BigDecimal("0.00001"))));
+        assertEquals(FixedPoint.of(new BigDecimal("-0.0175")),
+                FixedPoint.multiplyExact(FixedPoint.of(new BigDecimal("-0.035")), FixedPoint.of(new BigDecimal("0.5"))));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void multiplyExact_rejectsMoreThanTenDecimalPlaces() {
+        FixedPoint.multiplyExact(FixedPoint.of(new BigDecimal("0.000001")), FixedPoint.of(new BigDecimal("0.000001")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.cas.api.service.game;
+
+import com.cas.api.dto.domain.GameSessionDto;
+import com.cas.api.dto.domain.PortfolioDto;
+import com.cas.api.enums.GameMode;
+import com.cas.api.service.game.scenario.MarketScenarioLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoundService.revalueRound JMH 벤치마크 (단일 패스 vs 기존 주식 → 펀드 → 요약 순서)
+ *
+ * 테스트 클래스패스에서 JMH 로 실행합니다 (surefire 대상 아님).
+ * <pre>
+ * mvn -pl app/api test-compile
+ * mvn -pl app/api exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main RevalueRoundBenchmark"
+ * </pre>
+ * 호출마다 라운드 1~12 를 순환하며 재평가만 측정합니다 (포트폴리오 생성과 라운드 설정은 @Setup 에서 처리).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RevalueRoundBenchmark {
+
+    @Param({"true", "false"})
+    private boolean fused;
+
+    private RoundService roundService;
+    private GameSessionDto session;
+    private PortfolioDto portfolio;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        MarketScenarioLoader loader = new MarketScenarioLoader();
+        loader.afterPropertiesSet();
+        roundService = RevalueRoundTest.newRoundService(loader, fused);
+        session = RevalueRoundTest.newSession(GameMode.COMPETITION, 2);
+    }
+
+    /**
+     * 라운드 1~12 를 한 바퀴 돌 때마다 같은 시드의 포트폴리오로 교체 (재평가가 누적되므로, 측정 시간에서 제외)
+     */
+    @Setup(Level.Invocation)
+    public void nextRound() {
+        if (round % 12 == 0) {
+            portfolio = RevalueRoundTest.samplePortfolio(new Random(7));
+        }
+        round = round % 12 + 1;
+        session.setCurrentRound(round);
+    }
+
+    @Benchmark
+    public void revalueRound(Blackhole blackhole) {
+        roundService.revalueRound(session, portfolio);
+        blackhole.consume(portfolio.getTotalAssets());
+    }
+}
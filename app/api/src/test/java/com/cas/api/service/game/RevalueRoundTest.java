@@ -0,0 +1,121 @@
+package com.cas.api.service.game;
+
+import com.cas.api.dto.domain.BondDto;
+import com.cas.api.dto.domain.DepositDto;
+import com.cas.api.dto.domain.FundHoldingDto;
+import com.cas.api.dto.domain.GameSessionDto;
+import com.cas.api.dto.domain.PensionDto;
+import com.cas.api.dto.domain.PortfolioDto;
+import com.cas.api.dto.domain.PortfolioTotals;
+import com.cas.api.dto.domain.SavingDto;
+import com.cas.api.dto.domain.StockHoldingDto;
+import com.cas.api.enums.GameMode;
+import com.cas.api.service.financial.FundService;
+import com.cas.api.service.financial.PortfolioService;
+import com.cas.api.service.financial.StockService;
+import com.cas.api.service.game.scenario.MarketScenario;
+import com.cas.api.service.game.scenario.MarketScenarioLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * RoundService.revalueRound 단일 패스 ↔ 기존 순서(주식 → 펀드 → 요약) 동치 테스트
+ *
+ * 모드별 모든 시작 케이스, 라운드 0~13 에서 두 경로의 포트폴리오가 같아야 합니다.
+ */
+public class RevalueRoundTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static MarketScenarioLoader loader;
+    private static RoundService fused;
+    private static RoundService legacy;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        loader = new MarketScenarioLoader();
+        loader.afterPropertiesSet();
+        fused = newRoundService(loader, true);
+        legacy = newRoundService(loader, false);
+    }
+
+    @Test
+    public void fusedRevalueMatchesLegacyChain() throws Exception {
+        for (Map.Entry<GameMode, MarketScenario.Mode> mode : loader.getActive().getModes().entrySet()) {
+            for (int startCase = 1; startCase <= mode.getValue().getCaseCount(); startCase++) {
+                GameSessionDto session = newSession(mode.getKey(), startCase);
+                PortfolioDto expected = samplePortfolio(new Random(startCase));
+                PortfolioDto actual = MAPPER.readValue(MAPPER.writeValueAsString(expected), PortfolioDto.class);
+
+                for (int round = 0; round <= 13; round++) {
+                    session.setCurrentRound(round);
+                    legacy.revalueRound(session, expected);
+                    fused.revalueRound(session, actual);
+
+                    String where = mode.getKey() + " case " + startCase + " round " + round;
+                    assertEquals(where, MAPPER.writeValueAsString(expected), MAPPER.writeValueAsString(actual));
+                    assertEquals(where, PortfolioTotals.of(actual), actual.getTotals());
+                }
+            }
+        }
+    }
+
+    /**
+     * 테스트 / 벤치마크용 RoundService (시세 재평가에 필요한 Service 만 연결)
+     */
+    static RoundService newRoundService(MarketScenarioLoader loader, boolean fusedRevalue) {
+        StockService stockService = new StockService();
+        FundService fundService = new FundService();
+        MarketEventService marketEventService = new MarketEventService(stockService, fundService, loader);
+        marketEventService.afterPropertiesSet();
+
+        RoundService roundService = new RoundService(null, marketEventService, null,
+            new PortfolioService(stockService, fundService));
+        ReflectionTestUtils.setField(roundService, "fusedRevalue", fusedRevalue);
+        return roundService;
+    }
+
+    static GameSessionDto newSession(GameMode gameMode, int startCase) {
+        GameSessionDto session = new GameSessionDto();
+        session.setGameMode(gameMode);
+        session.setStockStartCase(startCase);
+        Map<String, String> patterns = new HashMap<>();
+        patterns.put("STOCK_03", MarketScenario.PATTERN_DOWN);
+        patterns.put("STOCK_05", MarketScenario.PATTERN_UP);
+        session.setStockPatterns(patterns);
+        return session;
+    }
+
+    /**
+     * 주식 7 / 펀드 3 / 예금·적금·채권·연금 각 3 건을 보유한 포트폴리오
+     */
+    static PortfolioDto samplePortfolio(Random random) {
+        PortfolioDto portfolio = PortfolioDto.builder().cash(5_000_000L).build();
+        for (int i = 1; i <= 7; i++) {
+            long price = 10_000L + random.nextInt(40_000);
+            int quantity = 1 + random.nextInt(50);
+            portfolio.getStocks().add(StockHoldingDto.builder().stockId("STOCK_0" + i).quantity(quantity)
+                .avgPrice(price).currentPrice(price).evaluationAmount(price * quantity).build());
+        }
+        for (int i = 1; i <= 3; i++) {
+            int shares = 1 + random.nextInt(100);
+            portfolio.getFunds().add(FundHoldingDto.builder().fundId("FUND_0" + i).shares(shares)
+                .avgNav(10_000L).currentNav(10_000L).evaluationAmount(10_000L * shares).build());
+        }
+        for (int i = 0; i < 3; i++) {
+            portfolio.getDeposits().add(DepositDto.builder().balance(100_000L * (i + 1)).build());
+            portfolio.getSavings().add(SavingDto.builder().balance(50_000L).build());
+            portfolio.getBonds().add(BondDto.builder().evaluationAmount(300_000L).build());
+            portfolio.getPensions().add(PensionDto.builder().evaluationAmount(70_000L).build());
+        }
+        return portfolio;
+    }
+}
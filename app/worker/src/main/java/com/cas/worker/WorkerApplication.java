@@ -6,6 +6,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 워커 애플리케이션 진입점
@@ -13,6 +14,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 @Slf4j
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class})
 @EnableKafka
+@EnableScheduling
 @ComponentScan(
     basePackages = {
         "com.cas.worker",
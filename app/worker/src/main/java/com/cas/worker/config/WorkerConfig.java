@@ -1,6 +1,14 @@
 package com.cas.worker.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 /**
  * Worker 설정
@@ -10,5 +18,55 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class WorkerConfig {
     // RedisConfig에서 제공하는 ObjectMapper 사용
-}
 
+    /**
+     * 키 순서 병렬 처리용 리스너 팩토리 (BaseTaskConsumer.handleMessageOrdered)
+     * spring.kafka.* 설정은 기본 팩토리와 동일하게 적용하고,
+     * 레코드별 수동 acknowledge + 앞선 오프셋이 모두 완료될 때까지 커밋 보류 (asyncAcks)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> keyOrderedKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    /**
+     * 배치 처리용 리스너 팩토리 (BaseTaskConsumer.handleBatch)
+     * poll 한 번의 레코드(max.poll.records 이하)를 List 로 전달하고,
+     * BatchListenerFailedException 이면 앞 레코드까지 커밋 후 실패 레코드부터 재시도
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            @Value("${worker.task.max-retry:3}") int maxRetry,
+            @Value("${worker.task.retry-interval-ms:1000}") long retryIntervalMs) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryIntervalMs, maxRetry)));
+        return factory;
+    }
+
+    /**
+     * 재시도 토픽 / DLT 처리용 리스너 팩토리 (TaskRetryConsumer)
+     * 레코드별 수동 acknowledge, 지연 시간 전이면 nack 으로 되감고 잠시 대기
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> retryKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+}
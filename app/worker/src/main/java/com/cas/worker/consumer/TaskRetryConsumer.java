@@ -0,0 +1,108 @@
+package com.cas.worker.consumer;
+
+import com.cas.common.infra.annotation.TaskConsumer;
+import com.cas.common.infra.consumer.TaskRetryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+
+/**
+ * 재시도 토픽 / DLT Consumer
+ *
+ * 지연 토픽(task-retry-5s/30s/5m)의 메시지를 지연 시간이 지난 뒤 원래 토픽으로 다시 보냅니다.
+ * - 지연 토픽마다 별도 컨테이너이므로 5분 대기가 5초 재시도를 막지 않음
+ * - 아직 시간이 안 된 레코드는 nack(대기 시간)으로 되감고 컨테이너를 잠시 멈춤 (poll 은 계속되어 리밸런스 없음)
+ * - 키 순서 순번 헤더(task-retry-seq)는 그대로 넘겨, 원래 토픽에서 선두 순번만 처리되도록 함
+ *
+ * DLT 재처리: task.retry.dlt-replay=true 로 기동하면 task-dlt 의 메시지를 재시도 횟수를 초기화해
+ * 원래 토픽으로 일괄 재전송합니다 (별도 group 이므로 처음 기동 시 DLT 전체, 이후 새로 쌓인 메시지만).
+ * 재처리 메시지는 순번 없이 새 레코드로 들어갑니다.
+ * 원인을 해결한 뒤 한 번 켜서 재처리하고 다시 끄는 용도입니다.
+ */
+@Slf4j
+@TaskConsumer(description = "재시도 토픽 지연 후 원래 토픽으로 재전송, DLT 일괄 재처리")
+@RequiredArgsConstructor
+public class TaskRetryConsumer {
+
+    private final TaskRetryService taskRetryService;
+
+    /**
+     * 재전송 실패 시 다시 시도하기까지 대기 시간
+     */
+    @Value("${worker.task.retry-interval-ms:1000}")
+    private long retryIntervalMs;
+
+    @KafkaListener(topics = TaskRetryService.RETRY_5S_TOPIC, groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "retryKafkaListenerContainerFactory")
+    public void consumeRetry5s(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        relay(record, acknowledgment);
+    }
+
+    @KafkaListener(topics = TaskRetryService.RETRY_30S_TOPIC, groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "retryKafkaListenerContainerFactory")
+    public void consumeRetry30s(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        relay(record, acknowledgment);
+    }
+
+    @KafkaListener(topics = TaskRetryService.RETRY_5M_TOPIC, groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "retryKafkaListenerContainerFactory")
+    public void consumeRetry5m(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        relay(record, acknowledgment);
+    }
+
+    /**
+     * DLT 일괄 재처리 (기본 비활성)
+     */
+    @KafkaListener(topics = TaskRetryService.DEAD_LETTER_TOPIC, groupId = "task-dlt-replay",
+                   containerFactory = "retryKafkaListenerContainerFactory",
+                   autoStartup = "${task.retry.dlt-replay:false}")
+    public void replayDeadLetter(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        String originTopic = TaskRetryService.headerValue(record.headers(), TaskRetryService.ORIGIN_TOPIC_HEADER);
+        if (originTopic == null) {
+            log.warn("DLT record without origin topic, skipping: partition={}, offset={}",
+                     record.partition(), record.offset());
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        if (taskRetryService.resend(originTopic, record.key(), record.value(), true, null)) {
+            log.info("DLT record replayed: originTopic={}, key={}, offset={}", originTopic, record.key(), record.offset());
+            acknowledgment.acknowledge();
+        } else {
+            acknowledgment.nack(Duration.ofMillis(retryIntervalMs));
+        }
+    }
+
+    /**
+     * 지연 시간이 지났으면 원래 토픽으로 재전송, 아니면 남은 시간만큼 대기 후 다시 수신
+     */
+    private void relay(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        long dueAt = record.timestamp() + TaskRetryService.retryDelayMs(record.topic());
+        long waitMs = dueAt - System.currentTimeMillis();
+        if (waitMs > 0) {
+            acknowledgment.nack(Duration.ofMillis(waitMs));
+            return;
+        }
+
+        String originTopic = TaskRetryService.headerValue(record.headers(), TaskRetryService.ORIGIN_TOPIC_HEADER);
+        if (originTopic == null) {
+            log.warn("Retry record without origin topic, skipping: topic={}, offset={}",
+                     record.topic(), record.offset());
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        String sequence = TaskRetryService.headerValue(record.headers(), TaskRetryService.SEQUENCE_HEADER);
+        if (taskRetryService.resend(originTopic, record.key(), record.value(), false, sequence)) {
+            log.debug("Retry record relayed: {} -> {}, key={}", record.topic(), originTopic, record.key());
+            acknowledgment.acknowledge();
+        } else {
+            acknowledgment.nack(Duration.ofMillis(retryIntervalMs));
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.cas.worker.consumer;
 
 import com.cas.common.infra.annotation.TaskConsumer;
 import com.cas.common.infra.consumer.BaseTaskConsumer;
+import com.cas.common.infra.consumer.BatchResult;
 import com.cas.common.infra.gameobject.GameObject;
 import com.cas.common.infra.gameobject.GameObjectParser;
 import com.cas.common.infra.gameobject.TestObject;
 import com.cas.common.infra.heavytask.TestHeavyTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * TestHeavyTask Consumer (일반 Task - 순차성 보장 X)
  *
@@ -21,6 +26,7 @@ import org.springframework.kafka.annotation.KafkaListener;
  * - 순차성 보장이 없음
  * - 빠른 병렬 처리
  * - Redis 큐잉 오버헤드 없음
+ * - 배치 모드: poll 한 번의 Task 를 Redis MGET 한 번으로 조회
  */
 @Slf4j
 @TaskConsumer(description = "TestHeavyTask를 처리하는 Consumer (일반 Task, 순차성 보장 X)")
@@ -32,9 +38,42 @@ public class TestHeavyTaskConsumer extends BaseTaskConsumer<TestHeavyTask> {
     /**
      * Kafka Listener: test-tasks 토픽에서 메시지 수신
      */
-    @KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}")
-    public void consume(String message) {
-        handleMessage(message, TestHeavyTask.class);
+    @KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "batchKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        handleBatch(records, TestHeavyTask.class);
+    }
+
+    /**
+     * TestHeavyTask 배치 처리 로직
+     *
+     * 배치의 모든 GameObject 를 MGET 한 번으로 조회하고, 실패한 Task 만 보고합니다.
+     * Task 별 처리는 runTask 로 실행해 동시 실행 상한과 beforeProcess/afterProcess Hook 을 적용합니다.
+     */
+    @Override
+    protected void processBatch(List<TestHeavyTask> tasks, BatchResult<TestHeavyTask> result) throws Exception {
+        List<String> redisKeys = tasks.stream()
+            .map(TestHeavyTask::getRedisKey)
+            .collect(Collectors.toList());
+        List<String> gameObjectJsons = redisTemplate.opsForValue().multiGet(redisKeys);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            TestHeavyTask task = tasks.get(i);
+            String gameObjectJson = gameObjectJsons != null ? gameObjectJsons.get(i) : null;
+            try {
+                runTask(task, () -> {
+                    TestObject testObject = parseTestObject(task, gameObjectJson);
+                    log.debug("TestHeavyTask processed: taskId={}, objectId={}, player={}",
+                              task.getTaskId(), testObject.getObjectId(), testObject.getPlayerName());
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            } catch (Exception e) {
+                log.warn("TestHeavyTask failed in batch: taskId={}, reason={}", task.getTaskId(), e.getMessage());
+                result.fail(task, e);
+            }
+        }
     }
 
     /**
@@ -55,6 +94,15 @@ public class TestHeavyTaskConsumer extends BaseTaskConsumer<TestHeavyTask> {
 
         String gameObjectJson = redisTemplate.opsForValue().get(redisKey);
 
+        // 4. TestObject 상세 정보 로그 출력
+        logTestObjectDetails(parseTestObject(task, gameObjectJson));
+    }
+
+    /**
+     * GameObject JSON → TestObject (없거나 타입이 다르면 FAILED 처리 후 예외)
+     */
+    private TestObject parseTestObject(TestHeavyTask task, String gameObjectJson) {
+        String redisKey = task.getRedisKey();
         if (gameObjectJson == null) {
             log.warn("GameObject not found in Redis for key: {}", redisKey);
             task.setStatus(TestHeavyTask.TaskStatus.FAILED);
@@ -62,12 +110,12 @@ public class TestHeavyTaskConsumer extends BaseTaskConsumer<TestHeavyTask> {
         }
 
         // 2. JSON → GameObject 역직렬화 (Factory Pattern)
-        log.info("Step 2: Parsing GameObject from JSON using GameObjectParser...");
+        log.debug("Step 2: Parsing GameObject from JSON using GameObjectParser...");
         log.debug("JSON data (length: {} bytes): {}", gameObjectJson.length(),
                  gameObjectJson.substring(0, Math.min(100, gameObjectJson.length())) + "...");
 
         GameObject gameObject = GameObjectParser.parse(gameObjectJson);
-        log.info("GameObject parsed: type={}, id={}",
+        log.debug("GameObject parsed: type={}, id={}",
                  gameObject.getObjectType(), gameObject.getObjectId());
 
         // 3. TestObject로 캐스팅 (타입 체크)
@@ -77,10 +125,7 @@ public class TestHeavyTaskConsumer extends BaseTaskConsumer<TestHeavyTask> {
             throw new IllegalArgumentException("Invalid GameObject type: " + gameObject.getObjectType());
         }
 
-        TestObject testObject = (TestObject) gameObject;
-
-        // 4. TestObject 상세 정보 로그 출력
-        logTestObjectDetails(testObject);
+        return (TestObject) gameObject;
     }
 
     /**
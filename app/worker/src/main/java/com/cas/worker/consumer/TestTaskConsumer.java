@@ -8,8 +8,10 @@ import com.cas.common.infra.gameobject.TestObject;
 import com.cas.common.infra.heavytask.TestTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 
 /**
  * TestTask Consumer (사용자별 순차 작업)
@@ -21,6 +23,7 @@ import org.springframework.kafka.annotation.KafkaListener;
  * - 사용자별 순차 처리 보장
  * - Redis 큐잉을 통한 동시성 제어
  * - 같은 userId는 반드시 순차적으로 처리됨
+ * - 다른 userId 는 키 순서 병렬 모드로 동시에 처리 (task.execution.mode=virtual 이면 가상 스레드)
  */
 @Slf4j
 @TaskConsumer(description = "TestTask를 처리하는 Consumer (사용자별 순차 처리)")
@@ -32,9 +35,10 @@ public class TestTaskConsumer extends BaseTaskConsumer<TestTask> {
     /**
      * Kafka Listener: test-tasks 토픽에서 메시지 수신
      */
-    @KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}")
-    public void consume(String message) {
-        handleMessage(message, TestTask.class);
+    @KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "keyOrderedKafkaListenerContainerFactory")
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        handleMessageOrdered(record, acknowledgment, TestTask.class);
     }
 
     /**
@@ -5,14 +5,17 @@ import com.cas.common.infra.consumer.BaseTaskConsumer;
 import com.cas.common.infra.heavytask.TestUserHeavyTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 
 /**
  * TestUserHeavyTask Consumer (사용자별 순차 처리)
  *
  * Kafka에서 TestUserHeavyTask를 수신하여 Redis에 로그를 쌓고 5초 후 출력합니다.
  * HeavyTaskByUser를 상속받은 작업이므로 같은 userId는 순차적으로 처리됩니다.
+ * 키 순서 병렬 모드: 같은 파티션이라도 다른 userId 는 동시에 처리됩니다.
  */
 @Slf4j
 @TaskConsumer(description = "TestUserHeavyTask를 처리하는 Consumer (사용자별 순차 처리)")
@@ -24,11 +27,12 @@ public class TestUserHeavyTaskConsumer extends BaseTaskConsumer<TestUserHeavyTas
     private static final String REDIS_LOG_KEY = "user-test-log";
 
     /**
-     * Kafka Listener: user-test-tasks 토픽에서 메시지 수신
+     * Kafka Listener: user-test-tasks 토픽에서 메시지 수신 (key = userId)
      */
-    @KafkaListener(topics = "user-test-tasks", groupId = "${spring.kafka.consumer.group-id}")
-    public void consume(String message) {
-        handleMessage(message, TestUserHeavyTask.class);
+    @KafkaListener(topics = "user-test-tasks", groupId = "${spring.kafka.consumer.group-id}",
+                   containerFactory = "keyOrderedKafkaListenerContainerFactory")
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        handleMessageOrdered(record, acknowledgment, TestUserHeavyTask.class);
     }
 
     /**
@@ -21,9 +21,6 @@ public class TaskProcessor {
     @Value("${worker.task.timeout-seconds:300}")
     private int timeoutSeconds;
 
-    @Value("${worker.task.max-retry:3}")
-    private int maxRetry;
-
     /**
      * 일반 작업 처리
      */
@@ -51,6 +48,7 @@ public class TaskProcessor {
 
     /**
      * 무거운 작업 처리
+     * 실패 시 예외를 던지며, 재시도는 호출한 Consumer 의 재시도 토픽(TaskRetryService)에서 처리합니다.
      */
     public void processHeavyTask(String message) {
         log.debug("Processing heavy task: {}", message);
@@ -67,26 +65,8 @@ public class TaskProcessor {
             
         } catch (Exception e) {
             log.error("Error processing heavy task", e);
-            // 재시도 로직
-            retryTask(message);
-        }
-    }
-
-    /**
-     * 작업 재시도
-     */
-    private void retryTask(String message) {
-        for (int i = 1; i <= maxRetry; i++) {
-            try {
-                log.info("Retrying task... Attempt {}/{}", i, maxRetry);
-                simulateWork(1000);
-                log.info("Task retry succeeded");
-                return;
-            } catch (Exception e) {
-                log.warn("Retry attempt {} failed", i, e);
-            }
+            throw new RuntimeException("Heavy task processing failed", e);
         }
-        log.error("Task failed after {} retries", maxRetry);
     }
 
     /**
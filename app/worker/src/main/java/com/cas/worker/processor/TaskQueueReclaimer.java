@@ -0,0 +1,88 @@
+package com.cas.worker.processor;
+
+import com.cas.common.infra.consumer.BaseTaskConsumer;
+import com.cas.common.infra.heavytask.HeavyTask;
+import com.cas.common.infra.queue.TaskQueueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 만료 리스 회수 프로세서
+ *
+ * 주기적으로 TaskQueueService.reclaimExpired() 를 호출하여, 처리하던 워커가 죽어 리스가 만료된 사용자의
+ * 대기 작업을 넘겨받고 큐가 빌 때까지 순서대로 처리합니다.
+ * - 작업은 taskType 에 맞는 Consumer(BaseTaskConsumer.handleQueued)가 처리
+ * - 처리 실패 / 처리할 Consumer 가 없는 작업은 에러 로그 후 건너뛰고 다음 작업을 이어서 처리 (큐가 막히지 않도록)
+ *
+ * task.queue.reclaim-enabled=true 일 때만 등록됩니다 (기본 꺼짐).
+ * TaskQueueService.acquireOrEnqueue 로 작업을 넣는 Producer 가 생기면 켭니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.queue.reclaim-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TaskQueueReclaimer {
+
+    private final TaskQueueService taskQueueService;
+    private final List<BaseTaskConsumer<?>> consumers;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 한 번에 회수할 최대 사용자 수
+     */
+    @Value("${task.queue.reclaim-limit:10}")
+    private int reclaimLimit;
+
+    @Scheduled(fixedDelayString = "${task.queue.reclaim-interval-ms:5000}")
+    public void reclaimExpired() {
+        List<TaskQueueService.Claim> claims = taskQueueService.reclaimExpired(reclaimLimit);
+        for (TaskQueueService.Claim claim : claims) {
+            drain(claim);
+        }
+    }
+
+    /**
+     * 넘겨받은 작업부터 사용자 대기 큐가 빌 때까지 처리 (release 가 다음 작업을 반환)
+     */
+    private void drain(TaskQueueService.Claim claim) {
+        String userId = claim.getUserId();
+        String taskJson = claim.getTaskJson();
+        int processed = 0;
+        while (taskJson != null) {
+            process(userId, taskJson);
+            processed++;
+            taskJson = taskQueueService.release(userId, claim.getToken());
+        }
+        log.info("Reclaimed queue drained: userId={}, tasks={}", userId, processed);
+    }
+
+    private void process(String userId, String taskJson) {
+        HeavyTask task;
+        try {
+            task = objectMapper.readValue(taskJson, HeavyTask.class);
+        } catch (Exception e) {
+            log.error("Reclaimed task could not be deserialized, skipping: userId={}, message={}", userId, taskJson, e);
+            return;
+        }
+
+        try {
+            for (BaseTaskConsumer<?> consumer : consumers) {
+                if (consumer.handleQueued(task, taskJson)) {
+                    return;
+                }
+            }
+            log.error("No consumer for reclaimed task, skipping: userId={}, taskType={}, taskId={}",
+                      userId, task.getTaskType(), task.getTaskId());
+        } catch (Exception e) {
+            log.error("Reclaimed task failed, skipping: userId={}, taskType={}, taskId={}",
+                      userId, task.getTaskType(), task.getTaskId(), e);
+        }
+    }
+}
@@ -3,7 +3,16 @@ package com.cas.common.core.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -13,6 +22,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.Inet4Address;
@@ -22,6 +32,14 @@ import java.net.SocketException;
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @Project      비대면대응개발
@@ -43,6 +61,77 @@ public class HttpHandler {
     @Value("${mci.serverUrl:}")
     private String mciServerUrl;
 
+    // ========================================
+    // 커넥션 풀 설정
+    // ========================================
+
+    @Value("${mci.http.pool.max-total:100}")
+    private int poolMaxTotal;
+
+    @Value("${mci.http.pool.max-per-route:50}")
+    private int poolMaxPerRoute;
+
+    @Value("${mci.http.pool.validate-after-inactivity:2000}")
+    private int poolValidateAfterInactivity;
+
+    @Value("${mci.http.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${mci.http.read-timeout:30000}")
+    private int readTimeout;
+
+    @Value("${mci.http.connection-request-timeout:3000}")
+    private int connectionRequestTimeout;
+
+    /**
+     * 서버가 Keep-Alive 헤더를 주지 않을 때 사용할 유지 시간 (ms)
+     */
+    @Value("${mci.http.keep-alive:30000}")
+    private long keepAliveMillis;
+
+    /**
+     * 유휴 커넥션 정리 기준 (초)
+     */
+    @Value("${mci.http.idle-evict-seconds:60}")
+    private long idleEvictSeconds;
+
+    /**
+     * 인터페이스별 읽기 타임아웃 (ms)
+     * 형식: "IF_ID:timeout,IF_ID:timeout"
+     */
+    @Value("${mci.http.timeout.by-if:}")
+    private String readTimeoutByIf;
+
+    // ========================================
+    // 비동기 호출 설정
+    // ========================================
+
+    @Value("${mci.async.core-size:8}")
+    private int asyncCoreSize;
+
+    @Value("${mci.async.max-size:32}")
+    private int asyncMaxSize;
+
+    @Value("${mci.async.queue-capacity:200}")
+    private int asyncQueueCapacity;
+
+    private ThreadPoolExecutor asyncExecutor;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private CloseableHttpClient httpClient;
+
+    private RestTemplate restTemplate;
+
+    /**
+     * 제한 시각이 있는 호출의 읽기 타임아웃 단위 (ms, 타임아웃별 RestTemplate 수를 제한하기 위해 올림)
+     */
+    private static final int DEADLINE_TIMEOUT_STEP_MS = 250;
+
+    private final Map<String, Integer> ifReadTimeouts = new HashMap<>();
+
+    private final Map<Integer, RestTemplate> restTemplatesByTimeout = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void setIP() throws SocketException {
         Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
@@ -61,6 +150,136 @@ public class HttpHandler {
         }
     }
 
+    /**
+     * 커넥션 풀 및 공용 HttpClient 초기화
+     */
+    @PostConstruct
+    public void initHttpClient() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolMaxTotal);
+        connectionManager.setDefaultMaxPerRoute(poolMaxPerRoute);
+        connectionManager.setValidateAfterInactivity(poolValidateAfterInactivity);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+
+        httpClient = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictSeconds, TimeUnit.SECONDS)
+                .build();
+
+        parseReadTimeouts();
+        restTemplate = createRestTemplate(readTimeout);
+        restTemplatesByTimeout.put(readTimeout, restTemplate);
+
+        initAsyncExecutor();
+
+        logger.info("MCI HttpClient 초기화 - maxTotal: {}, maxPerRoute: {}, keepAlive: {}ms, idleEvict: {}s, ifTimeouts: {}",
+                poolMaxTotal, poolMaxPerRoute, keepAliveMillis, idleEvictSeconds, ifReadTimeouts);
+    }
+
+    /**
+     * MCI 비동기 호출 전용 스레드 풀 (bounded queue, 포화 시 즉시 실패)
+     */
+    private void initAsyncExecutor() {
+        AtomicInteger threadSeq = new AtomicInteger();
+        asyncExecutor = new ThreadPoolExecutor(
+                asyncCoreSize, Math.max(asyncCoreSize, asyncMaxSize),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "mci-async-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 커넥션 풀 종료
+     */
+    @PreDestroy
+    public void closeHttpClient() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+        try {
+            if (httpClient != null) {
+                httpClient.close();
+            }
+        } catch (IOException e) {
+            logger.error("MCI HttpClient 종료 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 Keep-Alive 헤더(timeout)를 우선 적용하고, 없으면 설정값 사용
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (response, context) -> {
+            HeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement he = it.nextElement();
+                if ("timeout".equalsIgnoreCase(he.getName()) && he.getValue() != null) {
+                    try {
+                        return Long.parseLong(he.getValue()) * 1000L;
+                    } catch (NumberFormatException ignore) {
+                        // 설정값 사용
+                    }
+                }
+            }
+            return keepAliveMillis;
+        };
+    }
+
+    /**
+     * 인터페이스별 타임아웃 설정 파싱
+     */
+    private void parseReadTimeouts() {
+        if (readTimeoutByIf == null || readTimeoutByIf.trim().isEmpty()) {
+            return;
+        }
+        for (String entry : readTimeoutByIf.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                logger.warn("MCI 타임아웃 설정 형식 오류: {}", entry);
+                continue;
+            }
+            try {
+                ifReadTimeouts.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("MCI 타임아웃 설정 형식 오류: {}", entry);
+            }
+        }
+    }
+
+    /**
+     * 커넥션 풀 사용 현황
+     * @return leased(사용중), available(유휴), pending(대기), max(최대)
+     */
+    public Map<String, Integer> getPoolStats() {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        if (connectionManager == null) {
+            return stats;
+        }
+        PoolStats total = connectionManager.getTotalStats();
+        stats.put("leased", total.getLeased());
+        stats.put("available", total.getAvailable());
+        stats.put("pending", total.getPending());
+        stats.put("max", total.getMax());
+        if (asyncExecutor != null) {
+            stats.put("asyncActive", asyncExecutor.getActiveCount());
+            stats.put("asyncQueued", asyncExecutor.getQueue().size());
+        }
+        return stats;
+    }
+
     public String getClientIp() {
         String clientIp = "";
 
@@ -73,14 +292,51 @@ public class HttpHandler {
     }
 
     private RestTemplate getRestTemplate() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(30000);
+        return restTemplate;
+    }
+
+    /**
+     * 인터페이스별 타임아웃이 적용된 RestTemplate (커넥션 풀은 공유)
+     */
+    private RestTemplate getRestTemplate(String ifId) {
+        Integer timeout = ifReadTimeouts.get(ifId);
+        if (timeout == null) {
+            return restTemplate;
+        }
+        return restTemplatesByTimeout.computeIfAbsent(timeout, this::createRestTemplate);
+    }
+
+    /**
+     * 제한 시각까지 남은 시간으로 읽기 타임아웃을 줄인 RestTemplate
+     * 인터페이스별/기본 타임아웃을 넘지 않으며, 남은 시간은 DEADLINE_TIMEOUT_STEP_MS 단위로 올림합니다.
+     *
+     * @param deadlineAt 제한 시각 (epoch ms)
+     * @throws KinfaRunException 이미 제한 시각이 지난 경우
+     */
+    private RestTemplate getRestTemplate(String ifId, long deadlineAt) throws KinfaRunException {
+        long remaining = deadlineAt - System.currentTimeMillis();
+        if (remaining <= 0) {
+            logger.error("MCI 호출 제한 시각 초과 - ifId: {}", ifId);
+            throw new KinfaRunException("[MCI ERROR] MCI 호출 제한 시간이 지났습니다.");
+        }
+        int configured = ifReadTimeouts.getOrDefault(ifId, readTimeout);
+        long stepped = (remaining + DEADLINE_TIMEOUT_STEP_MS - 1) / DEADLINE_TIMEOUT_STEP_MS * DEADLINE_TIMEOUT_STEP_MS;
+        if (stepped >= configured) {
+            return getRestTemplate(ifId);
+        }
+        return restTemplatesByTimeout.computeIfAbsent((int) stepped, this::createRestTemplate);
+    }
+
+    private RestTemplate createRestTemplate(int socketTimeout) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(socketTimeout);
+        factory.setConnectionRequestTimeout(connectionRequestTimeout);
         
-        RestTemplate restTemplate = new RestTemplate(factory);
-        restTemplate.getMessageConverters().add(0, new StringHttpMessageConverter(Charset.forName("UTF-8")));
+        RestTemplate template = new RestTemplate(factory);
+        template.getMessageConverters().add(0, new StringHttpMessageConverter(Charset.forName("UTF-8")));
         
-        return restTemplate;
+        return template;
     }
 
     private HashMap<String, Object> makeHashMap(String json) {
@@ -150,6 +406,16 @@ public class HttpHandler {
      * @Source       ADD
      ******************************************************************************/
     public HashMap<String, Object> postToMCI(HashMap<String, Object> param, String ifId, String screenId) throws KinfaRunException {
+        return postToMCI(param, ifId, screenId, 0L);
+    }
+
+    /**
+     * MCI POST 전송 (제한 시각이 있으면 남은 시간으로 읽기 타임아웃을 줄임)
+     *
+     * @param deadlineAt 제한 시각 (epoch ms, 0 이하면 설정된 타임아웃 사용)
+     */
+    private HashMap<String, Object> postToMCI(HashMap<String, Object> param, String ifId, String screenId,
+                                              long deadlineAt) throws KinfaRunException {
         logger.info("postToMCI param : {}", param);
         logger.info("postToMCI ifId : {}", ifId);
         logger.info("postToMCI screenId : {}", screenId);
@@ -164,7 +430,7 @@ public class HttpHandler {
         logger.info("postToMCI mciParam : {} ", mciParam);
 
         String uri = mciServerUrl;
-        RestTemplate restTemplate = getRestTemplate();
+        RestTemplate restTemplate = deadlineAt > 0 ? getRestTemplate(ifId, deadlineAt) : getRestTemplate(ifId);
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
 
         logger.info("       uri                             : " + uri);
@@ -187,6 +453,7 @@ public class HttpHandler {
         long timeres = System.currentTimeMillis();
         logger.info("■ MCI Call End Time                    : " + dateFormat.format(new Date(timeres)));
         logger.info("■ MCI Call End Sum Time                : " + (timeres - timecall) + "ms");
+        logger.info("■ MCI Connection Pool                  : " + getPoolStats());
         logger.info("■ MCI Call Make HashMap");
 
         HashMap<String, Object> result = makeHashMap(jsonData);
@@ -283,6 +550,47 @@ public class HttpHandler {
         return resultData;
     }
 
+    /******************************************************************************
+     * @Project      비대면대응개발
+     * @Description  MCI POST 비동기 전송
+     *               - 요청 스레드를 점유하지 않고 MCI 전용 스레드 풀에서 실행
+     *               - 오류는 KinfaRunException 을 원인으로 하는 CompletionException 으로 전달
+     * @param        param
+     * @param        ifId        : 인터페이스ID
+     * @param        screenId    : 화면ID
+     * @Source       ADD
+     ******************************************************************************/
+    public CompletableFuture<HashMap<String, Object>> postToMCIAsync(HashMap<String, Object> param, String ifId, String screenId) {
+        return postToMCIAsync(param, ifId, screenId, 0L);
+    }
+
+    /******************************************************************************
+     * @Project      비대면대응개발
+     * @Description  MCI POST 비동기 전송 (제한 시각 적용)
+     *               - 실행 시점에 남은 시간으로 읽기 타임아웃을 줄임 (설정된 타임아웃보다 길어지지 않음)
+     *               - 실행 전에 제한 시각이 지났으면 호출하지 않고 KinfaRunException 으로 실패
+     * @param        param
+     * @param        ifId        : 인터페이스ID
+     * @param        screenId    : 화면ID
+     * @param        deadlineAt  : 제한 시각 (epoch ms, 0 이하면 설정된 타임아웃 사용)
+     * @Source       ADD
+     ******************************************************************************/
+    public CompletableFuture<HashMap<String, Object>> postToMCIAsync(HashMap<String, Object> param, String ifId, String screenId,
+                                                                     long deadlineAt) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return postToMCI(param, ifId, screenId, deadlineAt);
+                } catch (KinfaRunException e) {
+                    throw new CompletionException(e);
+                }
+            }, asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.error("MCI 비동기 호출 거부 (스레드 풀 포화) - ifId: {}, pool: {}", ifId, getPoolStats());
+            return CompletableFuture.failedFuture(new KinfaRunException("[MCI ERROR] MCI 호출 대기열이 가득 찼습니다."));
+        }
+    }
+
     /**
      * MCI 파라미터 맵 생성
      */
@@ -0,0 +1,39 @@
+package com.cas.common.infra.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 사용자별 상호 배제 어노테이션
+ *
+ * 같은 사용자(uid)의 요청이 동시에 들어오면 하나씩 순서대로 처리합니다.
+ * 잠금은 UserLockService 가 제공하며 (노드 내 striped lock + Redis 리스),
+ * 어노테이션을 처리하는 Aspect 는 사용하는 애플리케이션에서 등록합니다.
+ * 상태를 변경하는 요청에만 사용합니다 (조회 요청은 잠금 없이 처리).
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}UserLock
+ * {@literal @}PostMapping("/proceed-round")
+ * public ApiResponse&lt;RoundStateDto&gt; proceedRound({@literal @}RequestHeader("uid") String uid, ...) {
+ *     // 같은 uid 의 다른 변경 요청과 동시에 실행되지 않음
+ * }
+ * </pre>
+ *
+ * @see com.cas.common.infra.lock.UserLockService
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UserLock {
+
+    /**
+     * 잠금 키로 사용할 값의 이름
+     * {@literal @}RequestHeader 이름 또는 파라미터 이름과 일치하는 인자를 사용합니다.
+     */
+    String key() default "uid";
+
+    /**
+     * 잠금 대기 시간 (ms, 0 미만이면 user.lock.wait-ms 사용)
+     */
+    long waitMs() default -1;
+}
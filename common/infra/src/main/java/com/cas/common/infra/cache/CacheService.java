@@ -1,20 +1,57 @@
 package com.cas.common.infra.cache;
 
+import com.cas.common.infra.cache.codec.CacheCodecRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 캐시 서비스
  * Redis/NHN EasyCache를 활용한 캐싱 처리
  * 
  * String과 Object를 모두 지원합니다.
- * Object는 자동으로 JSON으로 직렬화/역직렬화됩니다.
+ * Object는 CacheCodecRegistry 의 코덱(cache.codec, 기본 JSON)으로 직렬화/역직렬화되며,
+ * 헤더가 없는 기존 JSON 값도 그대로 읽습니다.
+ * 
+ * NearCache(L1)가 활성화되어 있으면 정책에 해당하는 키의 조회는 로컬 메모리를 먼저 확인하고,
+ * 변경/삭제 시 L1을 무효화합니다.
+ * 
+ * getOrLoad 는 캐시 미스 시 로더 호출을 프로세스 내(single-flight)와 노드 간(Redis 잠금)으로
+ * 한 번만 수행하고, 만료 직전에는 확률적으로 한 요청만 미리 갱신합니다.
  */
 @Slf4j
 @Service
@@ -23,6 +60,136 @@ public class CacheService {
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final NearCache nearCache;
+    private final CacheCodecRegistry codecRegistry;
+
+    /**
+     * 로드 잠금 유지 시간 (ms)
+     */
+    @Value("${cache.load.lock-ttl-ms:10000}")
+    private long loadLockTtlMs;
+
+    /**
+     * 다른 노드가 로드 중일 때 값이 채워지기를 기다리는 최대 시간 (ms)
+     */
+    @Value("${cache.load.lock-wait-ms:3000}")
+    private long loadLockWaitMs;
+
+    /**
+     * 조기 갱신 강도 (0 이하면 조기 갱신 안 함, 클수록 일찍 갱신)
+     */
+    @Value("${cache.load.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    /**
+     * 프로세스 내 진행 중인 로드 (키 → 결과)
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * 버전 키 접미사 (데이터 키 + ":version")
+     */
+    public static final String VERSION_KEY_SUFFIX = ":version";
+
+    /**
+     * 로드 메타 키 접미사 (값: [로드 소요 ms, 만료 시각 epoch ms])
+     */
+    private static final String LOAD_META_KEY_SUFFIX = ":load-meta";
+
+    /**
+     * 로드 잠금 키 접미사
+     */
+    private static final String LOAD_LOCK_KEY_SUFFIX = ":load-lock";
+
+    private static final long LOAD_WAIT_POLL_MS = 50;
+
+    /**
+     * 정렬 집합 최고 점수 갱신 스크립트 (기존 점수보다 높을 때만 ZADD)
+     * KEYS[1]: 정렬 집합 키, ARGV[1]: 점수, ARGV[2]: 멤버
+     * 반환: 갱신 시 1, 기존 점수 유지 시 0
+     */
+    private static final RedisScript<Long> ZADD_IF_HIGHER_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('ZSCORE', KEYS[1], ARGV[2]) " +
+            "if cur and tonumber(cur) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 잠금 해제 스크립트 (자신이 획득한 잠금만 삭제)
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    /**
+     * Compare-And-Set 스크립트
+     * KEYS[1]: 데이터 키, KEYS[2]: 버전 키
+     * ARGV[1]: 기대 버전, ARGV[2]: 저장할 값, ARGV[3]: TTL(초, 0 이하면 TTL 없음)
+     * 반환: 저장 성공 시 새 버전, 버전 불일치 시 -1
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[2]) or '0' " +
+            "if cur ~= ARGV[1] then return -1 end " +
+            "local nextVersion = tonumber(ARGV[1]) + 1 " +
+            "local ttl = tonumber(ARGV[3]) " +
+            "if ttl > 0 then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'EX', ttl) " +
+            "  redis.call('SET', KEYS[2], nextVersion, 'EX', ttl) " +
+            "else " +
+            "  redis.call('SET', KEYS[1], ARGV[2]) " +
+            "  redis.call('SET', KEYS[2], nextVersion) " +
+            "end " +
+            "return nextVersion",
+            Long.class);
+
+    /**
+     * 해시 Compare-And-Set 스크립트
+     * KEYS[1]: 해시 키, KEYS[2..n]: 함께 저장할 보조 키
+     * ARGV[1]: 기대 버전 (-1 이면 버전 확인 없음), ARGV[2]: 버전 필드명, ARGV[3]: TTL(초, 0 이하면 기존 TTL 유지)
+     * ARGV[4]: 필드 개수 N, ARGV[5..]: 필드/값 N쌍, 이후 보조 키 값 (KEYS 순서)
+     * 해시가 아닌 기존 키(JSON 문자열 등)는 버전 0 으로 간주하고 교체 (전체 필드 저장 전용, 부분 저장은 HASH_UPDATE_FIELDS_SCRIPT)
+     * 반환: 저장 성공 시 새 버전, 버전 불일치 시 -1
+     */
+    private static final RedisScript<Long> HASH_COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local cur = '0' " +
+            "local keyType = redis.call('TYPE', KEYS[1]).ok " +
+            "if keyType == 'hash' then " +
+            "  cur = redis.call('HGET', KEYS[1], ARGV[2]) or '0' " +
+            "elseif keyType ~= 'none' then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "if ARGV[1] ~= '-1' and cur ~= ARGV[1] then return -1 end " +
+            "local nextVersion = tonumber(cur) + 1 " +
+            "local n = tonumber(ARGV[4]) " +
+            "for i = 0, n - 1 do " +
+            "  redis.call('HSET', KEYS[1], ARGV[5 + i * 2], ARGV[6 + i * 2]) " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[2], nextVersion) " +
+            "local base = 5 + n * 2 " +
+            "for i = 2, #KEYS do " +
+            "  redis.call('SET', KEYS[i], ARGV[base + i - 2]) " +
+            "end " +
+            "local ttl = tonumber(ARGV[3]) " +
+            "if ttl > 0 then " +
+            "  for i = 1, #KEYS do redis.call('EXPIRE', KEYS[i], ttl) end " +
+            "end " +
+            "return nextVersion",
+            Long.class);
+
+    /**
+     * 해시 부분 필드 저장 스크립트 (기존 해시에만 기록, TTL 유지)
+     * KEYS[1]: 해시 키
+     * ARGV[1]: 버전 필드명, ARGV[2..]: 필드/값 쌍
+     * 반환: 저장 성공 시 새 버전, 키가 없거나 해시가 아니면 -1 (아무것도 쓰지 않음)
+     */
+    private static final RedisScript<Long> HASH_UPDATE_FIELDS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then return -1 end " +
+            "for i = 2, #ARGV, 2 do " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)",
+            Long.class);
 
     /**
      * 캐시 저장 (String 전용)
@@ -30,6 +197,7 @@ public class CacheService {
     public void set(String key, String value) {
         try {
             redisTemplate.opsForValue().set(key, value);
+            nearCache.invalidate(key);
         } catch (Exception e) {
             log.error("Failed to set cache. key={}", key, e);
         }
@@ -41,6 +209,7 @@ public class CacheService {
     public void set(String key, String value, long timeout, TimeUnit timeUnit) {
         try {
             redisTemplate.opsForValue().set(key, value, timeout, timeUnit);
+            nearCache.invalidate(key);
         } catch (Exception e) {
             log.error("Failed to set cache with TTL. key={}, timeout={}", key, timeout, e);
         }
@@ -51,7 +220,8 @@ public class CacheService {
      */
     public String get(String key) {
         try {
-            return redisTemplate.opsForValue().get(key);
+            byte[] value = readBytes(key);
+            return value == null ? null : new String(value, StandardCharsets.UTF_8);
         } catch (Exception e) {
             log.error("Failed to get cache. key={}", key, e);
             return null;
@@ -64,6 +234,7 @@ public class CacheService {
     public void delete(String key) {
         try {
             redisTemplate.delete(key);
+            nearCache.invalidate(key);
         } catch (Exception e) {
             log.error("Failed to delete cache. key={}", key, e);
         }
@@ -92,6 +263,44 @@ public class CacheService {
         }
     }
 
+    /**
+     * 값 조회 (NearCache 대상 키는 L1 우선)
+     */
+    private byte[] readBytes(String key) {
+        if (!nearCache.isCacheable(key)) {
+            return getRaw(key);
+        }
+        byte[] cached = nearCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadToken = nearCache.loadToken();
+        byte[] value = getRaw(key);
+        nearCache.put(key, value, loadToken);
+        return value;
+    }
+
+    private byte[] getRaw(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    private void setRaw(String key, byte[] value, long timeout, TimeUnit timeUnit) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = timeout > 0 ? Expiration.from(timeout, timeUnit) : Expiration.persistent();
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(rawKey, value, expiration, RedisStringCommands.SetOption.upsert()));
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Long executeScript(RedisScript<Long> script, List<String> keys, List<byte[]> args) {
+        return redisTemplate.execute(script, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                keys, args.toArray());
+    }
+
     // ========================================
     // Object 지원 메서드 (JSON 자동 변환)
     // ========================================
@@ -104,10 +313,11 @@ public class CacheService {
      */
     public void setObject(String key, Object value) {
         try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, json);
-            log.debug("Cached object: key={}, type={}", key, value.getClass().getSimpleName());
-        } catch (JsonProcessingException e) {
+            byte[] data = codecRegistry.encode(value);
+            setRaw(key, data, 0, TimeUnit.SECONDS);
+            nearCache.invalidate(key);
+            log.debug("Cached object: key={}, type={}, size={}", key, value.getClass().getSimpleName(), data.length);
+        } catch (IOException e) {
             log.error("Failed to serialize object to JSON. key={}, type={}", 
                      key, value.getClass().getName(), e);
             throw new RuntimeException("Failed to cache object: " + key, e);
@@ -127,11 +337,12 @@ public class CacheService {
      */
     public void setObject(String key, Object value, long timeout, TimeUnit timeUnit) {
         try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, json, timeout, timeUnit);
-            log.debug("Cached object with TTL: key={}, type={}, ttl={}{}",
-                     key, value.getClass().getSimpleName(), timeout, timeUnit);
-        } catch (JsonProcessingException e) {
+            byte[] data = codecRegistry.encode(value);
+            setRaw(key, data, timeout, timeUnit);
+            nearCache.invalidate(key);
+            log.debug("Cached object with TTL: key={}, type={}, size={}, ttl={}{}",
+                     key, value.getClass().getSimpleName(), data.length, timeout, timeUnit);
+        } catch (IOException e) {
             log.error("Failed to serialize object to JSON. key={}, type={}", 
                      key, value.getClass().getName(), e);
             throw new RuntimeException("Failed to cache object: " + key, e);
@@ -150,15 +361,15 @@ public class CacheService {
      */
     public <T> T getObject(String key, Class<T> clazz) {
         try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) {
+            byte[] data = readBytes(key);
+            if (data == null) {
                 log.debug("Cache miss: key={}", key);
                 return null;
             }
-            T object = objectMapper.readValue(json, clazz);
+            T object = codecRegistry.decode(data, objectMapper.constructType(clazz));
             log.debug("Cache hit: key={}, type={}", key, clazz.getSimpleName());
             return object;
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Failed to deserialize JSON to object. key={}, type={}", 
                      key, clazz.getName(), e);
             return null;
@@ -188,15 +399,16 @@ public class CacheService {
      */
     public <T> T getObject(String key, com.fasterxml.jackson.core.type.TypeReference<T> typeReference) {
         try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) {
+            byte[] data = readBytes(key);
+            if (data == null) {
                 log.debug("Cache miss: key={}", key);
                 return null;
             }
-            T object = objectMapper.readValue(json, typeReference);
+            JavaType type = objectMapper.getTypeFactory().constructType(typeReference);
+            T object = codecRegistry.decode(data, type);
             log.debug("Cache hit: key={}", key);
             return object;
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Failed to deserialize JSON to object. key={}", key, e);
             return null;
         } catch (Exception e) {
@@ -205,6 +417,166 @@ public class CacheService {
         }
     }
 
+    // ========================================
+    // 다중 키 지원 메서드 (MGET / 파이프라인)
+    // ========================================
+
+    /**
+     * 여러 키 일괄 조회 (MGET 1회)
+     * 
+     * @param keys Redis 키 목록
+     * @param clazz 변환할 클래스 타입
+     * @return 키 → 객체 (없는 키와 역직렬화 실패 키는 제외)
+     */
+    public <T> Map<String, T> multiGetObject(Collection<String> keys, Class<T> clazz) {
+        return multiGetObject(keys, objectMapper.constructType(clazz));
+    }
+
+    /**
+     * 여러 키 일괄 조회 (MGET 1회, 제네릭 타입)
+     * 
+     * @param keys Redis 키 목록
+     * @param typeReference 제네릭 타입 정보
+     * @return 키 → 객체 (없는 키와 역직렬화 실패 키는 제외)
+     */
+    public <T> Map<String, T> multiGetObject(Collection<String> keys,
+                                             com.fasterxml.jackson.core.type.TypeReference<T> typeReference) {
+        return multiGetObject(keys, objectMapper.getTypeFactory().constructType(typeReference));
+    }
+
+    private <T> Map<String, T> multiGetObject(Collection<String> keys, JavaType type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+        try {
+            for (Map.Entry<String, byte[]> entry : readBytes(keys).entrySet()) {
+                try {
+                    result.put(entry.getKey(), codecRegistry.decode(entry.getValue(), type));
+                } catch (IOException e) {
+                    log.error("Failed to deserialize JSON to object. key={}, type={}",
+                             entry.getKey(), type, e);
+                }
+            }
+            log.debug("Cache multi-get: requested={}, hits={}, type={}", keys.size(), result.size(), type);
+        } catch (Exception e) {
+            log.error("Failed to multi-get cache. keys={}", keys, e);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 객체 일괄 저장 (동일 TTL, 파이프라인 1회)
+     * 
+     * @param values 키 → 저장할 객체
+     * @param timeout TTL 시간 (0 이하면 만료 없음)
+     * @param timeUnit 시간 단위
+     */
+    public void multiSetObject(Map<String, ?> values, long timeout, TimeUnit timeUnit) {
+        Map<String, Long> ttlSeconds = new HashMap<>();
+        long seconds = timeUnit.toSeconds(timeout);
+        for (String key : values.keySet()) {
+            ttlSeconds.put(key, seconds);
+        }
+        multiSetObject(values, ttlSeconds);
+    }
+
+    /**
+     * 여러 객체 일괄 저장 (키별 TTL, 파이프라인 1회)
+     * 
+     * @param values 키 → 저장할 객체
+     * @param ttlSeconds 키 → TTL(초) (없거나 0 이하면 만료 없음)
+     */
+    public void multiSetObject(Map<String, ?> values, Map<String, Long> ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        Map<String, Expiration> expirations = new HashMap<>();
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            String key = entry.getKey();
+            try {
+                encoded.put(key, codecRegistry.encode(entry.getValue()));
+            } catch (IOException e) {
+                log.error("Failed to serialize object to JSON. key={}, type={}",
+                         key, entry.getValue() == null ? null : entry.getValue().getClass().getName(), e);
+                throw new RuntimeException("Failed to cache object: " + key, e);
+            }
+            Long ttl = ttlSeconds == null ? null : ttlSeconds.get(key);
+            expirations.put(key, ttl != null && ttl > 0 ? Expiration.seconds(ttl) : Expiration.persistent());
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, byte[]> entry : encoded.entrySet()) {
+                    connection.stringCommands().set(toBytes(entry.getKey()), entry.getValue(),
+                            expirations.get(entry.getKey()), RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+            values.keySet().forEach(nearCache::invalidate);
+            log.debug("Cached objects (pipelined): count={}", values.size());
+        } catch (Exception e) {
+            log.error("Failed to multi-set cache. keys={}", values.keySet(), e);
+            throw new RuntimeException("Failed to cache objects: " + values.keySet(), e);
+        }
+    }
+
+    /**
+     * 여러 키 일괄 삭제 (DEL 1회)
+     * 
+     * @return 삭제된 키 개수
+     */
+    public long multiDelete(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        try {
+            Long deleted = redisTemplate.delete(keys);
+            keys.forEach(nearCache::invalidate);
+            return deleted == null ? 0 : deleted;
+        } catch (Exception e) {
+            log.error("Failed to multi-delete cache. keys={}", keys, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 여러 키 값 조회 (L1 적중분 제외 후 나머지를 MGET)
+     */
+    private Map<String, byte[]> readBytes(Collection<String> keys) {
+        Map<String, byte[]> values = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : keys) {
+            byte[] cached = nearCache.isCacheable(key) ? nearCache.get(key) : null;
+            if (cached != null) {
+                values.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return values;
+        }
+
+        long loadToken = nearCache.loadToken();
+        byte[][] rawKeys = misses.stream().map(CacheService::toBytes).toArray(byte[][]::new);
+        List<byte[]> loaded = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        if (loaded == null) {
+            return values;
+        }
+        for (int i = 0; i < misses.size() && i < loaded.size(); i++) {
+            byte[] value = loaded.get(i);
+            if (value != null) {
+                values.put(misses.get(i), value);
+                nearCache.put(misses.get(i), value, loadToken);
+            }
+        }
+        return values;
+    }
+
     // ========================================
     // Counter 지원 메서드 (원자적 증가)
     // ========================================
@@ -218,6 +590,7 @@ public class CacheService {
     public Long increment(String key) {
         try {
             Long value = redisTemplate.opsForValue().increment(key);
+            nearCache.invalidate(key);
             log.debug("Incremented counter: key={}, value={}", key, value);
             return value;
         } catch (Exception e) {
@@ -236,6 +609,7 @@ public class CacheService {
     public Long increment(String key, long delta) {
         try {
             Long value = redisTemplate.opsForValue().increment(key, delta);
+            nearCache.invalidate(key);
             log.debug("Incremented counter: key={}, delta={}, value={}", key, delta, value);
             return value;
         } catch (Exception e) {
@@ -272,10 +646,554 @@ public class CacheService {
     public void setCounter(String key, long initialValue) {
         try {
             redisTemplate.opsForValue().set(key, String.valueOf(initialValue));
+            nearCache.invalidate(key);
             log.debug("Set counter: key={}, value={}", key, initialValue);
         } catch (Exception e) {
             log.error("Failed to set counter. key={}, value={}", key, initialValue, e);
         }
     }
-}
 
+    // ========================================
+    // 캐시 로드 (Stampede 방지)
+    // ========================================
+
+    /**
+     * 캐시 로더 (값이 없으면 null 반환 → 캐싱하지 않음)
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Exception;
+    }
+
+    /**
+     * 캐시 조회, 없으면 로더로 채운 뒤 반환
+     * 
+     * - 같은 키의 동시 미스는 프로세스 내에서 로더 1회로 합침 (single-flight)
+     * - 노드 간에는 Redis 잠금을 획득한 요청만 로더 호출, 나머지는 값이 채워질 때까지 대기
+     * - 만료가 가까워지면 확률적으로 한 요청만 미리 갱신하고 나머지는 기존 값 사용
+     * 
+     * @param key Redis 키
+     * @param clazz 변환할 클래스 타입
+     * @param timeout TTL 시간
+     * @param timeUnit 시간 단위
+     * @param loader 원본 조회 (예외는 RuntimeException 으로 감싸서 전달)
+     * @return 캐시 또는 로더 값, 로더가 null 이면 null
+     */
+    public <T> T getOrLoad(String key, Class<T> clazz, long timeout, TimeUnit timeUnit, Loader<T> loader) {
+        JavaType type = objectMapper.constructType(clazz);
+        String metaKey = key + LOAD_META_KEY_SUFFIX;
+
+        T cached = null;
+        boolean refreshEarly = false;
+        try {
+            Map<String, byte[]> values = readBytes(Arrays.asList(key, metaKey));
+            cached = decodeOrNull(key, values.get(key), type);
+            refreshEarly = cached != null && shouldRefreshEarly(values.get(metaKey));
+        } catch (Exception e) {
+            log.error("Failed to get cache before load. key={}", key, e);
+        }
+
+        if (cached != null && !refreshEarly) {
+            log.debug("Cache hit: key={}, type={}", key, clazz.getSimpleName());
+            return cached;
+        }
+        if (refreshEarly) {
+            log.debug("Cache early refresh: key={}", key);
+        }
+        return loadSingleFlight(key, type, timeout, timeUnit, loader, cached);
+    }
+
+    /**
+     * 프로세스 내 단일 로드 (진행 중인 로드가 있으면 기존 값 또는 그 결과 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadSingleFlight(String key, JavaType type, long timeout, TimeUnit timeUnit,
+                                   Loader<T> loader, T stale) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (stale != null) {
+                return stale;
+            }
+            return (T) awaitLoad(key, existing);
+        }
+
+        try {
+            T value = loadWithLock(key, type, timeout, timeUnit, loader, stale);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, flight);
+        }
+    }
+
+    private Object awaitLoad(String key, CompletableFuture<Object> flight) {
+        try {
+            return flight.get(loadLockTtlMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to load cache: " + key, e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timed out waiting for cache load: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for cache load: " + key, e);
+        }
+    }
+
+    /**
+     * 노드 간 단일 로드 (Redis 잠금 획득 시에만 로더 호출)
+     */
+    private <T> T loadWithLock(String key, JavaType type, long timeout, TimeUnit timeUnit,
+                               Loader<T> loader, T stale) {
+        String lockKey = key + LOAD_LOCK_KEY_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        boolean locked = tryLoadLock(lockKey, token);
+
+        if (!locked) {
+            // 다른 노드가 로드 중: 기존 값이 있으면 그대로 사용, 없으면 채워질 때까지 대기
+            if (stale != null) {
+                return stale;
+            }
+            T loaded = waitForValue(key, type);
+            if (loaded != null) {
+                return loaded;
+            }
+            log.warn("Cache load lock wait timed out, loading without lock. key={}", key);
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            T value = loader.load();
+            long elapsed = System.currentTimeMillis() - start;
+            if (value != null) {
+                storeLoaded(key, value, elapsed, timeout, timeUnit);
+            }
+            log.debug("Cache loaded: key={}, elapsed={}ms, cached={}", key, elapsed, value != null);
+            return value;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load cache: " + key, e);
+        } finally {
+            if (locked) {
+                releaseLoadLock(lockKey, token);
+            }
+        }
+    }
+
+    private boolean tryLoadLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, loadLockTtlMs, TimeUnit.MILLISECONDS));
+        } catch (Exception e) {
+            // Redis 장애 시 잠금 없이 로드
+            log.error("Failed to acquire cache load lock. key={}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void releaseLoadLock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(lockKey), token);
+        } catch (Exception e) {
+            log.error("Failed to release cache load lock. key={}", lockKey, e);
+        }
+    }
+
+    private <T> T waitForValue(String key, JavaType type) {
+        long deadline = System.currentTimeMillis() + loadLockWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOAD_WAIT_POLL_MS);
+                T value = decodeOrNull(key, getRaw(key), type);
+                if (value != null) {
+                    return value;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (Exception e) {
+                log.error("Failed to get cache while waiting for load. key={}", key, e);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 로드 결과와 메타(소요 시간, 만료 시각)를 같은 TTL 로 저장
+     */
+    private void storeLoaded(String key, Object value, long elapsedMs, long timeout, TimeUnit timeUnit) {
+        long expiresAt = System.currentTimeMillis() + timeUnit.toMillis(timeout);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(key, value);
+        values.put(key + LOAD_META_KEY_SUFFIX, new long[] {elapsedMs, expiresAt});
+        try {
+            multiSetObject(values, timeout, timeUnit);
+        } catch (Exception e) {
+            log.error("Failed to cache loaded value. key={}", key, e);
+        }
+    }
+
+    /**
+     * 확률적 조기 갱신 여부 (XFetch: now - 소요시간 * beta * ln(rand) >= 만료 시각)
+     */
+    private boolean shouldRefreshEarly(byte[] meta) {
+        if (meta == null || earlyRefreshBeta <= 0) {
+            return false;
+        }
+        try {
+            long[] values = codecRegistry.decode(meta, objectMapper.constructType(long[].class));
+            double gap = -values[0] * earlyRefreshBeta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+            return System.currentTimeMillis() + gap >= values[1];
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private <T> T decodeOrNull(String key, byte[] data, JavaType type) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return codecRegistry.decode(data, type);
+        } catch (IOException e) {
+            log.error("Failed to deserialize JSON to object. key={}, type={}", key, type, e);
+            return null;
+        }
+    }
+
+    // ========================================
+    // Sorted Set 지원 메서드 (리더보드)
+    // ========================================
+
+    /**
+     * 점수 등록 (기존 점수보다 높을 때만 갱신)
+     * 
+     * @return 갱신 여부
+     */
+    public boolean zAddIfHigher(String key, String member, double score) {
+        try {
+            Long updated = redisTemplate.execute(ZADD_IF_HIGHER_SCRIPT, Collections.singletonList(key),
+                    String.valueOf(score), member);
+            return updated != null && updated > 0;
+        } catch (Exception e) {
+            log.error("Failed to add sorted set member. key={}, member={}", key, member, e);
+            return false;
+        }
+    }
+
+    /**
+     * 높은 점수 순 순위 (0부터 시작, 없으면 null)
+     */
+    public Long zReverseRank(String key, String member) {
+        try {
+            return redisTemplate.opsForZSet().reverseRank(key, member);
+        } catch (Exception e) {
+            log.error("Failed to get sorted set rank. key={}, member={}", key, member, e);
+            return null;
+        }
+    }
+
+    /**
+     * 멤버 점수 (없으면 null)
+     */
+    public Double zScore(String key, String member) {
+        try {
+            return redisTemplate.opsForZSet().score(key, member);
+        } catch (Exception e) {
+            log.error("Failed to get sorted set score. key={}, member={}", key, member, e);
+            return null;
+        }
+    }
+
+    /**
+     * 전체 멤버 수
+     */
+    public long zCard(String key) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            return size == null ? 0 : size;
+        } catch (Exception e) {
+            log.error("Failed to get sorted set size. key={}", key, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 높은 점수 순 구간 조회
+     * 
+     * @param start 시작 순위 (0부터, 포함)
+     * @param end 끝 순위 (포함)
+     * @return 멤버 → 점수 (순위 순서 유지)
+     */
+    public Map<String, Double> zReverseRangeWithScores(String key, long start, long end) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    result.put(tuple.getValue(), tuple.getScore());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to get sorted set range. key={}, start={}, end={}", key, start, end, e);
+        }
+        return result;
+    }
+
+    // ========================================
+    // 버전 관리 (Optimistic Concurrency)
+    // ========================================
+
+    /**
+     * 현재 버전 조회
+     * 
+     * @param key 데이터 키
+     * @return 현재 버전, 버전 정보가 없으면 0
+     */
+    public long getVersion(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key + VERSION_KEY_SUFFIX);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (Exception e) {
+            log.error("Failed to get version. key={}", key, e);
+            throw new RuntimeException("Failed to get version: " + key, e);
+        }
+    }
+
+    /**
+     * 버전 비교 후 저장 (Compare-And-Set)
+     * 저장된 버전이 expectedVersion 과 같을 때만 값을 저장하고 버전을 1 증가시킵니다.
+     * 값 안에 버전을 함께 저장하는 경우 호출 전에 expectedVersion + 1 로 설정해야 합니다.
+     * 
+     * @param key Redis 키
+     * @param value 저장할 객체 (자동으로 JSON으로 변환)
+     * @param expectedVersion 기대 버전 (신규 키는 0)
+     * @param timeout TTL 시간
+     * @param timeUnit 시간 단위
+     * @return 저장 성공 여부 (버전 불일치 시 false)
+     */
+    public boolean compareAndSetObject(String key, Object value, long expectedVersion, long timeout, TimeUnit timeUnit) {
+        byte[] data;
+        try {
+            data = codecRegistry.encode(value);
+        } catch (IOException e) {
+            log.error("Failed to serialize object to JSON. key={}, type={}", 
+                     key, value.getClass().getName(), e);
+            throw new RuntimeException("Failed to cache object: " + key, e);
+        }
+
+        try {
+            Long result = executeScript(COMPARE_AND_SET_SCRIPT,
+                    Arrays.asList(key, key + VERSION_KEY_SUFFIX),
+                    Arrays.asList(toBytes(String.valueOf(expectedVersion)), data,
+                            toBytes(String.valueOf(timeUnit.toSeconds(timeout)))));
+            boolean stored = result != null && result >= 0;
+            if (stored) {
+                nearCache.invalidate(key);
+                log.debug("Cached object with CAS: key={}, version={}", key, result);
+            } else {
+                log.debug("CAS version mismatch: key={}, expectedVersion={}", key, expectedVersion);
+            }
+            return stored;
+        } catch (Exception e) {
+            log.error("Failed to compare-and-set object. key={}, expectedVersion={}", key, expectedVersion, e);
+            throw new RuntimeException("Failed to cache object: " + key, e);
+        }
+    }
+
+    /**
+     * 버전 관리 키 삭제 (데이터 키 + 버전 키)
+     */
+    public void deleteVersioned(String key) {
+        try {
+            redisTemplate.delete(Arrays.asList(key, key + VERSION_KEY_SUFFIX));
+            nearCache.invalidate(key);
+        } catch (Exception e) {
+            log.error("Failed to delete versioned cache. key={}", key, e);
+        }
+    }
+
+    // ========================================
+    // Hash 지원 메서드 (필드 단위 JSON 저장)
+    // ========================================
+
+    /**
+     * 해시 필드 Compare-And-Set 저장
+     * 각 필드 값은 JSON으로 변환되어 해시 필드로 저장되며, 버전 필드는 저장마다 1 증가합니다.
+     * 
+     * @param key 해시 키
+     * @param fields 저장할 필드 (부분 업데이트 가능, 버전 필드는 제외)
+     * @param versionField 버전 필드명
+     * @param expectedVersion 기대 버전 (음수면 버전 확인 없이 저장)
+     * @param subKeyValues 같은 원자 연산으로 저장할 보조 키/객체 (캐시 코덱으로 직렬화, getObject 로 조회)
+     * @param timeout TTL 시간 (0 이하면 기존 TTL 유지)
+     * @param timeUnit 시간 단위
+     * @return 저장 후 버전, 버전 불일치 시 -1
+     */
+    public long compareAndSetHash(String key, Map<String, ?> fields, String versionField, long expectedVersion,
+                                  Map<String, ?> subKeyValues, long timeout, TimeUnit timeUnit) {
+        List<String> keys = new ArrayList<>();
+        List<byte[]> args = new ArrayList<>();
+        keys.add(key);
+        args.add(toBytes(expectedVersion < 0 ? "-1" : String.valueOf(expectedVersion)));
+        args.add(toBytes(versionField));
+        args.add(toBytes(String.valueOf(timeUnit.toSeconds(timeout))));
+        args.add(toBytes(String.valueOf(fields.size())));
+
+        try {
+            // 해시 필드는 HGET/HMGET 으로 개별 조회되므로 항상 JSON 유지
+            for (Map.Entry<String, ?> field : fields.entrySet()) {
+                args.add(toBytes(field.getKey()));
+                args.add(objectMapper.writeValueAsBytes(field.getValue()));
+            }
+            if (subKeyValues != null) {
+                for (Map.Entry<String, ?> sub : subKeyValues.entrySet()) {
+                    keys.add(sub.getKey());
+                    args.add(codecRegistry.encode(sub.getValue()));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to serialize hash fields to JSON. key={}", key, e);
+            throw new RuntimeException("Failed to cache hash: " + key, e);
+        }
+
+        try {
+            Long result = executeScript(HASH_COMPARE_AND_SET_SCRIPT, keys, args);
+            long version = result == null ? -1L : result;
+            if (version < 0) {
+                log.debug("Hash CAS version mismatch: key={}, expectedVersion={}", key, expectedVersion);
+            } else {
+                // 스크립트로 쓴 키(해시 + 보조 키)도 L1 무효화
+                keys.forEach(nearCache::invalidate);
+                log.debug("Cached hash fields: key={}, fieldCount={}, version={}", key, fields.size(), version);
+            }
+            return version;
+        } catch (Exception e) {
+            log.error("Failed to compare-and-set hash. key={}, expectedVersion={}", key, expectedVersion, e);
+            throw new RuntimeException("Failed to cache hash: " + key, e);
+        }
+    }
+
+    /**
+     * 기존 해시의 일부 필드만 저장 (버전 필드 1 증가, 기존 TTL 유지)
+     * 키가 없거나 해시가 아니면(JSON 문자열로 저장된 기존 값 등) 아무것도 쓰지 않고 -1 을 반환하므로,
+     * 호출자는 전체 값을 읽어 compareAndSetHash 로 저장해야 합니다.
+     * 
+     * @param key 해시 키
+     * @param fields 저장할 필드 (버전 필드는 제외)
+     * @param versionField 버전 필드명
+     * @return 저장 후 버전, 기존 해시가 없으면 -1
+     */
+    public long updateHashFields(String key, Map<String, ?> fields, String versionField) {
+        List<byte[]> args = new ArrayList<>();
+        args.add(toBytes(versionField));
+        try {
+            for (Map.Entry<String, ?> field : fields.entrySet()) {
+                args.add(toBytes(field.getKey()));
+                args.add(objectMapper.writeValueAsBytes(field.getValue()));
+            }
+        } catch (IOException e) {
+            log.error("Failed to serialize hash fields to JSON. key={}", key, e);
+            throw new RuntimeException("Failed to cache hash: " + key, e);
+        }
+
+        try {
+            Long result = executeScript(HASH_UPDATE_FIELDS_SCRIPT, Collections.singletonList(key), args);
+            long version = result == null ? -1L : result;
+            if (version >= 0) {
+                nearCache.invalidate(key);
+            }
+            log.debug("Updated hash fields: key={}, fields={}, version={}", key, fields.keySet(), version);
+            return version;
+        } catch (Exception e) {
+            log.error("Failed to update hash fields. key={}", key, e);
+            throw new RuntimeException("Failed to cache hash: " + key, e);
+        }
+    }
+
+    /**
+     * 해시 전체 조회 (필드별 JSON을 Object로 변환)
+     * 
+     * @param key 해시 키
+     * @param clazz 변환할 클래스 타입
+     * @return 역직렬화된 객체, 없거나 해시가 아니면 null
+     */
+    public <T> T getObjectFromHash(String key, Class<T> clazz) {
+        try {
+            if (!"hash".equals(typeOf(key))) {
+                return null;
+            }
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            if (entries.isEmpty()) {
+                log.debug("Cache miss: key={}", key);
+                return null;
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                node.set((String) entry.getKey(), objectMapper.readTree((String) entry.getValue()));
+            }
+            T object = objectMapper.treeToValue(node, clazz);
+            log.debug("Cache hit (hash): key={}, type={}", key, clazz.getSimpleName());
+            return object;
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize hash to object. key={}, type={}", key, clazz.getName(), e);
+            return null;
+        } catch (Exception e) {
+            log.error("Failed to get hash cache. key={}, type={}", key, clazz.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 해시 일부 필드 조회 (HMGET)
+     * 요청한 필드만 채워진 객체를 반환합니다.
+     * 
+     * @param key 해시 키
+     * @param clazz 변환할 클래스 타입
+     * @param fields 조회할 필드명
+     * @return 요청 필드만 채워진 객체, 모든 필드가 없으면 null
+     */
+    public <T> T getHashFields(String key, Class<T> clazz, Collection<String> fields) {
+        try {
+            List<Object> fieldKeys = new ArrayList<>(fields);
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, fieldKeys);
+            ObjectNode node = objectMapper.createObjectNode();
+            boolean found = false;
+            for (int i = 0; i < fieldKeys.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    node.set((String) fieldKeys.get(i), objectMapper.readTree((String) value));
+                    found = true;
+                }
+            }
+            if (!found) {
+                log.debug("Cache miss: key={}, fields={}", key, fields);
+                return null;
+            }
+            return objectMapper.treeToValue(node, clazz);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize hash fields. key={}, fields={}", key, fields, e);
+            return null;
+        } catch (Exception e) {
+            log.error("Failed to get hash fields. key={}, fields={}", key, fields, e);
+            return null;
+        }
+    }
+
+    /**
+     * 키 타입 조회 (string, hash, none 등)
+     */
+    private String typeOf(String key) {
+        DataType type = redisTemplate.type(key);
+        return type == null ? "none" : type.code();
+    }
+}
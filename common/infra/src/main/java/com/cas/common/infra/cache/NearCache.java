@@ -0,0 +1,270 @@
+package com.cas.common.infra.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 메모리 캐시 (L1, Near Cache)
+ * CacheService 앞단에서 자주 읽고 드물게 바뀌는 키의 Redis 조회를 줄입니다.
+ *
+ * - 키 접두사별 TTL 정책 (cache.near.policies, 형식: "접두사=TTL초,접두사=TTL초")
+ *   가장 긴 접두사가 적용되며, TTL 0 은 L1 제외 (예: user:lock:=0)
+ * - 최대 항목 수 초과 시 LRU 제거 (cache.near.max-size)
+ * - 값 변경/삭제 시 Redis Pub/Sub 으로 다른 노드의 L1 무효화 (CacheService 를 거친 쓰기만 해당)
+ * - CacheService 를 거치지 않고 쓰는 키 (UserLockService 의 user:lock: 등)는 TTL 0 으로 제외해야 합니다
+ *
+ * 사용 예시:
+ * <pre>
+ * cache.near.enabled=true
+ * cache.near.max-size=10000
+ * cache.near.policies=ranking:=60,user:lock:=0,user:=30
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCache implements InitializingBean, DisposableBean {
+
+    /**
+     * 무효화 메시지 채널 (메시지 형식: "노드ID|키")
+     */
+    public static final String INVALIDATION_CHANNEL = "cache:near:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${cache.near.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cache.near.max-size:10000}")
+    private int maxSize;
+
+    @Value("${cache.near.policies:}")
+    private String policies;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 접두사 → TTL(ms)
+     */
+    private final Map<String, Long> prefixTtls = new LinkedHashMap<>();
+
+    /**
+     * 무효화 발생 횟수 (조회 중 무효화된 값이 다시 적재되는 것을 방지)
+     */
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private Map<String, Entry> entries;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+
+        parsePolicies();
+        if (prefixTtls.isEmpty()) {
+            log.warn("Near cache enabled but no key prefix policy configured");
+            enabled = false;
+            return;
+        }
+
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        subscribeInvalidation();
+        log.info("Near cache initialized: maxSize={}, policies={}, nodeId={}", maxSize, prefixTtls, nodeId);
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to stop near cache listener", e);
+            }
+        }
+    }
+
+    /**
+     * L1 캐시 대상 키 여부
+     */
+    public boolean isCacheable(String key) {
+        return enabled && ttlOf(key) > 0;
+    }
+
+    /**
+     * L1 조회 (없거나 만료되면 null)
+     */
+    public byte[] get(String key) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Redis 조회 직전에 호출하여 적재 토큰 발급
+     */
+    public long loadToken() {
+        return invalidationSeq.get();
+    }
+
+    /**
+     * L1 적재 (조회 시작 후 무효화가 있었다면 적재하지 않음)
+     */
+    public void put(String key, byte[] value, long loadToken) {
+        long ttl = ttlOf(key);
+        if (!enabled || ttl <= 0 || value == null) {
+            return;
+        }
+        synchronized (this) {
+            if (invalidationSeq.get() != loadToken) {
+                return;
+            }
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * 키 무효화 (로컬 + 다른 노드 전파)
+     */
+    public void invalidate(String key) {
+        if (!isCacheable(key)) {
+            return;
+        }
+        invalidateLocal(key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + key);
+        } catch (Exception e) {
+            log.error("Failed to publish near cache invalidation. key={}", key, e);
+        }
+    }
+
+    /**
+     * 로컬 L1 에서만 제거
+     */
+    public void invalidateLocal(String key) {
+        synchronized (this) {
+            invalidationSeq.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * L1 사용 현황
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        if (enabled) {
+            synchronized (this) {
+                stats.put("size", entries.size());
+            }
+        }
+        stats.put("maxSize", maxSize);
+        stats.put("policies", prefixTtls);
+        return stats;
+    }
+
+    private long ttlOf(String key) {
+        if (key == null) {
+            return 0;
+        }
+        String matched = null;
+        long ttl = 0;
+        for (Map.Entry<String, Long> policy : prefixTtls.entrySet()) {
+            if (key.startsWith(policy.getKey()) && (matched == null || policy.getKey().length() > matched.length())) {
+                matched = policy.getKey();
+                ttl = policy.getValue();
+            }
+        }
+        return ttl;
+    }
+
+    private void parsePolicies() {
+        if (policies == null || policies.trim().isEmpty()) {
+            return;
+        }
+        for (String policy : policies.split(",")) {
+            String[] pair = policy.trim().split("=");
+            if (pair.length != 2) {
+                log.warn("Invalid near cache policy: {}", policy);
+                continue;
+            }
+            try {
+                prefixTtls.put(pair[0].trim(), Long.parseLong(pair[1].trim()) * 1000L);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid near cache policy: {}", policy);
+            }
+        }
+    }
+
+    private void subscribeInvalidation() {
+        MessageListener listener = (message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int sep = body.indexOf('|');
+            if (sep < 0) {
+                return;
+            }
+            if (!nodeId.equals(body.substring(0, sep))) {
+                invalidateLocal(body.substring(sep + 1));
+            }
+        };
+
+        try {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+            listenerContainer.addMessageListener(listener, new ChannelTopic(INVALIDATION_CHANNEL));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        } catch (Exception e) {
+            // 무효화 수신이 불가능하면 다른 노드의 변경을 알 수 없으므로 L1 비활성화
+            log.error("Failed to subscribe near cache invalidation, near cache disabled", e);
+            enabled = false;
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] value;
+        private final long expiresAt;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.cas.common.infra.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.io.IOException;
+
+/**
+ * 캐시 값 직렬화 코덱 (SPI)
+ * 
+ * Spring Bean 으로 등록하면 CacheCodecRegistry 가 자동으로 수집합니다.
+ * 저장 시 값 앞에 헤더 바이트(포맷 ID + 압축 여부)가 붙으므로,
+ * 포맷 ID 는 코덱마다 고유해야 합니다.
+ */
+public interface CacheCodec {
+
+    /**
+     * 포맷 ID (1 ~ 15)
+     */
+    byte getFormatId();
+
+    /**
+     * 코덱 이름 (cache.codec 설정값)
+     */
+    String getName();
+
+    /**
+     * 객체 → 바이트
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 바이트 → 객체
+     */
+    <T> T decode(byte[] data, JavaType type) throws IOException;
+}
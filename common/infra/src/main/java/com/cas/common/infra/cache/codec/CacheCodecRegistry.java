@@ -0,0 +1,171 @@
+package com.cas.common.infra.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 코덱 관리
+ *
+ * 저장 형식:
+ * - 헤더 없음: 기존 JSON 문자열 (cache.codec=json 이고 압축하지 않은 경우 그대로 유지)
+ * - [헤더 1바이트][본문]: 헤더 하위 4비트 = 코덱 포맷 ID, 0x10 비트 = Deflate 압축 여부
+ *
+ * 헤더 값은 JSON 이 시작될 수 없는 제어 문자 영역(0x01~0x1F, 공백 문자 제외)을 사용하므로
+ * 마이그레이션 중에도 기존 JSON 키를 그대로 읽을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class CacheCodecRegistry {
+
+    private static final int FORMAT_MASK = 0x0F;
+    private static final int FLAG_DEFLATE = 0x10;
+
+    private final Map<Byte, CacheCodec> codecsById = new HashMap<>();
+
+    private final CacheCodec jsonCodec;
+
+    private final CacheCodec writeCodec;
+
+    /**
+     * 압축 기준 크기 (bytes, 0 이하면 압축하지 않음)
+     */
+    private final int compressThreshold;
+
+    public CacheCodecRegistry(List<CacheCodec> codecs,
+                              @Value("${cache.codec:json}") String codecName,
+                              @Value("${cache.codec.compress-threshold:0}") int compressThreshold) {
+        CacheCodec json = null;
+        CacheCodec selected = null;
+        for (CacheCodec codec : codecs) {
+            byte id = codec.getFormatId();
+            if (id < 1 || id > FORMAT_MASK) {
+                throw new IllegalStateException("Invalid cache codec format id: " + codec.getName() + "=" + id);
+            }
+            if (codecsById.put(id, codec) != null) {
+                throw new IllegalStateException("Duplicate cache codec format id: " + id);
+            }
+            if (JsonCacheCodec.NAME.equals(codec.getName())) {
+                json = codec;
+            }
+            if (codec.getName().equalsIgnoreCase(codecName)) {
+                selected = codec;
+            }
+        }
+        if (json == null) {
+            throw new IllegalStateException("JSON cache codec is required");
+        }
+        if (selected == null) {
+            log.warn("Unknown cache codec '{}', falling back to json", codecName);
+            selected = json;
+        }
+        this.jsonCodec = json;
+        this.writeCodec = selected;
+        this.compressThreshold = compressThreshold;
+        log.info("Cache codec: write={}, compressThreshold={}, available={}",
+                writeCodec.getName(), compressThreshold, codecsById.keySet());
+    }
+
+    /**
+     * 객체 → 저장용 바이트 (필요 시 헤더 + 압축)
+     */
+    public byte[] encode(Object value) throws IOException {
+        byte[] body = writeCodec.encode(value);
+        boolean compress = compressThreshold > 0 && body.length >= compressThreshold;
+
+        if (writeCodec == jsonCodec && !compress) {
+            // 기존 JSON 형식 유지 (헤더 없음)
+            return body;
+        }
+
+        int header = writeCodec.getFormatId();
+        if (compress) {
+            body = deflate(body);
+            header |= FLAG_DEFLATE;
+        }
+
+        byte[] data = new byte[body.length + 1];
+        data[0] = (byte) header;
+        System.arraycopy(body, 0, data, 1, body.length);
+        return data;
+    }
+
+    /**
+     * 저장된 바이트 → 객체 (헤더가 없으면 JSON)
+     */
+    public <T> T decode(byte[] data, JavaType type) throws IOException {
+        if (!hasHeader(data)) {
+            return jsonCodec.decode(data, type);
+        }
+
+        int header = data[0];
+        CacheCodec codec = codecsById.get((byte) (header & FORMAT_MASK));
+        if (codec == null) {
+            throw new IOException("Unknown cache codec format: " + (header & FORMAT_MASK));
+        }
+
+        byte[] body = new byte[data.length - 1];
+        System.arraycopy(data, 1, body, 0, body.length);
+        if ((header & FLAG_DEFLATE) != 0) {
+            body = inflate(body);
+        }
+        return codec.decode(body, type);
+    }
+
+    private boolean hasHeader(byte[] data) {
+        if (data.length == 0) {
+            return false;
+        }
+        int first = data[0] & 0xFF;
+        return first >= 0x01 && first <= (FORMAT_MASK | FLAG_DEFLATE)
+                && first != '\t' && first != '\n' && first != '\r';
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] input) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated compressed cache value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
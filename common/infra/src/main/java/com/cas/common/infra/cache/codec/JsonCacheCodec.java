@@ -0,0 +1,43 @@
+package com.cas.common.infra.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * JSON 코덱 (기본값)
+ * 헤더 없이 저장된 기존 JSON 문자열도 이 코덱으로 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonCacheCodec implements CacheCodec {
+
+    public static final byte FORMAT_ID = 1;
+
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte getFormatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, JavaType type) throws IOException {
+        return objectMapper.readValue(data, type);
+    }
+}
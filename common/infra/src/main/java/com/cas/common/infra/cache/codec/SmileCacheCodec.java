@@ -0,0 +1,46 @@
+package com.cas.common.infra.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) 코덱
+ * Redis용 ObjectMapper 설정(JavaTime, 알 수 없는 속성 무시, 타입 검증)을 그대로 사용합니다.
+ */
+@Component
+public class SmileCacheCodec implements CacheCodec {
+
+    public static final byte FORMAT_ID = 2;
+
+    public static final String NAME = "smile";
+
+    private final ObjectMapper smileMapper;
+
+    public SmileCacheCodec(ObjectMapper objectMapper) {
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Override
+    public byte getFormatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return smileMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, JavaType type) throws IOException {
+        return smileMapper.readValue(data, type);
+    }
+}
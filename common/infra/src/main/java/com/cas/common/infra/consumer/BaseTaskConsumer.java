@@ -3,7 +3,19 @@ package com.cas.common.infra.consumer;
 import com.cas.common.infra.heavytask.HeavyTask;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TaskConsumer의 추상 베이스 클래스
@@ -15,7 +27,31 @@ import org.springframework.beans.factory.annotation.Autowired;
  * 
  * 사용자별 순서 보장:
  * - HeavyTaskByUser의 userId를 Kafka 메시지 key로 사용
- * - Kafka 파티셔닝 + concurrency=1 설정으로 순서 보장
+ * - 기본: Kafka 파티셔닝 + 파티션당 1개 스레드로 순서 보장 (handleMessage, 레코드 단위)
+ * - 키 순서 병렬: 파티션 안에서도 userId 별 레인으로 나눠 다른 사용자는 동시에 처리 (handleMessageOrdered)
+ *   오프셋은 앞선 레코드가 모두 끝난 지점까지만 커밋 (keyOrderedKafkaListenerContainerFactory 사용)
+ * 
+ * 실행 모드 (task.execution.mode, 키 순서 병렬 처리에 적용):
+ * - platform: Consumer 별 고정 스레드 풀 (task.consumer.ordered.threads)
+ * - virtual: 레코드마다 가상 스레드 (Java 21+ 런타임), Redis/I-O 대기 중에도 스레드를 점유하지 않음
+ * - 어느 모드든 processTask 동시 실행 수는 Task 타입별 상한을 따름 (TaskConcurrencyLimiter)
+ * 
+ * 배치 모드 (handleBatch, batchKafkaListenerContainerFactory 사용):
+ * - poll 한 번의 레코드(max.poll.records 이하)를 역직렬화해 processBatch 로 한 번에 전달
+ * - processBatch 를 오버라이드하면 Redis 조회 등을 묶어서 처리 가능 (기본: Task 마다 processTask)
+ *   오버라이드에서도 Task 별 처리는 runTask(task, body) 로 감싸 동시 실행 상한과 Hook 을 적용
+ * - 실패한 Task 는 BatchResult 로 보고하고, 재시도 토픽으로 넘김 (handleBatchFailures)
+ * 
+ * 재시도 (모든 모드):
+ * - 실패한 Task 는 retryCount 에 따라 지연 토픽(task-retry-5s/30s/5m)으로, 소진되면 task-dlt 로 전송 (TaskRetryService)
+ * - 원래 토픽/파티션은 재시도를 기다리지 않고 다음 레코드를 처리
+ * - 기본/키 순서 병렬 모드: 키(userId)의 Task 가 재시도 중이면 같은 키의 이후 레코드도 그 뒤에 세워 키 순서 유지
+ *   (key 가 있는 레코드마다 Redis 확인 1회)
+ * - 배치 모드: 순서를 보장하지 않으므로 실패한 Task 만 재시도
+ * 
+ * 사용자별 대기 큐 (TaskQueueService):
+ * - 리스가 만료된 사용자의 대기 작업은 워커의 회수 작업이 handleQueued 로 해당 타입의 Consumer 에 전달
+ *   (task.queue.reclaim-enabled=true 일 때)
  * 
  * 사용 예시:
  * <pre>
@@ -23,8 +59,8 @@ import org.springframework.beans.factory.annotation.Autowired;
  * public class TestTaskConsumer extends BaseTaskConsumer&lt;TestTask&gt; {
  *     
  *     {@literal @}KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}")
- *     public void consume(String message) {
- *         handleMessage(message, TestTask.class);
+ *     public void consume(ConsumerRecord&lt;String, String&gt; record) {
+ *         handleMessage(record, TestTask.class);
  *     }
  *     
  *     {@literal @}Override
@@ -33,13 +69,62 @@ import org.springframework.beans.factory.annotation.Autowired;
  *     }
  * }
  * </pre>
+ * 
+ * 배치 처리 예시:
+ * <pre>
+ * {@literal @}KafkaListener(topics = "test-tasks", groupId = "${spring.kafka.consumer.group-id}",
+ *                containerFactory = "batchKafkaListenerContainerFactory")
+ * public void consume(List&lt;ConsumerRecord&lt;String, String&gt;&gt; records) {
+ *     handleBatch(records, TestHeavyTask.class);
+ * }
+ * </pre>
+ * 
+ * 키 순서 병렬 처리 예시:
+ * <pre>
+ * {@literal @}KafkaListener(topics = "user-test-tasks", groupId = "${spring.kafka.consumer.group-id}",
+ *                containerFactory = "keyOrderedKafkaListenerContainerFactory")
+ * public void consume(ConsumerRecord&lt;String, String&gt; record, Acknowledgment acknowledgment) {
+ *     handleMessageOrdered(record, acknowledgment, TestUserHeavyTask.class);
+ * }
+ * </pre>
  */
 @Slf4j
-public abstract class BaseTaskConsumer<T extends HeavyTask> {
+public abstract class BaseTaskConsumer<T extends HeavyTask> implements DisposableBean {
 
     @Autowired
     protected ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private TaskRetryService taskRetryService;
+
+    /**
+     * 실행 모드 (platform, virtual)
+     */
+    @Value("${task.execution.mode:platform}")
+    private String executionMode;
+
+    /**
+     * 키 순서 병렬 처리 스레드 수 (Consumer 별)
+     */
+    @Value("${task.consumer.ordered.threads:8}")
+    private int orderedThreads;
+
+    /**
+     * 키 순서 병렬 처리 최대 미완료 레코드 수 (가득 차면 리스너 스레드가 대기)
+     */
+    @Value("${task.consumer.ordered.max-in-flight:256}")
+    private int orderedMaxInFlight;
+
+    private volatile KeyOrderedExecutor orderedExecutor;
+
+    /**
+     * 이 Consumer 가 처리하는 Task 클래스 (제네릭 타입에서 결정)
+     */
+    private volatile Class<?> queuedTaskClass;
+
     /**
      * Kafka 메시지를 처리하는 메인 메서드
      * 
@@ -48,13 +133,27 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
      * 3. processTask() 호출
      * 
      * 순서 보장: Kafka 파티셔닝 (userId key) + concurrency=1
+     * 실패 시 재시도 토픽/DLT 로 전송하고, 재시도 중인 키의 이후 레코드는 그 뒤에 세웁니다.
      * 
-     * @param message Kafka 메시지 (JSON)
+     * @param record Kafka 레코드
      * @param taskClass 기대하는 Task의 클래스
      */
-    protected void handleMessage(String message, Class<T> taskClass) {
+    protected void handleMessage(ConsumerRecord<String, String> record, Class<T> taskClass) {
+        handleMessage(record.topic(), record.key(), record.value(), 
+                      TaskRetryService.sequenceOf(record.headers()), taskClass);
+    }
+
+    /**
+     * 메시지 처리 (키 순서 유지 + 실패 시 재시도 토픽/DLT 로 전송)
+     */
+    private void handleMessage(String topic, String key, String message, Long sequence, Class<T> taskClass) {
         String taskTypeName = taskClass.getSimpleName();
         
+        // 같은 키의 Task 가 재시도 중이면 그 뒤에 세움
+        if (taskRetryService.parkIfBlocked(topic, key, message, sequence)) {
+            return;
+        }
+        
         log.info("========================================");
         log.info("  {} Received from Kafka!", taskTypeName);
         log.info("========================================");
@@ -69,6 +168,7 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
             if (!taskClass.isInstance(heavyTask)) {
                 log.warn("Expected {} but received: {}. Skipping...", 
                          taskTypeName, heavyTask.getTaskType());
+                taskRetryService.completeOrdered(topic, key, sequence);
                 return;
             }
             
@@ -87,6 +187,7 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
             
             // 4. 작업 처리
             processTaskWithSequence(task, message);
+            taskRetryService.completeOrdered(topic, key, sequence);
             
         } catch (Exception e) {
             log.error("========================================");
@@ -94,6 +195,244 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
             log.error("========================================", e);
             
             handleError(message, taskClass, e);
+            String sentTo = taskRetryService.retryOrDeadLetterOrdered(topic, key, message, e, sequence);
+            if (sentTo == null) {
+                log.error("Task could not be sent to retry topic: topic={}, key={}", topic, key);
+            }
+        }
+    }
+
+    /**
+     * Kafka 레코드를 키(userId) 순서를 지키며 병렬 처리
+     * 
+     * 같은 키의 레코드는 수신 순서대로, 다른 키의 레코드는 동시에 처리하고
+     * 처리가 끝난 레코드마다 acknowledge 합니다 (실패는 재시도 토픽/DLT 로 넘긴 후 acknowledge).
+     * 키의 Task 가 재시도 중이면 이후 레코드도 재시도 뒤에 세워 키 순서를 유지합니다.
+     * 컨테이너는 MANUAL + asyncAcks 로 앞선 오프셋이 모두 완료된 지점까지만 커밋합니다.
+     * key 가 없는 레코드는 순서 없이 처리됩니다.
+     * 
+     * @param record Kafka 레코드
+     * @param acknowledgment 수동 커밋 핸들
+     * @param taskClass 기대하는 Task의 클래스
+     */
+    protected void handleMessageOrdered(ConsumerRecord<String, String> record, Acknowledgment acknowledgment,
+                                        Class<T> taskClass) {
+        String key = record.key() != null
+            ? record.key()
+            : record.topic() + "-" + record.partition() + "@" + record.offset();
+        
+        try {
+            getOrderedExecutor().submit(key, () -> {
+                try {
+                    handleMessage(record, taskClass);
+                } finally {
+                    acknowledgment.acknowledge();
+                }
+            });
+        } catch (InterruptedException e) {
+            // 커밋하지 않은 레코드는 재시작/리밸런스 후 다시 전달됨
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while dispatching record: topic={}, partition={}, offset={}", 
+                     record.topic(), record.partition(), record.offset());
+        }
+    }
+
+    /**
+     * 사용자별 대기 큐(TaskQueueService)에서 넘겨받은 Task 처리
+     * 
+     * 재시도 토픽 정보가 없으므로 실패 시 handleError 호출 후 예외를 그대로 던집니다.
+     * 
+     * @param heavyTask 역직렬화된 Task
+     * @param message 원본 메시지 (JSON)
+     * @return 이 Consumer 가 처리하는 타입이면 true (처리 완료), 아니면 false
+     * @throws Exception 처리 실패
+     */
+    @SuppressWarnings("unchecked")
+    public boolean handleQueued(HeavyTask heavyTask, String message) throws Exception {
+        Class<?> taskClass = queuedTaskClass;
+        if (taskClass == null) {
+            // 타입을 알 수 없으면 어떤 Task 도 받지 않음 (Void)
+            Class<?> resolved = ResolvableType.forClass(getClass()).as(BaseTaskConsumer.class).resolveGeneric(0);
+            taskClass = resolved != null ? resolved : Void.class;
+            queuedTaskClass = taskClass;
+        }
+        if (!taskClass.isInstance(heavyTask)) {
+            return false;
+        }
+
+        T task = (T) heavyTask;
+        try {
+            processTaskWithSequence(task, message);
+        } catch (Exception e) {
+            task.setStatus(HeavyTask.TaskStatus.FAILED);
+            handleError(message, (Class<T>) taskClass, e);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * poll 한 번의 Kafka 레코드를 배치로 처리
+     * 
+     * 1. 레코드별 JSON → HeavyTask 역직렬화 (실패한 레코드는 재시도해도 같으므로 DLT 로 전송)
+     * 2. 타입이 다른 레코드는 건너뜀
+     * 3. processBatch() 호출 (배치 전체 예외는 미보고 Task 모두 실패로 처리)
+     * 4. 실패가 있으면 handleBatchFailures() 호출
+     * 
+     * 로그는 배치당 요약 1줄만 INFO 로 남깁니다.
+     * 
+     * @param records Kafka 레코드 목록 (수신 순서)
+     * @param taskClass 기대하는 Task의 클래스
+     */
+    protected void handleBatch(List<ConsumerRecord<String, String>> records, Class<T> taskClass) {
+        String taskTypeName = taskClass.getSimpleName();
+        List<T> tasks = new ArrayList<>(records.size());
+        Map<T, Integer> recordIndexes = new IdentityHashMap<>();
+        int skipped = 0;
+        
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                HeavyTask heavyTask = objectMapper.readValue(record.value(), HeavyTask.class);
+                if (!taskClass.isInstance(heavyTask)) {
+                    log.debug("Expected {} but received: {}. Skipping...", taskTypeName, heavyTask.getTaskType());
+                    skipped++;
+                    continue;
+                }
+                T task = taskClass.cast(heavyTask);
+                task.setStatus(HeavyTask.TaskStatus.PROCESSING);
+                tasks.add(task);
+                recordIndexes.put(task, i);
+            } catch (Exception e) {
+                log.error("{} deserialization failed: topic={}, partition={}, offset={}", 
+                          taskTypeName, record.topic(), record.partition(), record.offset(), e);
+                handleError(record.value(), taskClass, e);
+                sendToRetry(record.topic(), record.key(), record.value(), e);
+            }
+        }
+        
+        BatchResult<T> result = new BatchResult<>();
+        long startTime = System.currentTimeMillis();
+        if (!tasks.isEmpty()) {
+            try {
+                processBatch(tasks, result);
+            } catch (Exception e) {
+                log.error("{} batch processing failed", taskTypeName, e);
+                tasks.forEach(task -> result.fail(task, e));
+            }
+        }
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        
+        for (T task : tasks) {
+            task.setStatus(result.isFailed(task) ? HeavyTask.TaskStatus.FAILED : HeavyTask.TaskStatus.COMPLETED);
+        }
+        log.info("{} batch processed: records={}, tasks={}, failed={}, skipped={}, elapsed={} ms", 
+                 taskTypeName, records.size(), tasks.size(), result.getFailureCount(), skipped, elapsedTime);
+        
+        if (result.hasFailures()) {
+            handleBatchFailures(records, recordIndexes, result, taskClass);
+        }
+    }
+
+    /**
+     * 배치 처리 로직
+     * 
+     * 기본 구현은 Task 마다 processTask 를 호출하고 예외를 해당 Task 의 실패로 보고합니다.
+     * 하위 클래스에서 오버라이드하여 Redis MGET 등으로 조회를 묶을 수 있습니다.
+     * 오버라이드할 때도 Task 별 처리는 runTask(task, body) 로 실행해야 합니다.
+     * 
+     * @param tasks 처리할 Task 목록 (레코드 순서)
+     * @param result 실패 보고 대상
+     * @throws Exception 배치 전체 실패 (미보고 Task 모두 실패로 처리)
+     */
+    protected void processBatch(List<T> tasks, BatchResult<T> result) throws Exception {
+        for (T task : tasks) {
+            try {
+                runTask(task, task.getClass().getSimpleName());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            } catch (Exception e) {
+                log.error("{} failed in batch: {}", task.getClass().getSimpleName(), task.getTaskId(), e);
+                result.fail(task, e);
+            }
+        }
+    }
+
+    /**
+     * 배치 실패 처리
+     * 
+     * 기본: 실패한 레코드마다 handleError 후 재시도 토픽/DLT 로 전송합니다.
+     * 전송하지 못한 레코드가 있으면 그 중 가장 앞선 위치로 BatchListenerFailedException 을 던져
+     * 컨테이너가 그 앞 레코드까지 커밋하고 해당 레코드부터 다시 전달하도록 합니다
+     * (뒤의 성공 레코드도 다시 처리되므로 processBatch 는 멱등이어야 함).
+     * 
+     * @param records 원본 레코드 목록
+     * @param recordIndexes Task → 레코드 위치
+     * @param result 배치 처리 결과
+     * @param taskClass Task 클래스
+     */
+    protected void handleBatchFailures(List<ConsumerRecord<String, String>> records, Map<T, Integer> recordIndexes,
+                                       BatchResult<T> result, Class<T> taskClass) {
+        int firstIndex = Integer.MAX_VALUE;
+        Exception firstCause = null;
+        for (Map.Entry<T, Exception> failure : result.getFailures().entrySet()) {
+            int index = recordIndexes.get(failure.getKey());
+            ConsumerRecord<String, String> record = records.get(index);
+            handleError(record.value(), taskClass, failure.getValue());
+            if (!sendToRetry(record.topic(), record.key(), record.value(), failure.getValue()) 
+                    && index < firstIndex) {
+                firstIndex = index;
+                firstCause = failure.getValue();
+            }
+        }
+        
+        if (firstCause != null) {
+            throw new BatchListenerFailedException(
+                taskClass.getSimpleName() + " batch failed: retry topic unavailable", firstCause, firstIndex);
+        }
+    }
+
+    /**
+     * 실패 레코드를 재시도 토픽/DLT 로 전송
+     * 
+     * @return 전송 성공 여부
+     */
+    private boolean sendToRetry(String topic, String key, String message, Exception exception) {
+        String sentTo = taskRetryService.retryOrDeadLetter(topic, key, message, exception);
+        if (sentTo == null) {
+            log.error("Task could not be sent to retry topic: topic={}, key={}", topic, key);
+            return false;
+        }
+        return true;
+    }
+
+    private KeyOrderedExecutor getOrderedExecutor() {
+        KeyOrderedExecutor executor = orderedExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = orderedExecutor;
+                if (executor == null) {
+                    String name = getClass().getSimpleName();
+                    executor = new KeyOrderedExecutor(
+                        TaskExecutors.create(name, executionMode, orderedThreads), orderedMaxInFlight);
+                    orderedExecutor = executor;
+                    log.info("Key-ordered executor started for {}: mode={}, threads={}, maxInFlight={}", 
+                             name, executionMode, orderedThreads, orderedMaxInFlight);
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 남은 레코드 처리 대기 후 종료
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        KeyOrderedExecutor executor = orderedExecutor;
+        if (executor != null && !executor.shutdown(30, TimeUnit.SECONDS)) {
+            log.warn("Key-ordered executor did not finish in time: {} pending", executor.pending());
         }
     }
 
@@ -114,9 +453,7 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
         
         // 실제 작업 처리
         long startTime = System.currentTimeMillis();
-        beforeProcess(task);
-        processTask(task);
-        afterProcess(task);
+        runTask(task, taskTypeName);
         long elapsedTime = System.currentTimeMillis() - startTime;
         
         // 완료 처리
@@ -131,6 +468,42 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
         log.info("========================================");
     }
 
+    /**
+     * Hook 포함 processTask 실행 (Task 타입별 동시 실행 상한)
+     */
+    private void runTask(T task, String taskTypeName) throws Exception {
+        runTask(task, () -> processTask(task));
+    }
+
+    /**
+     * Hook 포함 Task 처리 실행 (Task 타입별 동시 실행 상한)
+     * 
+     * processBatch 를 오버라이드할 때 processTask 대신 배치로 조회한 데이터를 쓰는 처리 로직을 넘깁니다.
+     * 
+     * @param task 처리할 Task
+     * @param body 처리 로직
+     * @throws Exception 처리 중 발생한 예외 (InterruptedException 은 상한 대기 중 인터럽트)
+     */
+    protected final void runTask(T task, TaskBody body) throws Exception {
+        String taskTypeName = task.getClass().getSimpleName();
+        concurrencyLimiter.acquire(taskTypeName);
+        try {
+            beforeProcess(task);
+            body.run();
+            afterProcess(task);
+        } finally {
+            concurrencyLimiter.release(taskTypeName);
+        }
+    }
+
+    /**
+     * runTask 로 실행할 Task 처리 로직
+     */
+    @FunctionalInterface
+    protected interface TaskBody {
+        void run() throws Exception;
+    }
+
     /**
      * 실제 Task 처리 로직 (하위 클래스에서 구현)
      * 
@@ -142,8 +515,8 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
     /**
      * 에러 핸들링 로직
      * 
-     * 하위 클래스에서 오버라이드하여 커스텀 에러 처리 가능
-     * (예: 재시도, Dead Letter Queue 전송 등)
+     * 하위 클래스에서 오버라이드하여 커스텀 에러 처리 가능 (예: 알림)
+     * 레코드를 받는 모드에서는 이 메서드 호출 후 재시도 토픽/DLT 로 전송됩니다.
      * 
      * @param message 원본 메시지
      * @param taskClass Task 클래스
@@ -153,7 +526,7 @@ public abstract class BaseTaskConsumer<T extends HeavyTask> {
         log.error("Error handling for {}: {}", taskClass.getSimpleName(), exception.getMessage());
         
         // 기본 에러 핸들링 (로깅만 수행)
-        // 하위 클래스에서 오버라이드하여 재시도, DLQ 전송 등 구현 가능
+        // 재시도/DLT 전송은 TaskRetryService 가 담당
     }
 
     /**
@@ -0,0 +1,46 @@
+package com.cas.common.infra.consumer;
+
+import com.cas.common.infra.heavytask.HeavyTask;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 배치 처리 결과 (레코드별 실패 보고)
+ *
+ * processBatch 에서 실패한 Task 만 fail() 로 보고하면,
+ * 보고되지 않은 Task 는 성공으로 처리됩니다.
+ *
+ * @param <T> HeavyTask 타입
+ */
+public class BatchResult<T extends HeavyTask> {
+
+    private final Map<T, Exception> failures = new IdentityHashMap<>();
+
+    /**
+     * Task 실패 보고 (같은 Task 를 여러 번 보고하면 처음 예외 유지)
+     */
+    public void fail(T task, Exception exception) {
+        failures.putIfAbsent(task, exception);
+    }
+
+    public boolean isFailed(T task) {
+        return failures.containsKey(task);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * 실패한 Task → 예외
+     */
+    public Map<T, Exception> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+}
@@ -0,0 +1,155 @@
+package com.cas.common.infra.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 순서 보장 Executor
+ *
+ * 같은 키(userId)의 작업은 제출 순서대로 하나씩, 다른 키의 작업은 스레드 풀에서 동시에 실행합니다.
+ * - 키별 레인(대기열)은 작업이 있을 때만 존재하며, 비면 제거됨
+ * - 제출 후 완료되지 않은 작업이 maxInFlight 에 도달하면 submit() 이 대기 (리스너 스레드 역압)
+ *
+ * 사용 예시:
+ * <pre>
+ * KeyOrderedExecutor executor = new KeyOrderedExecutor("user-task", 8, 256);
+ * executor.submit(userId, () -> process(task));
+ * </pre>
+ */
+@Slf4j
+public class KeyOrderedExecutor {
+
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 스레드 이름 접두사
+     * @param threads 작업 스레드 수
+     * @param maxInFlight 최대 미완료 작업 수
+     */
+    public KeyOrderedExecutor(String name, int threads, int maxInFlight) {
+        this(TaskExecutors.create(name, TaskExecutors.MODE_PLATFORM, threads), maxInFlight);
+    }
+
+    /**
+     * @param workers 레인을 실행할 Executor (가상 스레드 Executor 가능, 종료는 이 클래스가 담당)
+     * @param maxInFlight 최대 미완료 작업 수
+     */
+    public KeyOrderedExecutor(ExecutorService workers, int maxInFlight) {
+        this.workers = workers;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 작업 제출 (미완료 작업이 가득 차면 자리가 날 때까지 대기)
+     *
+     * @param key 순서 키 (같은 키는 순차 실행)
+     * @param task 작업
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public void submit(String key, Runnable task) throws InterruptedException {
+        inFlight.acquire();
+
+        Lane lane;
+        boolean start;
+        while (true) {
+            lane = lanes.computeIfAbsent(key, Lane::new);
+            synchronized (lane) {
+                // 비어서 제거된 레인이면 새 레인으로 다시 시도
+                if (lane.closed) {
+                    continue;
+                }
+                lane.tasks.add(task);
+                start = !lane.running;
+                lane.running = true;
+            }
+            break;
+        }
+
+        if (start) {
+            Lane target = lane;
+            try {
+                workers.execute(() -> drain(target));
+            } catch (RuntimeException e) {
+                synchronized (target) {
+                    target.tasks.remove(task);
+                    target.running = false;
+                }
+                inFlight.release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 미완료 작업 수
+     */
+    public int pending() {
+        return lanes.values().stream().mapToInt(lane -> {
+            synchronized (lane) {
+                return lane.tasks.size();
+            }
+        }).sum();
+    }
+
+    /**
+     * 새 작업을 받지 않고 남은 작업 완료를 기다림
+     *
+     * @return 제한 시간 안에 모두 완료되었는지 여부
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        workers.shutdown();
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 레인의 작업을 순서대로 실행 (레인이 비면 제거)
+     */
+    private void drain(Lane lane) {
+        while (true) {
+            Runnable task;
+            synchronized (lane) {
+                task = lane.tasks.peek();
+                if (task == null) {
+                    lane.running = false;
+                    lane.closed = true;
+                    lanes.remove(lane.key, lane);
+                    return;
+                }
+            }
+
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("Key-ordered task failed: key={}", lane.key, t);
+            } finally {
+                synchronized (lane) {
+                    lane.tasks.poll();
+                }
+                inFlight.release();
+            }
+        }
+    }
+
+    /**
+     * 키별 대기열
+     */
+    private static final class Lane {
+
+        private final String key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+        private boolean closed;
+
+        private Lane(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.cas.common.infra.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Task 타입별 동시 실행 상한
+ *
+ * 같은 타입의 processTask 는 Consumer 와 관계없이 워커 전체에서 상한까지만 동시에 실행됩니다.
+ * 상한에 도달하면 다음 작업은 자리가 날 때까지 대기합니다 (가상 스레드에서는 대기 비용이 거의 없음).
+ *
+ * 설정:
+ * - task.execution.max-concurrency.default: 기본 상한
+ * - task.execution.max-concurrency.{taskType}: 타입별 상한 (예: TestHeavyTask)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskConcurrencyLimiter {
+
+    private static final String PROPERTY_PREFIX = "task.execution.max-concurrency.";
+
+    private final Environment environment;
+
+    @Value("${task.execution.max-concurrency.default:64}")
+    private int defaultLimit;
+
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 슬롯 획득 (상한에 도달하면 대기)
+     *
+     * @param taskType Task 타입
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public void acquire(String taskType) throws InterruptedException {
+        permits(taskType).acquire();
+    }
+
+    /**
+     * 실행 슬롯 반환
+     */
+    public void release(String taskType) {
+        permits(taskType).release();
+    }
+
+    private Semaphore permits(String taskType) {
+        return this.permits.computeIfAbsent(taskType, type -> {
+            int limit = limit(type);
+            log.info("Task concurrency limit: type={}, limit={}", type, limit);
+            return new Semaphore(limit);
+        });
+    }
+
+    private int limit(String taskType) {
+        return Math.max(1, environment.getProperty(PROPERTY_PREFIX + taskType, Integer.class, defaultLimit));
+    }
+}
@@ -0,0 +1,73 @@
+package com.cas.common.infra.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task 실행용 ExecutorService 생성
+ *
+ * 실행 모드:
+ * - platform: 고정 크기 플랫폼 스레드 풀 (daemon)
+ * - virtual: 작업마다 가상 스레드 (Java 21+ 런타임)
+ *   빌드는 Java 17 이므로 런타임에서 리플렉션으로 생성하며,
+ *   가상 스레드를 지원하지 않는 런타임이면 platform 모드로 대체합니다.
+ */
+@Slf4j
+public final class TaskExecutors {
+
+    public static final String MODE_PLATFORM = "platform";
+    public static final String MODE_VIRTUAL = "virtual";
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * @param name 스레드 이름 접두사 (platform 모드)
+     * @param mode 실행 모드 (platform, virtual)
+     * @param threads 스레드 수 (platform 모드)
+     */
+    public static ExecutorService create(String name, String mode, int threads) {
+        if (MODE_VIRTUAL.equalsIgnoreCase(mode)) {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                return executor;
+            }
+            log.warn("Virtual threads not supported on Java {}, falling back to platform threads: {}",
+                     Runtime.version().feature(), name);
+        }
+        
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가상 스레드 지원 여부
+     */
+    public static boolean isVirtualSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() (미지원 런타임이면 null)
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isVirtualSupported()) {
+            return null;
+        }
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Failed to create virtual thread executor", e);
+            return null;
+        }
+    }
+}
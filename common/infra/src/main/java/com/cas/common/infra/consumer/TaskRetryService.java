@@ -0,0 +1,394 @@
+package com.cas.common.infra.consumer;
+
+import com.cas.common.infra.heavytask.HeavyTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HeavyTask 재시도 / Dead Letter 전송
+ *
+ * 실패한 Task 를 원래 토픽에서 처리하지 않고 지연 토픽으로 넘겨, 파티션(사용자 순서 레인)을 막지 않습니다.
+ * - retryCount 증가 후 단계별 지연 토픽으로 전송: 1회 task-retry-5s, 2회 task-retry-30s, 3회 이상 task-retry-5m
+ * - canRetry() 가 false 이거나 역직렬화할 수 없는 메시지는 task-dlt 로 전송
+ * - 원래 토픽은 헤더(task-origin-topic)로 전달되어 지연 후(또는 DLT 재처리 시) 그 토픽으로 다시 전송됨
+ * - key(userId)는 유지되므로 재전송된 Task 도 같은 파티션으로 들어감
+ *
+ * 키 순서 유지 (retryOrDeadLetterOrdered / parkIfBlocked / completeOrdered):
+ * - 키의 Task 가 재시도 토픽으로 가면 Redis 표시(task:retry:order:{topic}:{key})에 순번(head/last)과 현재 지연 토픽을 기록
+ * - 표시가 있는 동안 같은 키의 이후 레코드는 처리하지 않고 순번(task-retry-seq 헤더)을 붙여 같은 지연 토픽 뒤에 세움
+ * - 지연 후 돌아온 레코드는 선두 순번(head)일 때만 처리하고, 아니면 다시 현재 지연 토픽 뒤로 보냄
+ * - 선두가 성공하거나 DLT 로 가면 다음 순번이 선두가 되고, 남은 순번이 없으면 표시 삭제
+ * - 표시는 선두가 움직일 때마다 order-ttl-seconds 로 갱신되며, 레코드 유실 등으로 멈추면 만료 후 차단 해제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskRetryService {
+
+    public static final String RETRY_5S_TOPIC = "task-retry-5s";
+    public static final String RETRY_30S_TOPIC = "task-retry-30s";
+    public static final String RETRY_5M_TOPIC = "task-retry-5m";
+    public static final String DEAD_LETTER_TOPIC = "task-dlt";
+
+    /**
+     * 원래 토픽 헤더
+     */
+    public static final String ORIGIN_TOPIC_HEADER = "task-origin-topic";
+
+    /**
+     * 마지막 실패 사유 헤더
+     */
+    public static final String ERROR_HEADER = "task-error";
+
+    /**
+     * 키 순서 순번 헤더 (재시도 중인 키의 레코드에만 붙음)
+     */
+    public static final String SEQUENCE_HEADER = "task-retry-seq";
+
+    private static final String[] RETRY_TOPICS = {RETRY_5S_TOPIC, RETRY_30S_TOPIC, RETRY_5M_TOPIC};
+    private static final long[] RETRY_DELAYS_MS = {5_000L, 30_000L, 300_000L};
+
+    private static final String ORDER_KEY_PREFIX = "task:retry:order:";
+
+    /**
+     * 뒤에 세우기 스크립트
+     * KEYS[1]: 순서 표시 키, ARGV[1]: 레코드 순번 (없으면 빈 문자열)
+     * 반환: 처리해야 하면 nil (표시 없음, 선두 또는 이미 지난 순번), 뒤에 세워야 하면 {지연 토픽, 순번} (순번 없으면 새로 발급)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PARK_SCRIPT = new DefaultRedisScript<>(
+            "local head = redis.call('HGET', KEYS[1], 'head') " +
+            "if not head then return false end " +
+            "local seq = ARGV[1] " +
+            "if seq ~= '' and tonumber(seq) <= tonumber(head) then return false end " +
+            "if seq == '' then seq = tostring(redis.call('HINCRBY', KEYS[1], 'last', 1)) end " +
+            "return {redis.call('HGET', KEYS[1], 'tier'), seq}",
+            List.class);
+
+    /**
+     * 새로 발급한 순번 취소 스크립트 (뒤에 세우기 전송 실패 시, 마지막 순번일 때만)
+     * KEYS[1]: 순서 표시 키, ARGV[1]: 순번
+     */
+    private static final RedisScript<Long> UNPARK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'last') ~= ARGV[1] then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], 'last', -1) return 1",
+            Long.class);
+
+    /**
+     * 재시도 차단 스크립트 (선두 실패 → 지연 토픽)
+     * KEYS[1]: 순서 표시 키, ARGV[1]: 레코드 순번 (없으면 빈 문자열), ARGV[2]: 지연 토픽, ARGV[3]: 표시 TTL(초)
+     * 반환: 레코드에 붙일 순번 (표시가 없으면 1로 시작, 선두면 그대로, 그 외 맨 뒤 순번)
+     */
+    private static final RedisScript<Long> BLOCK_SCRIPT = new DefaultRedisScript<>(
+            "local head = redis.call('HGET', KEYS[1], 'head') " +
+            "if not head then " +
+            "redis.call('HSET', KEYS[1], 'head', 1, 'last', 1, 'tier', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) return 1 end " +
+            "if head == ARGV[1] then " +
+            "redis.call('HSET', KEYS[1], 'tier', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) return tonumber(head) end " +
+            "return redis.call('HINCRBY', KEYS[1], 'last', 1)",
+            Long.class);
+
+    /**
+     * 선두 완료 스크립트 (성공 또는 DLT → 다음 순번이 선두, 남은 순번이 없으면 표시 삭제)
+     * KEYS[1]: 순서 표시 키, ARGV[1]: 순번, ARGV[2]: 표시 TTL(초)
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local head = redis.call('HGET', KEYS[1], 'head') " +
+            "if head ~= ARGV[1] then return 0 end " +
+            "local nextHead = tonumber(head) + 1 " +
+            "if nextHead > tonumber(redis.call('HGET', KEYS[1], 'last')) then redis.call('DEL', KEYS[1]) return 1 end " +
+            "redis.call('HSET', KEYS[1], 'head', nextHead) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) return 1",
+            Long.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${task.retry.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * 키 순서 표시 TTL (초, 선두가 움직이지 않고 이 시간이 지나면 차단 해제)
+     */
+    @Value("${task.retry.order-ttl-seconds:3600}")
+    private long orderTtlSeconds;
+
+    /**
+     * 실패한 메시지를 재시도 토픽 또는 DLT 로 전송
+     *
+     * @param originTopic 원래 토픽
+     * @param key 메시지 key (userId, 없으면 null)
+     * @param message 원본 메시지 (JSON)
+     * @param exception 실패 원인
+     * @return 전송된 토픽 (전송 실패 시 null)
+     */
+    public String retryOrDeadLetter(String originTopic, String key, String message, Exception exception) {
+        return retryOrDeadLetter(originTopic, key, message, exception, false, null);
+    }
+
+    /**
+     * 실패한 메시지를 재시도 토픽 또는 DLT 로 전송하고, 재시도 중에는 같은 키의 이후 레코드를 뒤에 세움
+     * key 가 없으면 retryOrDeadLetter 와 같습니다.
+     *
+     * @param sequence 레코드 순번 (task-retry-seq 헤더, 없으면 null)
+     * @return 전송된 토픽 (전송 실패 시 null)
+     */
+    public String retryOrDeadLetterOrdered(String originTopic, String key, String message, Exception exception,
+                                           Long sequence) {
+        return retryOrDeadLetter(originTopic, key, message, exception, key != null, sequence);
+    }
+
+    /**
+     * 같은 키의 Task 가 재시도 중이면 레코드를 현재 지연 토픽 뒤에 세움
+     *
+     * @param sequence 레코드 순번 (task-retry-seq 헤더, 없으면 null)
+     * @return 뒤에 세웠으면 true (처리하지 말 것), 지금 처리해야 하면 false
+     */
+    public boolean parkIfBlocked(String originTopic, String key, String message, Long sequence) {
+        if (key == null) {
+            return false;
+        }
+
+        String orderKey = orderKey(originTopic, key);
+        List<?> parked;
+        try {
+            parked = redisTemplate.execute(PARK_SCRIPT, Collections.singletonList(orderKey),
+                    sequence != null ? sequence.toString() : "");
+        } catch (Exception e) {
+            log.error("Failed to check retry order, processing in place: topic={}, key={}", originTopic, key, e);
+            return false;
+        }
+        if (parked == null || parked.size() < 2) {
+            return false;
+        }
+
+        String tier = String.valueOf(parked.get(0));
+        String parkedSequence = String.valueOf(parked.get(1));
+        ProducerRecord<String, String> record = new ProducerRecord<>(tier, key, message);
+        record.headers().add(ORIGIN_TOPIC_HEADER, originTopic.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(SEQUENCE_HEADER, parkedSequence.getBytes(StandardCharsets.UTF_8));
+        if (publish(record)) {
+            log.info("Task parked behind retry: topic={}, key={}, seq={}", originTopic, key, parkedSequence);
+            return true;
+        }
+
+        // 전송하지 못했으면 순서보다 유실 방지를 우선해 지금 처리 (새 순번은 취소)
+        if (sequence == null) {
+            try {
+                redisTemplate.execute(UNPARK_SCRIPT, Collections.singletonList(orderKey), parkedSequence);
+            } catch (Exception e) {
+                log.error("Failed to cancel retry order sequence: topic={}, key={}", originTopic, key, e);
+            }
+        }
+        log.error("Failed to park task behind retry, processing out of order: topic={}, key={}", originTopic, key);
+        return false;
+    }
+
+    /**
+     * 뒤에 세워졌던 레코드 처리 완료 (선두면 다음 순번으로 차단 이동)
+     *
+     * @param sequence 레코드 순번 (null 이면 아무것도 하지 않음)
+     */
+    public void completeOrdered(String originTopic, String key, Long sequence) {
+        if (key == null || sequence == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, Collections.singletonList(orderKey(originTopic, key)),
+                    sequence.toString(), String.valueOf(orderTtlSeconds));
+        } catch (Exception e) {
+            // 표시는 order-ttl-seconds 후 만료
+            log.error("Failed to advance retry order: topic={}, key={}, seq={}", originTopic, key, sequence, e);
+        }
+    }
+
+    private String retryOrDeadLetter(String originTopic, String key, String message, Exception exception,
+                                     boolean ordered, Long sequence) {
+        HeavyTask task;
+        try {
+            task = objectMapper.readValue(message, HeavyTask.class);
+        } catch (Exception e) {
+            return deadLetter(originTopic, key, message, exception, ordered, sequence);
+        }
+
+        if (!task.canRetry()) {
+            log.warn("Task retries exhausted, sending to DLT: taskId={}, retryCount={}/{}",
+                     task.getTaskId(), task.getRetryCount(), task.getMaxRetries());
+            return deadLetter(originTopic, key, message, exception, ordered, sequence);
+        }
+
+        task.incrementRetry();
+        task.setStatus(HeavyTask.TaskStatus.PENDING);
+        String retryTopic = retryTopic(task.getRetryCount());
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(task);
+        } catch (Exception e) {
+            log.error("Failed to serialize task for retry: taskId={}", task.getTaskId(), e);
+            return deadLetter(originTopic, key, message, exception, ordered, sequence);
+        }
+
+        if (!ordered) {
+            return send(retryTopic, originTopic, key, payload, exception, null);
+        }
+
+        Long blockedSequence;
+        try {
+            blockedSequence = redisTemplate.execute(BLOCK_SCRIPT, Collections.singletonList(orderKey(originTopic, key)),
+                    sequence != null ? sequence.toString() : "", retryTopic, String.valueOf(orderTtlSeconds));
+        } catch (Exception e) {
+            // 차단 없이 재시도 (이후 레코드가 먼저 처리될 수 있음)
+            log.error("Failed to block key for retry: topic={}, key={}", originTopic, key, e);
+            return send(retryTopic, originTopic, key, payload, exception, null);
+        }
+
+        String sentTo = send(retryTopic, originTopic, key, payload, exception, blockedSequence);
+        if (sentTo == null) {
+            // 재시도 레코드가 없으므로 다음 순번으로 넘김
+            completeOrdered(originTopic, key, blockedSequence);
+        }
+        return sentTo;
+    }
+
+    /**
+     * DLT 전송 (순서 유지 중이면 다음 순번으로 차단 이동)
+     */
+    private String deadLetter(String originTopic, String key, String message, Exception exception,
+                              boolean ordered, Long sequence) {
+        String sentTo = send(DEAD_LETTER_TOPIC, originTopic, key, message, exception, null);
+        if (ordered) {
+            completeOrdered(originTopic, key, sequence);
+        }
+        return sentTo;
+    }
+
+    /**
+     * 지연이 끝난 재시도 메시지(또는 DLT 메시지)를 원래 토픽으로 재전송
+     *
+     * @param originTopic 원래 토픽
+     * @param key 메시지 key
+     * @param message 메시지 (JSON)
+     * @param resetRetry 재시도 횟수 초기화 여부 (DLT 재처리)
+     * @param sequence 키 순서 순번 (task-retry-seq 헤더 값, 없으면 null)
+     * @return 전송 성공 여부
+     */
+    public boolean resend(String originTopic, String key, String message, boolean resetRetry, String sequence) {
+        String payload = message;
+        if (resetRetry) {
+            try {
+                HeavyTask task = objectMapper.readValue(message, HeavyTask.class);
+                task.setRetryCount(0);
+                task.setStatus(HeavyTask.TaskStatus.PENDING);
+                payload = objectMapper.writeValueAsString(task);
+            } catch (Exception e) {
+                log.warn("Failed to reset retry count, resending as is: originTopic={}", originTopic);
+            }
+        }
+        ProducerRecord<String, String> record = new ProducerRecord<>(originTopic, key, payload);
+        if (sequence != null) {
+            record.headers().add(SEQUENCE_HEADER, sequence.getBytes(StandardCharsets.UTF_8));
+        }
+        return publish(record);
+    }
+
+    /**
+     * 재시도 토픽의 지연 시간 (재시도 토픽이 아니면 0)
+     */
+    public static long retryDelayMs(String retryTopic) {
+        for (int i = 0; i < RETRY_TOPICS.length; i++) {
+            if (RETRY_TOPICS[i].equals(retryTopic)) {
+                return RETRY_DELAYS_MS[i];
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 헤더 문자열 값 조회 (없으면 null)
+     */
+    public static String headerValue(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 키 순서 순번 헤더 값 (없거나 숫자가 아니면 null)
+     */
+    public static Long sequenceOf(Headers headers) {
+        String value = headerValue(headers, SEQUENCE_HEADER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 재시도 횟수 → 지연 토픽
+     */
+    private String retryTopic(int retryCount) {
+        int tier = Math.min(Math.max(retryCount, 1), RETRY_TOPICS.length) - 1;
+        return RETRY_TOPICS[tier];
+    }
+
+    private String orderKey(String originTopic, String key) {
+        return ORDER_KEY_PREFIX + originTopic + ":" + key;
+    }
+
+    /**
+     * 원래 토픽/실패 사유/순번 헤더와 함께 전송
+     */
+    private String send(String topic, String originTopic, String key, String message, Exception exception,
+                        Long sequence) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, message);
+        record.headers().add(ORIGIN_TOPIC_HEADER, originTopic.getBytes(StandardCharsets.UTF_8));
+        if (sequence != null) {
+            record.headers().add(SEQUENCE_HEADER, sequence.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        if (exception != null) {
+            String error = exception.getClass().getSimpleName() + ": " + exception.getMessage();
+            record.headers().add(ERROR_HEADER, error.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return publish(record) ? topic : null;
+    }
+
+    /**
+     * 동기 전송 (전송 확인 후 원본 레코드가 커밋되도록)
+     */
+    private boolean publish(ProducerRecord<String, String> record) {
+        try {
+            kafkaTemplate.send(record).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            log.info("Task sent to {}: key={}", record.topic(), record.key());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while sending task to {}: message={}", record.topic(), record.value());
+            return false;
+        } catch (Exception e) {
+            log.error("Failed to send task to {}: message={}", record.topic(), record.value(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.cas.common.infra.lock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 잠금 서비스
+ *
+ * 같은 사용자(uid)의 상태 변경 요청을 노드 내/노드 간 모두 한 번에 하나씩만 실행합니다.
+ *
+ * 동작 방식:
+ * 1. 노드 내: uid 해시로 고른 striped ReentrantLock 으로 직렬화 (Redis 호출 없음)
+ * 2. 노드 간: Redis 리스 키(user:lock:{uid})를 Lua 스크립트 1회로 획득하고 리스 값에 소유 토큰 기록
+ *    - 토큰은 노드에서 무작위로 만들어 리스 값에만 저장 (리스와 함께 만료, 별도 키 없음)
+ *    - 다른 노드가 보유 중이면 노드 내 잠금을 풀고 대기한 뒤 다시 시도 (같은 stripe 의 다른 사용자를 막지 않음)
+ * 3. 갱신: 요청이 실행되는 동안 lease-ms 의 1/3 마다 리스 만료 시간을 연장 (최대 max-hold-ms 까지)
+ * 4. 해제: 노드 내 잠금을 먼저 풀고 Redis 리스는 백그라운드에서 삭제
+ *    - 삭제 전에 같은 노드의 다음 요청이 오면 자신이 반납 중인 토큰을 넘겨 리스를 바로 인계
+ *
+ * 경합이 없으면 요청당 Redis 왕복은 획득 1회뿐입니다 (lease-ms/3 보다 짧은 요청은 갱신 없음).
+ * 토큰은 펜싱 용도가 아닙니다. 리스를 잃은 요청(max-hold-ms 초과, Redis 장애 등)의 늦은 쓰기는
+ * 세션 저장의 버전 CAS 가 막습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserLockService implements InitializingBean, DisposableBean {
+
+    /**
+     * Redis 리스 없이 노드 내 잠금만 획득했을 때의 토큰
+     */
+    public static final long LOCAL_TOKEN = 0L;
+
+    private static final String LEASE_KEY_FORMAT = "user:lock:{%s}";
+
+    private static final long MIN_BACKOFF_MS = 5;
+    private static final long MAX_BACKOFF_MS = 100;
+
+    /**
+     * 리스 획득 스크립트
+     * KEYS[1]: 리스 키
+     * ARGV[1]: 새 토큰, ARGV[2]: 리스 유지 시간(ms), ARGV[3]: 인계받을 토큰 (없으면 빈 문자열)
+     * 반환: 획득 시 1, 다른 요청이 보유 중이면 0
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+            "if cur and cur ~= ARGV[3] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 리스 해제 스크립트 (자신의 토큰일 때만 삭제)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    /**
+     * 리스 갱신 스크립트 (자신의 토큰일 때만 만료 시간 연장)
+     * 반환: 연장 시 1, 리스를 잃었으면 0
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 노드 내 잠금 개수 (2의 거듭제곱으로 올림)
+     */
+    @Value("${user.lock.stripes:1024}")
+    private int stripeCount;
+
+    /**
+     * Redis 리스 유지 시간 (ms, 요청이 실행되는 동안 1/3 마다 갱신)
+     */
+    @Value("${user.lock.lease-ms:10000}")
+    private long leaseMs;
+
+    /**
+     * 리스 최대 보유 시간 (ms, 이후에는 갱신하지 않아 lease-ms 뒤 만료되고 다른 노드가 획득할 수 있음)
+     */
+    @Value("${user.lock.max-hold-ms:60000}")
+    private long maxHoldMs;
+
+    /**
+     * 기본 잠금 대기 시간 (ms)
+     */
+    @Value("${user.lock.wait-ms:3000}")
+    private long defaultWaitMs;
+
+    /**
+     * Redis 리스 사용 여부 (false 면 노드 내 잠금만 사용, 단일 노드용)
+     */
+    @Value("${user.lock.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    /**
+     * Redis 리스 백그라운드 해제 여부
+     */
+    @Value("${user.lock.async-release:true}")
+    private boolean asyncRelease;
+
+    private ReentrantLock[] stripes;
+
+    /**
+     * 백그라운드 해제 대기 중인 리스 (uid → 토큰)
+     */
+    private final ConcurrentHashMap<String, Long> releasing = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드가 보유한 잠금 (중첩 시 바깥 잠금은 outer 로 연결)
+     */
+    private final ThreadLocal<Lease> held = new ThreadLocal<>();
+
+    /**
+     * 갱신 대상 리스 (Redis 리스를 보유 중인 잠금)
+     */
+    private final Set<Lease> renewing = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService releaseExecutor;
+
+    private ScheduledExecutorService renewExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        if (redisEnabled && asyncRelease) {
+            releaseExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-lock-release");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (redisEnabled) {
+            long renewIntervalMs = Math.max(1, leaseMs / 3);
+            renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-lock-renew");
+                thread.setDaemon(true);
+                return thread;
+            });
+            renewExecutor.scheduleAtFixedRate(this::renewLeases, renewIntervalMs, renewIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("User lock initialized: stripes={}, redis={}, leaseMs={}, maxHoldMs={}, waitMs={}, asyncRelease={}",
+                size, redisEnabled, leaseMs, maxHoldMs, defaultWaitMs, releaseExecutor != null);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (renewExecutor != null) {
+            renewExecutor.shutdownNow();
+        }
+        if (releaseExecutor != null) {
+            releaseExecutor.shutdown();
+            releaseExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 잠금 획득 (기본 대기 시간)
+     *
+     * @see #acquire(String, long)
+     */
+    public Lease acquire(String uid) {
+        return acquire(uid, defaultWaitMs);
+    }
+
+    /**
+     * 잠금 획득
+     * 현재 스레드가 이미 같은 uid 잠금을 보유 중이면 그대로 재진입합니다.
+     *
+     * @param uid 사용자 ID
+     * @param waitMs 최대 대기 시간 (ms, 0 미만이면 기본값)
+     * @return 획득한 잠금 (대기 시간 초과 시 null)
+     */
+    public Lease acquire(String uid, long waitMs) {
+        Lease current = held.get();
+        for (Lease lease = current; lease != null; lease = lease.outer) {
+            if (lease.uid.equals(uid)) {
+                lease.holds++;
+                return lease;
+            }
+        }
+
+        long wait = waitMs < 0 ? defaultWaitMs : waitMs;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(wait);
+        ReentrantLock stripe = stripeOf(uid);
+        long backoff = MIN_BACKOFF_MS;
+        long token;
+
+        while (true) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (!stripe.tryLock(Math.max(0, remainingMs), TimeUnit.MILLISECONDS)) {
+                    log.warn("User lock wait timed out (local): uid={}, waitMs={}", uid, wait);
+                    return null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            try {
+                token = redisEnabled ? acquireLease(uid) : LOCAL_TOKEN;
+            } catch (RuntimeException e) {
+                stripe.unlock();
+                throw e;
+            }
+            if (token >= 0) {
+                break;
+            }
+
+            // 다른 노드가 보유 중: 같은 stripe 의 다른 사용자를 막지 않도록 노드 내 잠금을 풀고 대기
+            stripe.unlock();
+            remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                log.warn("User lock wait timed out (lease): uid={}, waitMs={}", uid, wait);
+                return null;
+            }
+            try {
+                Thread.sleep(Math.min(backoff, remainingMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+
+        Lease lease = new Lease(uid, token, stripe, current);
+        held.set(lease);
+        if (token != LOCAL_TOKEN) {
+            renewing.add(lease);
+        }
+        log.debug("User lock acquired: uid={}, token={}", uid, token);
+        return lease;
+    }
+
+    /**
+     * 잠금 해제 (acquire 와 같은 스레드에서 호출)
+     */
+    public void release(Lease lease) {
+        if (lease == null || --lease.holds > 0) {
+            return;
+        }
+
+        if (lease.outer != null) {
+            held.set(lease.outer);
+        } else {
+            held.remove();
+        }
+
+        String uid = lease.uid;
+        long token = lease.token;
+        if (token == LOCAL_TOKEN) {
+            lease.stripe.unlock();
+            return;
+        }
+        renewing.remove(lease);
+
+        if (releaseExecutor == null) {
+            try {
+                releaseLease(uid, token);
+            } finally {
+                lease.stripe.unlock();
+            }
+            return;
+        }
+
+        // 노드 내 다음 요청이 리스를 인계받을 수 있도록 토큰을 먼저 남기고 잠금 해제
+        releasing.put(uid, token);
+        lease.stripe.unlock();
+        try {
+            releaseExecutor.execute(() -> releaseLease(uid, token));
+        } catch (RejectedExecutionException e) {
+            releaseLease(uid, token);
+        }
+    }
+
+    /**
+     * Redis 리스 획득 1회 시도 (노드 내 잠금을 보유한 상태에서 호출)
+     *
+     * @return 새 토큰 (Redis 장애 시 LOCAL_TOKEN, 다른 노드가 보유 중이면 -1)
+     */
+    private long acquireLease(String uid) {
+        String leaseKey = String.format(LEASE_KEY_FORMAT, uid);
+        Long previous = releasing.get(uid);
+        long token = newToken();
+        Long acquired;
+        try {
+            acquired = redisTemplate.execute(ACQUIRE_SCRIPT, Collections.singletonList(leaseKey),
+                    String.valueOf(token), String.valueOf(leaseMs),
+                    previous != null ? previous.toString() : "");
+        } catch (Exception e) {
+            log.error("Failed to acquire user lock lease, continuing with local lock only. uid={}", uid, e);
+            return LOCAL_TOKEN;
+        }
+
+        if (acquired == null || acquired == 0) {
+            return -1L;
+        }
+        if (previous != null) {
+            releasing.remove(uid, previous);
+        }
+        return token;
+    }
+
+    /**
+     * 리스 소유 토큰 (LOCAL_TOKEN, 0 과 겹치지 않는 무작위 양수)
+     */
+    private static long newToken() {
+        return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    /**
+     * 실행 중인 요청의 리스 만료 시간 연장 (갱신 스레드)
+     * 최대 보유 시간을 넘었거나 리스를 이미 잃은 잠금은 더 이상 갱신하지 않습니다.
+     */
+    private void renewLeases() {
+        long now = System.nanoTime();
+        for (Lease lease : renewing) {
+            if (now - lease.acquiredAt > TimeUnit.MILLISECONDS.toNanos(maxHoldMs)) {
+                renewing.remove(lease);
+                log.warn("User lock held too long, lease will expire: uid={}, token={}, maxHoldMs={}",
+                        lease.uid, lease.token, maxHoldMs);
+                continue;
+            }
+
+            String leaseKey = String.format(LEASE_KEY_FORMAT, lease.uid);
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(leaseKey),
+                        String.valueOf(lease.token), String.valueOf(leaseMs));
+                if (renewed == null || renewed == 0) {
+                    renewing.remove(lease);
+                    log.warn("User lock lease lost: uid={}, token={}", lease.uid, lease.token);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도 (그 전에 만료되면 다른 노드가 획득할 수 있음)
+                log.error("Failed to renew user lock lease. uid={}, token={}", lease.uid, lease.token, e);
+            }
+        }
+    }
+
+    private void releaseLease(String uid, long token) {
+        String leaseKey = String.format(LEASE_KEY_FORMAT, uid);
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(leaseKey), String.valueOf(token));
+        } catch (Exception e) {
+            // 리스는 lease-ms 후 만료
+            log.error("Failed to release user lock lease. uid={}, token={}", uid, token, e);
+        } finally {
+            releasing.remove(uid, token);
+        }
+    }
+
+    private ReentrantLock stripeOf(String uid) {
+        int hash = uid.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    /**
+     * 획득한 사용자 잠금
+     */
+    public static final class Lease {
+
+        @Getter
+        private final String uid;
+
+        /**
+         * 리스 소유 토큰 (Redis 리스 없이 획득했으면 LOCAL_TOKEN)
+         */
+        private final long token;
+
+        private final ReentrantLock stripe;
+        private final Lease outer;
+        private final long acquiredAt = System.nanoTime();
+        private int holds = 1;
+
+        private Lease(String uid, long token, ReentrantLock stripe, Lease outer) {
+            this.uid = uid;
+            this.token = token;
+            this.stripe = stripe;
+            this.outer = outer;
+        }
+    }
+}
@@ -1,80 +1,289 @@
 package com.cas.common.infra.queue;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Task Queue Service
- * 
+ *
  * 사용자별 작업 순서 보장을 위한 큐 관리 서비스
- * 
+ *
  * Redis 데이터 구조:
- * - occupiedUserIds (Set): 현재 작업 중인 사용자 ID 집합
- * - userTaskQueue:{userId} (List): 사용자별 대기 중인 작업 큐
- * 
- * 동작 방식:
- * 1. tryAcquire(): userId가 사용 가능한지 확인하고 점유
- * 2. enqueue(): 사용 중이면 대기 큐에 작업 추가
- * 3. release(): 작업 완료 후 다음 대기 작업 반환
+ * - task:lease:{userId} (String): 사용자 점유 리스 (값: 점유 토큰, lease-ms 후 자동 만료)
+ * - task:queue:{userId} (List): 사용자별 대기 중인 작업 큐
+ * - task:occupied:deadlines (Sorted Set): 점유/대기 사용자 인덱스 (점수: 리스 만료 시각 ms)
+ *
+ * 동작 방식 (상태 전이마다 Lua 스크립트 1회 = Redis 왕복 1회):
+ * 1. acquireOrEnqueue(): 비어 있으면 점유하고 처리할 작업 반환, 점유 중이면 대기 큐에 추가
+ * 2. release(): 작업 완료 후 다음 대기 작업 반환 (없으면 점유 해제)
+ * 3. heartbeat: 이 노드가 보유한 리스를 백그라운드에서 주기적으로 일괄 연장
+ *    - 마지막 진행(점유, 다음 작업 수신, 수동 heartbeat) 후 max-task-ms 가 지난 리스는 연장하지 않음
+ *      (멈춘 작업이 사용자를 계속 점유하지 않도록, 이후 lease-ms 뒤 만료되어 다른 워커가 회수)
+ * 4. reclaimExpired(): 워커 장애로 리스가 만료된 사용자의 대기 작업을 넘겨받음 (워커의 주기 작업이 호출)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class TaskQueueService {
+public class TaskQueueService implements InitializingBean, DisposableBean {
 
     private final StringRedisTemplate redisTemplate;
 
-    private static final String OCCUPIED_USERS_KEY = "task:occupied:users";
+    private static final String LEASE_PREFIX = "task:lease:";
     private static final String USER_QUEUE_PREFIX = "task:queue:";
-    private static final long OCCUPATION_TTL_SECONDS = 300; // 5분
+    private static final String OCCUPIED_INDEX_KEY = "task:occupied:deadlines";
+
+    /**
+     * 점유 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 인덱스 키
+     * ARGV[1]: 토큰, ARGV[2]: 리스 유지 시간(ms), ARGV[3]: 리스 만료 시각(ms), ARGV[4]: userId
+     * 반환: 점유 성공 1, 이미 점유 중 0
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * 점유 또는 대기 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 큐 키, KEYS[3]: 인덱스 키
+     * ARGV[1~4]: 점유 스크립트와 동일, ARGV[5]: 작업 JSON, ARGV[6]: 큐 TTL(초)
+     * 반환: 점유 성공 시 지금 처리할 작업 (먼저 대기 중인 작업이 있으면 그 작업), 점유 중이면 nil (대기 큐에 추가)
+     */
+    private static final RedisScript<String> ACQUIRE_OR_ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4]) " +
+            "if redis.call('LLEN', KEYS[2]) == 0 then return ARGV[5] end " +
+            "redis.call('RPUSH', KEYS[2], ARGV[5]) redis.call('EXPIRE', KEYS[2], ARGV[6]) " +
+            "return redis.call('LPOP', KEYS[2]) end " +
+            "redis.call('RPUSH', KEYS[2], ARGV[5]) redis.call('EXPIRE', KEYS[2], ARGV[6]) " +
+            "return false",
+            String.class);
+
+    /**
+     * 대기 큐 추가 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 큐 키, KEYS[3]: 인덱스 키
+     * ARGV[1]: 작업 JSON, ARGV[2]: 큐 TTL(초), ARGV[3]: 현재 시각(ms), ARGV[4]: userId
+     * 점유자가 없으면 인덱스에 만료된 상태로 등록하여 reclaimExpired() 대상이 되게 함
+     * 반환: 큐 크기
+     */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local size = redis.call('RPUSH', KEYS[2], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4]) end " +
+            "return size",
+            Long.class);
+
+    /**
+     * 점유 해제 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 큐 키, KEYS[3]: 인덱스 키
+     * ARGV[1~4]: 점유 스크립트와 동일, ARGV[5]: 큐 TTL(초)
+     * 반환: 다음 대기 작업 (점유 유지 + 리스 연장), 없으면 nil (점유 해제)
+     * 리스가 이미 만료되었으면 다시 점유하여 남은 작업을 이어서 처리, 다른 워커가 넘겨받았으면 nil
+     */
+    private static final RedisScript<String> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+            "if cur and cur ~= ARGV[1] then return false end " +
+            "local task = redis.call('LPOP', KEYS[2]) " +
+            "if task then " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[5]) return task end " +
+            "redis.call('DEL', KEYS[1]) redis.call('ZREM', KEYS[3], ARGV[4]) " +
+            "return false",
+            String.class);
+
+    /**
+     * 리스 일괄 연장 스크립트
+     * KEYS[1]: 인덱스 키, KEYS[2..n]: 리스 키
+     * ARGV[1]: 리스 유지 시간(ms), ARGV[2]: 리스 만료 시각(ms), ARGV[3..n]: 토큰, userId 쌍
+     * 반환: 리스 키별 연장 결과 (1 연장, 0 리스 상실)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HEARTBEAT_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 2, #KEYS do " +
+            "local token = ARGV[2 * i - 1] " +
+            "if redis.call('GET', KEYS[i]) == token then " +
+            "redis.call('PEXPIRE', KEYS[i], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[2 * i]) " +
+            "result[i - 1] = 1 else result[i - 1] = 0 end end " +
+            "return result",
+            List.class);
+
+    /**
+     * 만료 리스 회수 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 큐 키, KEYS[3]: 인덱스 키
+     * ARGV[1~4]: 점유 스크립트와 동일, ARGV[5]: 큐 TTL(초)
+     * 반환: 넘겨받은 작업 (점유 획득), 리스가 살아 있거나 대기 작업이 없으면 nil
+     */
+    private static final RedisScript<String> RECLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return false end " +
+            "local task = redis.call('LPOP', KEYS[2]) " +
+            "if not task then redis.call('ZREM', KEYS[3], ARGV[4]) return false end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[5]) " +
+            "return task",
+            String.class);
+
+    /**
+     * 강제 해제 스크립트
+     * KEYS[1]: 리스 키, KEYS[2]: 큐 키, KEYS[3]: 인덱스 키, ARGV[1]: userId
+     */
+    private static final RedisScript<Long> FORCE_RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return redis.call('ZREM', KEYS[3], ARGV[1])",
+            Long.class);
+
+    /**
+     * 점유 리스 유지 시간 (ms, 하트비트가 끊기면 이 시간 후 다른 워커가 회수)
+     */
+    @Value("${task.queue.lease-ms:30000}")
+    private long leaseMs;
+
+    /**
+     * 리스 연장 주기 (ms, 0 이하면 자동 연장하지 않음)
+     */
+    @Value("${task.queue.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    /**
+     * 작업 하나의 최대 처리 시간 (ms, 마지막 진행 후 이 시간이 지나면 자동 연장 중단)
+     */
+    @Value("${task.queue.max-task-ms:300000}")
+    private long maxTaskMs;
+
+    /**
+     * 대기 큐 TTL (초, 작업이 추가/처리될 때마다 갱신)
+     */
+    @Value("${task.queue.ttl-seconds:300}")
+    private long queueTtlSeconds;
+
+    /**
+     * 이 노드가 보유 중인 리스 (userId → 리스)
+     */
+    private final Map<String, HeldLease> heldLeases = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (heartbeatMs > 0) {
+            heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-lease-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            heartbeatExecutor.scheduleWithFixedDelay(this::renewHeldLeases,
+                    heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        }
+        log.info("Task queue initialized: leaseMs={}, heartbeatMs={}, maxTaskMs={}, queueTtlSeconds={}",
+                leaseMs, heartbeatMs, maxTaskMs, queueTtlSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+    }
 
     /**
      * 사용자 ID를 점유 시도
-     * 
+     *
+     * 리스가 만료되어 남은 대기 작업이 있을 수 있으므로, 순서가 중요하면 acquireOrEnqueue() 사용
+     *
      * @param userId 사용자 ID
-     * @return 점유 성공 여부
+     * @return 점유 토큰 (이미 점유 중이거나 실패 시 null)
      */
-    public boolean tryAcquire(String userId) {
+    public String tryAcquire(String userId) {
+        String token = newToken();
         try {
-            Long added = redisTemplate.opsForSet().add(OCCUPIED_USERS_KEY, userId);
-            
-            if (added != null && added > 0) {
-                // TTL 설정 (메모리 누수 방지) - 반환값 무시
-                redisTemplate.expire(getUserQueueKey(userId), OCCUPATION_TTL_SECONDS, TimeUnit.SECONDS);
+            Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    Arrays.asList(getLeaseKey(userId), OCCUPIED_INDEX_KEY),
+                    token, String.valueOf(leaseMs), String.valueOf(deadline()), userId);
+
+            if (acquired != null && acquired > 0) {
+                hold(userId, token);
                 log.debug("User {} acquired for task processing", userId);
-                return true;
+                return token;
             }
-            
+
             log.debug("User {} is already occupied", userId);
-            return false;
-            
+            return null;
+
         } catch (Exception e) {
             log.error("Failed to acquire user: {}", userId, e);
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * 사용자 점유 시도, 점유 중이면 작업을 대기 큐에 추가
+     *
+     * 점유에 성공해도 먼저 대기 중인 작업이 있으면 새 작업은 큐 뒤로 보내고 가장 오래된 작업을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param taskJson 작업 JSON (HeavyTask 직렬화)
+     * @return 지금 처리할 작업 (점유 중이라 대기 큐에 추가했거나 실패 시 null)
+     */
+    public Claim acquireOrEnqueue(String userId, String taskJson) {
+        String token = newToken();
+        try {
+            String task = redisTemplate.execute(ACQUIRE_OR_ENQUEUE_SCRIPT,
+                    Arrays.asList(getLeaseKey(userId), getUserQueueKey(userId), OCCUPIED_INDEX_KEY),
+                    token, String.valueOf(leaseMs), String.valueOf(deadline()), userId,
+                    taskJson, String.valueOf(queueTtlSeconds));
+
+            if (task != null) {
+                hold(userId, token);
+                log.debug("User {} acquired for task processing", userId);
+                return new Claim(userId, token, task);
+            }
+
+            log.info("User {} is occupied, task enqueued", userId);
+            return null;
+
+        } catch (Exception e) {
+            log.error("Failed to acquire or enqueue task for user: {}", userId, e);
+            return null;
         }
     }
 
     /**
      * 작업을 사용자별 대기 큐에 추가
-     * 
+     *
      * @param userId 사용자 ID
      * @param taskJson 작업 JSON (HeavyTask 직렬화)
      */
     public void enqueue(String userId, String taskJson) {
         try {
-            String queueKey = getUserQueueKey(userId);
-            redisTemplate.opsForList().rightPush(queueKey, taskJson);
-            
-            // 큐 TTL 설정
-            redisTemplate.expire(queueKey, OCCUPATION_TTL_SECONDS, TimeUnit.SECONDS);
-            
-            long queueSize = redisTemplate.opsForList().size(queueKey);
+            Long queueSize = redisTemplate.execute(ENQUEUE_SCRIPT,
+                    Arrays.asList(getLeaseKey(userId), getUserQueueKey(userId), OCCUPIED_INDEX_KEY),
+                    taskJson, String.valueOf(queueTtlSeconds), String.valueOf(System.currentTimeMillis()), userId);
             log.info("Task enqueued for user {}. Queue size: {}", userId, queueSize);
-            
+
         } catch (Exception e) {
             log.error("Failed to enqueue task for user: {}", userId, e);
         }
@@ -82,45 +291,98 @@ public class TaskQueueService {
 
     /**
      * 사용자 점유 해제 및 다음 대기 작업 반환
-     * 
+     *
      * @param userId 사용자 ID
-     * @return 다음 대기 중인 작업 JSON (없으면 null)
+     * @param token 점유 토큰
+     * @return 다음 대기 중인 작업 JSON (없거나 다른 워커가 리스를 넘겨받았으면 null)
      */
-    public String release(String userId) {
+    public String release(String userId, String token) {
         try {
-            String queueKey = getUserQueueKey(userId);
-            
-            // 대기 중인 작업 확인
-            String nextTaskJson = redisTemplate.opsForList().leftPop(queueKey);
-            
+            String nextTaskJson = redisTemplate.execute(RELEASE_SCRIPT,
+                    Arrays.asList(getLeaseKey(userId), getUserQueueKey(userId), OCCUPIED_INDEX_KEY),
+                    token, String.valueOf(leaseMs), String.valueOf(deadline()), userId,
+                    String.valueOf(queueTtlSeconds));
+
             if (nextTaskJson == null) {
-                // 대기 작업 없음 → 점유 해제
-                redisTemplate.opsForSet().remove(OCCUPIED_USERS_KEY, userId);
+                // 대기 작업 없음 → 점유 해제 (또는 리스 상실)
+                drop(userId, token);
                 log.debug("User {} released (no more tasks)", userId);
                 return null;
             } else {
-                // 대기 작업 있음 → 점유 유지
+                // 대기 작업 있음 → 점유 유지 (다음 작업 기준으로 처리 시간 다시 계산)
+                hold(userId, token);
                 log.info("User {} has next task in queue", userId);
                 return nextTaskJson;
             }
-            
+
         } catch (Exception e) {
+            // 리스는 lease-ms 후 만료되고 남은 작업은 reclaimExpired() 로 회수
+            drop(userId, token);
             log.error("Failed to release user: {}", userId, e);
-            // 에러 발생 시 점유 해제
-            redisTemplate.opsForSet().remove(OCCUPIED_USERS_KEY, userId);
             return null;
         }
     }
 
+    /**
+     * 리스 수동 연장 (max-task-ms 보다 오래 걸리는 작업이 진행 중임을 알릴 때)
+     * 연장에 성공하면 처리 시간을 다시 계산하므로 자동 연장도 이어집니다.
+     *
+     * @return 연장 성공 여부 (false 면 리스를 잃었으므로 처리 결과를 반영하지 말 것)
+     */
+    public boolean heartbeat(String userId, String token) {
+        List<Boolean> renewed = renew(Collections.singletonList(userId), Collections.singletonList(token));
+        boolean alive = !renewed.isEmpty() && renewed.get(0);
+        if (alive) {
+            hold(userId, token);
+        }
+        return alive;
+    }
+
+    /**
+     * 리스가 만료된 사용자의 대기 작업 회수
+     *
+     * 회수한 작업은 호출한 노드가 점유하며, 처리 후 release() 로 남은 작업을 이어서 처리합니다.
+     *
+     * @param limit 최대 회수 사용자 수
+     * @return 회수한 작업 목록
+     */
+    public List<Claim> reclaimExpired(int limit) {
+        List<Claim> claims = new ArrayList<>();
+        try {
+            Set<String> expiredUsers = redisTemplate.opsForZSet().rangeByScore(
+                    OCCUPIED_INDEX_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis(), 0, limit);
+            if (expiredUsers == null) {
+                return claims;
+            }
+
+            for (String userId : expiredUsers) {
+                String token = newToken();
+                String task = redisTemplate.execute(RECLAIM_SCRIPT,
+                        Arrays.asList(getLeaseKey(userId), getUserQueueKey(userId), OCCUPIED_INDEX_KEY),
+                        token, String.valueOf(leaseMs), String.valueOf(deadline()), userId,
+                        String.valueOf(queueTtlSeconds));
+                if (task != null) {
+                    hold(userId, token);
+                    claims.add(new Claim(userId, token, task));
+                    log.warn("Expired lease reclaimed for user {}", userId);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to reclaim expired leases", e);
+        }
+        return claims;
+    }
+
     /**
      * 특정 사용자가 현재 점유 중인지 확인
-     * 
+     *
      * @param userId 사용자 ID
      * @return 점유 여부
      */
     public boolean isOccupied(String userId) {
         try {
-            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(OCCUPIED_USERS_KEY, userId));
+            return Boolean.TRUE.equals(redisTemplate.hasKey(getLeaseKey(userId)));
         } catch (Exception e) {
             log.error("Failed to check occupation status for user: {}", userId, e);
             return false;
@@ -129,7 +391,7 @@ public class TaskQueueService {
 
     /**
      * 특정 사용자의 대기 큐 크기 조회
-     * 
+     *
      * @param userId 사용자 ID
      * @return 대기 중인 작업 수
      */
@@ -152,14 +414,23 @@ public class TaskQueueService {
     }
 
     /**
-     * 디버깅용: 현재 점유 중인 모든 사용자 조회
+     * 사용자별 리스 키 생성
+     */
+    private String getLeaseKey(String userId) {
+        return LEASE_PREFIX + userId;
+    }
+
+    /**
+     * 디버깅용: 현재 점유 중인 모든 사용자 조회 (리스가 만료되지 않은 사용자)
      */
-    public java.util.Set<String> getOccupiedUsers() {
+    public Set<String> getOccupiedUsers() {
         try {
-            return redisTemplate.opsForSet().members(OCCUPIED_USERS_KEY);
+            Set<String> users = redisTemplate.opsForZSet().rangeByScore(
+                    OCCUPIED_INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            return users != null ? users : Collections.emptySet();
         } catch (Exception e) {
             log.error("Failed to get occupied users", e);
-            return java.util.Collections.emptySet();
+            return Collections.emptySet();
         }
     }
 
@@ -168,13 +439,149 @@ public class TaskQueueService {
      */
     public void forceRelease(String userId) {
         try {
-            redisTemplate.opsForSet().remove(OCCUPIED_USERS_KEY, userId);
-            String queueKey = getUserQueueKey(userId);
-            redisTemplate.delete(queueKey);
+            redisTemplate.execute(FORCE_RELEASE_SCRIPT,
+                    Arrays.asList(getLeaseKey(userId), getUserQueueKey(userId), OCCUPIED_INDEX_KEY), userId);
+            heldLeases.remove(userId);
             log.warn("User {} forcefully released", userId);
         } catch (Exception e) {
             log.error("Failed to force release user: {}", userId, e);
         }
     }
-}
 
+    /**
+     * 이 노드가 보유한 리스 일괄 연장 (하트비트 스레드)
+     * 마지막 진행 후 max-task-ms 가 지난 리스는 연장하지 않고 목록에서 제외합니다.
+     */
+    private void renewHeldLeases() {
+        if (heldLeases.isEmpty()) {
+            return;
+        }
+
+        long stalledBefore = System.currentTimeMillis() - maxTaskMs;
+        List<String> userIds = new ArrayList<>(heldLeases.size());
+        List<String> tokens = new ArrayList<>(heldLeases.size());
+        heldLeases.forEach((userId, lease) -> {
+            if (lease.progressAt < stalledBefore) {
+                if (drop(userId, lease.token)) {
+                    log.warn("Task for user {} made no progress in {} ms, lease will expire", userId, maxTaskMs);
+                }
+                return;
+            }
+            userIds.add(userId);
+            tokens.add(lease.token);
+        });
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Boolean> renewed = renew(userIds, tokens);
+        for (int i = 0; i < renewed.size(); i++) {
+            if (!renewed.get(i) && drop(userIds.get(i), tokens.get(i))) {
+                log.warn("Task lease lost for user {}", userIds.get(i));
+            }
+        }
+    }
+
+    /**
+     * 보유 리스 등록 또는 진행 시각 갱신
+     */
+    private void hold(String userId, String token) {
+        heldLeases.put(userId, new HeldLease(token, System.currentTimeMillis()));
+    }
+
+    /**
+     * 보유 리스 제거 (토큰이 같을 때만)
+     *
+     * @return 제거 여부
+     */
+    private boolean drop(String userId, String token) {
+        boolean[] removed = {false};
+        heldLeases.computeIfPresent(userId, (key, lease) -> {
+            if (lease.token.equals(token)) {
+                removed[0] = true;
+                return null;
+            }
+            return lease;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 리스 연장 (스크립트 1회)
+     *
+     * @return 사용자별 연장 결과 (Redis 오류 시 빈 목록)
+     */
+    private List<Boolean> renew(List<String> userIds, List<String> tokens) {
+        List<String> keys = new ArrayList<>(userIds.size() + 1);
+        List<String> args = new ArrayList<>(userIds.size() * 2 + 2);
+        keys.add(OCCUPIED_INDEX_KEY);
+        args.add(String.valueOf(leaseMs));
+        args.add(String.valueOf(deadline()));
+        for (int i = 0; i < userIds.size(); i++) {
+            keys.add(getLeaseKey(userIds.get(i)));
+            args.add(tokens.get(i));
+            args.add(userIds.get(i));
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(HEARTBEAT_SCRIPT, keys, args.toArray());
+            List<Boolean> renewed = new ArrayList<>(userIds.size());
+            for (int i = 0; i < userIds.size(); i++) {
+                Object value = result != null && i < result.size() ? result.get(i) : null;
+                renewed.add(value instanceof Number && ((Number) value).longValue() > 0);
+            }
+            return renewed;
+        } catch (Exception e) {
+            // 다음 주기에 재시도 (lease-ms 가 heartbeat-ms 보다 충분히 길어야 함)
+            log.error("Failed to renew task leases: users={}", userIds.size(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    private long deadline() {
+        return System.currentTimeMillis() + leaseMs;
+    }
+
+    private String newToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 이 노드가 보유한 리스 (토큰 + 마지막 진행 시각)
+     */
+    private static final class HeldLease {
+
+        private final String token;
+        private final long progressAt;
+
+        private HeldLease(String token, long progressAt) {
+            this.token = token;
+            this.progressAt = progressAt;
+        }
+    }
+
+    /**
+     * 점유와 함께 넘겨받은 작업
+     */
+    @Getter
+    public static final class Claim {
+
+        private final String userId;
+
+        /**
+         * 점유 토큰 (release / heartbeat 에 사용)
+         */
+        private final String token;
+
+        /**
+         * 지금 처리할 작업 JSON
+         */
+        private final String taskJson;
+
+        private Claim(String userId, String token, String taskJson) {
+            this.userId = userId;
+            this.token = token;
+            this.taskJson = taskJson;
+        }
+    }
+}
@@ -582,12 +582,12 @@ if (-not $SkipCompetition) {
             }
             4 {
                 $roundRequest = @{
-                    bonds = @(@{ productKey = "NATIONAL_BOND"; amount = 500000 })
+                    bonds = @(@{ bondId = "BOND_NATIONAL"; action = "SUBSCRIBE"; amount = 500000 })
                 }
             }
             5 {
                 $roundRequest = @{
-                    pensions = @(@{ productKey = "PERSONAL_PENSION"; monthlyAmount = 50000 })
+                    pensions = @(@{ pensionId = "PERSONAL_PENSION"; monthlyAmount = 50000 })
                 }
             }
             6 {
@@ -607,7 +607,7 @@ if (-not $SkipCompetition) {
             }
             9 {
                 $roundRequest = @{
-                    bonds = @(@{ productKey = "CORPORATE_BOND"; amount = 300000 })
+                    bonds = @(@{ bondId = "BOND_CORPORATE"; action = "SUBSCRIBE"; amount = 300000 })
                 }
             }
             10 {